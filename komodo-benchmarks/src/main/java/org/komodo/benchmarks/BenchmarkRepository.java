@@ -0,0 +1,176 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * See the COPYRIGHT.txt file distributed with this work for information
+ * regarding copyright ownership.  Some portions may be licensed
+ * to Red Hat, Inc. under one or more contributor license agreements.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA
+ * 02110-1301 USA.
+ */
+package org.komodo.benchmarks;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.komodo.core.KEngine;
+import org.komodo.repository.SynchronousCallback;
+import org.komodo.spi.KException;
+import org.komodo.spi.constants.SystemConstants;
+import org.komodo.spi.repository.Repository;
+import org.komodo.spi.repository.Repository.UnitOfWork;
+import org.komodo.spi.repository.Repository.UnitOfWork.State;
+import org.komodo.spi.repository.RepositoryObserver;
+import org.komodo.utils.FileUtils;
+
+/**
+ * Starts the engine's default local repository in a temporary data directory so each benchmark trial begins with an empty
+ * workspace. The directory is removed when the repository is stopped.
+ */
+public final class BenchmarkRepository implements RepositoryObserver {
+
+    /**
+     * The user who initiates the benchmark transactions.
+     */
+    public static final String USER = "benchmark"; //$NON-NLS-1$
+
+    private static final long TIMEOUT = 3;
+    private static final TimeUnit UNIT = TimeUnit.MINUTES;
+
+    private final File dataDir;
+    private final KEngine engine;
+    private final CountDownLatch latch = new CountDownLatch( 1 );
+    private volatile Throwable error;
+
+    /**
+     * Starts the repository and waits for it to become reachable.
+     *
+     * @throws Exception
+     *         if the repository does not start
+     */
+    public BenchmarkRepository() throws Exception {
+        this.dataDir = Files.createTempDirectory( "komodo-benchmarks" ).toFile(); //$NON-NLS-1$
+        System.setProperty( SystemConstants.ENGINE_DATA_DIR, this.dataDir.getAbsolutePath() );
+
+        this.engine = KEngine.getInstance();
+        this.engine.getDefaultRepository().addObserver( this );
+        this.engine.start();
+
+        if ( !this.latch.await( TIMEOUT, UNIT ) ) {
+            throw new Exception( "Timed out waiting for repository to start" ); //$NON-NLS-1$
+        }
+
+        if ( this.error != null ) {
+            throw new Exception( "Repository failed to start", this.error ); //$NON-NLS-1$
+        }
+    }
+
+    /**
+     * @return the repository being benchmarked (never <code>null</code>)
+     */
+    public Repository get() {
+        return this.engine.getDefaultRepository();
+    }
+
+    /**
+     * @param name
+     *        the transaction name (cannot be empty)
+     * @param rollbackOnly
+     *        <code>true</code> if the transaction should only be rolled back
+     * @return a new transaction whose commit can be waited on using {@link #commit(UnitOfWork)} (never <code>null</code>)
+     * @throws KException
+     *         if an error occurs
+     */
+    public UnitOfWork createTransaction( final String name,
+                                         final boolean rollbackOnly ) throws KException {
+        return get().createTransaction( USER, name, rollbackOnly, new SynchronousCallback() );
+    }
+
+    /**
+     * Commits the transaction and waits for the commit to finish.
+     *
+     * @param transaction
+     *        a transaction created by {@link #createTransaction(String, boolean)} (cannot be <code>null</code>)
+     * @throws Exception
+     *         if the commit fails or does not finish
+     */
+    public void commit( final UnitOfWork transaction ) throws Exception {
+        final SynchronousCallback callback = ( SynchronousCallback )transaction.getCallback();
+        transaction.commit();
+
+        if ( !callback.await( TIMEOUT, UNIT ) ) {
+            throw new Exception( "Timed out waiting for commit of " + transaction.getName() ); //$NON-NLS-1$
+        }
+
+        if ( callback.hasError() ) {
+            throw new Exception( callback.error() );
+        }
+    }
+
+    /**
+     * Rolls back the transaction. The rollback discards the session changes on the calling thread so there is nothing to
+     * wait for.
+     *
+     * @param transaction
+     *        a transaction created by {@link #createTransaction(String, boolean)} (cannot be <code>null</code>)
+     * @throws Exception
+     *         if the rollback fails
+     */
+    public void rollback( final UnitOfWork transaction ) throws Exception {
+        transaction.rollback();
+
+        if ( transaction.getState() != State.ROLLED_BACK ) {
+            throw new Exception( transaction.getError() );
+        }
+    }
+
+    /**
+     * Stops the repository and removes its data directory.
+     *
+     * @throws Exception
+     *         if the repository does not stop
+     */
+    public void stop() throws Exception {
+        try {
+            this.engine.shutdownAndWait();
+            this.engine.getDefaultRepository().removeObserver( this );
+            this.engine.setDefaultRepository( null );
+        } finally {
+            FileUtils.removeDirectoryAndChildren( this.dataDir );
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see org.komodo.spi.repository.RepositoryObserver#eventOccurred()
+     */
+    @Override
+    public void eventOccurred() {
+        this.latch.countDown();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see org.komodo.spi.repository.RepositoryObserver#errorOccurred(java.lang.Throwable)
+     */
+    @Override
+    public void errorOccurred( final Throwable e ) {
+        this.error = e;
+        this.latch.countDown();
+    }
+
+}
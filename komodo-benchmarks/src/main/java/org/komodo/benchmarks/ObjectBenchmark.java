@@ -0,0 +1,163 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * See the COPYRIGHT.txt file distributed with this work for information
+ * regarding copyright ownership.  Some portions may be licensed
+ * to Red Hat, Inc. under one or more contributor license agreements.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA
+ * 02110-1301 USA.
+ */
+package org.komodo.benchmarks;
+package org.komodo.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.komodo.spi.repository.KomodoObject;
+import org.komodo.spi.repository.Property;
+import org.komodo.spi.repository.Repository.UnitOfWork;
+import org.modeshape.jcr.JcrLexicon;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures property access, child navigation of a wide node, and identifier lookup. All reads share one transaction that is
+ * rolled back at the end of each iteration.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Fork( 1 )
+@Warmup( iterations = 5 )
+@Measurement( iterations = 10 )
+public class ObjectBenchmark {
+
+    private static final String PROP_NAME = "value"; //$NON-NLS-1$
+    private static final String MIX_REFERENCEABLE = "mix:referenceable"; //$NON-NLS-1$
+
+    /**
+     * The number of children of the wide node.
+     */
+    @Param( { "100", "1000" } )
+    public int width;
+
+    private BenchmarkRepository repository;
+    private KomodoObject node;
+    private KomodoObject wideNode;
+    private String nodeId;
+    private UnitOfWork uow;
+    private int counter;
+
+    /**
+     * @throws Exception
+     *         if the repository does not start or the test nodes cannot be created
+     */
+    @Setup( Level.Trial )
+    public void start() throws Exception {
+        this.repository = new BenchmarkRepository();
+
+        final UnitOfWork setup = this.repository.createTransaction( "ObjectBenchmark-setup", false ); //$NON-NLS-1$
+        this.node = this.repository.get().add( setup, null, "node", null ); //$NON-NLS-1$
+        this.node.addDescriptor( setup, MIX_REFERENCEABLE );
+        this.node.setProperty( setup, PROP_NAME, "value" ); //$NON-NLS-1$
+
+        this.wideNode = this.repository.get().add( setup, null, "wide", null ); //$NON-NLS-1$
+
+        for ( int i = 0; i < this.width; ++i ) {
+            this.wideNode.addChild( setup, "child" + i, null ); //$NON-NLS-1$
+        }
+
+        this.repository.commit( setup );
+
+        final UnitOfWork read = this.repository.createTransaction( "ObjectBenchmark-id", true ); //$NON-NLS-1$
+        this.nodeId = this.node.getRawProperty( read, JcrLexicon.UUID.getString() ).getStringValue( read );
+        read.rollback();
+    }
+
+    /**
+     * @throws Exception
+     *         if the transaction cannot be created
+     */
+    @Setup( Level.Iteration )
+    public void beginIteration() throws Exception {
+        this.uow = this.repository.createTransaction( "ObjectBenchmark", true ); //$NON-NLS-1$
+    }
+
+    /**
+     * Discards the changes made by {@link #setProperty()}.
+     */
+    @TearDown( Level.Iteration )
+    public void endIteration() {
+        this.uow.rollback();
+    }
+
+    /**
+     * @throws Exception
+     *         if the repository does not stop
+     */
+    @TearDown( Level.Trial )
+    public void stop() throws Exception {
+        this.repository.stop();
+    }
+
+    /**
+     * @return the property (returned so it is not eliminated as dead code)
+     * @throws Exception
+     *         if an error occurs
+     */
+    @Benchmark
+    public Property getProperty() throws Exception {
+        return this.node.getProperty( this.uow, PROP_NAME );
+    }
+
+    /**
+     * @throws Exception
+     *         if an error occurs
+     */
+    @Benchmark
+    public void setProperty() throws Exception {
+        this.node.setProperty( this.uow, PROP_NAME, "value" + ( ++this.counter ) ); //$NON-NLS-1$
+    }
+
+    /**
+     * @return the children of the wide node
+     * @throws Exception
+     *         if an error occurs
+     */
+    @Benchmark
+    public KomodoObject[] getChildren() throws Exception {
+        return this.wideNode.getChildren( this.uow );
+    }
+
+    /**
+     * @return the object found using its <code>jcr:uuid</code>
+     * @throws Exception
+     *         if an error occurs
+     */
+    @Benchmark
+    public KomodoObject getUsingId() throws Exception {
+        return this.repository.get().getUsingId( this.uow, this.nodeId );
+    }
+
+}
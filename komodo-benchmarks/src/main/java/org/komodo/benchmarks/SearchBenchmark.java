@@ -0,0 +1,153 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * See the COPYRIGHT.txt file distributed with this work for information
+ * regarding copyright ownership.  Some portions may be licensed
+ * to Red Hat, Inc. under one or more contributor license agreements.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA
+ * 02110-1301 USA.
+ */
+package org.komodo.benchmarks;
+package org.komodo.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.komodo.relational.model.Model;
+import org.komodo.relational.vdb.Vdb;
+import org.komodo.relational.workspace.WorkspaceManager;
+import org.komodo.repository.search.ObjectSearcher;
+import org.komodo.spi.repository.KomodoObject;
+import org.komodo.spi.repository.Repository.UnitOfWork;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.teiid.modeshape.sequencer.ddl.TeiidDdlLexicon.CreateTable;
+import org.teiid.modeshape.sequencer.vdb.lexicon.VdbLexicon;
+
+/**
+ * Measures finding workspace objects by type, both through the {@link WorkspaceManager} and through an {@link ObjectSearcher}
+ * query. The workspace is populated with VDBs that each have a model with tables.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Fork( 1 )
+@Warmup( iterations = 5 )
+@Measurement( iterations = 10 )
+public class SearchBenchmark {
+
+    private static final int TABLES_PER_MODEL = 10;
+
+    /**
+     * The number of VDBs in the workspace.
+     */
+    @Param( { "10", "100" } )
+    public int vdbs;
+
+    private BenchmarkRepository repository;
+    private WorkspaceManager wsMgr;
+    private UnitOfWork uow;
+
+    /**
+     * @throws Exception
+     *         if the repository does not start or the workspace cannot be populated
+     */
+    @Setup( Level.Trial )
+    public void start() throws Exception {
+        this.repository = new BenchmarkRepository();
+
+        final UnitOfWork setup = this.repository.createTransaction( "SearchBenchmark-setup", false ); //$NON-NLS-1$
+        this.wsMgr = WorkspaceManager.getInstance( this.repository.get(), setup );
+
+        for ( int i = 0; i < this.vdbs; ++i ) {
+            final Vdb vdb = this.wsMgr.createVdb( setup, null, "vdb" + i, "/vdb" + i + ".xml" ); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+            final Model model = vdb.addModel( setup, "model" ); //$NON-NLS-1$
+
+            for ( int j = 0; j < TABLES_PER_MODEL; ++j ) {
+                model.addTable( setup, "table" + j ); //$NON-NLS-1$
+            }
+        }
+
+        this.repository.commit( setup );
+    }
+
+    /**
+     * @throws Exception
+     *         if the transaction cannot be created
+     */
+    @Setup( Level.Iteration )
+    public void beginIteration() throws Exception {
+        this.uow = this.repository.createTransaction( "SearchBenchmark", true ); //$NON-NLS-1$
+    }
+
+    /**
+     * Ends the read transaction.
+     */
+    @TearDown( Level.Iteration )
+    public void endIteration() {
+        this.uow.rollback();
+    }
+
+    /**
+     * @throws Exception
+     *         if the repository does not stop
+     */
+    @TearDown( Level.Trial )
+    public void stop() throws Exception {
+        this.repository.stop();
+    }
+
+    /**
+     * @return the paths of the VDBs
+     * @throws Exception
+     *         if an error occurs
+     */
+    @Benchmark
+    public String[] findVdbsByType() throws Exception {
+        return this.wsMgr.findByType( this.uow, VdbLexicon.Vdb.VIRTUAL_DATABASE );
+    }
+
+    /**
+     * @return the paths of the tables
+     * @throws Exception
+     *         if an error occurs
+     */
+    @Benchmark
+    public String[] findTablesByType() throws Exception {
+        return this.wsMgr.findByType( this.uow, CreateTable.TABLE_STATEMENT );
+    }
+
+    /**
+     * @return the VDBs found by the query
+     * @throws Exception
+     *         if an error occurs
+     */
+    @Benchmark
+    public List< KomodoObject > searchVdbs() throws Exception {
+        return new ObjectSearcher( this.repository.get() ).setFromType( VdbLexicon.Vdb.VIRTUAL_DATABASE, "v" ) //$NON-NLS-1$
+                                                          .searchObjects( this.uow );
+    }
+
+}
@@ -0,0 +1,101 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * See the COPYRIGHT.txt file distributed with this work for information
+ * regarding copyright ownership.  Some portions may be licensed
+ * to Red Hat, Inc. under one or more contributor license agreements.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA
+ * 02110-1301 USA.
+ */
+package org.komodo.benchmarks;
+package org.komodo.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.komodo.spi.repository.Repository.UnitOfWork;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the round trip of creating a transaction and committing or rolling it back through the engine thread.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Fork( 1 )
+@Warmup( iterations = 5 )
+@Measurement( iterations = 10 )
+public class TransactionBenchmark {
+
+    private BenchmarkRepository repository;
+
+    /**
+     * @throws Exception
+     *         if the repository does not start
+     */
+    @Setup( Level.Trial )
+    public void start() throws Exception {
+        this.repository = new BenchmarkRepository();
+    }
+
+    /**
+     * @throws Exception
+     *         if the repository does not stop
+     */
+    @TearDown( Level.Trial )
+    public void stop() throws Exception {
+        this.repository.stop();
+    }
+
+    /**
+     * @throws Exception
+     *         if an error occurs
+     */
+    @Benchmark
+    public void commitEmptyTransaction() throws Exception {
+        this.repository.commit( this.repository.createTransaction( "commitEmptyTransaction", false ) ); //$NON-NLS-1$
+    }
+
+    /**
+     * @throws Exception
+     *         if an error occurs
+     */
+    @Benchmark
+    public void rollbackEmptyTransaction() throws Exception {
+        this.repository.rollback( this.repository.createTransaction( "rollbackEmptyTransaction", false ) ); //$NON-NLS-1$
+    }
+
+    /**
+     * @throws Exception
+     *         if an error occurs
+     */
+    @Benchmark
+    public void commitTransactionWithNode() throws Exception {
+        final UnitOfWork uow = this.repository.createTransaction( "commitTransactionWithNode", false ); //$NON-NLS-1$
+        final String name = "node" + System.nanoTime(); //$NON-NLS-1$
+        this.repository.get().add( uow, null, name, null );
+        this.repository.commit( uow );
+    }
+
+}
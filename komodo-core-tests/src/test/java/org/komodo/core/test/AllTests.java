@@ -25,6 +25,7 @@ package org.komodo.core.test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 import org.komodo.repository.ObjectImplTest;
+import org.komodo.repository.internal.KSequencersTest;
 import org.komodo.repository.search.TestObjectSearcher;
 import org.komodo.repository.test.TestLocalRepository;
 import org.komodo.repository.test.TestLocalRepositoryPersistence;
@@ -42,7 +43,8 @@ import org.komodo.repository.validation.ValidationManagerImplTest;
     ValidationManagerImplTest.class,
     RuleFactoryTest.class,
     TestObjectOperations.class,
-    TestMultiUsers.class
+    TestMultiUsers.class,
+    KSequencersTest.class
     } )
 public class AllTests {
     // nothing to do
@@ -28,6 +28,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.fail;
 import org.junit.Before;
@@ -42,6 +43,7 @@ import org.komodo.spi.repository.PropertyDescriptor;
 import org.komodo.spi.repository.Repository.UnitOfWork;
 import org.komodo.test.utils.AbstractLocalRepositoryTest;
 import org.modeshape.jcr.JcrNtLexicon;
+import org.teiid.modeshape.sequencer.vdb.lexicon.VdbLexicon;
 
 @SuppressWarnings( {"javadoc", "nls"} )
 public final class ObjectImplTest extends AbstractLocalRepositoryTest {
@@ -354,6 +356,34 @@ public final class ObjectImplTest extends AbstractLocalRepositoryTest {
         assertThat( _repo.komodoWorkspace( getTransaction() ).getChildren( getTransaction() ).length, is( 0 ) );
     }
 
+    @Test
+    public void shouldNotResolveRemovedChildPreviouslyAccessed() throws Exception {
+        final String name = "kid";
+        final KomodoObject child = this.kobject.addChild( getTransaction(), name, null );
+        child.setProperty( getTransaction(), "prop", "value" );
+        commit();
+
+        assertThat( child.getProperty( getTransaction(), "prop" ).getStringValue( getTransaction() ), is( "value" ) );
+        this.kobject.removeChild( getTransaction(), name );
+
+        try {
+            child.getProperty( getTransaction(), "prop" );
+            fail( "removed child should not be resolved" );
+        } catch ( final KException e ) {
+            // expected
+        }
+    }
+
+    @Test
+    public void shouldResolveRenamedObject() throws Exception {
+        this.kobject.setProperty( getTransaction(), "prop", "value" );
+        assertThat( this.kobject.getProperty( getTransaction(), "prop" ).getStringValue( getTransaction() ), is( "value" ) );
+
+        this.kobject.rename( getTransaction(), "renamed" );
+        assertThat( this.kobject.getProperty( getTransaction(), "prop" ).getStringValue( getTransaction() ), is( "value" ) );
+        assertThat( _repo.getFromWorkspace( getTransaction(), NAME ), is( nullValue() ) );
+    }
+
     @Test
     @Ignore("Mapping issue MODE-2463 - a remove then a re-add cannot be conducted in the same transaction")
     public void testRemoveThenAdd() throws Exception {
@@ -441,4 +471,15 @@ public final class ObjectImplTest extends AbstractLocalRepositoryTest {
         assertThat( this.kobject.getPrimaryType( getTransaction() ).getName(), is( newType ) );
     }
 
+    @Test
+    public void shouldMemoizeTypeIdentifiersRegardlessOfMixinOrder() throws Exception {
+        final KomodoTypeRegistry registry = KomodoTypeRegistry.getInstance();
+        final String primaryType = VdbLexicon.Vdb.VIRTUAL_DATABASE;
+
+        assertSame( registry.getIdentifiers( primaryType, "mix:referenceable", "mix:lockable" ),
+                    registry.getIdentifiers( primaryType, "mix:lockable", "mix:referenceable" ) );
+        assertThat( registry.getIdentifiers( primaryType, "mix:referenceable" ).iterator().next().getKomodoType(),
+                    is( KomodoType.VDB ) );
+    }
+
 }
@@ -0,0 +1,114 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * See the COPYRIGHT.txt file distributed with this work for information
+ * regarding copyright ownership.  Some portions may be licensed
+ * to Red Hat, Inc. under one or more contributor license agreements.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA
+ * 02110-1301 USA.
+ */
+package org.komodo.repository.internal;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Test;
+import org.komodo.repository.KSequencerController.SequencerType;
+import org.komodo.repository.internal.KSequencers.SequencingJob;
+
+@SuppressWarnings( {"javadoc", "nls"} )
+public final class KSequencersTest {
+
+    private static final String VDB_PATH = "/tko:komodo/tko:workspace/user/Portfolio";
+
+    private static final String MODEL_1_PATH = VDB_PATH + "/MarketData";
+
+    private static final String MODEL_2_PATH = VDB_PATH + "/Accounts";
+
+    private Map< String, List< SequencingJob > > jobs;
+
+    private SequencingJob job( final SequencerType type,
+                               final String outputPath ) {
+        return new SequencingJob( type, outputPath, outputPath + "/property", null );
+    }
+
+    @Before
+    public void createJobs() {
+        this.jobs = new LinkedHashMap<>();
+    }
+
+    @Test
+    public void shouldGroupJobsOfSameOutputNodeInOrder() {
+        final SequencingJob first = job( SequencerType.DDL, MODEL_1_PATH );
+        final SequencingJob second = job( SequencerType.DDL, MODEL_1_PATH );
+        KSequencers.addJob( this.jobs, first );
+        KSequencers.addJob( this.jobs, second );
+
+        assertThat( this.jobs.size(), is( 1 ) );
+        assertThat( this.jobs.get( MODEL_1_PATH ), is( Arrays.asList( first, second ) ) );
+    }
+
+    @Test
+    public void shouldSeparateJobsOfSiblingOutputNodes() {
+        final SequencingJob model1 = job( SequencerType.DDL, MODEL_1_PATH );
+        final SequencingJob model2 = job( SequencerType.DDL, MODEL_2_PATH );
+        KSequencers.addJob( this.jobs, model1 );
+        KSequencers.addJob( this.jobs, model2 );
+
+        assertThat( this.jobs.size(), is( 2 ) );
+        assertThat( this.jobs.get( MODEL_1_PATH ), is( Arrays.asList( model1 ) ) );
+        assertThat( this.jobs.get( MODEL_2_PATH ), is( Arrays.asList( model2 ) ) );
+    }
+
+    @Test
+    public void shouldNotConfuseOutputNodesWithCommonPrefix() {
+        final SequencingJob model = job( SequencerType.DDL, MODEL_1_PATH );
+        final SequencingJob prefixed = job( SequencerType.DDL, MODEL_1_PATH + "View" );
+        KSequencers.addJob( this.jobs, model );
+        KSequencers.addJob( this.jobs, prefixed );
+
+        assertThat( this.jobs.size(), is( 2 ) );
+    }
+
+    @Test
+    public void shouldGroupModelWithItsVdb() {
+        final SequencingJob vdb = job( SequencerType.VDB, VDB_PATH );
+        final SequencingJob model = job( SequencerType.DDL, MODEL_1_PATH );
+        KSequencers.addJob( this.jobs, vdb );
+        KSequencers.addJob( this.jobs, model );
+
+        assertThat( this.jobs.size(), is( 1 ) );
+        assertThat( this.jobs.get( VDB_PATH ), is( Arrays.asList( vdb, model ) ) );
+    }
+
+    @Test
+    public void shouldMergeModelGroupsWhenTheirVdbIsSequenced() {
+        final SequencingJob model1 = job( SequencerType.DDL, MODEL_1_PATH );
+        final SequencingJob model2 = job( SequencerType.DDL, MODEL_2_PATH );
+        final SequencingJob vdb = job( SequencerType.VDB, VDB_PATH );
+        KSequencers.addJob( this.jobs, model1 );
+        KSequencers.addJob( this.jobs, model2 );
+        KSequencers.addJob( this.jobs, vdb );
+
+        // the vdb contains both models so all the jobs run in one group in the order they were received
+        assertThat( this.jobs.size(), is( 1 ) );
+        assertThat( this.jobs.values().iterator().next(), is( Arrays.asList( model1, model2, vdb ) ) );
+    }
+
+}
@@ -32,7 +32,14 @@ import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import java.io.File;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import javax.jcr.Node;
 import org.junit.Before;
@@ -54,6 +61,7 @@ import org.komodo.spi.repository.Repository.UnitOfWork;
 import org.komodo.spi.repository.Repository.UnitOfWork.State;
 import org.komodo.spi.repository.Repository.UnitOfWorkListener;
 import org.komodo.test.utils.AbstractLocalRepositoryTest;
+import org.modeshape.jcr.JcrLexicon;
 import org.modeshape.jcr.JcrNtLexicon;
 import org.teiid.modeshape.sequencer.vdb.lexicon.VdbLexicon;
 
@@ -232,6 +240,63 @@ public class TestLocalRepository extends AbstractLocalRepositoryTest {
         transaction.commit();
     }
 
+    @Test
+    public void shouldCreateReadOnlyTransaction() throws Exception {
+        // setup
+        final String name = "elvis";
+        final SynchronousCallback txCallback = new SynchronousCallback();
+        final UnitOfWork transaction = _repo.createReadOnlyTransaction(TEST_USER, name, txCallback);
+
+        // tests
+        assertThat(transaction, is(notNullValue()));
+        assertThat(transaction.getName(), is(name));
+        assertThat(transaction.isReadOnly(), is(true));
+        assertThat(transaction.isRollbackOnly(), is(true));
+        assertThat(_repo.komodoWorkspace(transaction), is(notNullValue()));
+
+        transaction.commit();
+        assertTrue(txCallback.await(TIME_TO_WAIT, TimeUnit.MINUTES));
+        assertThat(transaction.getState(), is(State.ROLLED_BACK));
+    }
+
+    @Test
+    public void shouldDiscardChangesOfReadOnlyTransaction() throws Exception {
+        final String name = this.name.getMethodName();
+        final UnitOfWork transaction = _repo.createReadOnlyTransaction(TEST_USER, name, null);
+        _repo.add(transaction, null, name, null);
+        transaction.commit();
+
+        assertThat(_repo.getFromWorkspace(getTransaction(), name), is(nullValue()));
+    }
+
+    @Test
+    public void shouldOnlyChangeCountWhenChangesAreSaved() throws Exception {
+        final String name = this.name.getMethodName();
+        _repo.komodoWorkspace(getTransaction());
+        commit();
+
+        final long count = _repo.getChangeCount();
+
+        // nothing to save
+        commit();
+        assertThat(_repo.getChangeCount(), is(count));
+
+        // changes are discarded
+        _repo.add(getTransaction(), null, name, null);
+        rollback();
+        assertThat(_repo.getChangeCount(), is(count));
+
+        final UnitOfWork transaction = _repo.createReadOnlyTransaction(TEST_USER, name, null);
+        _repo.add(transaction, null, name, null);
+        transaction.commit();
+        assertThat(_repo.getChangeCount(), is(count));
+
+        // changes are saved
+        _repo.add(getTransaction(), null, name, null);
+        commit();
+        assertThat(_repo.getChangeCount() > count, is(true));
+    }
+
     @Test
     public void shouldCreateUpdateTransaction() throws Exception {
         // setup
@@ -247,6 +312,44 @@ public class TestLocalRepository extends AbstractLocalRepositoryTest {
         transaction.commit();
     }
 
+    @Test( timeout = 60000 )
+    public void shouldCreateAndCommitConcurrentTransactions() throws Exception {
+        final int numThreads = 10;
+        final CountDownLatch startLatch = new CountDownLatch( 1 );
+        final ExecutorService executor = Executors.newFixedThreadPool( numThreads );
+        final List< Future< Boolean > > results = new ArrayList<>();
+
+        for ( int i = 0; i < numThreads; ++i ) {
+            final String txName = this.name.getMethodName() + '-' + i;
+            final boolean rollbackOnly = ( ( i % 2 ) == 0 );
+
+            results.add( executor.submit( new Callable< Boolean >() {
+
+                @Override
+                public Boolean call() throws Exception {
+                    startLatch.await();
+
+                    final SynchronousCallback txCallback = new SynchronousCallback();
+                    final UnitOfWork uow = _repo.createTransaction( TEST_USER, txName, rollbackOnly, txCallback );
+                    _repo.komodoWorkspace( uow );
+                    uow.commit();
+
+                    return txCallback.await( TIME_TO_WAIT, TimeUnit.MINUTES ) && !txCallback.hasError();
+                }
+            } ) );
+        }
+
+        startLatch.countDown();
+
+        try {
+            for ( final Future< Boolean > result : results ) {
+                assertThat( result.get(), is( true ) );
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     @Test( expected = KException.class )
     public void shouldFailToAddWorkspaceItemToNonexistingParent() throws Exception {
         _repo.add(getTransaction(), "does-not-exist", "shouldFailToAddWorkspaceItemToNonexistingParent", null);
@@ -275,6 +378,26 @@ public class TestLocalRepository extends AbstractLocalRepositoryTest {
         assertThat(doesNotExist, is(nullValue()));
     }
 
+    @Test
+    public void shouldGetUsingIds() throws Exception {
+        final String name = this.name.getMethodName();
+        final KomodoObject kobject1 = _repo.add( getTransaction(), null, name + 1, null );
+        kobject1.addDescriptor( getTransaction(), "mix:referenceable" );
+        final KomodoObject kobject2 = _repo.add( getTransaction(), null, name + 2, null );
+        kobject2.addDescriptor( getTransaction(), "mix:referenceable" );
+        commit();
+
+        final String id1 = kobject1.getRawProperty( getTransaction(), JcrLexicon.UUID.getString() ).getStringValue( getTransaction() );
+        final String id2 = kobject2.getRawProperty( getTransaction(), JcrLexicon.UUID.getString() ).getStringValue( getTransaction() );
+        final KomodoObject[] results = _repo.getUsingIds( getTransaction(), Arrays.asList( id2, "does-not-exist", id1 ) );
+
+        assertThat( results.length, is( 3 ) );
+        assertThat( results[ 0 ].getAbsolutePath(), is( kobject2.getAbsolutePath() ) );
+        assertThat( results[ 1 ], is( nullValue() ) );
+        assertThat( results[ 2 ].getAbsolutePath(), is( kobject1.getAbsolutePath() ) );
+        assertThat( _repo.getUsingId( getTransaction(), id1 ).getAbsolutePath(), is( kobject1.getAbsolutePath() ) );
+    }
+
     @Test
     public void shouldGetType() {
         assertThat(_repo.getType(), is(Repository.Type.LOCAL));
@@ -288,6 +411,14 @@ public class TestLocalRepository extends AbstractLocalRepositoryTest {
         assertThat(rootNode.getPrimaryType(getTransaction()).getName(), is(KomodoLexicon.Home.NODE_TYPE));
     }
 
+    @Test
+    public void shouldProvisionWorkspaceOncePerTransaction() throws Exception {
+        final KomodoObject workspace = _repo.komodoWorkspace(getTransaction());
+        assertThat(workspace, is(notNullValue()));
+        assertTrue(workspace == _repo.komodoWorkspace(getTransaction()));
+        assertThat(workspace.getAbsolutePath(), is(RepositoryImpl.komodoWorkspacePath(getTransaction())));
+    }
+
     @Test
     public void shouldDynamicallyCreateWorkspaceHomeofNewUser() throws Exception {
         String newUser = "newUser";
@@ -27,6 +27,7 @@ import java.io.File;
 import java.util.List;
 import org.junit.BeforeClass;
 import org.junit.Test;
+import org.komodo.spi.constants.SystemConstants;
 import org.komodo.spi.outcome.Outcome;
 import org.komodo.spi.repository.KomodoObject;
 import org.komodo.spi.repository.ValidationManager;
@@ -787,4 +788,87 @@ public final class ValidationManagerImplTest extends AbstractLocalRepositoryTest
         assertThat( result.getMessage(), is( "The VDB dataRole must NOT have a 'myProp' property" ));
     }
 
+    @Test
+    public void shouldRefreshApplicableRulesWhenRulesAreImported() throws Exception {
+        final KomodoObject kobject = _repo.add( getTransaction(), null, VDB_NAME, VDB_TYPE );
+        final KomodoObject roleObj = kobject.addChild( getTransaction(), DATA_ROLE_NAME, DATA_ROLE_TYPE );
+        commit();
+
+        // Load the node name rule
+        String testFilePath = getClass().getClassLoader().getResource(RULES_FILE_NODE_NAME_RULE).getFile();
+        _validationMgr.importRules( getTransaction(), new File( testFilePath ), true );
+
+        Rule[] rules = _validationMgr.getRules( getTransaction(), kobject );
+        assertThat( rules.length, is( 1 ) );
+        assertThat( rules[0].getName( getTransaction() ), is( "vdb.name" ) );
+        assertThat( _validationMgr.getRules( getTransaction(), roleObj ).length, is( 0 ) );
+
+        // Replace it with the property required rule
+        testFilePath = getClass().getClassLoader().getResource(RULES_FILE_PROP_REQUIRED_RULE).getFile();
+        _validationMgr.importRules( getTransaction(), new File( testFilePath ), true );
+
+        rules = _validationMgr.getRules( getTransaction(), kobject );
+        assertThat( rules.length, is( 1 ) );
+        assertThat( rules[0].getName( getTransaction() ), is( "default.vdb.connectionType.propertyValue" ) );
+
+        // connection type is required but missing
+        Result[] results = _validationMgr.evaluate( getTransaction(), kobject, "default.vdb.connectionType.propertyValue" );
+        assertThat( results[0].getLevel(), is( Outcome.Level.ERROR ) );
+
+        // Compiled rules are discarded when a rule is disabled
+        _validationMgr.setRuleEnabled( getTransaction(), false, "default.vdb.connectionType.propertyValue" );
+        rules = _validationMgr.getRules( getTransaction(), kobject );
+        assertThat( rules.length, is( 1 ) );
+        assertThat( rules[0].isEnabled( getTransaction() ), is( false ) );
+
+        results = _validationMgr.evaluate( getTransaction(), kobject, "default.vdb.connectionType.propertyValue" );
+        assertThat( results[0].getLevel(), is( Outcome.Level.INFO ) );
+
+        // ... and when a rule is given a new severity
+        _validationMgr.setRuleEnabled( getTransaction(), true, "default.vdb.connectionType.propertyValue" );
+        _validationMgr.setRuleSeverity( getTransaction(), Outcome.Level.WARNING, "default.vdb.connectionType.propertyValue" );
+
+        results = _validationMgr.evaluate( getTransaction(), kobject, "default.vdb.connectionType.propertyValue" );
+        assertThat( results[0].getLevel(), is( Outcome.Level.WARNING ) );
+
+        results = _validationMgr.evaluate( getTransaction(), kobject, false );
+        assertThat( results.length, is( 1 ) );
+        assertThat( results[0].getLevel(), is( Outcome.Level.WARNING ) );
+    }
+
+    @Test
+    public void shouldEvaluateInParallelInSameOrderAsSerial() throws Exception {
+        final KomodoObject kobject = _repo.add( getTransaction(), null, VDB_NAME, VDB_TYPE );
+
+        for ( int i = 0; i < 5; ++i ) {
+            kobject.addChild( getTransaction(), ( "model" + i ), MODEL_TYPE );
+            kobject.addChild( getTransaction(), ( DATA_ROLE_NAME + i ), DATA_ROLE_TYPE );
+        }
+
+        // Subtrees are evaluated using other transactions so rules and objects must be committed
+        String testFilePath = getClass().getClassLoader().getResource(RULES_FILE_RELATIONAL_RULES).getFile();
+        _validationMgr.importRules( getTransaction(), new File( testFilePath ), true );
+        commit();
+
+        final Result[] serial = _validationMgr.evaluate( getTransaction(), kobject, true );
+        final Result[] parallel;
+
+        System.setProperty( SystemConstants.VALIDATION_PARALLELISM, "4" );
+
+        try {
+            parallel = _validationMgr.evaluate( getTransaction(), kobject, true );
+        } finally {
+            System.clearProperty( SystemConstants.VALIDATION_PARALLELISM );
+        }
+
+        assertThat( serial.length > 1, is( true ) );
+        assertThat( parallel.length, is( serial.length ) );
+
+        for ( int i = 0; i < serial.length; ++i ) {
+            assertThat( parallel[i].getPath(), is( serial[i].getPath() ) );
+            assertThat( parallel[i].getRuleId(), is( serial[i].getRuleId() ) );
+            assertThat( parallel[i].getLevel(), is( serial[i].getLevel() ) );
+        }
+    }
+
 }
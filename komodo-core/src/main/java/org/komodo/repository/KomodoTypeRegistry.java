@@ -21,9 +21,12 @@
  */
 package org.komodo.repository;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.komodo.core.KomodoLexicon;
 import org.komodo.spi.constants.StringConstants;
@@ -114,6 +117,11 @@ public class KomodoTypeRegistry implements StringConstants {
     private KeyInValueHashMap<KomodoType, TypeIdentifier> kTypeIndex =
                     new KeyInValueHashMap<>(new KTypeAdapter());
 
+    /**
+     * Merged identifiers keyed by primary type and mixins. The index is fixed once constructed so entries never go stale.
+     */
+    private final ConcurrentMap<String, Set<TypeIdentifier>> descriptorIndex = new ConcurrentHashMap<>();
+
     private KomodoTypeRegistry() {
 
         index(KomodoType.ACCESS_PATTERN, TeiidDdlLexicon.Constraint.TABLE_ELEMENT);
@@ -262,4 +270,41 @@ public class KomodoTypeRegistry implements StringConstants {
 
         return identifiers;
     }
+
+    /**
+     * The result is memoized so objects sharing the same primary type and mixins only scan the index once.
+     *
+     * @param primaryType the primary type name (cannot be <code>null</code>)
+     * @param mixins the mixin names (can be <code>null</code> or empty)
+     * @return the unmodifiable set of type identifiers matching the primary type or any of the mixins (never <code>null</code>)
+     */
+    public Set<TypeIdentifier> getIdentifiers(String primaryType, String... mixins) {
+        ArgCheck.isNotNull(primaryType);
+
+        String key = primaryType;
+        if (mixins != null && mixins.length != 0) {
+            String[] sorted = Arrays.copyOf(mixins, mixins.length);
+            Arrays.sort(sorted);
+
+            StringBuilder buffer = new StringBuilder(primaryType);
+            for (String mixin : sorted)
+                buffer.append(PIPE).append(mixin);
+
+            key = buffer.toString();
+        }
+
+        Set<TypeIdentifier> identifiers = descriptorIndex.get(key);
+        if (identifiers != null)
+            return identifiers;
+
+        Set<TypeIdentifier> merged = new HashSet<>(getIdentifiers(primaryType));
+        if (mixins != null) {
+            for (String mixin : mixins)
+                merged.addAll(getIdentifiers(mixin));
+        }
+
+        identifiers = Collections.unmodifiableSet(merged);
+        Set<TypeIdentifier> existing = descriptorIndex.putIfAbsent(key, identifiers);
+        return (existing == null) ? identifiers : existing;
+    }
 }
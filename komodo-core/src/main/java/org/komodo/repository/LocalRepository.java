@@ -22,7 +22,9 @@
 package org.komodo.repository;
 
 import java.net.URL;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.WeakHashMap;
 import java.util.concurrent.CountDownLatch;
@@ -125,7 +127,8 @@ public class LocalRepository extends RepositoryImpl {
         }
     }
 
-    private WeakHashMap< Session, UnitOfWork > sessions = new WeakHashMap<>();
+    // transactions are created by many client threads so guard the session cache
+    private Map< Session, UnitOfWork > sessions = Collections.synchronizedMap( new WeakHashMap< Session, UnitOfWork >() );
 
     private State state = State.NOT_REACHABLE;
 
@@ -268,6 +271,66 @@ public class LocalRepository extends RepositoryImpl {
         return uow;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The session is created directly on the calling thread and is discarded on the calling thread when the transaction
+     * is committed or rolled back. The engine thread is never involved.
+     *
+     * @see org.komodo.spi.repository.Repository#createReadOnlyTransaction(java.lang.String, java.lang.String,
+     *      org.komodo.spi.repository.Repository.UnitOfWorkListener)
+     */
+    @Override
+    public UnitOfWork createReadOnlyTransaction( final String userName,
+                                                 final String name,
+                                                 final UnitOfWorkListener callback ) throws KException {
+        ArgCheck.isNotEmpty(name, "name"); //$NON-NLS-1$
+        LOGGER.debug("creating read-only transaction {0}", name); //$NON-NLS-1$
+
+        if (this.engineThread == null) {
+            throw new KException(Messages.getString(Messages.LocalRepository.Unable_To_Create_Session));
+        }
+
+        Session session = null;
+
+        try {
+            session = this.engineThread.createReadOnlySession();
+        } catch (final KException e) {
+            throw e;
+        } catch (final Exception e) {
+            throw new KException(e);
+        }
+
+        final UnitOfWork uow = new LocalRepositoryReadOnlyTransaction(userName, name, session, callback);
+        this.sessions.put(session, uow);
+        return uow;
+    }
+
+    /**
+     * A transaction whose session is never saved. Commit and rollback both discard the session on the calling thread using
+     * the behaviour inherited from {@link RepositoryImpl.UnitOfWorkImpl}.
+     */
+    class LocalRepositoryReadOnlyTransaction extends RepositoryImpl.UnitOfWorkImpl {
+
+        LocalRepositoryReadOnlyTransaction(final String userName,
+                                           final String uowName,
+                                           final Session uowSession,
+                                           final UnitOfWorkListener listener) {
+            super(userName, uowName, uowSession, true, listener);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @see org.komodo.repository.RepositoryImpl.UnitOfWorkImpl#isReadOnly()
+         */
+        @Override
+        public boolean isReadOnly() {
+            return true;
+        }
+
+    }
+
     class LocalRepositoryTransaction extends RepositoryImpl.UnitOfWorkImpl {
 
         LocalRepositoryTransaction(final String userName,
@@ -294,8 +357,13 @@ public class LocalRepository extends RepositoryImpl {
                 if (isRollbackOnly()) {
                     rollback();
                 } else {
+                    final boolean changed = hasPendingChanges();
                     this.state = State.RUNNING;
 
+                    if ( changed ) {
+                        changesSaved();
+                    }
+
                     // engine thread callback that communicates with transaction callback
                     class CommitCallback implements RequestCallback {
 
@@ -323,6 +391,11 @@ public class LocalRepository extends RepositoryImpl {
                          */
                         @Override
                         public void respond( final Object results ) {
+                            if ( changed ) {
+                                // sequencers have finished writing too
+                                changesSaved();
+                            }
+
                             setState( State.COMMITTED );
 
                             if (getCallback() != null) {
@@ -347,6 +420,17 @@ public class LocalRepository extends RepositoryImpl {
             }
         }
 
+        /*
+         * Errors are treated as changes so the change count never misses a save.
+         */
+        private boolean hasPendingChanges() {
+            try {
+                return hasChanges();
+            } catch ( final KException e ) {
+                return true;
+            }
+        }
+
         /**
          * {@inheritDoc}
          *
@@ -523,7 +607,7 @@ public class LocalRepository extends RepositoryImpl {
 
     private void clearRepository() {
         // cleanup session cache
-        if (!this.sessions.isEmpty()) {
+        synchronized (this.sessions) {
             final Iterator< Entry< Session, UnitOfWork > > itr = this.sessions.entrySet().iterator();
 
             while (itr.hasNext()) {
@@ -573,6 +657,7 @@ public class LocalRepository extends RepositoryImpl {
              */
             @Override
             public void respond( final Object results ) {
+                changesSaved();
                 notifyObservers();
             }
         };
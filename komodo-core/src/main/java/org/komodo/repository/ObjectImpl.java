@@ -24,7 +24,6 @@ package org.komodo.repository;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import javax.jcr.Node;
@@ -323,9 +322,15 @@ public class ObjectImpl implements KomodoObject, StringConstants {
             LOGGER.debug("objectimpl-node: transaction = {0}, path = {1}", transaction.getName(), getAbsolutePath()); //$NON-NLS-1$
         }
 
-        Node node = null;
-        Session session = getSession(transaction);
         String absPath = getAbsolutePath();
+        final UnitOfWorkImpl uow = ( UnitOfWorkImpl )transaction;
+        Node node = uow.getCachedNode( absPath );
+
+        if ( node != null ) {
+            return node;
+        }
+
+        Session session = getSession(transaction);
         PathNotFoundException throwEx = null;
 
         try {
@@ -371,7 +376,8 @@ public class ObjectImpl implements KomodoObject, StringConstants {
                 throw throwEx;
             }
 
-            // return the found node
+            // return the found node, remembering it for the rest of the transaction
+            uow.setCachedNode( absPath, node );
             return node;
         } catch (final Exception e) {
             throw handleError( e );
@@ -1091,18 +1097,17 @@ public class ObjectImpl implements KomodoObject, StringConstants {
 
         provision(transaction, OperationType.READ_OPERATION);
 
-        List<Descriptor> descriptors = new ArrayList<Descriptor>();
+        final Descriptor[] mixins = getDescriptors(transaction);
+        final String[] mixinNames = new String[mixins.length];
 
-        descriptors.add(getPrimaryType(transaction));
-        descriptors.addAll(Arrays.asList(getDescriptors(transaction)));
-
-        KomodoTypeRegistry registry  = KomodoTypeRegistry.getInstance();
-        Set<TypeIdentifier> identifiers = new HashSet<>();
-        for (Descriptor descriptor : descriptors) {
-            String name = descriptor.getName();
-            identifiers.addAll(registry.getIdentifiers(name));
+        for (int i = 0; i < mixins.length; ++i) {
+            mixinNames[i] = mixins[i].getName();
         }
 
+        // memoized by the registry so siblings of the same type do not rescan the index
+        Set<TypeIdentifier> identifiers = KomodoTypeRegistry.getInstance().getIdentifiers(getPrimaryType(transaction).getName(),
+                                                                                         mixinNames);
+
         KomodoType result = KomodoType.UNKNOWN;
         if (identifiers.isEmpty()) {
             // No identifiers but could be DDL Statements container
@@ -1397,6 +1402,7 @@ public class ObjectImpl implements KomodoObject, StringConstants {
 
         try {
             final Node node = node( transaction );
+            ( ( UnitOfWorkImpl )transaction ).clearCaches( getAbsolutePath() );
             node.remove();
         } catch (final Exception e) {
             throw handleError( e );
@@ -1431,6 +1437,7 @@ public class ObjectImpl implements KomodoObject, StringConstants {
                 if (node.hasNode(name)) {
                     final Node childBeingRemoved = node.getNode(name);
 
+                    ( ( UnitOfWorkImpl )transaction ).clearCaches( childBeingRemoved.getPath() );
                     childBeingRemoved.remove();
                 } else {
                     throw new KException(Messages.getString(Messages.Komodo.UNABLE_TO_REMOVE_CHILD, names, getAbsolutePath()));
@@ -1506,6 +1513,7 @@ public class ObjectImpl implements KomodoObject, StringConstants {
         }
 
         try {
+            ( ( UnitOfWorkImpl )transaction ).clearCaches( getAbsolutePath() );
             getSession( transaction ).move( getAbsolutePath(), newPath );
             this.path = newPath;
             // TODO seems like index could change also
@@ -27,10 +27,18 @@ import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.jcr.ItemNotFoundException;
 import javax.jcr.Node;
 import javax.jcr.NodeIterator;
 import javax.jcr.PropertyIterator;
@@ -63,6 +71,7 @@ import org.komodo.spi.repository.RepositoryObserver;
 import org.komodo.spi.repository.ValidationManager;
 import org.komodo.utils.ArgCheck;
 import org.komodo.utils.KLog;
+import org.modeshape.jcr.JcrLexicon;
 import org.modeshape.jcr.JcrSession;
 import org.modeshape.jcr.api.JcrTools;
 
@@ -202,6 +211,17 @@ public abstract class RepositoryImpl implements Repository, StringConstants {
         protected Session session;
         protected State state = State.NOT_STARTED;
 
+        /**
+         * The reserved nodes (komodo root, workspace, user home, etc.) already found or created by this transaction, keyed by
+         * absolute path.
+         */
+        private final Map< String, KomodoObject > provisioned = new HashMap<>();
+
+        /**
+         * The nodes already resolved by this transaction's session, keyed by the absolute path used to resolve them.
+         */
+        private final Map< String, Node > nodes = new HashMap<>();
+
         /**
          * @param userName
          *        the user who initiated the transaction
@@ -368,6 +388,16 @@ public abstract class RepositoryImpl implements Repository, StringConstants {
             return this.rollbackOnly;
         }
 
+        /**
+         * {@inheritDoc}
+         *
+         * @see org.komodo.spi.repository.Repository.UnitOfWork#isReadOnly()
+         */
+        @Override
+        public boolean isReadOnly() {
+            return false;
+        }
+
         /**
          * {@inheritDoc}
          *
@@ -413,6 +443,75 @@ public abstract class RepositoryImpl implements Repository, StringConstants {
             }
         }
 
+        /**
+         * @param absolutePath
+         *        the absolute path of a reserved node (cannot be empty)
+         * @return the node if already provisioned by this transaction or <code>null</code>
+         */
+        KomodoObject getProvisioned( final String absolutePath ) {
+            return this.provisioned.get( absolutePath );
+        }
+
+        /**
+         * @param absolutePath
+         *        the absolute path of a reserved node (cannot be empty)
+         * @param kobject
+         *        the node found or created at that path (cannot be <code>null</code>)
+         */
+        void setProvisioned( final String absolutePath,
+                             final KomodoObject kobject ) {
+            this.provisioned.put( absolutePath, kobject );
+        }
+
+        /**
+         * @param absolutePath
+         *        the absolute path used to resolve the node (cannot be empty)
+         * @return the node if already resolved by this transaction or <code>null</code>
+         */
+        Node getCachedNode( final String absolutePath ) {
+            return this.nodes.get( absolutePath );
+        }
+
+        /**
+         * @param absolutePath
+         *        the absolute path used to resolve the node (cannot be empty)
+         * @param node
+         *        the node resolved by this transaction's session (cannot be <code>null</code>)
+         */
+        void setCachedNode( final String absolutePath,
+                            final Node node ) {
+            this.nodes.put( absolutePath, node );
+        }
+
+        /**
+         * Forgets any provisioned or cached node at or below the specified path. Must be called whenever a node is removed or
+         * moved.
+         *
+         * @param absolutePath
+         *        the absolute path of the node being removed or moved (cannot be empty)
+         */
+        void clearCaches( final String absolutePath ) {
+            clear( this.provisioned.keySet(), absolutePath );
+            clear( this.nodes.keySet(), absolutePath );
+        }
+
+        private void clear( final Set< String > paths,
+                            final String absolutePath ) {
+            if ( paths.isEmpty() ) {
+                return;
+            }
+
+            final Iterator< String > itr = paths.iterator();
+
+            while ( itr.hasNext() ) {
+                final String path = itr.next();
+
+                if ( path.equals( absolutePath ) || path.startsWith( absolutePath + FORWARD_SLASH ) ) {
+                    itr.remove();
+                }
+            }
+        }
+
         /**
          * Decode the given string if it has been encoded by the UnitOfWork implementation
          * @param encoded encoded string
@@ -563,6 +662,7 @@ public abstract class RepositoryImpl implements Repository, StringConstants {
         return paths.toArray(new String[0]);
     }
 
+    private final AtomicLong changeCount = new AtomicLong();
     private final Set< RepositoryClient > clients = new HashSet< >();
     private final Id id;
     private final Set< RepositoryObserver > observers = new HashSet< >();
@@ -817,6 +917,13 @@ public abstract class RepositoryImpl implements Repository, StringConstants {
 
     private KomodoObject create( final UnitOfWork transaction,
                                  final String absolutePath, final String nodeType ) throws KException {
+        final UnitOfWorkImpl uow = (UnitOfWorkImpl)transaction;
+        final KomodoObject provisioned = uow.getProvisioned(absolutePath);
+
+        if (provisioned != null) {
+            return provisioned;
+        }
+
         final Session session = getSession(transaction);
 
         try {
@@ -827,6 +934,7 @@ public abstract class RepositoryImpl implements Repository, StringConstants {
                 node = new JcrTools().findOrCreateNode(session, absolutePath, nodeType);
 
             final KomodoObject result = new ObjectImpl(this, node.getPath(), node.getIndex());
+            uow.setProvisioned(absolutePath, result);
             return result;
         } catch (final Exception e) {
             if (e instanceof KException) {
@@ -845,15 +953,30 @@ public abstract class RepositoryImpl implements Repository, StringConstants {
     @Override
     public List< KomodoObject > query( final UnitOfWork transaction,
                                        final String queryStatement ) throws KException {
+        return query( transaction, queryStatement, 0, -1 );
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see org.komodo.spi.repository.Repository#query(org.komodo.spi.repository.Repository.UnitOfWork, java.lang.String, int, int)
+     */
+    @Override
+    public List< KomodoObject > query( final UnitOfWork transaction,
+                                       final String queryStatement,
+                                       final int offset,
+                                       final int limit ) throws KException {
         ArgCheck.isNotNull( transaction, "transaction" ); //$NON-NLS-1$
         ArgCheck.isTrue( ( transaction.getState() == org.komodo.spi.repository.Repository.UnitOfWork.State.NOT_STARTED ),
         "transaction state is not NOT_STARTED" ); //$NON-NLS-1$
         ArgCheck.isNotEmpty(queryStatement, "Query statement cannot be empty"); //$NON-NLS-1$
 
         if (LOGGER.isDebugEnabled()) {
-            LOGGER.debug("find: transaction = {0}, query = {1}", //$NON-NLS-1$
+            LOGGER.debug("find: transaction = {0}, query = {1}, offset = {2}, limit = {3}", //$NON-NLS-1$
                          transaction.getName(),
-                         queryStatement);
+                         queryStatement,
+                         offset,
+                         limit);
         }
 
         final Session session = getSession(transaction);
@@ -862,6 +985,15 @@ public abstract class RepositoryImpl implements Repository, StringConstants {
         try {
             QueryManager queryMgr = session.getWorkspace().getQueryManager();
             Query query = queryMgr.createQuery(queryStatement, Query.JCR_SQL2);
+
+            if (offset > 0) {
+                query.setOffset(offset);
+            }
+
+            if (limit >= 0) {
+                query.setLimit(limit);
+            }
+
             QueryResult result = query.execute();
 
             NodeIterator itr = result.getNodes();
@@ -880,6 +1012,53 @@ public abstract class RepositoryImpl implements Repository, StringConstants {
         return results;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @see org.komodo.spi.repository.Repository#count(org.komodo.spi.repository.Repository.UnitOfWork, java.lang.String)
+     */
+    @Override
+    public long count( final UnitOfWork transaction,
+                       final String queryStatement ) throws KException {
+        ArgCheck.isNotNull( transaction, "transaction" ); //$NON-NLS-1$
+        ArgCheck.isTrue( ( transaction.getState() == org.komodo.spi.repository.Repository.UnitOfWork.State.NOT_STARTED ),
+        "transaction state is not NOT_STARTED" ); //$NON-NLS-1$
+        ArgCheck.isNotEmpty(queryStatement, "Query statement cannot be empty"); //$NON-NLS-1$
+
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("count: transaction = {0}, query = {1}", //$NON-NLS-1$
+                         transaction.getName(),
+                         queryStatement);
+        }
+
+        final Session session = getSession(transaction);
+
+        try {
+            QueryManager queryMgr = session.getWorkspace().getQueryManager();
+            Query query = queryMgr.createQuery(queryStatement, Query.JCR_SQL2);
+            NodeIterator itr = query.execute().getNodes();
+            long size = itr.getSize();
+
+            if (size < 0) {
+                // size not known up front so count without resolving the results
+                size = 0;
+
+                while (itr.hasNext()) {
+                    itr.next();
+                    ++size;
+                }
+            }
+
+            return size;
+        } catch (final Exception e) {
+            if (e instanceof KException) {
+                throw (KException)e;
+            }
+
+            throw new KException(e);
+        }
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -891,6 +1070,22 @@ public abstract class RepositoryImpl implements Repository, StringConstants {
                                                  final String property,
                                                  KeywordCriteria keywordCriteria,
                                                  final String... keywords ) throws KException {
+        return searchByKeyword( transaction, type, property, keywordCriteria, 0, -1, keywords );
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see org.komodo.spi.repository.Repository#searchByKeyword(org.komodo.spi.repository.Repository.UnitOfWork, java.lang.String, java.lang.String, org.komodo.spi.repository.Repository.KeywordCriteria, int, int, java.lang.String[])
+     */
+    @Override
+    public List< KomodoObject > searchByKeyword( final UnitOfWork transaction,
+                                                 final String type,
+                                                 final String property,
+                                                 KeywordCriteria keywordCriteria,
+                                                 final int offset,
+                                                 final int limit,
+                                                 final String... keywords ) throws KException {
         ArgCheck.isNotNull( transaction, "transaction" ); //$NON-NLS-1$
         ArgCheck.isTrue( ( transaction.getState() == org.komodo.spi.repository.Repository.UnitOfWork.State.NOT_STARTED ),
         "transaction state is not NOT_STARTED" ); //$NON-NLS-1$
@@ -909,6 +1104,7 @@ public abstract class RepositoryImpl implements Repository, StringConstants {
         String typeAlias = "k1"; // where clauses need an alias so assign one to the type //$NON-NLS-1$
         searcher.setFromType(type, typeAlias);
         searcher.addWhereContainsClause(null, typeAlias, property, keywordCriteria, keywords);
+        searcher.setOffset(offset).setLimit(limit);
         List<KomodoObject> searchObjects = searcher.searchObjects(transaction);
 
         return searchObjects;
@@ -922,6 +1118,19 @@ public abstract class RepositoryImpl implements Repository, StringConstants {
     @Override
     public List< KomodoObject > searchByType( final UnitOfWork transaction,
                                               final String... types ) throws KException {
+        return searchByType( transaction, 0, -1, types );
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see org.komodo.spi.repository.Repository#searchByType(org.komodo.spi.repository.Repository.UnitOfWork, int, int, java.lang.String[])
+     */
+    @Override
+    public List< KomodoObject > searchByType( final UnitOfWork transaction,
+                                              final int offset,
+                                              final int limit,
+                                              final String... types ) throws KException {
         ArgCheck.isNotNull( transaction, "transaction" ); //$NON-NLS-1$
         ArgCheck.isTrue( ( transaction.getState() == org.komodo.spi.repository.Repository.UnitOfWork.State.NOT_STARTED ),
         "transaction state is not NOT_STARTED" ); //$NON-NLS-1$
@@ -938,6 +1147,7 @@ public abstract class RepositoryImpl implements Repository, StringConstants {
             searcher.setFromType(type);
         }
 
+        searcher.setOffset(offset).setLimit(limit);
         List<KomodoObject> searchObjects = searcher.searchObjects(transaction);
         return searchObjects;
     }
@@ -950,6 +1160,19 @@ public abstract class RepositoryImpl implements Repository, StringConstants {
     @Override
     public List< KomodoObject > searchByPath( final UnitOfWork transaction,
                                               final String path ) throws KException {
+        return searchByPath( transaction, path, 0, -1 );
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see org.komodo.spi.repository.Repository#searchByPath(org.komodo.spi.repository.Repository.UnitOfWork, java.lang.String, int, int)
+     */
+    @Override
+    public List< KomodoObject > searchByPath( final UnitOfWork transaction,
+                                              final String path,
+                                              final int offset,
+                                              final int limit ) throws KException {
         ArgCheck.isNotNull( transaction, "transaction" ); //$NON-NLS-1$
         ArgCheck.isTrue( ( transaction.getState() == org.komodo.spi.repository.Repository.UnitOfWork.State.NOT_STARTED ),
         "transaction state is not NOT_STARTED" ); //$NON-NLS-1$
@@ -965,6 +1188,7 @@ public abstract class RepositoryImpl implements Repository, StringConstants {
         String typeAlias = "k1"; // where clauses need an alias so assign one to the type //$NON-NLS-1$
         searcher.setFromType("nt:base", typeAlias);
         searcher.addWherePathClause(null, typeAlias, path);
+        searcher.setOffset(offset).setLimit(limit);
 
         List<KomodoObject> searchObjects = searcher.searchObjects(transaction);
         return searchObjects;
@@ -1070,6 +1294,24 @@ public abstract class RepositoryImpl implements Repository, StringConstants {
         return (path.endsWith("/") ? (path + name) : (path + FORWARD_SLASH + name)); //$NON-NLS-1$
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @see org.komodo.spi.repository.Repository#getChangeCount()
+     */
+    @Override
+    public long getChangeCount() {
+        return this.changeCount.get();
+    }
+
+    /**
+     * Records that changes are being, or have been, saved. Implementations call this both before saving and once the save,
+     * including any sequencing, has completed so that the count never stays the same while content changes.
+     */
+    protected void changesSaved() {
+        this.changeCount.incrementAndGet();
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -1112,24 +1354,108 @@ public abstract class RepositoryImpl implements Repository, StringConstants {
                          jcrUuid);
         }
 
-        final String sql = "SELECT * FROM [nt:base] WHERE [jcr:uuid] = '" + jcrUuid + "'"; //$NON-NLS-1$ //$NON-NLS-2$
+        return getUsingIds( transaction, Collections.singletonList( jcrUuid ) )[ 0 ];
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Each identifier is first resolved directly by the session. Only identifiers the session cannot resolve are looked up,
+     * all together, by a single <code>jcr:uuid</code> query.
+     *
+     * @see org.komodo.spi.repository.Repository#getUsingIds(org.komodo.spi.repository.Repository.UnitOfWork,
+     *      java.util.Collection)
+     */
+    @Override
+    public KomodoObject[] getUsingIds( final UnitOfWork transaction,
+                                       final Collection< String > jcrUuids ) throws KException {
+        ArgCheck.isNotNull( transaction, "transaction" ); //$NON-NLS-1$
+        ArgCheck.isTrue( ( transaction.getState() == org.komodo.spi.repository.Repository.UnitOfWork.State.NOT_STARTED ), "transaction state is not NOT_STARTED" ); //$NON-NLS-1$
+        ArgCheck.isNotNull( jcrUuids, "jcrUuids" ); //$NON-NLS-1$
+
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("getUsingIds: transaction = {0}, uuids = {1}", //$NON-NLS-1$
+                         transaction.getName(),
+                         jcrUuids);
+        }
+
+        final KomodoObject[] result = new KomodoObject[ jcrUuids.size() ];
+
+        if ( jcrUuids.isEmpty() ) {
+            return result;
+        }
+
+        assert (transaction instanceof UnitOfWorkImpl);
+        final Session session = getSession( transaction );
+        final Map< String, List< Integer > > notFound = new LinkedHashMap<>();
+        int i = 0;
 
         try {
-            assert (transaction instanceof UnitOfWorkImpl);
-            final Query query = ((UnitOfWorkImpl)transaction).getSession().getWorkspace().getQueryManager().createQuery(sql, Query.JCR_SQL2);
-            final QueryResult result = query.execute();
-            final NodeIterator itr = result.getNodes();
+            for ( final String jcrUuid : jcrUuids ) {
+                ArgCheck.isNotEmpty( jcrUuid, "jcrUuid" ); //$NON-NLS-1$
+
+                try {
+                    final Node node = session.getNodeByIdentifier( jcrUuid );
+                    result[ i ] = new ObjectImpl( this, node.getPath(), node.getIndex() );
+                } catch ( final ItemNotFoundException e ) {
+                    List< Integer > indexes = notFound.get( jcrUuid );
+
+                    if ( indexes == null ) {
+                        indexes = new ArrayList<>();
+                        notFound.put( jcrUuid, indexes );
+                    }
+
+                    indexes.add( i );
+                }
+
+                ++i;
+            }
+
+            if ( notFound.isEmpty() ) {
+                return result;
+            }
+
+            // identifiers not known to the session may still match a jcr:uuid property so query for all of them at once
+            final StringBuilder sql = new StringBuilder( "SELECT * FROM [nt:base] WHERE [jcr:uuid] IN (" ); //$NON-NLS-1$
+            boolean firstTime = true;
+
+            for ( final String jcrUuid : notFound.keySet() ) {
+                if ( firstTime ) {
+                    firstTime = false;
+                } else {
+                    sql.append( COMMA );
+                }
 
-            if (itr.getSize() == 0) {
-                return null;
+                sql.append( QUOTE_MARK ).append( jcrUuid.replace( QUOTE_MARK, QUOTE_MARK + QUOTE_MARK ) ).append( QUOTE_MARK );
             }
 
-            if (itr.getSize() == 1) {
+            sql.append( CLOSE_BRACKET );
+
+            final Query query = session.getWorkspace().getQueryManager().createQuery( sql.toString(), Query.JCR_SQL2 );
+            final QueryResult queryResult = query.execute();
+            final NodeIterator itr = queryResult.getNodes();
+            final Set< String > found = new HashSet<>();
+
+            while ( itr.hasNext() ) {
                 final Node node = itr.nextNode();
-                return new ObjectImpl(this, node.getPath(), node.getIndex());
+                final String jcrUuid = node.getProperty( JcrLexicon.UUID.getString() ).getString();
+
+                if ( !found.add( jcrUuid ) ) {
+                    throw new KException( Messages.getString( Messages.Komodo.DUPLICATE_OBJECT_ERROR, jcrUuid ) );
+                }
+
+                final List< Integer > indexes = notFound.get( jcrUuid );
+
+                if ( indexes != null ) {
+                    final KomodoObject kobject = new ObjectImpl( this, node.getPath(), node.getIndex() );
+
+                    for ( final Integer index : indexes ) {
+                        result[ index ] = kobject;
+                    }
+                }
             }
 
-            throw new KException(Messages.getString(Messages.Komodo.DUPLICATE_OBJECT_ERROR, jcrUuid));
+            return result;
         } catch (final Exception e) {
             if (e instanceof KException) {
                 throw (KException)e;
@@ -1315,6 +1641,7 @@ public abstract class RepositoryImpl implements Repository, StringConstants {
                 node = session.getNode(descriptor.getPath());
 
                 { // remove children
+                    ( ( UnitOfWorkImpl )transaction ).clearCaches( node.getPath() );
                     final NodeIterator itr = node.getNodes();
 
                     while (itr.hasNext()) {
@@ -1397,6 +1724,7 @@ public abstract class RepositoryImpl implements Repository, StringConstants {
             final String absPath = getAbsoluteWorkspacePath(transaction, path, OperationType.REMOVE_OPERATION);
 
             try {
+                ( ( UnitOfWorkImpl )transaction ).clearCaches( absPath );
                 session.removeItem( absPath );
                 LOGGER.debug( "removed workspace node at path {0} in transaction {1}", absPath, transaction.getName() ); //$NON-NLS-1$
             } catch ( final Exception e ) {
@@ -1509,6 +1837,7 @@ public abstract class RepositoryImpl implements Repository, StringConstants {
 
             try {
                 if (session.itemExists(absPath)) {
+                    ( ( UnitOfWorkImpl )transaction ).clearCaches( absPath );
                     session.removeItem(absPath);
                     LOGGER.debug("removed library node at path {0} in transaction {1}", absPath, transaction.getName()); //$NON-NLS-1$
                 } else {
@@ -23,10 +23,22 @@ package org.komodo.repository.internal;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashSet;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.jcr.AccessDeniedException;
 import javax.jcr.ItemNotFoundException;
 import javax.jcr.Node;
@@ -40,9 +52,11 @@ import javax.jcr.observation.EventListener;
 import javax.jcr.observation.ObservationManager;
 import org.komodo.core.KomodoLexicon;
 import org.komodo.core.Messages;
+import org.komodo.modeshape.lib.sequencer.KDdlSequencer;
 import org.komodo.repository.KSequencerController;
 import org.komodo.repository.KSequencerListener;
 import org.komodo.spi.constants.StringConstants;
+import org.komodo.spi.constants.SystemConstants;
 import org.komodo.spi.lexicon.TeiidSqlLexicon;
 import org.komodo.utils.KLog;
 import org.modeshape.jcr.JcrLexicon;
@@ -55,22 +69,54 @@ import org.teiid.modeshape.sequencer.vdb.lexicon.VdbLexicon;
 
 
 /**
- * Sequencers class responsible for executing all the sequencers in
- * consecutive, synchronous order.
+ * Sequencers class responsible for executing all the sequencers.
+ * <p>
+ * By default the sequencers triggered by a set of events are executed in consecutive, synchronous order. If the
+ * {@link SystemConstants#SEQUENCING_PARALLELISM} system property is greater than one when a set of events is received, the
+ * sequencing work is grouped by output node and the groups are executed on a pool of workers, each with its own session. Work on the same output node is always
+ * executed in the order its events were received.
  */
 public class KSequencers implements StringConstants, EventListener, KSequencerController {
 
+    /**
+     * Sequencing or cleanup work for one sequenceable property, identified by paths so it can be run in any session.
+     */
+    static class SequencingJob {
+
+        private final SequencerType sequencerType;
+        private final String outputPath;
+        private final String propertyPath;
+        private final String eventUserData;
+
+        /**
+         * @param sequencerType the sequencer type
+         * @param outputPath the path of the node the sequencer writes to
+         * @param propertyPath the path of the property being sequenced or <code>null</code> if the sequenced output is only being removed
+         * @param eventUserData the user data of the event that triggered this job
+         */
+        SequencingJob(SequencerType sequencerType, String outputPath, String propertyPath, String eventUserData) {
+            this.sequencerType = sequencerType;
+            this.outputPath = outputPath;
+            this.propertyPath = propertyPath;
+            this.eventUserData = eventUserData;
+        }
+    }
+
     private final WorkspaceIdentifier identifier;
 
     private Session session;
 
+    // Created the first time a set of events has work for more than one output node
+    private ThreadPoolExecutor sequencingWorkers;
+
     // Flag switched on only when a sequencing execution is started
-    private boolean sequencingActive = false;
+    private volatile boolean sequencingActive = false;
 
     // List appended to by running sequencers detailing their unique identifiers
-    private List<String> runningSequencers = new ArrayList<>();
+    private List<String> runningSequencers = Collections.synchronizedList(new ArrayList<String>());
 
-    private Set<KSequencerListener> listeners = new HashSet<>();
+    // Listeners are added by the engine session workers while events are being processed
+    private Set<KSequencerListener> listeners = Collections.newSetFromMap(new ConcurrentHashMap<KSequencerListener, Boolean>());
 
     /**
      * Create new instance
@@ -103,6 +149,11 @@ public class KSequencers implements StringConstants, EventListener, KSequencerCo
      */
     @Override
     public synchronized void dispose() {
+        if (sequencingWorkers != null) {
+            sequencingWorkers.shutdownNow();
+            sequencingWorkers = null;
+        }
+
         if (session != null) {
             KLog.getLogger().debug("KSequencers.dispose: logout session: {0}", session.hashCode()); //$NON-NLS-1$
             session.logout();
@@ -341,6 +392,14 @@ public class KSequencers implements StringConstants, EventListener, KSequencerCo
         return false;
     }
 
+    /*
+     * In incremental mode the DDL sequencer brings the existing DDL nodes up to date itself, reports whether it changed
+     * anything and fails if the DDL contains unknown statements or problems.
+     */
+    private static boolean isIncremental(SequencerType sequencerType) {
+        return SequencerType.DDL == sequencerType && KDdlSequencer.isIncremental();
+    }
+
     private void preSequenceClean(SequencerType sequencerType, Node outputNode) throws Exception {
         Session session = null;
 
@@ -435,7 +494,7 @@ public class KSequencers implements StringConstants, EventListener, KSequencerCo
     }
 
     private void analyseSequencerResults(SequencerType sequencerType, Node rootNode) throws Exception {
-        if (SequencerType.DDL != sequencerType)
+        if (SequencerType.DDL != sequencerType || isIncremental(sequencerType))
             return;
 
         analyseDdlNodes(rootNode);
@@ -443,11 +502,15 @@ public class KSequencers implements StringConstants, EventListener, KSequencerCo
 
     private void sequence(SequencerType sequencerType, Property property,
                                                  Node outputNode, String eventId) throws Exception {
-        KLog.getLogger().debug("Executing pre-sequencing of " + sequencerType.name() + " Sequencer for property " + property.getName());  //$NON-NLS-1$//$NON-NLS-2$
-        preSequenceClean(sequencerType, outputNode);
+        boolean incremental = isIncremental(sequencerType);
+
+        if (! incremental) {
+            KLog.getLogger().debug("Executing pre-sequencing of " + sequencerType.name() + " Sequencer for property " + property.getName());  //$NON-NLS-1$//$NON-NLS-2$
+            preSequenceClean(sequencerType, outputNode);
+        }
 
         Session seqSession = ModeshapeUtils.createSession(getIdentifier());
-        KLog.getLogger().debug("KSequencers.sequenceClean: session = {0}", session.hashCode()); //$NON-NLS-1$
+        KLog.getLogger().debug("KSequencers.sequenceClean: session = {0}", seqSession.hashCode()); //$NON-NLS-1$
 
         try {
             KLog.getLogger().debug("Executing " + sequencerType.name() + " Sequencer on property " + property.getName());  //$NON-NLS-1$//$NON-NLS-2$
@@ -456,14 +519,17 @@ public class KSequencers implements StringConstants, EventListener, KSequencerCo
             Node seqOutputNode = seqSession.getNode(outputNode.getPath());
 
             boolean status = seqSession.sequence(sequencerType.toString(), seqProperty, seqOutputNode);
-            if (!status)
+            if (!status && incremental)
+                KLog.getLogger().debug("The " + sequencerType.name() + " Sequencer found nothing to change"); //$NON-NLS-1$ //$NON-NLS-2$
+            else if (!status)
                 KLog.getLogger().error("The sequence " + sequencerType.name() + " failed in some way");
             else {
                 //
                 // Return flag is only a notional indicator that the sequencer executed successfully.
                 // Need to confirm that changes have actually been made to the output node.
+                // An incremental sequencer only returns true if it made changes.
                 //
-                status = checkSequencerWork(sequencerType, outputNode, seqOutputNode);
+                status = incremental || checkSequencerWork(sequencerType, outputNode, seqOutputNode);
                 if (status) {
                     // Sequencer executed and changed something
 
@@ -556,12 +622,163 @@ public class KSequencers implements StringConstants, EventListener, KSequencerCo
         }
     }
 
+    private static boolean isSameOrAncestor(String path, String otherPath) {
+        return otherPath.equals(path) || otherPath.startsWith(path + FORWARD_SLASH);
+    }
+
+    private static boolean isRelated(List<SequencingJob> group, String outputPath) {
+        for (SequencingJob groupJob : group) {
+            if (isSameOrAncestor(groupJob.outputPath, outputPath) || isSameOrAncestor(outputPath, groupJob.outputPath))
+                return true;
+        }
+
+        return false;
+    }
+
+    /*
+     * Jobs whose output nodes are the same, or where one output node contains the other (a VDB and one of its models), are
+     * kept in the same group so they are never run concurrently.
+     */
+    static void addJob(Map<String, List<SequencingJob>> jobs, SequencingJob job) {
+        List<SequencingJob> group = null;
+        Iterator<Map.Entry<String, List<SequencingJob>>> iter = jobs.entrySet().iterator();
+
+        while (iter.hasNext()) {
+            Map.Entry<String, List<SequencingJob>> entry = iter.next();
+
+            if (! isRelated(entry.getValue(), job.outputPath))
+                continue;
+
+            if (group == null) {
+                group = entry.getValue();
+            } else {
+                // The job's output node contains both groups so they have to be run together
+                group.addAll(entry.getValue());
+                iter.remove();
+            }
+        }
+
+        if (group == null) {
+            group = new ArrayList<>();
+            jobs.put(job.outputPath, group);
+        }
+
+        group.add(job);
+    }
+
+    private void runJob(Session jobSession, SequencingJob job) throws Exception {
+        if (job.propertyPath == null) {
+            if (jobSession.nodeExists(job.outputPath))
+                preSequenceClean(job.sequencerType, jobSession.getNode(job.outputPath));
+
+            return;
+        }
+
+        if (! jobSession.propertyExists(job.propertyPath))
+            return;
+
+        sequence(job.sequencerType, jobSession.getProperty(job.propertyPath), job.eventUserData);
+    }
+
+    /*
+     * Runs the jobs of each output node in order. The output nodes are sequenced independently of each other so, if
+     * permitted, they are sequenced concurrently with each worker using its own session.
+     */
+    private void runJobs(Map<String, List<SequencingJob>> jobs) throws Exception {
+        if (jobs.isEmpty())
+            return;
+
+        final int parallelism = Math.max(1, Integer.getInteger(SystemConstants.SEQUENCING_PARALLELISM, 1));
+
+        if (parallelism < 2 || jobs.size() < 2) {
+            for (List<SequencingJob> pathJobs : jobs.values()) {
+                for (SequencingJob job : pathJobs)
+                    runJob(this.session, job);
+            }
+
+            return;
+        }
+
+        KLog.getLogger().debug("KSequencers: sequencing {0} output nodes in parallel", jobs.size()); //$NON-NLS-1$
+        List<Future<Void>> futures = new ArrayList<>(jobs.size());
+
+        try {
+            for (final List<SequencingJob> pathJobs : jobs.values()) {
+                futures.add(getSequencingWorkers(parallelism).submit(new Callable<Void>() {
+
+                    @Override
+                    public Void call() throws Exception {
+                        Session jobSession = ModeshapeUtils.createSession(getIdentifier());
+
+                        try {
+                            for (SequencingJob job : pathJobs)
+                                runJob(jobSession, job);
+                        } finally {
+                            if (jobSession.isLive())
+                                jobSession.logout();
+                        }
+
+                        return null;
+                    }
+                }));
+            }
+
+            for (Future<Void> future : futures)
+                future.get();
+        } catch (ExecutionException ex) {
+            for (Future<Void> future : futures)
+                future.cancel(true);
+
+            Throwable cause = ex.getCause();
+            if (cause instanceof Exception)
+                throw (Exception) cause;
+
+            throw ex;
+        }
+    }
+
+    private synchronized ExecutorService getSequencingWorkers(int parallelism) {
+        if (this.sequencingWorkers == null) {
+            final ThreadFactory factory = new ThreadFactory() {
+
+                private final AtomicInteger count = new AtomicInteger();
+
+                @Override
+                public Thread newThread(final Runnable runnable) {
+                    final Thread thread = new Thread(runnable, "Komodo Sequencer Worker-" + this.count.incrementAndGet()); //$NON-NLS-1$
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            };
+
+            final ThreadPoolExecutor executor = new ThreadPoolExecutor(parallelism,
+                                                                       parallelism,
+                                                                       60L,
+                                                                       TimeUnit.SECONDS,
+                                                                       new LinkedBlockingQueue<Runnable>(),
+                                                                       factory);
+            executor.allowCoreThreadTimeOut(true);
+            this.sequencingWorkers = executor;
+        } else if (parallelism > this.sequencingWorkers.getMaximumPoolSize()) {
+            // The parallelism has been raised since the workers were created
+            this.sequencingWorkers.setMaximumPoolSize(parallelism);
+            this.sequencingWorkers.setCorePoolSize(parallelism);
+        } else if (parallelism < this.sequencingWorkers.getMaximumPoolSize()) {
+            this.sequencingWorkers.setCorePoolSize(parallelism);
+            this.sequencingWorkers.setMaximumPoolSize(parallelism);
+        }
+
+        return this.sequencingWorkers;
+    }
+
     @Override
     public void onEvent(EventIterator events) {
         KLog.getLogger().debug("KSequencers: onEvent() called"); //$NON-NLS-1$
 
         String eventUserData = null;
         try {
+            // Sequencing work grouped by the output node path of its first job, in the order the events were received
+            Map<String, List<SequencingJob>> jobs = new LinkedHashMap<>();
             int eventNo = 0;
             int systemEvents = 0;
             while (events.hasNext()) {
@@ -608,7 +825,8 @@ public class KSequencers implements StringConstants, EventListener, KSequencerCo
                         if (sequencerType == null)
                             continue;
 
-                        sequence(sequencerType, property, eventUserData);
+                        Node outputNode = sequencedOutput(sequencerType, property.getParent());
+                        addJob(jobs, new SequencingJob(sequencerType, outputNode.getPath(), eventPath, eventUserData));
                         continue;
                     }
                     case Event.PROPERTY_REMOVED:
@@ -637,11 +855,13 @@ public class KSequencers implements StringConstants, EventListener, KSequencerCo
                         //
                         // Clean all the children that the sequencer was responsible for creating
                         //
-                        preSequenceClean(sequencerType, node);
+                        addJob(jobs, new SequencingJob(sequencerType, node.getPath(), null, eventUserData));
                     }
                 }
             }
 
+            runJobs(jobs);
+
             //
             // Event looping has completed.
             //
@@ -695,8 +915,10 @@ public class KSequencers implements StringConstants, EventListener, KSequencerCo
                 //
                 if (KLog.getLogger().isDebugEnabled()) {
                     StringBuffer buffer = new StringBuffer("Current Sequencing Train: "); //$NON-NLS-1$
-                    for (String id : runningSequencers)
-                        buffer.append(id).append(TAB);
+                    synchronized (runningSequencers) {
+                        for (String id : runningSequencers)
+                            buffer.append(id).append(TAB);
+                    }
 
                     KLog.getLogger().debug(buffer.toString());
                 }
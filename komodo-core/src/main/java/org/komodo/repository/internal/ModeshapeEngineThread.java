@@ -29,9 +29,15 @@ import java.io.InputStreamReader;
 import java.net.URL;
 import java.util.Iterator;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import javax.jcr.Node;
 import javax.jcr.NodeIterator;
 import javax.jcr.Session;
@@ -47,6 +53,7 @@ import org.komodo.repository.KSequencerListener;
 import org.komodo.repository.Messages;
 import org.komodo.repository.RepositoryImpl;
 import org.komodo.spi.constants.StringConstants;
+import org.komodo.spi.constants.SystemConstants;
 import org.komodo.spi.repository.Repository;
 import org.komodo.utils.ArgCheck;
 import org.komodo.utils.KLog;
@@ -59,6 +66,11 @@ import org.modeshape.jcr.RepositoryConfiguration.FieldName;
 
 /**
  * The thread the ModeShape engine uses for local repositories.
+ * <p>
+ * Engine requests (start, stop, clear) are always serviced by this thread. Session requests (create, commit, rollback) are
+ * handed to a bounded pool of session workers so that independent transactions do not queue behind each other. The size of
+ * the pool is set by the {@link SystemConstants#ENGINE_SESSION_WORKERS} system property. A size of zero services session
+ * requests on this thread, one at a time.
  */
 public class ModeshapeEngineThread extends Thread implements StringConstants {
 
@@ -210,8 +222,19 @@ public class ModeshapeEngineThread extends Thread implements StringConstants {
     private final static ModeShapeEngine msEngine = new ModeShapeEngine();
     private static final KLog LOGGER = KLog.getLogger();
 
+    private static final int DEFAULT_SESSION_WORKERS = Math.min( Runtime.getRuntime().availableProcessors(), 8 );
+
     private BlockingQueue< Request > queue = new LinkedBlockingQueue< Request >();
 
+    /**
+     * Serialises session saves so the sequencers observe saves in the same order they did with a single engine thread.
+     */
+    private final Lock saveLock = new ReentrantLock();
+
+    private final int sessionWorkerCount;
+
+    private ExecutorService sessionWorkers;
+
     private volatile boolean stop = false;
 
     private volatile Exception error = null;
@@ -232,9 +255,60 @@ public class ModeshapeEngineThread extends Thread implements StringConstants {
         super("Modeshape Engine Thread"); //$NON-NLS-1$
         this.repoId = repoId;
         this.identifier = new WorkspaceIdentifier(repoId.getWorkspaceName());
+        this.sessionWorkerCount = Math.max( 0, Integer.getInteger( SystemConstants.ENGINE_SESSION_WORKERS,
+                                                                   DEFAULT_SESSION_WORKERS ) );
         setDaemon(true);
     }
 
+    /**
+     * @return the number of workers servicing session requests (zero if session requests are serviced by this thread)
+     */
+    public int getSessionWorkerCount() {
+        return this.sessionWorkerCount;
+    }
+
+    private ExecutorService createSessionWorkers() {
+        final ThreadFactory factory = new ThreadFactory() {
+
+            private final AtomicInteger count = new AtomicInteger();
+
+            @Override
+            public Thread newThread( final Runnable runnable ) {
+                final Thread thread = new Thread( runnable, "Modeshape Engine Session Worker-" + this.count.incrementAndGet() ); //$NON-NLS-1$
+                thread.setDaemon( true );
+                return thread;
+            }
+        };
+
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor( this.sessionWorkerCount,
+                                                                    this.sessionWorkerCount,
+                                                                    60L,
+                                                                    TimeUnit.SECONDS,
+                                                                    new LinkedBlockingQueue< Runnable >(),
+                                                                    factory );
+        executor.allowCoreThreadTimeOut( true );
+        return executor;
+    }
+
+    private void shutdownSessionWorkers() {
+        if ( this.sessionWorkers == null ) {
+            return;
+        }
+
+        this.sessionWorkers.shutdown();
+
+        try {
+            if ( !this.sessionWorkers.awaitTermination( 1, TimeUnit.MINUTES ) ) {
+                this.sessionWorkers.shutdownNow();
+            }
+        } catch ( final InterruptedException e ) {
+            this.sessionWorkers.shutdownNow();
+            Thread.currentThread().interrupt();
+        } finally {
+            this.sessionWorkers = null;
+        }
+    }
+
     private void respondCallback(final Request request, Object result) {
         if (request.getCallback() != null) {
             LOGGER.debug("ModeshapeEngineThread: Responding to callback: " + request.getCallback().getClass().getName()); //$NON-NLS-1$
@@ -257,7 +331,7 @@ public class ModeshapeEngineThread extends Thread implements StringConstants {
         session.logout();
     }
 
-    private synchronized void commitSession( final Request request ) {
+    private void commitSession( final Request request ) {
         ArgCheck.isTrue(request.getRequestType() == RequestType.COMMIT_SESSION,
                         "commitSession called when request is not a commit session"); //$NON-NLS-1$
         final SessionRequest commitRequest = (SessionRequest)request;
@@ -334,12 +408,17 @@ public class ModeshapeEngineThread extends Thread implements StringConstants {
                 }
             };
 
-            sequencers.addSequencerListener(sequencerListener);
-
             //
             // Save the session
             //
-            session.save();
+            this.saveLock.lock();
+
+            try {
+                sequencers.addSequencerListener(sequencerListener);
+                session.save();
+            } finally {
+                this.saveLock.unlock();
+            }
 
             LOGGER.debug("commit session request {0} has been saved", commitRequest.getName()); //$NON-NLS-1$
 
@@ -366,6 +445,20 @@ public class ModeshapeEngineThread extends Thread implements StringConstants {
                     ModeshapeUtils.isRepositoryRunning(identifier.getRepository());
     }
 
+    /**
+     * Creates a session on the calling thread rather than through the request queue. Only sessions that are never saved
+     * should be obtained this way.
+     *
+     * @return a new session (never <code>null</code>)
+     * @throws Exception
+     *         if the repository is not running or the session could not be created
+     */
+    public Session createReadOnlySession() throws Exception {
+        final Session session = ModeshapeUtils.createSession(identifier);
+        LOGGER.debug("ModeShapeEngineThread.createReadOnlySession: {0}", session.hashCode()); //$NON-NLS-1$
+        return session;
+    }
+
     /**
      * @return any error that may have occurred when the run method threw an error
      */
@@ -373,7 +466,7 @@ public class ModeshapeEngineThread extends Thread implements StringConstants {
         return this.error;
     }
 
-    private synchronized void rollbackSession( final Request request, Throwable error) {
+    private void rollbackSession( final Request request, Throwable error) {
         ArgCheck.isTrue(request.getRequestType() == RequestType.ROLLBACK_SESSION,
                         "rollbackSession called when request is not a rollback session"); //$NON-NLS-1$
         final SessionRequest rollbackRequest = (SessionRequest)request;
@@ -641,7 +734,7 @@ public class ModeshapeEngineThread extends Thread implements StringConstants {
         commitSession(saveRequest);
     }
 
-    private synchronized void createSession(final Request request) {
+    private void createSession(final Request request) {
         Object results = null;
         try {
             results = ModeshapeUtils.createSession(identifier);
@@ -652,43 +745,92 @@ public class ModeshapeEngineThread extends Thread implements StringConstants {
         }
     }
 
+    private void processSessionRequest( final Request request ) {
+        try {
+            switch (request.getRequestType()) {
+                case CREATE_SESSION:
+                    createSession(request);
+                    break;
+                case COMMIT_SESSION:
+                    commitSession(request);
+                    break;
+                case ROLLBACK_SESSION:
+                    rollbackSession(request, null);
+                    break;
+                default:
+                    break;
+            }
+        } catch (final Throwable e) {
+            LOGGER.error(Messages.getString(Messages.LocalRepository.General_Exception), e);
+            errorCallback(request, e);
+        }
+    }
+
+    private void dispatchSessionRequest( final Request request ) {
+        if ( this.sessionWorkerCount == 0 ) {
+            processSessionRequest( request );
+            return;
+        }
+
+        if ( this.sessionWorkers == null ) {
+            this.sessionWorkers = createSessionWorkers();
+        }
+
+        this.sessionWorkers.execute( new Runnable() {
+
+            @Override
+            public void run() {
+                processSessionRequest( request );
+            }
+        } );
+    }
+
+    private void processEngineRequest( final Request request ) throws Exception {
+        //
+        // Engine requests must only run once every session request accepted before them has completed
+        // so drain the session workers. They are recreated by the next session request.
+        //
+        shutdownSessionWorkers();
+
+        switch (request.getRequestType()) {
+            case START:
+                startEngine(request);
+                break;
+            case STOP:
+                stopEngine(request);
+                stop = true;
+                break;
+            case CLEAR:
+                clear(request);
+                break;
+            default:
+                break;
+        }
+    }
+
     @Override
     public void run() {
-        while (!stop) {
-            try {
-                Request request = queue.poll(1000L, TimeUnit.MILLISECONDS);
-
-                if (request == null) continue;
-
-                switch (request.getRequestType()) {
-                    case START:
-                        startEngine(request);
-                        break;
-                    case STOP:
-                        stopEngine(request);
-                        stop = true;
-                        break;
-                    case CLEAR:
-                        clear(request);
-                        break;
-                    case CREATE_SESSION:
-                        createSession(request);
-                        break;
-                    case COMMIT_SESSION:
-                        commitSession(request);
-                        break;
-                    case ROLLBACK_SESSION:
-                        rollbackSession(request, null);
-                        break;
-                    default:
-                        break;
-                }
+        try {
+            while (!stop) {
+                try {
+                    Request request = queue.poll(1000L, TimeUnit.MILLISECONDS);
 
-            } catch (final Exception e) {
-                stop = true;
-                error = e;
-                KEngine.getInstance().getErrorHandler().error(Messages.getString(Messages.LocalRepository.General_Exception), e);
+                    if (request == null) continue;
+
+                    if (RequestType.isSessionRequest(request.getRequestType())) {
+                        dispatchSessionRequest(request);
+                    } else {
+                        processEngineRequest(request);
+                    }
+
+                } catch (final Exception e) {
+                    stop = true;
+                    error = e;
+                    KEngine.getInstance().getErrorHandler().error(Messages.getString(Messages.LocalRepository.General_Exception), e);
+                }
             }
+        } finally {
+            shutdownSessionWorkers();
         }
     }
 
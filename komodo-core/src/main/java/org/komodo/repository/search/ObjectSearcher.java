@@ -66,6 +66,10 @@ public class ObjectSearcher implements TeiidSqlConstants.Reserved, StringConstan
 
     private Map<String, String> parameters = new HashMap<>();
 
+    private int offset = 0;
+
+    private int limit = -1;
+
     /**
      * @param repository the repository to search
      */
@@ -382,6 +386,42 @@ public class ObjectSearcher implements TeiidSqlConstants.Reserved, StringConstan
         return this;
     }
 
+    /**
+     * @return the number of results skipped before the first result is returned (never negative)
+     */
+    public int getOffset() {
+        return this.offset;
+    }
+
+    /**
+     * Set the number of results to skip. Paging is applied by the repository query so skipped results are never loaded.
+     *
+     * @param offset the number of results to skip (a negative value is treated as zero)
+     * @return this search object
+     */
+    public ObjectSearcher setOffset(int offset) {
+        this.offset = Math.max(0, offset);
+        return this;
+    }
+
+    /**
+     * @return the maximum number of results returned (negative if all results are returned)
+     */
+    public int getLimit() {
+        return this.limit;
+    }
+
+    /**
+     * Set the maximum number of results to return.
+     *
+     * @param limit the maximum number of results (a negative value returns all results)
+     * @return this search object
+     */
+    public ObjectSearcher setLimit(int limit) {
+        this.limit = limit;
+        return this;
+    }
+
     private boolean hasWhere() {
         return (whereClauses != null && ! whereClauses.isEmpty()) || customWhereClause != null;
     }
@@ -606,8 +646,15 @@ public class ObjectSearcher implements TeiidSqlConstants.Reserved, StringConstan
         ArgCheck.isTrue( ( transaction.getState() == State.NOT_STARTED ), "transaction state is not NOT_STARTED" ); //$NON-NLS-1$
 
         List<KomodoObject> results = Collections.emptyList();
+        statement = replaceParameters(statement);
+
+        // execute query
+        results = getRepository().query(transaction, statement, this.offset, this.limit);
 
-        // plug in parameters
+        return results;
+    }
+
+    private String replaceParameters(String statement) throws KException {
         for (Map.Entry<String, String> entry : parameters.entrySet()) {
             if (entry.getValue() == null)
                 throw new KException("Search requires the parameter " + entry.getKey() + " but has not been provided a value"); //$NON-NLS-1$ //$NON-NLS-2$
@@ -617,10 +664,23 @@ public class ObjectSearcher implements TeiidSqlConstants.Reserved, StringConstan
             statement = statement.replaceAll(quotedParameter, entry.getValue());
         }
 
-        // execute query
-        results = getRepository().query(transaction, statement);
+        return statement;
+    }
 
-        return results;
+    /**
+     * Counts the results of the search using the parameters of this object searcher. The offset and limit are ignored.
+     *
+     * @param transaction
+     *        the transaction (cannot be <code>null</code> or have a state that is not {@link State#NOT_STARTED})
+     * @return the total number of results of this search
+     * @throws KException if error occurs
+     */
+    public long count(final UnitOfWork transaction) throws KException {
+        ArgCheck.isNotNull( transaction, "transaction" ); //$NON-NLS-1$
+        ArgCheck.isTrue( ( transaction.getState() == State.NOT_STARTED ), "transaction state is not NOT_STARTED" ); //$NON-NLS-1$
+
+        String statement = replaceParameters(createStatement(transaction));
+        return getRepository().count(transaction, statement);
     }
 
     /**
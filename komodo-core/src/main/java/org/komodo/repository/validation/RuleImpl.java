@@ -28,6 +28,10 @@ import java.util.HashSet;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 import org.komodo.core.KomodoLexicon;
 import org.komodo.repository.Messages;
 import org.komodo.repository.ObjectImpl;
@@ -125,6 +129,81 @@ public class RuleImpl extends ObjectImpl implements Rule {
         return result.toString();
     }
 
+    /**
+     * Rule patterns are compiled once and shared by all rules.
+     */
+    private static final ConcurrentMap< String, Pattern > PATTERNS = new ConcurrentHashMap<>();
+
+    private static Pattern compile( final String regex ) {
+        Pattern pattern = PATTERNS.get( regex );
+
+        if ( pattern == null ) {
+            pattern = Pattern.compile( regex );
+            final Pattern existing = PATTERNS.putIfAbsent( regex, pattern );
+
+            if ( existing != null ) {
+                pattern = existing;
+            }
+        }
+
+        return pattern;
+    }
+
+    /**
+     * The settings of a rule that do not depend on the object being evaluated. They are read from the rule node once so that
+     * evaluating the rule against many objects does not read them again.
+     */
+    static final class Snapshot {
+
+        final String name;
+        final boolean enabled;
+        final Level severity;
+        final String description;
+        final Pattern pattern;
+        private final Map< String, String > messages;
+
+        Snapshot( final UnitOfWork transaction,
+                  final RuleImpl rule ) throws KException {
+            this.name = rule.getName( transaction );
+            this.enabled = rule.isEnabled( transaction );
+            this.severity = rule.getSeverity( transaction );
+
+            final Map< String, String > found = new HashMap<>();
+
+            for ( final MessageKey key : MessageKey.values() ) {
+                final String message = rule.getMessage( transaction, key.name() );
+
+                if ( !StringUtils.isBlank( message ) ) {
+                    found.put( key.name(), message );
+                }
+            }
+
+            this.messages = found;
+            this.description = found.get( MessageKey.DESCRIPTION.name() );
+
+            if ( rule.hasProperty( transaction, KomodoLexicon.Rule.PATTERN ) ) {
+                final String regex = rule.getProperty( transaction, KomodoLexicon.Rule.PATTERN ).getStringValue( transaction );
+
+                try {
+                    this.pattern = compile( regex );
+                } catch ( final PatternSyntaxException e ) {
+                    throw new KException( e );
+                }
+            } else {
+                this.pattern = null;
+            }
+        }
+
+        /*
+         * Gets the message for the specified key. If a 'message' is not found for the key, the rule 'description' is returned.
+         */
+        String getMessageOrDescription( final String key ) {
+            final String message = this.messages.get( key );
+            return ( message == null ) ? this.description : message;
+        }
+
+    }
+
     /**
      * Constructs a validation rule.
      *
@@ -156,8 +235,40 @@ public class RuleImpl extends ObjectImpl implements Rule {
         ArgCheck.isTrue( ( transaction.getState() == State.NOT_STARTED ), "transaction state is not NOT_STARTED" ); //$NON-NLS-1$
         ArgCheck.isNotNull( kobject, "kobject" ); //$NON-NLS-1$
 
-        if ( !isEnabled( transaction ) ) {
-            return new ProblemRule(getName(transaction),ProblemRule.Type.NOT_ENABLED).evaluate(transaction, kobject);
+        return evaluate( transaction, kobject, snapshot( transaction ) );
+    }
+
+    /**
+     * @param transaction
+     *        the transaction (cannot be <code>null</code> and must have a state of
+     *        {@link org.komodo.spi.repository.Repository.UnitOfWork.State#NOT_STARTED})
+     * @return the settings of this rule that do not depend on the object being evaluated (never <code>null</code>)
+     * @throws KException
+     *         if an error occurs
+     */
+    Snapshot snapshot( final UnitOfWork transaction ) throws KException {
+        return new Snapshot( transaction, this );
+    }
+
+    /**
+     * Evaluates this rule using settings previously read from the rule node.
+     *
+     * @param transaction
+     *        the transaction (cannot be <code>null</code> and must have a state of
+     *        {@link org.komodo.spi.repository.Repository.UnitOfWork.State#NOT_STARTED})
+     * @param kobject
+     *        the object being validated (cannot be <code>null</code>)
+     * @param snapshot
+     *        the settings of this rule (cannot be <code>null</code>)
+     * @return the result (never <code>null</code>)
+     * @throws KException
+     *         if an error occurs
+     */
+    Result evaluate( final UnitOfWork transaction,
+                     final KomodoObject kobject,
+                     final Snapshot snapshot ) throws KException {
+        if ( !snapshot.enabled ) {
+            return new ProblemRule(snapshot.name,ProblemRule.Type.NOT_ENABLED).evaluate(transaction, kobject);
         }
 
         try {
@@ -165,11 +276,11 @@ public class RuleImpl extends ObjectImpl implements Rule {
 
             switch ( getValidationType( transaction ) ) {
                 case NODE:
-                    return evaluateNodeRule( transaction, kobject, ruleType );
+                    return evaluateNodeRule( transaction, kobject, ruleType, snapshot );
                 case PROPERTY:
-                    return evaluatePropertyRule( transaction, kobject, ruleType );
+                    return evaluatePropertyRule( transaction, kobject, ruleType, snapshot );
                 case CHILD:
-                    return evaluateChildRule( transaction, kobject, ruleType );
+                    return evaluateChildRule( transaction, kobject, ruleType, snapshot );
                 default:
                     // need to add new validation type
                     throw new RuntimeException( "Unexpected validation type of '" + getValidationType( transaction ) + '\'' ); //$NON-NLS-1$
@@ -185,7 +296,8 @@ public class RuleImpl extends ObjectImpl implements Rule {
 
     private Result evaluateChildRule( final UnitOfWork transaction,
                                       final KomodoObject kobject,
-                                      final RuleType ruleType ) throws KException {
+                                      final RuleType ruleType,
+                                      final Snapshot snapshot ) throws KException {
         final Property childTypeProp = getProperty( transaction, KomodoLexicon.Rule.JCR_NAME );
         assert ( childTypeProp != null );
 
@@ -209,12 +321,12 @@ public class RuleImpl extends ObjectImpl implements Rule {
         // Child required but does not exist.
         if(childRqd && !hasChildWithTypeAndRestrictions) {
             // Use rule description if found, otherwise use a default 'child not found' message.
-            errorMsg = getDescription( transaction );
+            errorMsg = snapshot.description;
             if( StringUtils.isBlank(errorMsg) ) {
                 args = new String[] { childType, kobject.getName( transaction ), kobject.getAbsolutePath() };
                 errorMsg = Messages.getString( Messages.Validation.CHILD_OF_REQUIRED_TYPE_NOT_FOUND, ( Object[] )args );
             }
-            return new ResultImpl( kobject.getAbsolutePath(), getName( transaction ), getSeverity( transaction ), errorMsg );
+            return new ResultImpl( kobject.getAbsolutePath(), snapshot.name, snapshot.severity, errorMsg );
         }
         
         switch ( ruleType ) {
@@ -242,7 +354,7 @@ public class RuleImpl extends ObjectImpl implements Rule {
 
                             if ( ( inclusive && ( result < 0 ) ) || ( !inclusive && ( result <= 0 ) ) ) {
                                 // Get specific message or description
-                                errorMsg = getMessageOrDescription( transaction, MessageKey.CHILD_COUNT_BELOW_MIN_VALUE.name() );
+                                errorMsg = snapshot.getMessageOrDescription( MessageKey.CHILD_COUNT_BELOW_MIN_VALUE.name() );
                                 // If rule does not have message or description for the locale, use a default.
                                 if(StringUtils.isBlank(errorMsg)) {
                                     args = new String[] { kobject.getName( transaction ), kobject.getAbsolutePath(), childCount.toString(), childType, minString };
@@ -271,7 +383,7 @@ public class RuleImpl extends ObjectImpl implements Rule {
 
                                 if ( ( inclusive && ( result > 0 ) ) || ( !inclusive && ( result >= 0 ) ) ) {
                                     // Get specific message or description
-                                    errorMsg = getMessageOrDescription( transaction, MessageKey.CHILD_COUNT_ABOVE_MAX_VALUE.name() );
+                                    errorMsg = snapshot.getMessageOrDescription( MessageKey.CHILD_COUNT_ABOVE_MAX_VALUE.name() );
                                     // If rule does not have message or description for the locale, use a default.
                                     if(StringUtils.isBlank(errorMsg)) {
                                         args = new String[] { kobject.getName( transaction ), kobject.getAbsolutePath(), childCount.toString(), childType, maxString };
@@ -284,20 +396,20 @@ public class RuleImpl extends ObjectImpl implements Rule {
 
                     if ( StringUtils.isBlank( errorMsg ) && !minChecked && !maxChecked ) {
                         // Get specific message or description
-                        errorMsg = getMessageOrDescription( transaction, MessageKey.NUMBER_RULE_HAS_NO_VALUES.name() );
+                        errorMsg = snapshot.getMessageOrDescription( MessageKey.NUMBER_RULE_HAS_NO_VALUES.name() );
                         // If rule does not have message or description for the locale, use a default.
                         if(StringUtils.isBlank(errorMsg)) {
-                            args = new String[] { getName( transaction ) };
+                            args = new String[] { snapshot.name };
                             errorMsg = Messages.getString( Messages.Validation.NUMBER_RULE_HAS_NO_VALUES, ( Object[] )args );
                         }
                     }
                 } catch ( final ParseException ex ) {
                     // not a valid number rule and should be caught by XSD validation
                     // Get specific message or description
-                    errorMsg = getMessageOrDescription( transaction, MessageKey.NUMBER_RULE_NON_NUMERIC_VALUES.name() );
+                    errorMsg = snapshot.getMessageOrDescription( MessageKey.NUMBER_RULE_NON_NUMERIC_VALUES.name() );
                     // If rule does not have message or description for the locale, use a default.
                     if(StringUtils.isBlank(errorMsg)) {
-                        args = new String[] { getName( transaction ) };
+                        args = new String[] { snapshot.name };
                         errorMsg = Messages.getString( Messages.Validation.NUMBER_RULE_NON_NUMERIC_VALUES, ( Object[] )args );
                     }
                 }
@@ -320,7 +432,7 @@ public class RuleImpl extends ObjectImpl implements Rule {
                             for ( final String prop : propExistsProp.getStringValues( transaction ) ) {
                                 if ( !kidObj.hasProperty( transaction, prop ) ) {
                                     // Get specific message or description
-                                    errorMsg = getMessageOrDescription( transaction, MessageKey.RELATIONSHIP_RULE_REQUIRED_PROPERTY_NOT_FOUND.name() );
+                                    errorMsg = snapshot.getMessageOrDescription( MessageKey.RELATIONSHIP_RULE_REQUIRED_PROPERTY_NOT_FOUND.name() );
                                     // If rule does not have message or description for the locale, use a default.
                                     if(StringUtils.isBlank(errorMsg)) {
                                         args = new String[] { kidObj.getName( transaction ), kidObj.getAbsolutePath(), childType, prop };
@@ -343,7 +455,7 @@ public class RuleImpl extends ObjectImpl implements Rule {
                             for ( final String prop : propAbsentProp.getStringValues( transaction ) ) {
                                 if ( kidObj.hasProperty( transaction, prop ) ) {
                                     // Get specific message or description
-                                    errorMsg = getMessageOrDescription( transaction, MessageKey.RELATIONSHIP_RULE_ABSENT_PROPERTY_FOUND.name() );
+                                    errorMsg = snapshot.getMessageOrDescription( MessageKey.RELATIONSHIP_RULE_ABSENT_PROPERTY_FOUND.name() );
                                     // If rule does not have message or description for the locale, use a default.
                                     if(StringUtils.isBlank(errorMsg)) {
                                         args = new String[] { kidObj.getName( transaction ), kidObj.getAbsolutePath(), childType, prop };
@@ -366,7 +478,7 @@ public class RuleImpl extends ObjectImpl implements Rule {
                             for ( final String kidType : childExistsProp.getStringValues( transaction ) ) {
                                 if ( kidObj.getChildrenOfType( transaction, kidType ).length == 0 ) {
                                     // Get specific message or description
-                                    errorMsg = getMessageOrDescription( transaction, MessageKey.RELATIONSHIP_RULE_REQUIRED_CHILD_NOT_FOUND.name() );
+                                    errorMsg = snapshot.getMessageOrDescription( MessageKey.RELATIONSHIP_RULE_REQUIRED_CHILD_NOT_FOUND.name() );
                                     // If rule does not have message or description for the locale, use a default.
                                     if(StringUtils.isBlank(errorMsg)) {
                                         args = new String[] { kidObj.getName( transaction ), kidObj.getAbsolutePath(), childType, kidType };
@@ -391,7 +503,7 @@ public class RuleImpl extends ObjectImpl implements Rule {
                                     args = new String[] { kidObj.getName( transaction ), kidObj.getAbsolutePath(), childType, kidType };
 
                                     // Get specific message or description
-                                    errorMsg = getMessageOrDescription( transaction, MessageKey.RELATIONSHIP_RULE_ABSENT_CHILD_FOUND.name() );
+                                    errorMsg = snapshot.getMessageOrDescription( MessageKey.RELATIONSHIP_RULE_ABSENT_CHILD_FOUND.name() );
                                     // If rule does not have message or description for the locale, use a default.
                                     if(StringUtils.isBlank(errorMsg)) {
                                         errorMsg = Messages.getString( Messages.Validation.RELATIONSHIP_RULE_ABSENT_CHILD_FOUND, ( Object[] )args );
@@ -431,7 +543,7 @@ public class RuleImpl extends ObjectImpl implements Rule {
                         args = new String[] { kobject.getName( transaction ), kobject.getAbsolutePath(), name, childType };
 
                         // Get specific message or description
-                        errorMsg = getMessageOrDescription( transaction, MessageKey.RELATIONSHIP_RULE_SNS_FOUND.name() );
+                        errorMsg = snapshot.getMessageOrDescription( MessageKey.RELATIONSHIP_RULE_SNS_FOUND.name() );
                         // If rule does not have message or description for the locale, use a default.
                         if(StringUtils.isBlank(errorMsg)) {
                             errorMsg = Messages.getString( Messages.Validation.RELATIONSHIP_RULE_SNS_FOUND, ( Object[] )args );
@@ -451,31 +563,31 @@ public class RuleImpl extends ObjectImpl implements Rule {
         }
 
         if ( StringUtils.isBlank( errorMsg ) ) {
-            return new ResultImpl( kobject.getAbsolutePath(), getName( transaction ), Level.OK, StringConstants.EMPTY_STRING );
+            return new ResultImpl( kobject.getAbsolutePath(), snapshot.name, Level.OK, StringConstants.EMPTY_STRING );
         }
 
         assert ( !StringUtils.isBlank( errorMsg ) );
-        return new ResultImpl( kobject.getAbsolutePath(), getName( transaction ), getSeverity( transaction ), errorMsg );
+        return new ResultImpl( kobject.getAbsolutePath(), snapshot.name, snapshot.severity, errorMsg );
     }
     
     private Result evaluateNodeRule( final UnitOfWork transaction,
                                      final KomodoObject kobject,
-                                     final RuleType ruleType ) throws KException {
+                                     final RuleType ruleType,
+                                     final Snapshot snapshot ) throws KException {
         String errorMsg = null;
         String[] args = null;
 
         switch ( ruleType ) {
             case PATTERN: {
-                final Property patternProp = getProperty( transaction, KomodoLexicon.Rule.PATTERN );
-                assert ( patternProp != null );
+                assert ( snapshot.pattern != null );
 
                 final String name = kobject.getName( transaction );
 
-                if ( !name.matches( patternProp.getStringValue( transaction ) ) ) {
+                if ( !snapshot.pattern.matcher( name ).matches() ) {
                     args = new String[] { kobject.getName( transaction ), kobject.getAbsolutePath() };
 
                     // Get specific message or description
-                    errorMsg = getMessageOrDescription( transaction, MessageKey.PATTERN_RULE_INVALID_NODE_NAME.name() );
+                    errorMsg = snapshot.getMessageOrDescription( MessageKey.PATTERN_RULE_INVALID_NODE_NAME.name() );
                     // If rule does not have message or description for the locale, use a default.
                     if(StringUtils.isBlank(errorMsg)) {
                         errorMsg = Messages.getString( Messages.Validation.PATTERN_RULE_INVALID_NODE_NAME, ( Object[] )args );
@@ -495,16 +607,17 @@ public class RuleImpl extends ObjectImpl implements Rule {
         }
 
         if ( StringUtils.isBlank( errorMsg ) ) {
-            return new ResultImpl( kobject.getAbsolutePath(), getName( transaction ), Level.OK, StringConstants.EMPTY_STRING );
+            return new ResultImpl( kobject.getAbsolutePath(), snapshot.name, Level.OK, StringConstants.EMPTY_STRING );
         }
 
         assert ( !StringUtils.isBlank( errorMsg ) );
-        return new ResultImpl( kobject.getAbsolutePath(), getName( transaction ), getSeverity( transaction ), errorMsg );
+        return new ResultImpl( kobject.getAbsolutePath(), snapshot.name, snapshot.severity, errorMsg );
     }
 
     private Result evaluatePropertyRule( final UnitOfWork transaction,
                                          final KomodoObject kobject,
-                                         final RuleType ruleType ) throws KException {
+                                         final RuleType ruleType,
+                                         final Snapshot snapshot ) throws KException {
         final Property jcrNameProp = getProperty( transaction, KomodoLexicon.Rule.JCR_NAME );
         assert ( jcrNameProp != null );
 
@@ -524,27 +637,26 @@ public class RuleImpl extends ObjectImpl implements Rule {
         // Property is required but does not exist
         if ( propRqd && !exists ) {
             // Use rule description if found, otherwise use a default 'property not found' message.
-            errorMsg = getDescription( transaction );
+            errorMsg = snapshot.description;
             if( StringUtils.isBlank(errorMsg) ) {
                 args = new String[] { kobject.getName( transaction ), kobject.getAbsolutePath(), propName };
                 errorMsg = Messages.getString( Messages.Validation.REQUIRED_PROPERTY_NOT_FOUND, ( Object[] )args );
             }
-            return new ResultImpl( kobject.getAbsolutePath(), getName( transaction ), getSeverity( transaction ), errorMsg );
+            return new ResultImpl( kobject.getAbsolutePath(), snapshot.name, snapshot.severity, errorMsg );
         }
 
         switch ( ruleType ) {
             case PATTERN: {
                 // check value against the pattern
-                final Property patternProp = getProperty( transaction, KomodoLexicon.Rule.PATTERN );
-                assert ( patternProp != null );
+                assert ( snapshot.pattern != null );
 
                 final String value = kobject.getProperty( transaction, propName ).getStringValue( transaction );
 
-                if ( !value.matches( patternProp.getStringValue( transaction ) ) ) {
+                if ( !snapshot.pattern.matcher( value ).matches() ) {
                     args = new String[] { kobject.getName( transaction ), kobject.getAbsolutePath(), propName };
 
                     // Get specific message or description
-                    errorMsg = getMessageOrDescription( transaction, MessageKey.PATTERN_RULE_INVALID_PROPERTY_VALUE.name() );
+                    errorMsg = snapshot.getMessageOrDescription( MessageKey.PATTERN_RULE_INVALID_PROPERTY_VALUE.name() );
                     // If rule does not have message or description for the locale, use a default.
                     if(StringUtils.isBlank(errorMsg)) {
                         errorMsg = Messages.getString( Messages.Validation.PATTERN_RULE_INVALID_PROPERTY_VALUE, ( Object[] )args );
@@ -582,7 +694,7 @@ public class RuleImpl extends ObjectImpl implements Rule {
                                     args = new String[] { kobject.getName( transaction ), kobject.getAbsolutePath(), propName, valueString, minString };
 
                                     // Get specific message or description
-                                    errorMsg = getMessageOrDescription( transaction, MessageKey.PROPERTY_RULE_VALUE_BELOW_MIN_VALUE.name() );
+                                    errorMsg = snapshot.getMessageOrDescription( MessageKey.PROPERTY_RULE_VALUE_BELOW_MIN_VALUE.name() );
                                     // If rule does not have message or description for the locale, use a default.
                                     if(StringUtils.isBlank(errorMsg)) {
                                         errorMsg = Messages.getString( Messages.Validation.PROPERTY_RULE_VALUE_BELOW_MIN_VALUE, ( Object[] )args );
@@ -613,7 +725,7 @@ public class RuleImpl extends ObjectImpl implements Rule {
                                         args = new String[] { kobject.getName( transaction ), kobject.getAbsolutePath(), propName, valueString, maxString };
 
                                         // Get specific message or description
-                                        errorMsg = getMessageOrDescription( transaction, MessageKey.PROPERTY_RULE_VALUE_ABOVE_MAX_VALUE.name() );
+                                        errorMsg = snapshot.getMessageOrDescription( MessageKey.PROPERTY_RULE_VALUE_ABOVE_MAX_VALUE.name() );
                                         // If rule does not have message or description for the locale, use a default.
                                         if(StringUtils.isBlank(errorMsg)) {
                                             errorMsg = Messages.getString( Messages.Validation.PROPERTY_RULE_VALUE_ABOVE_MAX_VALUE, ( Object[] )args );
@@ -624,10 +736,10 @@ public class RuleImpl extends ObjectImpl implements Rule {
                         }
 
                         if ( StringUtils.isBlank( errorMsg ) && !minChecked && !maxChecked ) {
-                            args = new String[] { getName( transaction ) };
+                            args = new String[] { snapshot.name };
 
                             // Get specific message or description
-                            errorMsg = getMessageOrDescription( transaction, MessageKey.NUMBER_RULE_HAS_NO_VALUES.name() );
+                            errorMsg = snapshot.getMessageOrDescription( MessageKey.NUMBER_RULE_HAS_NO_VALUES.name() );
                             // If rule does not have message or description for the locale, use a default.
                             if(StringUtils.isBlank(errorMsg)) {
                                 errorMsg = Messages.getString( Messages.Validation.NUMBER_RULE_HAS_NO_VALUES, ( Object[] )args );
@@ -635,10 +747,10 @@ public class RuleImpl extends ObjectImpl implements Rule {
                         }
                     } catch ( final ParseException ex ) {
                         // not a valid number rule and should be caught by XSD validation
-                        args = new String[] { getName( transaction ) };
+                        args = new String[] { snapshot.name };
 
                         // Get specific message or description
-                        errorMsg = getMessageOrDescription( transaction, MessageKey.NUMBER_RULE_NON_NUMERIC_VALUES.name() );
+                        errorMsg = snapshot.getMessageOrDescription( MessageKey.NUMBER_RULE_NON_NUMERIC_VALUES.name() );
                         // If rule does not have message or description for the locale, use a default.
                         if(StringUtils.isBlank(errorMsg)) {
                             errorMsg = Messages.getString( Messages.Validation.NUMBER_RULE_NON_NUMERIC_VALUES, ( Object[] )args );
@@ -658,7 +770,7 @@ public class RuleImpl extends ObjectImpl implements Rule {
                                 args = new String[] { kobject.getName( transaction ), kobject.getAbsolutePath(), propName, prop };
 
                                 // Get specific message or description
-                                errorMsg = getMessageOrDescription( transaction, MessageKey.PROPERTY_RULE_REQUIRED_PROPERTY_NOT_FOUND.name() );
+                                errorMsg = snapshot.getMessageOrDescription( MessageKey.PROPERTY_RULE_REQUIRED_PROPERTY_NOT_FOUND.name() );
                                 // If rule does not have message or description for the locale, use a default.
                                 if(StringUtils.isBlank(errorMsg)) {
                                     errorMsg = Messages.getString( Messages.Validation.PROPERTY_RULE_REQUIRED_PROPERTY_NOT_FOUND, ( Object[] )args );
@@ -682,7 +794,7 @@ public class RuleImpl extends ObjectImpl implements Rule {
                                 args = new String[] { kobject.getName( transaction ), kobject.getAbsolutePath(), propName, prop };
 
                                 // Get specific message or description
-                                errorMsg = getMessageOrDescription( transaction, MessageKey.PROPERTY_RULE_ABSENT_PROPERTY_FOUND.name() );
+                                errorMsg = snapshot.getMessageOrDescription( MessageKey.PROPERTY_RULE_ABSENT_PROPERTY_FOUND.name() );
                                 // If rule does not have message or description for the locale, use a default.
                                 if(StringUtils.isBlank(errorMsg)) {
                                     errorMsg = Messages.getString( Messages.Validation.PROPERTY_RULE_ABSENT_PROPERTY_FOUND, ( Object[] )args );
@@ -706,7 +818,7 @@ public class RuleImpl extends ObjectImpl implements Rule {
                                 args = new String[] { kobject.getName( transaction ), kobject.getAbsolutePath(), propName, childType };
 
                                 // Get specific message or description
-                                errorMsg = getMessageOrDescription( transaction, MessageKey.RELATIONSHIP_RULE_REQUIRED_CHILD_NOT_FOUND.name() );
+                                errorMsg = snapshot.getMessageOrDescription( MessageKey.RELATIONSHIP_RULE_REQUIRED_CHILD_NOT_FOUND.name() );
                                 // If rule does not have message or description for the locale, use a default.
                                 if(StringUtils.isBlank(errorMsg)) {
                                     errorMsg = Messages.getString( Messages.Validation.RELATIONSHIP_RULE_REQUIRED_CHILD_NOT_FOUND, ( Object[] )args );
@@ -730,7 +842,7 @@ public class RuleImpl extends ObjectImpl implements Rule {
                                 args = new String[] { kobject.getName( transaction ), kobject.getAbsolutePath(), propName, childType };
 
                                 // Get specific message or description
-                                errorMsg = getMessageOrDescription( transaction, MessageKey.PROPERTY_RULE_ABSENT_CHILD_FOUND.name() );
+                                errorMsg = snapshot.getMessageOrDescription( MessageKey.PROPERTY_RULE_ABSENT_CHILD_FOUND.name() );
                                 // If rule does not have message or description for the locale, use a default.
                                 if(StringUtils.isBlank(errorMsg)) {
                                     errorMsg = Messages.getString( Messages.Validation.PROPERTY_RULE_ABSENT_CHILD_FOUND, ( Object[] )args );
@@ -752,10 +864,10 @@ public class RuleImpl extends ObjectImpl implements Rule {
         }
 
         if ( StringUtils.isBlank( errorMsg ) ) {
-            return new ResultImpl( kobject.getAbsolutePath(), getName( transaction ), Level.OK, StringConstants.EMPTY_STRING );
+            return new ResultImpl( kobject.getAbsolutePath(), snapshot.name, Level.OK, StringConstants.EMPTY_STRING );
         }
 
-        return new ResultImpl( kobject.getAbsolutePath(), getName( transaction ), getSeverity( transaction ), errorMsg );
+        return new ResultImpl( kobject.getAbsolutePath(), snapshot.name, snapshot.severity, errorMsg );
     }
 
     /**
@@ -824,22 +936,6 @@ public class RuleImpl extends ObjectImpl implements Rule {
         return prop.getStringValue( transaction );
     }
     
-    /*
-     * Gets the message for the specified key.  If a 'message' is not found for the key, the rule 'definition' is returned. 
-     */
-    private String getMessageOrDescription( final UnitOfWork transaction,
-                                            final String key ) throws KException {
-        
-        String errorMsg = getMessage( transaction, key );
-
-        // if error message for specified key not found, use description.
-        if ( StringUtils.isBlank( errorMsg ) ) {
-            errorMsg = getDescription( transaction );
-        }
-        
-        return errorMsg;
-    }
-
     /**
      * {@inheritDoc}
      *
@@ -1007,7 +1103,7 @@ public class RuleImpl extends ObjectImpl implements Rule {
     @Override
     public void setSeverity( final UnitOfWork transaction,
                              final Level newLevel ) throws KException {
-        setObjectProperty( transaction, "setSeverity", KomodoLexicon.Rule.ENABLED, newLevel ); //$NON-NLS-1$
+        setObjectProperty( transaction, "setSeverity", KomodoLexicon.Rule.SEVERITY, newLevel.name() ); //$NON-NLS-1$
     }
 
 }
@@ -28,12 +28,23 @@ import java.lang.reflect.Modifier;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 import org.komodo.core.Messages;
 import org.komodo.spi.KException;
+import org.komodo.spi.constants.StringConstants;
+import org.komodo.spi.constants.SystemConstants;
 import org.komodo.spi.outcome.Outcome;
+import org.komodo.spi.repository.Descriptor;
 import org.komodo.spi.repository.KomodoObject;
 import org.komodo.spi.repository.Repository;
 import org.komodo.spi.repository.Repository.UnitOfWork;
@@ -44,12 +55,192 @@ import org.komodo.spi.repository.validation.Rule;
 import org.komodo.spi.repository.validation.ValidationRulesProvider;
 import org.komodo.utils.ArgCheck;
 import org.komodo.utils.KLog;
+import org.komodo.utils.StringUtils;
 
 /**
  * An implementation of an {@link ValidationManager} that can be used by repositories.
  */
 public class ValidationManagerImpl implements ValidationManager {
 
+    /**
+     * The applicability and settings of a rule, read once from its rule node.
+     */
+    private static final class CompiledRule {
+
+        private final RuleImpl rule;
+        private final RuleImpl.Snapshot snapshot;
+        private final String name;
+        private final String nodeType;
+        private final Map< String, String > nodeRestrictions;
+
+        CompiledRule( final UnitOfWork transaction,
+                      final RuleImpl rule ) throws KException {
+            this.rule = rule;
+            this.snapshot = rule.snapshot( transaction );
+            this.name = this.snapshot.name;
+            this.nodeType = rule.getNodeType( transaction );
+            this.nodeRestrictions = Collections.unmodifiableMap( rule.getPropRestrictions( transaction,
+                                                                                           Rule.PropertyRestriction.NODE ) );
+        }
+
+        Rule toRule() {
+            return this.snapshot.enabled ? this.rule : new ProblemRule( this.name, ProblemRule.Type.NOT_ENABLED );
+        }
+
+        Result evaluate( final UnitOfWork transaction,
+                         final KomodoObject kobject ) throws KException {
+            return this.rule.evaluate( transaction, kobject, this.snapshot );
+        }
+
+    }
+
+    /**
+     * The rules of the validation area, in rule node order, along with the rules applicable to each combination of primary type
+     * and mixins seen so far.
+     */
+    private static final class CompiledRules {
+
+        private final List< CompiledRule > rules;
+        private final Map< String, CompiledRule > rulesByName;
+        private final ConcurrentMap< String, List< CompiledRule > > rulesByType = new ConcurrentHashMap<>();
+
+        CompiledRules( final UnitOfWork transaction,
+                       final Repository repo,
+                       final KomodoObject[] ruleNodes ) throws KException {
+            final List< CompiledRule > compiled = new ArrayList<>( ruleNodes.length );
+            final Map< String, CompiledRule > byName = new HashMap<>();
+
+            for ( final KomodoObject kobject : ruleNodes ) {
+                final CompiledRule rule = new CompiledRule( transaction,
+                                                            new RuleImpl( transaction, repo, kobject.getAbsolutePath() ) );
+                compiled.add( rule );
+                byName.put( rule.name, rule );
+            }
+
+            this.rules = Collections.unmodifiableList( compiled );
+            this.rulesByName = byName;
+        }
+
+        List< CompiledRule > getRules( final UnitOfWork transaction,
+                                       final KomodoObject kobject ) throws KException {
+            final String primaryType = kobject.getPrimaryType( transaction ).getName();
+            final Descriptor[] mixins = kobject.getDescriptors( transaction );
+            final String[] types = new String[ mixins.length + 1 ];
+            types[ 0 ] = primaryType;
+
+            for ( int i = 0; i < mixins.length; ++i ) {
+                types[ i + 1 ] = mixins[ i ].getName();
+            }
+
+            Arrays.sort( types, 1, types.length );
+            final String key = StringUtils.join( Arrays.asList( types ), StringConstants.PIPE );
+            List< CompiledRule > result = this.rulesByType.get( key );
+
+            if ( result == null ) {
+                final List< String > typeList = Arrays.asList( types );
+                result = new ArrayList<>();
+
+                for ( final CompiledRule rule : this.rules ) {
+                    if ( typeList.contains( rule.nodeType ) ) {
+                        result.add( rule );
+                    }
+                }
+
+                this.rulesByType.putIfAbsent( key, result );
+            }
+
+            return result;
+        }
+
+    }
+
+    /**
+     * Fully evaluates a subtree in its own read-only transaction. Subtrees near the top of the evaluated object are split
+     * further so that large models are spread over the pool.
+     */
+    private final class EvaluationTask extends RecursiveTask< List< Result > > {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String userName;
+        private final KomodoObject kobject;
+        private final int depth;
+
+        EvaluationTask( final String userName,
+                        final KomodoObject kobject,
+                        final int depth ) {
+            this.userName = userName;
+            this.kobject = kobject;
+            this.depth = depth;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @see java.util.concurrent.RecursiveTask#compute()
+         */
+        @Override
+        protected List< Result > compute() {
+            UnitOfWork uow = null;
+
+            try {
+                uow = ValidationManagerImpl.this.repo.createReadOnlyTransaction( this.userName,
+                                                                                 "validation-evaluate", //$NON-NLS-1$
+                                                                                 null );
+                final List< Result > results = new ArrayList<>();
+
+                if ( this.depth < FORK_DEPTH ) {
+                    evaluateRules( uow, this.kobject, results );
+                    final KomodoObject[] kids = this.kobject.getChildren( uow );
+                    uow.rollback();
+                    uow = null;
+
+                    final List< EvaluationTask > tasks = new ArrayList<>( kids.length );
+
+                    for ( final KomodoObject kid : kids ) {
+                        tasks.add( new EvaluationTask( this.userName, kid, this.depth + 1 ) );
+                    }
+
+                    // join in child order so results are merged in the same order as a serial evaluation
+                    invokeAll( tasks );
+
+                    for ( final EvaluationTask task : tasks ) {
+                        results.addAll( task.join() );
+                    }
+                } else {
+                    evaluate( uow, this.kobject, results );
+                }
+
+                return results;
+            } catch ( final KException e ) {
+                throw new EvaluationException( e );
+            } finally {
+                if ( uow != null ) {
+                    uow.rollback();
+                }
+            }
+        }
+
+    }
+
+    /**
+     * Carries a {@link KException} out of an {@link EvaluationTask}.
+     */
+    private static final class EvaluationException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        EvaluationException( final KException cause ) {
+            super( cause );
+        }
+
+    }
+
+    /**
+     * The number of levels below the evaluated object that are split into separate tasks when evaluating in parallel.
+     */
+    private static final int FORK_DEPTH = 2;
+
     private static final KLog LOGGER = KLog.getLogger();
 
     private final Repository repo;
@@ -57,6 +248,8 @@ public class ValidationManagerImpl implements ValidationManager {
     private File rulesSchemaFile;
     private boolean defaultRulesExist = false;
     private KomodoObject validationAreaRoot;
+    private volatile CompiledRules compiledRules;
+    private ForkJoinPool evaluationPool;
 
     /**
      * @param repo
@@ -86,6 +279,7 @@ public class ValidationManagerImpl implements ValidationManager {
         try {
             clearValidationRules( uow );
             loadRules( uow );
+            this.compiledRules = null;
         } catch ( final Exception e ) {
             LOGGER.error("ValidationManagerImpl - error clearing and loading validation rules", e); //$NON-NLS-1$
         }
@@ -217,6 +411,9 @@ public class ValidationManagerImpl implements ValidationManager {
             parser.parse(rulesXmlFile);
         } catch ( final Exception e ) {
             throw new KException( e );
+        } finally {
+            // imported rules can replace existing rules with the same names so always recompile
+            this.compiledRules = null;
         }
     }
 
@@ -234,6 +431,22 @@ public class ValidationManagerImpl implements ValidationManager {
         for(KomodoObject rule : rules) {
             rule.remove(uow);
         }
+
+        this.compiledRules = null;
+    }
+
+    /*
+     * The compiled rules are discarded whenever the rules are cleared, imported, enabled or disabled, or given a new severity.
+     */
+    private CompiledRules getCompiledRules( final UnitOfWork transaction ) throws KException {
+        CompiledRules result = this.compiledRules;
+
+        if ( result == null ) {
+            result = new CompiledRules( transaction, this.repo, getValidationAreaRoot( transaction ).getChildren( transaction ) );
+            this.compiledRules = result;
+        }
+
+        return result;
     }
 
     /**
@@ -247,16 +460,10 @@ public class ValidationManagerImpl implements ValidationManager {
         ArgCheck.isTrue( ( transaction.getState() == State.NOT_STARTED ), "transaction state is not NOT_STARTED" ); //$NON-NLS-1$
 
         final List< Rule > result = new ArrayList<>();
-        KomodoObject defaultValidationArea = getValidationAreaRoot(transaction);
 
         // Collect all available Rules
-        for ( final KomodoObject kobject : defaultValidationArea.getChildren( transaction ) ) {
-            final Rule rule = new RuleImpl( transaction, this.repo, kobject.getAbsolutePath() );
-            if(rule.isEnabled(transaction)) {
-                result.add( rule );
-            } else {
-                result.add( new ProblemRule(rule.getName(transaction),ProblemRule.Type.NOT_ENABLED) );
-            }
+        for ( final CompiledRule compiled : getCompiledRules( transaction ).rules ) {
+            result.add( compiled.toRule() );
         }
 
         if ( result.isEmpty() ) {
@@ -276,14 +483,10 @@ public class ValidationManagerImpl implements ValidationManager {
         ArgCheck.isNotNull( transaction, "transaction" ); //$NON-NLS-1$
         ArgCheck.isTrue( ( transaction.getState() == State.NOT_STARTED ), "transaction state is not NOT_STARTED" ); //$NON-NLS-1$
 
-        KomodoObject defaultValidationArea = getValidationAreaRoot(transaction);
-
         // Check all available Rules for a match.
-        if(defaultValidationArea.hasChild(transaction, ruleId)) {
-            KomodoObject ruleObj = defaultValidationArea.getChild(transaction, ruleId);
-            if(ruleObj!=null) {
-                return new RuleImpl( transaction, this.repo, ruleObj.getAbsolutePath() );
-            }
+        final CompiledRule compiled = getCompiledRules( transaction ).rulesByName.get( ruleId );
+        if(compiled!=null) {
+            return compiled.rule;
         }
 
         return new ProblemRule(ruleId, ProblemRule.Type.NOT_FOUND);
@@ -315,18 +518,9 @@ public class ValidationManagerImpl implements ValidationManager {
         ArgCheck.isTrue( ( transaction.getState() == State.NOT_STARTED ), "transaction state is not NOT_STARTED" ); //$NON-NLS-1$
 
         final List< Rule > result = new ArrayList<>();
-        KomodoObject defaultValidationArea = getValidationAreaRoot(transaction);
-
-        // Check all available Rules - determine if they are applicable for the supplied object.
-        for ( final KomodoObject kobject : defaultValidationArea.getChildren( transaction ) ) {
-            final Rule rule = new RuleImpl( transaction, this.repo, kobject.getAbsolutePath() );
-            if(rule.isApplicable(transaction, kObj)) {
-                if(rule.isEnabled(transaction)) {
-                    result.add( rule );
-                } else {
-                    result.add(new ProblemRule(rule.getName(transaction),ProblemRule.Type.NOT_ENABLED));
-                }
-            }
+
+        for ( final CompiledRule compiled : getApplicableRules( transaction, kObj ) ) {
+            result.add( compiled.toRule() );
         }
 
         if ( result.isEmpty() ) {
@@ -336,6 +530,22 @@ public class ValidationManagerImpl implements ValidationManager {
         return result.toArray( new Rule[ result.size() ] );
     }
 
+    /*
+     * Check the Rules for the object's types - determine if they are applicable for the supplied object.
+     */
+    private List< CompiledRule > getApplicableRules( final UnitOfWork transaction,
+                                                     final KomodoObject kObj ) throws KException {
+        final List< CompiledRule > result = new ArrayList<>();
+
+        for ( final CompiledRule compiled : getCompiledRules( transaction ).getRules( transaction, kObj ) ) {
+            if(ValidationUtils.objectPropsPassRestrictions(transaction, kObj, compiled.nodeRestrictions)) {
+                result.add( compiled );
+            }
+        }
+
+        return result;
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -345,8 +555,12 @@ public class ValidationManagerImpl implements ValidationManager {
     public void setRuleEnabled(final UnitOfWork transaction,
                                boolean isEnabled,
                                String... ruleIds ) throws KException {
-        for(String ruleId : ruleIds) {
-            getRule(transaction,ruleId).setEnabled(transaction, isEnabled);
+        try {
+            for(String ruleId : ruleIds) {
+                getRule(transaction,ruleId).setEnabled(transaction, isEnabled);
+            }
+        } finally {
+            this.compiledRules = null;
         }
     }
 
@@ -359,8 +573,12 @@ public class ValidationManagerImpl implements ValidationManager {
     public void setRuleSeverity(final UnitOfWork transaction,
                                 Outcome.Level severity,
                                 String... ruleIds ) throws KException {
-        for(String ruleId : ruleIds) {
-            getRule(transaction,ruleId).setSeverity(transaction, severity);
+        try {
+            for(String ruleId : ruleIds) {
+                getRule(transaction,ruleId).setSeverity(transaction, severity);
+            }
+        } finally {
+            this.compiledRules = null;
         }
     }
 
@@ -373,27 +591,92 @@ public class ValidationManagerImpl implements ValidationManager {
     public Result[] evaluate(final UnitOfWork transaction, KomodoObject kObject, boolean full ) throws KException {
         List<Result> allResults = new ArrayList<Result>();
 
-        // Evaluate against all rules that are valid for this object.
-        Rule[] rules = getRules(transaction, kObject);
+        if(!full) {
+            // Evaluate against all rules that are valid for this object.
+            evaluateRules(transaction, kObject, allResults);
+        } else if(getParallelism() > 1 && !transaction.hasChanges()) {
+            // Subtrees are read in their own sessions so they can only be used when there is nothing unsaved to see
+            evaluateRules(transaction, kObject, allResults);
+            allResults.addAll(evaluateChildrenInParallel(transaction, kObject));
+        } else {
+            evaluate(transaction, kObject, allResults);
+        }
 
-        for(Rule rule : rules) {
-            Result result = rule.evaluate(transaction, kObject);
-            allResults.add(result);
+        return allResults.toArray(new Result[ allResults.size() ]);
+    }
+
+    /*
+     * Evaluates the object and all its descendants in the supplied transaction.
+     */
+    private void evaluate( final UnitOfWork transaction,
+                           final KomodoObject kObject,
+                           final List< Result > results ) throws KException {
+        evaluateRules( transaction, kObject, results );
+
+        for ( final KomodoObject kid : kObject.getChildren( transaction ) ) {
+            evaluate( transaction, kid, results );
+        }
+    }
+
+    private void evaluateRules( final UnitOfWork transaction,
+                                final KomodoObject kObject,
+                                final List< Result > results ) throws KException {
+        for ( final CompiledRule compiled : getApplicableRules( transaction, kObject ) ) {
+            results.add( compiled.evaluate( transaction, kObject ) );
         }
+    }
 
-        // If doing full validation, also validate all children recursively
-        if(full) {
-            KomodoObject[] kids = kObject.getChildren(transaction);
-            for(KomodoObject kid : kids) {
-                Result[] kidResults = evaluate(transaction, kid, full);
-                for(Result kidResult : kidResults) {
-                    allResults.add(kidResult);
-                }
+    private List< Result > evaluateChildrenInParallel( final UnitOfWork transaction,
+                                                       final KomodoObject kObject ) throws KException {
+        final KomodoObject[] kids = kObject.getChildren( transaction );
+        final List< EvaluationTask > tasks = new ArrayList<>( kids.length );
+
+        for ( final KomodoObject kid : kids ) {
+            tasks.add( new EvaluationTask( transaction.getUserName(), kid, 1 ) );
+        }
+
+        final ForkJoinPool pool = getEvaluationPool();
+        final List< Result > results = new ArrayList<>();
+
+        try {
+            for ( final EvaluationTask task : tasks ) {
+                pool.execute( task );
+            }
+
+            for ( final EvaluationTask task : tasks ) {
+                results.addAll( task.join() );
+            }
+        } catch ( final RuntimeException e ) {
+            for ( final EvaluationTask task : tasks ) {
+                task.cancel( true );
+            }
 
+            for ( Throwable cause = e; cause != null; cause = cause.getCause() ) {
+                if ( cause instanceof KException ) {
+                    throw ( KException )cause;
+                }
             }
 
+            throw new KException( e );
         }
-        return allResults.toArray(new Result[ allResults.size() ]);
+
+        return results;
+    }
+
+    /**
+     * @return the number of threads used by a full evaluation (a value less than 2 evaluates on the calling thread)
+     * @see SystemConstants#VALIDATION_PARALLELISM
+     */
+    private static int getParallelism() {
+        return Integer.getInteger( SystemConstants.VALIDATION_PARALLELISM, 1 );
+    }
+
+    private synchronized ForkJoinPool getEvaluationPool() {
+        if ( this.evaluationPool == null ) {
+            this.evaluationPool = new ForkJoinPool( getParallelism() );
+        }
+
+        return this.evaluationPool;
     }
 
     /**
@@ -408,9 +691,11 @@ public class ValidationManagerImpl implements ValidationManager {
 
         final Result[] results = new Result[ruleIds.length];
         int i = 0;
+        final CompiledRules compiled = getCompiledRules( transaction );
         for(String ruleId : ruleIds) {
-            Rule rule = getRule(transaction,ruleId);
-            Result result = rule.evaluate(transaction, kObject);
+            final CompiledRule rule = compiled.rulesByName.get( ruleId );
+            Result result = ( rule == null ) ? new ProblemRule( ruleId, ProblemRule.Type.NOT_FOUND ).evaluate( transaction, kObject )
+                                             : rule.evaluate( transaction, kObject );
             results[i++] = result;
         }
         return results;
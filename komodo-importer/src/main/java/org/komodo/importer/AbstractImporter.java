@@ -159,6 +159,54 @@ public abstract class AbstractImporter implements StringConstants {
         // --------------------------------------------------------------
         executeImport(transaction, content, parentObject, importOptions, importMessages);
     }
+
+    /**
+     * Imports streamed content. By default the content is read into a string and handed to
+     * {@link #executeImport(UnitOfWork, String, KomodoObject, ImportOptions, ImportMessages)}.
+     * Importers that can store the content without reading it into memory should override this.
+     *
+     * @param transaction the transaction
+     * @param content the content (cannot be <code>null</code>)
+     * @param parentObject the parent object
+     * @param importOptions the import options
+     * @param importMessages the import messages
+     * @throws Exception if an error occurs
+     */
+    protected void executeImport(UnitOfWork transaction,
+                                 InputStream content,
+                                 KomodoObject parentObject,
+                                 ImportOptions importOptions,
+                                 ImportMessages importMessages) throws Exception {
+        executeImport(transaction, toString(content), parentObject, importOptions, importMessages);
+    }
+
+    protected void doImport(UnitOfWork transaction, BufferedInputStream content, KomodoObject parentObject, ImportOptions importOptions, ImportMessages importMessages) throws Exception {
+
+        content.mark(1);
+        boolean empty = (content.read() == -1);
+        content.reset();
+
+        if (empty) {
+            importMessages.addErrorMessage(Messages.getString(IMPORTER.errorEmptyMsg));
+            return;
+        }
+
+        ArgCheck.isNotNull(importType);
+
+        // --------------------------------------------------------------
+        // Determine whether to continue, based on ImportOptions...
+        // --------------------------------------------------------------
+        boolean doImport = handleExistingNode(transaction, parentObject, importOptions, importMessages);
+        if (! doImport) {
+            // Handling existing node advises not to continue
+            return;
+        }
+
+        // --------------------------------------------------------------
+        // Execute the import
+        // --------------------------------------------------------------
+        executeImport(transaction, (InputStream)content, parentObject, importOptions, importMessages);
+    }
     
     protected String determineNewName(UnitOfWork transaction, String nodeName) throws KException {
         KomodoObject workspace = getWorkspace(transaction);
@@ -25,8 +25,12 @@ package org.komodo.modeshape;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import java.util.Arrays;
 import javax.jcr.Node;
+import javax.jcr.NodeIterator;
 import javax.jcr.Property;
+import javax.jcr.PropertyIterator;
+import javax.jcr.PropertyType;
 import javax.jcr.RepositoryException;
 import javax.jcr.Value;
 import org.junit.AfterClass;
@@ -189,6 +193,54 @@ public abstract class AbstractTSqlSequencerTest extends AbstractSequencerTest {
         return verifyExpressionSymbol(parentNode, refName, -1, expSymbolExpressionId);
     }
 
+    private void dump(String rootPath, Node node, StringBuilder buffer) throws RepositoryException {
+        buffer.append(node.getPath().substring(rootPath.length())).append(SPACE);
+        buffer.append(node.getPrimaryNodeType().getName()).append(NEW_LINE);
+
+        PropertyIterator properties = node.getProperties();
+        String[] names = new String[(int) properties.getSize()];
+        for (int i = 0; i < names.length; ++i)
+            names[i] = properties.nextProperty().getName();
+
+        Arrays.sort(names);
+
+        for (String name : names) {
+            Property property = node.getProperty(name);
+            buffer.append(TAB).append(name);
+
+            // identifiers and timestamps differ between otherwise identical trees
+            if ("jcr:uuid".equals(name) || property.getType() == PropertyType.DATE
+                || property.getType() == PropertyType.REFERENCE || property.getType() == PropertyType.WEAKREFERENCE) {
+                buffer.append(NEW_LINE);
+                continue;
+            }
+
+            buffer.append(EQUALS);
+            if (property.isMultiple()) {
+                for (Value value : property.getValues())
+                    buffer.append(value.getString()).append(COMMA);
+            } else
+                buffer.append(property.getString());
+
+            buffer.append(NEW_LINE);
+        }
+
+        NodeIterator children = node.getNodes();
+        while (children.hasNext())
+            dump(rootPath, children.nextNode(), buffer);
+    }
+
+    /**
+     * @param node the top of the tree
+     * @return the types and properties of the node and its descendants, with paths relative to the node
+     * @throws RepositoryException if the nodes cannot be read
+     */
+    protected String dumpTree(Node node) throws RepositoryException {
+        StringBuilder buffer = new StringBuilder();
+        dump(node.getPath(), node, buffer);
+        return buffer.toString();
+    }
+
     protected void verifySql(String expectedSql, Node topNode) throws Exception {
         TeiidSqlNodeVisitor visitor = new TeiidSqlNodeVisitor(getTeiidVersion());
         String actualSql = visitor.getTeiidSql(topNode);
@@ -21,6 +21,7 @@
  */
 package org.komodo.modeshape.teiid.sequencer;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import javax.jcr.Node;
 import org.junit.Test;
@@ -366,4 +367,19 @@ public abstract class AbstractTestSequencers extends AbstractTSqlSequencerTest {
         //
         verify(queryNode, Query.SELECT_REF_NAME, Select.ID);
     }
+
+    @Test(timeout = 5000000)
+    public void testViewsSharingQueryText() throws Exception {
+        String query = "SELECT a.e1, b.e2 FROM pm1.g1 AS a, pm1.g2 AS b WHERE a.e1 = b.e1";
+        String ddl = "CREATE VIEW v1 (e1 string, e2 integer) AS " + query + "; "
+                     + "CREATE VIEW v2 (e1 string, e2 integer) AS " + query + ";";
+        Node fileNode = prepareSequence(ddl, SequencerType.DDL);
+
+        // the query of the second view is a clone of the command parsed for the first
+        Node v1QueryNode = verify(fileNode.getNode("v1"), Query.ID, Query.ID);
+        Node v2QueryNode = verify(fileNode.getNode("v2"), Query.ID, Query.ID);
+
+        verify(v1QueryNode, Query.SELECT_REF_NAME, Select.ID);
+        assertEquals(dumpTree(v1QueryNode), dumpTree(v2QueryNode));
+    }
 }
@@ -21,10 +21,13 @@
  */
 package org.komodo.modeshape.teiid.sequencer;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import javax.jcr.Node;
 import org.junit.Test;
 import org.komodo.modeshape.AbstractTSqlSequencerTest;
+import org.komodo.modeshape.teiid.TeiidSqlNodeVisitor;
 import org.komodo.modeshape.teiid.language.SortSpecification.NullOrdering;
 import org.komodo.repository.KSequencerController.SequencerType;
 import org.komodo.spi.lexicon.TeiidSqlLexicon.AbstractCompareCriteria;
@@ -81,6 +84,7 @@ import org.komodo.spi.query.JoinTypeTypes;
 import org.komodo.spi.query.Operation;
 import org.komodo.spi.runtime.version.TeiidVersion;
 import org.komodo.spi.type.DataTypeManager.DataTypeName;
+import org.komodo.test.utils.SynchronousSequencerListener;
 
 /**
  *
@@ -1773,4 +1777,33 @@ public abstract class AbstractTestTeiidSqlSequencer extends AbstractTSqlSequence
         verifySql("SELECT ROW_NUMBER() OVER (PARTITION BY x ORDER BY y) FROM g", fileNode);
     }
 
+    @Test
+    public void testSequenceSameSqlTwice() throws Exception {
+        String sql = "SELECT a.e1 AS x, b.e2 FROM pm1.g1 AS a INNER JOIN pm1.g2 AS b ON a.e1 = b.e1 WHERE b.e2 > 5 ORDER BY x";
+        Node firstNode = prepareSequence("first", sql, SequencerType.TSQL);
+
+        // the second parse of the same text is served from the cache of parsed commands
+        Node secondNode = prepareSequence("second", sql, SequencerType.TSQL);
+
+        String firstTree = dumpTree(firstNode);
+        assertTrue(firstTree.contains(Query.ID));
+        assertEquals(firstTree, dumpTree(secondNode));
+
+        TeiidSqlNodeVisitor visitor = new TeiidSqlNodeVisitor(getTeiidVersion());
+        verifySql(visitor.getTeiidSql(firstNode), secondNode);
+    }
+
+    @Test
+    public void testParseFailureNotCached() throws Exception {
+        String sql = "SELECT FROM WHERE";
+
+        for (int i = 0; i < 2; ++i) {
+            // each attempt parses the text again and fails again
+            Node node = addSequenceableNode("invalid" + i, sql, SequencerType.TSQL);
+            SynchronousSequencerListener listener = saveAndAwaitSequencers(node);
+            assertTrue(listener.exceptionOccurred());
+            assertFalse(node.hasNode(Query.ID));
+        }
+    }
+
 }
@@ -21,6 +21,8 @@
  */
 package org.komodo.modeshape.visitor;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -90,6 +92,13 @@ public class DdlNodeVisitor extends AbstractNodeVisitor
 
     private StringBuilder ddlBuffer = new StringBuilder();
 
+    /*
+     * When set, each completed statement is moved from the buffer to this writer
+     */
+    private Writer writer;
+
+    private long flushed = 0;
+
     private boolean includeTables = true;
 
     private boolean includeTableConstraints = true;
@@ -278,7 +287,37 @@ public class DdlNodeVisitor extends AbstractNodeVisitor
     }
 
     /**
-     * @return the complete visited ddl string
+     * Visits the node writing each statement to the supplied writer as soon as it is complete so the whole ddl is never held
+     * in memory. The writer is not closed.
+     *
+     * @param node the node to visit
+     * @param writer the writer the ddl is written to (cannot be <code>null</code>)
+     * @throws RepositoryException if the node cannot be visited or the ddl cannot be written
+     */
+    public void visit(Node node, Writer writer) throws RepositoryException {
+        this.writer = writer;
+
+        try {
+            visit(node);
+            flush();
+        } catch (IOException ex) {
+            throw new RepositoryException(ex);
+        } finally {
+            this.writer = null;
+        }
+    }
+
+    private void flush() throws IOException {
+        if (writer == null || ddlBuffer.length() == 0)
+            return;
+
+        writer.write(ddlBuffer.toString());
+        flushed += ddlBuffer.length();
+        ddlBuffer.setLength(0);
+    }
+
+    /**
+     * @return the complete visited ddl string (only the unwritten remainder when visited with a writer)
      */
     public String getDdl() {
         String ddl = ddlBuffer.toString();
@@ -295,7 +334,7 @@ public class DdlNodeVisitor extends AbstractNodeVisitor
     }
 
     private DdlNodeVisitor append(Object o) {
-        if (NEW_LINE.equals(o) && ddlBuffer.length() == 0) {
+        if (NEW_LINE.equals(o) && ddlBuffer.length() == 0 && flushed == 0) {
             // Ignore new line calls at the start of the whole text
             return this;
         }
@@ -977,22 +1016,27 @@ public class DdlNodeVisitor extends AbstractNodeVisitor
                 case CREATE_TABLE:
                     table(node);
                     append(NEW_LINE);
+                    flush();
                     break;
                 case CREATE_VIEW:
                     view(node);
                     append(NEW_LINE);
+                    flush();
                     break;
                 case OPTION_NAMESPACE:
                     optionNamespace(node);
                     append(NEW_LINE);
+                    flush();
                     break;
                 case CREATE_PROCEDURE:
                     procedure(node);
                     append(NEW_LINE);
+                    flush();
                     break;
                 case CREATE_FUNCTION:
                     function(node);
                     append(NEW_LINE);
+                    flush();
                     break;
                 case UNKNOWN:
                 default:
@@ -0,0 +1,475 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * See the COPYRIGHT.txt file distributed with this work for information
+ * regarding copyright ownership.  Some portions may be licensed
+ * to Red Hat, Inc. under one or more contributor license agreements.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA
+ * 02110-1301 USA.
+ */
+package org.komodo.modeshape.lib.sequencer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.jcr.Node;
+import javax.jcr.NodeIterator;
+import javax.jcr.Property;
+import javax.jcr.PropertyIterator;
+import javax.jcr.PropertyType;
+import javax.jcr.RepositoryException;
+import javax.jcr.Session;
+import javax.jcr.Value;
+import javax.jcr.ValueFactory;
+import javax.jcr.nodetype.NodeType;
+
+import org.teiid.modeshape.sequencer.ddl.StandardDdlLexicon;
+import org.teiid.modeshape.sequencer.ddl.TeiidDdlLexicon;
+
+/**
+ * Merges freshly sequenced DDL statement nodes into the DDL nodes already below an output node, so that only the statements,
+ * columns and other DDL nodes that actually changed are created, updated or removed.
+ * <p>
+ * Nodes are matched by name within their parent. Matched nodes keep their identity and only have their DDL properties and
+ * mixins brought up to date. Unmatched sequenced nodes are moved into place and unmatched existing DDL nodes are removed.
+ * References held by the sequenced nodes are redirected to the existing nodes they were matched to. Children that were not
+ * created by the DDL sequencer, for example the output of the Teiid SQL sequencer, are left alone.
+ */
+class DdlOutputMerger {
+
+    private static final String COLON = ":"; //$NON-NLS-1$
+    private static final String SLASH = "/"; //$NON-NLS-1$
+
+    private static final String[] OWNED_PREFIXES = { TeiidDdlLexicon.Namespace.PREFIX + COLON,
+                                                     StandardDdlLexicon.Namespace.PREFIX + COLON };
+
+    /**
+     * A sequenced node that has no existing counterpart and the existing node it is moved to.
+     */
+    private static class Addition {
+
+        private final Node node;
+        private final Node parent;
+
+        Addition( final Node node,
+                  final Node parent ) {
+            this.node = node;
+            this.parent = parent;
+        }
+    }
+
+    /**
+     * The identifiers, in sequenced order, that the DDL children of an existing node should end up in.
+     */
+    private static class Ordering {
+
+        private final Node parent;
+        private final List< String > identifiers = new ArrayList<>();
+
+        Ordering( final Node parent ) {
+            this.parent = parent;
+        }
+    }
+
+    private final Session session;
+
+    // Sequenced node identifier to the identifier of the existing node it matched
+    private final Map< String, String > matches = new HashMap<>();
+
+    // Sequenced node and the existing node it matched
+    private final List< Node[] > updates = new ArrayList<>();
+
+    private final List< Addition > additions = new ArrayList<>();
+    private final List< Node > removals = new ArrayList<>();
+    private final List< Ordering > orderings = new ArrayList<>();
+
+    private boolean changed;
+
+    /**
+     * @param session
+     *        the session the sequenced and existing nodes belong to (cannot be <code>null</code>)
+     */
+    DdlOutputMerger( final Session session ) {
+        this.session = session;
+    }
+
+    /**
+     * @param node
+     *        the node being checked (cannot be <code>null</code>)
+     * @return <code>true</code> if the primary type or a mixin of the node belongs to a DDL namespace
+     * @throws RepositoryException
+     *         if an error occurs
+     */
+    static boolean isDdlNode( final Node node ) throws RepositoryException {
+        if ( isOwned( node.getPrimaryNodeType().getName() ) ) {
+            return true;
+        }
+
+        for ( final NodeType mixin : node.getMixinNodeTypes() ) {
+            if ( isOwned( mixin.getName() ) ) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean isOwned( final String name ) {
+        for ( final String prefix : OWNED_PREFIXES ) {
+            if ( name.startsWith( prefix ) ) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Merges the children of the sequenced node into the output node. The sequenced node itself is left for the caller to
+     * remove.
+     *
+     * @param sequenced
+     *        the node containing the freshly sequenced DDL statements (cannot be <code>null</code>)
+     * @param outputNode
+     *        the node whose DDL children are being brought up to date (cannot be <code>null</code>)
+     * @return <code>true</code> if the output node or any of its descendants were changed
+     * @throws Exception
+     *         if the sequenced statements contain a DDL problem or an error occurs
+     */
+    boolean merge( final Node sequenced,
+                   final Node outputNode ) throws Exception {
+        match( sequenced, outputNode );
+
+        for ( final Node[] update : this.updates ) {
+            update( update[ 0 ], update[ 1 ] );
+        }
+
+        for ( final Addition addition : this.additions ) {
+            redirectReferences( addition.node );
+        }
+
+        for ( final Node removal : this.removals ) {
+            removal.remove();
+            this.changed = true;
+        }
+
+        for ( final Addition addition : this.additions ) {
+            this.session.move( addition.node.getPath(), addition.parent.getPath() + SLASH + addition.node.getName() );
+            this.changed = true;
+        }
+
+        for ( final Ordering ordering : this.orderings ) {
+            order( ordering );
+        }
+
+        return this.changed;
+    }
+
+    private void match( final Node sequenced,
+                        final Node existing ) throws Exception {
+        // existing DDL children by name in document order
+        final Map< String, LinkedList< Node > > existingKids = new HashMap<>();
+        final NodeIterator existingIter = existing.getNodes();
+
+        while ( existingIter.hasNext() ) {
+            final Node kid = existingIter.nextNode();
+
+            if ( !isDdlNode( kid ) ) {
+                continue;
+            }
+
+            LinkedList< Node > named = existingKids.get( kid.getName() );
+
+            if ( named == null ) {
+                named = new LinkedList<>();
+                existingKids.put( kid.getName(), named );
+            }
+
+            named.add( kid );
+        }
+
+        final Ordering ordering = new Ordering( existing );
+        final NodeIterator sequencedIter = sequenced.getNodes();
+
+        while ( sequencedIter.hasNext() ) {
+            final Node kid = sequencedIter.nextNode();
+            checkForProblem( kid );
+
+            final LinkedList< Node > named = existingKids.get( kid.getName() );
+            final Node match = ( ( named == null ) || named.isEmpty() ) ? null : named.removeFirst();
+
+            if ( match == null ) {
+                this.additions.add( new Addition( kid, existing ) );
+                ordering.identifiers.add( kid.getIdentifier() );
+                checkSubtreeForProblems( kid );
+            } else {
+                this.matches.put( kid.getIdentifier(), match.getIdentifier() );
+                this.updates.add( new Node[] { kid, match } );
+                ordering.identifiers.add( match.getIdentifier() );
+                match( kid, match );
+            }
+        }
+
+        for ( final LinkedList< Node > unmatched : existingKids.values() ) {
+            this.removals.addAll( unmatched );
+        }
+
+        this.orderings.add( ordering );
+    }
+
+    private void checkSubtreeForProblems( final Node node ) throws Exception {
+        final NodeIterator iter = node.getNodes();
+
+        while ( iter.hasNext() ) {
+            final Node kid = iter.nextNode();
+            checkForProblem( kid );
+            checkSubtreeForProblems( kid );
+        }
+    }
+
+    private void checkForProblem( final Node node ) throws Exception {
+        final List< String > types = new ArrayList<>();
+        types.add( node.getPrimaryNodeType().getName() );
+
+        for ( final NodeType mixin : node.getMixinNodeTypes() ) {
+            types.add( mixin.getName() );
+        }
+
+        if ( types.contains( StandardDdlLexicon.TYPE_UNKNOWN_STATEMENT ) ) {
+            throw new Exception( "DDL Parsing encountered unknown statement:\n" //$NON-NLS-1$
+                                 + getString( node, StandardDdlLexicon.DDL_EXPRESSION ) );
+        }
+
+        if ( types.contains( StandardDdlLexicon.TYPE_PROBLEM ) ) {
+            throw new Exception( "DDL Parsing encountered a problem (severity level - " //$NON-NLS-1$
+                                 + getString( node, StandardDdlLexicon.PROBLEM_LEVEL ) + "):\n" //$NON-NLS-1$
+                                 + getString( node, StandardDdlLexicon.MESSAGE ) );
+        }
+    }
+
+    private static String getString( final Node node,
+                                     final String propertyName ) throws RepositoryException {
+        return ( node.hasProperty( propertyName ) ? node.getProperty( propertyName ).getString() : null );
+    }
+
+    private void update( final Node sequenced,
+                         final Node existing ) throws RepositoryException {
+        final Set< String > sequencedMixins = new HashSet<>();
+
+        for ( final NodeType mixin : sequenced.getMixinNodeTypes() ) {
+            sequencedMixins.add( mixin.getName() );
+
+            if ( !existing.isNodeType( mixin.getName() ) ) {
+                existing.addMixin( mixin.getName() );
+                this.changed = true;
+            }
+        }
+
+        final PropertyIterator sequencedProps = sequenced.getProperties();
+
+        while ( sequencedProps.hasNext() ) {
+            final Property property = sequencedProps.nextProperty();
+
+            if ( property.getDefinition().isProtected() ) {
+                continue;
+            }
+
+            copy( property, existing );
+        }
+
+        final PropertyIterator existingProps = existing.getProperties();
+        final List< Property > staleProps = new ArrayList<>();
+
+        while ( existingProps.hasNext() ) {
+            final Property property = existingProps.nextProperty();
+
+            if ( !property.getDefinition().isProtected()
+                 && isOwned( property.getName() )
+                 && !sequenced.hasProperty( property.getName() ) ) {
+                staleProps.add( property );
+            }
+        }
+
+        for ( final Property property : staleProps ) {
+            property.remove();
+            this.changed = true;
+        }
+
+        for ( final NodeType mixin : existing.getMixinNodeTypes() ) {
+            if ( isOwned( mixin.getName() ) && !sequencedMixins.contains( mixin.getName() ) ) {
+                existing.removeMixin( mixin.getName() );
+                this.changed = true;
+            }
+        }
+    }
+
+    /*
+     * Sets the property on the target node unless it already has the same values. References to sequenced nodes that were
+     * matched are replaced by references to the existing nodes.
+     */
+    private void copy( final Property property,
+                       final Node target ) throws RepositoryException {
+        final String name = property.getName();
+        final Property current = ( target.hasProperty( name ) ? target.getProperty( name ) : null );
+
+        if ( property.isMultiple() ) {
+            final Value[] values = redirect( property.getValues() );
+
+            if ( ( current == null ) || !current.isMultiple() || !same( values, current.getValues() ) ) {
+                if ( ( current != null ) && !current.isMultiple() ) {
+                    current.remove();
+                }
+
+                target.setProperty( name, values );
+                this.changed = true;
+            }
+        } else {
+            final Value value = redirect( new Value[] { property.getValue() } )[ 0 ];
+
+            if ( ( current == null ) || current.isMultiple() || !same( new Value[] { value }, new Value[] { current.getValue() } ) ) {
+                if ( ( current != null ) && current.isMultiple() ) {
+                    current.remove();
+                }
+
+                target.setProperty( name, value );
+                this.changed = true;
+            }
+        }
+    }
+
+    private static boolean same( final Value[] values,
+                                 final Value[] otherValues ) throws RepositoryException {
+        if ( values.length != otherValues.length ) {
+            return false;
+        }
+
+        for ( int i = 0; i < values.length; ++i ) {
+            if ( ( values[ i ].getType() != otherValues[ i ].getType() )
+                 || !values[ i ].getString().equals( otherValues[ i ].getString() ) ) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private Value[] redirect( final Value[] values ) throws RepositoryException {
+        Value[] result = values;
+        final ValueFactory factory = this.session.getValueFactory();
+
+        for ( int i = 0; i < values.length; ++i ) {
+            final int type = values[ i ].getType();
+
+            if ( ( type != PropertyType.REFERENCE ) && ( type != PropertyType.WEAKREFERENCE ) ) {
+                continue;
+            }
+
+            final String match = this.matches.get( values[ i ].getString() );
+
+            if ( match != null ) {
+                if ( result == values ) {
+                    result = Arrays.copyOf( values, values.length );
+                }
+
+                result[ i ] = factory.createValue( match, type );
+            }
+        }
+
+        return result;
+    }
+
+    /*
+     * Sequenced nodes that are moved into place may reference sequenced nodes that are about to be discarded.
+     */
+    private void redirectReferences( final Node node ) throws RepositoryException {
+        final PropertyIterator props = node.getProperties();
+
+        while ( props.hasNext() ) {
+            final Property property = props.nextProperty();
+            final int type = property.getType();
+
+            if ( ( ( type != PropertyType.REFERENCE ) && ( type != PropertyType.WEAKREFERENCE ) )
+                 || property.getDefinition().isProtected() ) {
+                continue;
+            }
+
+            if ( property.isMultiple() ) {
+                final Value[] values = property.getValues();
+                final Value[] redirected = redirect( values );
+
+                if ( redirected != values ) {
+                    property.setValue( redirected );
+                }
+            } else {
+                final Value[] values = new Value[] { property.getValue() };
+                final Value[] redirected = redirect( values );
+
+                if ( redirected != values ) {
+                    property.setValue( redirected[ 0 ] );
+                }
+            }
+        }
+
+        final NodeIterator kids = node.getNodes();
+
+        while ( kids.hasNext() ) {
+            redirectReferences( kids.nextNode() );
+        }
+    }
+
+    private void order( final Ordering ordering ) throws RepositoryException {
+        final Node parent = ordering.parent;
+
+        if ( ( ordering.identifiers.size() < 2 ) || !parent.getPrimaryNodeType().hasOrderableChildNodes() ) {
+            return;
+        }
+
+        final List< String > current = new ArrayList<>();
+        final NodeIterator kids = parent.getNodes();
+
+        while ( kids.hasNext() ) {
+            final Node kid = kids.nextNode();
+
+            if ( ordering.identifiers.contains( kid.getIdentifier() ) ) {
+                current.add( kid.getIdentifier() );
+            }
+        }
+
+        if ( current.equals( ordering.identifiers ) ) {
+            return;
+        }
+
+        // place each node before its sequenced successor, working back from the end
+        for ( int i = ordering.identifiers.size() - 2; i >= 0; --i ) {
+            final Node node = this.session.getNodeByIdentifier( ordering.identifiers.get( i ) );
+            final Node next = this.session.getNodeByIdentifier( ordering.identifiers.get( i + 1 ) );
+            parent.orderBefore( relativePath( node ), relativePath( next ) );
+        }
+
+        this.changed = true;
+    }
+
+    private static String relativePath( final Node node ) throws RepositoryException {
+        final int index = node.getIndex();
+        return ( ( index > 1 ) ? ( node.getName() + '[' + index + ']' ) : node.getName() );
+    }
+
+}
@@ -43,9 +43,25 @@ import org.teiid.modeshape.sequencer.ddl.node.AstNodeFactory;
 
 /**
  * Subclass that only allows the Teiid DDL dialect, avoiding confusion with other DDL parsers.
+ * <p>
+ * In incremental mode the sequenced statements are merged into the DDL nodes already below the output node, rather than
+ * replacing them, and {@link #execute(Property, Node, Context)} only returns <code>true</code> if the output node was changed.
+ * Incremental mode also fails the sequencing if the DDL contains an unknown statement or a parsing problem.
  */
 public class KDdlSequencer extends TeiidDdlSequencer {
 
+    /**
+     * The system property that turns on incremental mode. Same as <code>SystemConstants.DDL_INCREMENTAL_SEQUENCING</code>.
+     */
+    public static final String INCREMENTAL = "komodo.sequencing.ddl.incremental"; //$NON-NLS-1$
+
+    /**
+     * @return <code>true</code> if DDL is sequenced incrementally
+     */
+    public static boolean isIncremental() {
+        return Boolean.getBoolean(INCREMENTAL);
+    }
+
     private final DdlParser teiidParser = new TeiidDdlParser();
 
     @Override
@@ -85,12 +101,19 @@ public class KDdlSequencer extends TeiidDdlSequencer {
             return false;
 
         Node ddlStmtsNode = outputNode.getNode(StandardDdlLexicon.STATEMENTS_CONTAINER);
-        NodeIterator children = ddlStmtsNode.getNodes();
 
         Session session = ddlStmtsNode.getSession();
         if (! session.isLive())
             return false;
 
+        if (isIncremental()) {
+            boolean changed = new DdlOutputMerger(session).merge(ddlStmtsNode, outputNode);
+            session.removeItem(ddlStmtsNode.getPath());
+            return changed;
+        }
+
+        NodeIterator children = ddlStmtsNode.getNodes();
+
         while (children.hasNext()) {
             Node child = children.nextNode();
             session.move(child.getPath(), outputNode.getPath() + "/" + child.getName());
@@ -9,6 +9,7 @@ package org.komodo.relational.dataservice.internal;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.Properties;
 
 import org.komodo.relational.Messages;
@@ -71,4 +72,27 @@ public abstract class DataServiceResourceImpl< T extends DataServiceResource > e
         return contents;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The resource content is copied to the stream without being read into memory first.
+     *
+     * @see org.komodo.spi.repository.Exportable#export(org.komodo.spi.repository.Repository.UnitOfWork, java.util.Properties,
+     *      java.io.OutputStream)
+     */
+    @Override
+    public void export( final UnitOfWork transaction,
+                        final Properties properties,
+                        final OutputStream stream ) throws KException {
+        try ( final InputStream content = getContent( transaction ) ) {
+            if ( content == null ) {
+                throw new KException( Messages.getString( Relational.EXPORT_FAILED_NO_CONTENT, getAbsolutePath() ) );
+            }
+
+            FileUtils.write( content, stream );
+        } catch ( final IOException e ) {
+            throw handleError( e );
+        }
+    }
+
 }
@@ -27,6 +27,7 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.Enumeration;
 import java.util.List;
 import java.util.Objects;
@@ -274,38 +275,63 @@ public class DataserviceConveyor implements StringConstants {
     public byte[] export( final UnitOfWork transaction,
                           final Dataservice dataService,
                           final Properties exportProperties ) throws KException {
+        try ( final ByteArrayOutputStream bos = new ByteArrayOutputStream() ) {
+            export( transaction, dataService, exportProperties, bos );
+            return bos.toByteArray();
+        } catch ( final IOException ex ) {
+            throw new KException( ex );
+        }
+    }
+
+    /**
+     * Export the given data service as a zip written to the supplied stream. Each entry is written straight into the zip so
+     * the archive is never held in memory.
+     *
+     * @param transaction
+     *        the transaction (cannot be <code>null</code> or have a state that is not {@link State#NOT_STARTED})
+     * @param dataService
+     *        the data service to export
+     * @param exportProperties
+     *        export properties to be used during the export procedure
+     * @param stream
+     *        the stream the zip is written to (cannot be <code>null</code> and is not closed)
+     * @throws KException
+     *         if errors occurs
+     */
+    public void export( final UnitOfWork transaction,
+                        final Dataservice dataService,
+                        final Properties exportProperties,
+                        final OutputStream stream ) throws KException {
         ArgCheck.isNotNull( transaction, "transaction" ); //$NON-NLS-1$
         ArgCheck.isTrue( ( transaction.getState() == State.NOT_STARTED ), "transaction state is not NOT_STARTED" ); //$NON-NLS-1$
+        ArgCheck.isNotNull( stream, "stream" ); //$NON-NLS-1$
 
-        ZipOutputStream zipStream = null;
-
-        try ( final ByteArrayOutputStream bos = new ByteArrayOutputStream() ) {
+        try {
             final DataServiceEntry< ? >[] entries = dataService.getChildren( transaction );
 
             if ( entries.length == 0 ) {
-                return bos.toByteArray();
+                return;
             }
 
-            zipStream = new ZipOutputStream(bos);
+            // closing the zip stream would close the caller's stream so it is only finished
+            final ZipOutputStream zipStream = new ZipOutputStream( stream );
 
             //
             // Generate manifest for data service
             //
             DataserviceManifest manifest = new DataserviceManifest( transaction, dataService );
-            byte[] manifestBytes = manifest.export( transaction, new Properties() );
 
             ZipEntry manZipEntry = new ZipEntry( DataserviceManifest.MANIFEST );
             zipStream.putNextEntry( manZipEntry );
-            zipStream.write( manifestBytes );
+            manifest.export( transaction, new Properties(), zipStream );
             zipStream.closeEntry();
 
             for ( final DataServiceEntry< ? > entry : entries ) {
-                final byte[] content = entry.export( transaction, new Properties() );
                 final String entryName = entry.getEntryPath( transaction );
                 final ZipEntry zipEntry = new ZipEntry( entryName );
 
                 zipStream.putNextEntry( zipEntry );
-                zipStream.write( content );
+                entry.export( transaction, new Properties(), zipStream );
                 zipStream.flush();
                 zipStream.closeEntry();
             }
@@ -313,28 +339,12 @@ public class DataserviceConveyor implements StringConstants {
             //
             // Required to ensure the zip is not corrupt
             //
-            zipStream.flush();
             zipStream.finish();
-            zipStream.close();
-
-            return bos.toByteArray();
-
+            zipStream.flush();
+        } catch ( final KException ex ) {
+            throw ex;
         } catch ( Exception ex ) {
             throw new KException( ex );
-        } finally {
-            if ( zipStream != null ) {
-                try {
-                    zipStream.finish();
-                } catch ( IOException e ) {
-                    // nothing to do
-                }
-
-                try {
-                    zipStream.close();
-                } catch ( IOException e ) {
-                    // nothing to do
-                }
-            }
         }
     }
 
@@ -21,6 +21,7 @@
  */
 package org.komodo.relational.dataservice.internal;
 
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.List;
@@ -129,6 +130,18 @@ public class DataserviceImpl extends RelationalObjectImpl implements Dataservice
         return conveyor.export(transaction, this, exportProperties);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @see org.komodo.spi.repository.Exportable#export(org.komodo.spi.repository.Repository.UnitOfWork, java.util.Properties,
+     *      java.io.OutputStream)
+     */
+    @Override
+    public void export(UnitOfWork transaction, Properties exportProperties, OutputStream stream) throws KException {
+        DataserviceConveyor conveyor = new DataserviceConveyor(getRepository());
+        conveyor.export(transaction, this, exportProperties, stream);
+    }
+
     @Override
     public DocumentType getDocumentType(UnitOfWork transaction) {
         return DocumentType.ZIP;
@@ -21,12 +21,17 @@
  */
 package org.komodo.relational.importer.vdb;
 
+import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
 import java.io.InputStream;
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
+import java.nio.charset.StandardCharsets;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamReader;
 import org.komodo.importer.AbstractImporter;
 import org.komodo.importer.ImportMessages;
 import org.komodo.importer.ImportOptions;
@@ -43,14 +48,68 @@ import org.komodo.spi.repository.Repository;
 import org.komodo.spi.repository.Repository.UnitOfWork;
 import org.komodo.utils.ArgCheck;
 import org.modeshape.jcr.JcrLexicon;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
 
 /**
  *
  */
 public class VdbImporter extends AbstractImporter {
 
+    /**
+     * The number of bytes read from the start of a VDB stream while looking for the VDB name. The name is an attribute of the
+     * root element so it is always found well within this limit.
+     */
+    private static final int NAME_SNIFF_LIMIT = 64 * 1024;
+
+    /**
+     * Hides everything past the sniff limit from the XML parser so the stream can always be reset afterwards.
+     */
+    private static class SniffInputStream extends FilterInputStream {
+
+        private int remaining = NAME_SNIFF_LIMIT;
+
+        SniffInputStream( final InputStream stream ) {
+            super( stream );
+        }
+
+        @Override
+        public int read() throws IOException {
+            if ( this.remaining <= 0 ) {
+                return -1;
+            }
+
+            final int result = super.read();
+
+            if ( result != -1 ) {
+                --this.remaining;
+            }
+
+            return result;
+        }
+
+        @Override
+        public int read( final byte[] buffer,
+                         final int offset,
+                         final int length ) throws IOException {
+            if ( this.remaining <= 0 ) {
+                return -1;
+            }
+
+            final int result = super.read( buffer, offset, Math.min( length, this.remaining ) );
+
+            if ( result > 0 ) {
+                this.remaining -= result;
+            }
+
+            return result;
+        }
+
+        @Override
+        public void close() {
+            // the underlying stream is still needed
+        }
+
+    }
+
     /**
      * constructor
      *
@@ -67,7 +126,22 @@ public class VdbImporter extends AbstractImporter {
                                                                      KomodoObject parentObject,
                                                                      ImportOptions importOptions,
                                                                      ImportMessages importMessages) throws KException {
+        executeImport(transaction,
+                      new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)),
+                      parentObject,
+                      importOptions,
+                      importMessages);
+    }
 
+    /**
+     * Stores the content as a binary that is streamed straight into the repository rather than read into memory.
+     */
+    @Override
+    protected void executeImport(UnitOfWork transaction,
+                                 InputStream content,
+                                 KomodoObject parentObject,
+                                 ImportOptions importOptions,
+                                 ImportMessages importMessages) throws KException {
         String vdbName = importOptions.getOption(OptionKeys.NAME).toString();
         String vdbFilePath = importOptions.getOption(OptionKeys.VDB_FILE_PATH).toString();
 
@@ -124,23 +198,39 @@ public class VdbImporter extends AbstractImporter {
         if (vdbStream == null)
             return null;
 
+        XMLStreamReader reader = null;
+
         try {
-            DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
-            DocumentBuilder db = dbf.newDocumentBuilder();
-            Document doc = db.parse(vdbStream);
+            XMLInputFactory factory = XMLInputFactory.newInstance();
+            factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+            reader = factory.createXMLStreamReader(vdbStream);
+
+            // Only the root element is read
+            while (reader.hasNext()) {
+                if (reader.next() != XMLStreamConstants.START_ELEMENT)
+                    continue;
+
+                String vdbTag = KomodoType.VDB.getAliases().iterator().next();
 
-            Element docElement = doc.getDocumentElement();
-            String docNodeName = docElement.getNodeName();
-            String vdbTag = KomodoType.VDB.getAliases().iterator().next();
+                if (! vdbTag.equals(reader.getLocalName())) {
+                    return null;
+                }
 
-            if (! vdbTag.equals(docNodeName)) {
-                return null;
+                return reader.getAttributeValue(null, "name"); //$NON-NLS-1$
             }
 
-            return docElement.getAttribute("name"); //$NON-NLS-1$
+            return null;
         } catch (Exception ex) {
             // Don't need to worry about the exception
             return null;
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (Exception ex) {
+                    // nothing to do
+                }
+            }
         }
     }
 
@@ -161,6 +251,15 @@ public class VdbImporter extends AbstractImporter {
         importOptions.setOption(OptionKeys.NAME, vdbName);
     }
 
+    /**
+     * Sniffs the vdb name from the start of the stream and then resets the stream so the whole content can be imported.
+     */
+    private void overrideName(BufferedInputStream vdbStream, ImportOptions importOptions) throws Exception {
+        vdbStream.mark(NAME_SNIFF_LIMIT);
+        overrideName(new SniffInputStream(vdbStream), importOptions);
+        vdbStream.reset();
+    }
+
     /**
      * Perform the vdb import using the specified xml Stream.
      *
@@ -174,11 +273,10 @@ public class VdbImporter extends AbstractImporter {
         ArgCheck.isNotNull(vdbStream);
 
         try {
-            String vdbXml = toString(vdbStream);
-            ByteArrayInputStream vdbNameStream = new ByteArrayInputStream(vdbXml.getBytes("UTF-8")); //$NON-NLS-1$
-            overrideName(vdbNameStream, importOptions);
+            BufferedInputStream content = new BufferedInputStream(vdbStream);
+            overrideName(content, importOptions);
 
-            doImport(uow, vdbXml, parentObject, importOptions, importMessages);
+            doImport(uow, content, parentObject, importOptions, importMessages);
         } catch (Exception ex) {
             importMessages.addErrorMessage(ex.getLocalizedMessage());
         }
@@ -196,10 +294,10 @@ public class VdbImporter extends AbstractImporter {
     public void importVdb(UnitOfWork uow, File vdbXmlFile, KomodoObject parentObject, ImportOptions importOptions, ImportMessages importMessages) {
         if (!validFile(vdbXmlFile, importMessages)) return;
 
-        try {
-            overrideName(new FileInputStream(vdbXmlFile), importOptions);
+        try (BufferedInputStream content = new BufferedInputStream(new FileInputStream(vdbXmlFile))) {
+            overrideName(content, importOptions);
 
-            doImport(uow, toString(vdbXmlFile), parentObject, importOptions, importMessages);
+            doImport(uow, content, parentObject, importOptions, importMessages);
         } catch (Exception ex) {
             importMessages.addErrorMessage(ex.getLocalizedMessage());
         }
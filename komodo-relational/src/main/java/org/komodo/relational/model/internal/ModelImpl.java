@@ -21,10 +21,15 @@
  */
 package org.komodo.relational.model.internal;
 
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Properties;
 import org.komodo.modeshape.visitor.DdlNodeVisitor;
+import org.komodo.modeshape.visitor.DdlNodeVisitor.VisitorExclusions;
 import org.komodo.relational.Messages;
 import org.komodo.relational.Messages.Relational;
 import org.komodo.relational.RelationalModelFactory;
@@ -43,6 +48,7 @@ import org.komodo.relational.vdb.ModelSource;
 import org.komodo.relational.vdb.Vdb;
 import org.komodo.relational.vdb.internal.ModelSourceImpl;
 import org.komodo.spi.KException;
+import org.komodo.spi.constants.ExportConstants;
 import org.komodo.spi.repository.DocumentType;
 import org.komodo.spi.repository.KomodoObject;
 import org.komodo.spi.repository.KomodoType;
@@ -784,8 +790,18 @@ public final class ModelImpl extends RelationalObjectImpl implements Model {
         setObjectProperty( transaction, "setVisible", VdbLexicon.Model.VISIBLE, newVisible ); //$NON-NLS-1$
     }
 
+    private DdlNodeVisitor createDdlVisitor(Properties exportProperties) {
+        List<VisitorExclusions> exclusions = new ArrayList<VisitorExclusions>();
+        if( exportProperties != null && !exportProperties.isEmpty() ) {
+            if(exportProperties.containsKey(ExportConstants.EXCLUDE_TABLE_CONSTRAINTS_KEY)) {
+                exclusions.add(VisitorExclusions.EXCLUDE_TABLE_CONSTRAINTS);
+            }
+        }
+        return new DdlNodeVisitor(TeiidVersionProvider.getInstance().getTeiidVersion(), false, exclusions.toArray(new VisitorExclusions[0]));
+    }
+
     private String exportDdl(UnitOfWork transaction, Properties exportProperties) throws Exception {
-        DdlNodeVisitor visitor = new DdlNodeVisitor(TeiidVersionProvider.getInstance().getTeiidVersion(), false);
+        DdlNodeVisitor visitor = createDdlVisitor(exportProperties);
         visitor.visit(node(transaction));
 
         String result = visitor.getDdl();
@@ -821,6 +837,34 @@ public final class ModelImpl extends RelationalObjectImpl implements Model {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Each DDL statement is written to the stream as soon as it has been generated.
+     *
+     * @see org.komodo.spi.repository.Exportable#export(org.komodo.spi.repository.Repository.UnitOfWork, java.util.Properties,
+     *      java.io.OutputStream)
+     */
+    @Override
+    public void export( final UnitOfWork transaction,
+                        final Properties exportProperties,
+                        final OutputStream stream ) throws KException {
+        ArgCheck.isNotNull(transaction);
+        ArgCheck.isNotNull(stream, "stream"); //$NON-NLS-1$
+
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("modelimpl-export: transaction = {0}", transaction.getName()); //$NON-NLS-1$
+        }
+
+        try {
+            final Writer writer = new OutputStreamWriter(stream, StandardCharsets.UTF_8);
+            createDdlVisitor(exportProperties).visit(node(transaction), writer);
+            writer.flush();
+        } catch (final Exception e) {
+            throw handleError(e);
+        }
+    }
+
     @Override
     public DocumentType getDocumentType(UnitOfWork transaction) throws KException {
         return DocumentType.DDL;
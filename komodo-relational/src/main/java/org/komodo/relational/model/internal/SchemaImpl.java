@@ -21,6 +21,10 @@
  */
 package org.komodo.relational.model.internal;
 
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.Properties;
 import javax.jcr.Node;
 import org.komodo.core.KomodoLexicon;
@@ -84,6 +88,32 @@ public class SchemaImpl extends RelationalObjectImpl implements Schema {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Each DDL statement is written to the stream as soon as it has been generated.
+     *
+     * @see org.komodo.spi.repository.Exportable#export(org.komodo.spi.repository.Repository.UnitOfWork, java.util.Properties,
+     *      java.io.OutputStream)
+     */
+    @Override
+    public void export( final UnitOfWork transaction,
+                        final Properties properties,
+                        final OutputStream stream ) throws KException {
+        ArgCheck.isNotNull( transaction, "transaction" ); //$NON-NLS-1$
+        ArgCheck.isTrue( ( transaction.getState() == State.NOT_STARTED ), "transaction state is not NOT_STARTED" ); //$NON-NLS-1$
+        ArgCheck.isNotNull( stream, "stream" ); //$NON-NLS-1$
+
+        try {
+            final Writer writer = new OutputStreamWriter( stream, StandardCharsets.UTF_8 );
+            final DdlNodeVisitor visitor = new DdlNodeVisitor( TeiidVersionProvider.getInstance().getTeiidVersion(), false );
+            visitor.visit( node( transaction ), writer );
+            writer.flush();
+        } catch ( final Exception e ) {
+            throw handleError( e );
+        }
+    }
+
     /**
      * {@inheritDoc}
      *
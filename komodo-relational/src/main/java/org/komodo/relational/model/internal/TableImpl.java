@@ -21,6 +21,10 @@
  */
 package org.komodo.relational.model.internal;
 
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -1043,14 +1047,18 @@ public class TableImpl extends RelationalObjectImpl implements Table {
         setStatementOption( transaction, StandardOption.UUID.name(), newUuid );
     }
 
-    private String exportDdl(UnitOfWork transaction, Properties exportProperties) throws Exception {
+    private DdlNodeVisitor createDdlVisitor(Properties exportProperties) {
         List<VisitorExclusions> exclusions = new ArrayList<VisitorExclusions>();
         if( exportProperties != null && !exportProperties.isEmpty() ) {
             if(exportProperties.containsKey(ExportConstants.EXCLUDE_TABLE_CONSTRAINTS_KEY)) {
                 exclusions.add(VisitorExclusions.EXCLUDE_TABLE_CONSTRAINTS);
             }
         }
-        DdlNodeVisitor visitor = new DdlNodeVisitor(TeiidVersionProvider.getInstance().getTeiidVersion(), false, exclusions.toArray(new VisitorExclusions[0]));
+        return new DdlNodeVisitor(TeiidVersionProvider.getInstance().getTeiidVersion(), false, exclusions.toArray(new VisitorExclusions[0]));
+    }
+
+    private String exportDdl(UnitOfWork transaction, Properties exportProperties) throws Exception {
+        DdlNodeVisitor visitor = createDdlVisitor(exportProperties);
         visitor.visit(node(transaction));
 
         String result = visitor.getDdl();
@@ -1086,6 +1094,34 @@ public class TableImpl extends RelationalObjectImpl implements Table {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Each DDL statement is written to the stream as soon as it has been generated.
+     *
+     * @see org.komodo.spi.repository.Exportable#export(org.komodo.spi.repository.Repository.UnitOfWork, java.util.Properties,
+     *      java.io.OutputStream)
+     */
+    @Override
+    public void export( final UnitOfWork transaction,
+                        final Properties exportProperties,
+                        final OutputStream stream ) throws KException {
+        ArgCheck.isNotNull(transaction);
+        ArgCheck.isNotNull(stream, "stream"); //$NON-NLS-1$
+
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("tableimpl-export: transaction = {0}", transaction.getName()); //$NON-NLS-1$
+        }
+
+        try {
+            final Writer writer = new OutputStreamWriter(stream, StandardCharsets.UTF_8);
+            createDdlVisitor(exportProperties).visit(node(transaction), writer);
+            writer.flush();
+        } catch (final Exception e) {
+            throw handleError(e);
+        }
+    }
+
     @Override
     public DocumentType getDocumentType(UnitOfWork transaction) throws KException {
         return DocumentType.DDL;
@@ -27,7 +27,10 @@ import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Properties;
 import java.util.Set;
@@ -659,13 +662,8 @@ public class CachedTeiidImpl extends RelationalObjectImpl implements CachedTeiid
         }
         KomodoObject folderNode = super.getChild(transaction, CachedTeiid.VDBS_FOLDER, KomodoLexicon.Folder.NODE_TYPE);
 
-        // No names supplied, remove all from the cache then refresh all
+        // No names supplied, remove those no longer on the server then refresh all
         if( vdbNames==null || vdbNames.length==0 ) {
-            KomodoObject[] kobjs = folderNode.getChildren(transaction);
-            for(KomodoObject kobj : kobjs) {
-                kobj.remove(transaction);
-            }
-
             // Update with the Server VDBS
             Collection<TeiidVdb> teiidVdbs;
             try {
@@ -673,6 +671,13 @@ public class CachedTeiidImpl extends RelationalObjectImpl implements CachedTeiid
             } catch (Exception ex) {
                 throw new KException(Messages.getString(Messages.CachedTeiid.GET_SERVER_VDBS_ERROR));
             }
+
+            Set<String> serverNames = new HashSet<String>();
+            for(TeiidVdb teiidVdb : teiidVdbs) {
+                serverNames.add(teiidVdb.getName());
+            }
+            removeStale(transaction, folderNode, serverNames);
+
             for(TeiidVdb teiidVdb : teiidVdbs) {
                 updateVdb(transaction, folderNode, teiidVdb);
             }
@@ -741,13 +746,8 @@ public class CachedTeiidImpl extends RelationalObjectImpl implements CachedTeiid
         }
         KomodoObject folderNode = super.getChild(transaction, CachedTeiid.CONNECTIONS_FOLDER, KomodoLexicon.Folder.NODE_TYPE);
 
-        // No names supplied, remove all from the cache then refresh all
+        // No names supplied, remove those no longer on the server then refresh all
         if( connectionNames==null || connectionNames.length==0 ) {
-            KomodoObject[] kobjs = folderNode.getChildren(transaction);
-            for(KomodoObject kobj : kobjs) {
-                kobj.remove(transaction);
-            }
-
             // Update with the Server DataSources
             Collection<TeiidDataSource> teiidDataSources;
             try {
@@ -755,6 +755,13 @@ public class CachedTeiidImpl extends RelationalObjectImpl implements CachedTeiid
             } catch (Exception ex) {
                 throw new KException(Messages.getString(Messages.CachedTeiid.GET_SERVER_DATA_SOURCES_ERROR));
             }
+
+            Set<String> serverNames = new HashSet<String>();
+            for(TeiidDataSource teiidDataSource : teiidDataSources) {
+                serverNames.add(teiidDataSource.getName());
+            }
+            removeStale(transaction, folderNode, serverNames);
+
             for(TeiidDataSource teiidDataSource : teiidDataSources) {
                 updateConnection(transaction, folderNode, teiidDataSource);
             }
@@ -883,12 +890,9 @@ public class CachedTeiidImpl extends RelationalObjectImpl implements CachedTeiid
             throw new KException(Messages.getString(Messages.CachedTeiid.GET_SERVER_DRIVERS_ERROR));
         }
         
-        // No names supplied, remove all from the cache then refresh all
+        // No names supplied, remove those no longer on the server then refresh all
         if( driverNames==null || driverNames.length==0 ) {
-            KomodoObject[] kobjs = folderNode.getChildren(transaction);
-            for(KomodoObject kobj : kobjs) {
-                kobj.remove(transaction);
-            }
+            removeStale(transaction, folderNode, dsTypeNames);
 
             for(String dsTypeName : dsTypeNames) {
                 if (dsTypeName == null)
@@ -939,18 +943,15 @@ public class CachedTeiidImpl extends RelationalObjectImpl implements CachedTeiid
         KomodoObject folderNode = super.getChild(transaction, CachedTeiid.TEMPLATES_FOLDER, KomodoLexicon.Folder.NODE_TYPE);
 
         Collection<String> tempNames = new ArrayList<String>();
-        // No names supplied, remove all from the cache then refresh all
+        // No names supplied, remove those no longer on the server then refresh all
         if( templateNames==null || templateNames.length==0 ) {
-            KomodoObject[] kobjs = folderNode.getChildren(transaction);
-            for(KomodoObject kobj : kobjs) {
-                kobj.remove(transaction);
-            }
-
             try {
                 tempNames = teiidInstance.getDataSourceTemplateNames();
             } catch (Exception ex) {
                 throw new KException(Messages.getString(Messages.CachedTeiid.GET_SERVER_DATA_SOURCES_ERROR));
             }
+
+            removeStale(transaction, folderNode, tempNames);
         } else {
             for (String templateName : templateNames) {
                 tempNames.add(templateName);
@@ -982,6 +983,91 @@ public class CachedTeiidImpl extends RelationalObjectImpl implements CachedTeiid
         }
     }
 
+    /*
+     * Remove the cached children no longer deployed on the server.
+     */
+    private void removeStale(UnitOfWork transaction, KomodoObject folderNode, Collection<String> serverNames) throws KException {
+        KomodoObject[] kobjs = folderNode.getChildren(transaction);
+        for(KomodoObject kobj : kobjs) {
+            if(! serverNames.contains(kobj.getName(transaction)))
+                kobj.remove(transaction);
+        }
+    }
+
+    /*
+     * Get the exported content stored with a cached VDB, null if none.
+     */
+    private String getCachedContent(UnitOfWork transaction, KomodoObject cachedVdb) throws KException {
+        if(! cachedVdb.hasChild(transaction, JcrLexicon.CONTENT.getString()))
+            return null;
+
+        KomodoObject fileNode = cachedVdb.getChild(transaction, JcrLexicon.CONTENT.getString());
+        Property data = fileNode.getProperty(transaction, JcrLexicon.DATA.getString());
+        return data == null ? null : data.getStringValue(transaction);
+    }
+
+    /*
+     * Whether the cached Connection matches the supplied TeiidDataSource.
+     */
+    private boolean isCurrent(UnitOfWork transaction, Connection cached, TeiidDataSource teiidDS) throws KException {
+        if(! StringUtils.equals(cached.getDriverName(transaction), teiidDS.getType())
+            || ! StringUtils.equals(cached.getJndiName(transaction), teiidDS.getJndiName()))
+            return false;
+
+        Properties serverProps = teiidDS.getProperties();
+        for (Entry<Object, Object> property : serverProps.entrySet()) {
+            String key = property.getKey().toString();
+            if (TeiidInstance.DATASOURCE_DRIVERNAME.equals(key) ||
+                    TeiidInstance.DATASOURCE_JNDINAME.equals(key))
+                continue; // Explicit fields compared above
+
+            Property cachedProp = cached.getProperty(transaction, key);
+            if (cachedProp == null || ! StringUtils.equals(cachedProp.getStringValue(transaction), String.valueOf(property.getValue())))
+                return false;
+        }
+
+        // Properties removed from the server since caching. Prefixed names are the connection's own fields.
+        for (String name : cached.getPropertyNames(transaction)) {
+            if (name.indexOf(COLON) < 0 && ! serverProps.containsKey(name))
+                return false;
+        }
+
+        return true;
+    }
+
+    /*
+     * Whether the entries of the cached Template match the supplied property definitions.
+     */
+    private boolean isCurrent(UnitOfWork transaction, Template cached,
+                              Collection<TeiidPropertyDefinition> teiidTempProperties,
+                              String rarConnFactoryValue) throws KException {
+        List<TemplateEntry> entries = cached.getEntries(transaction);
+        if (entries.size() != teiidTempProperties.size())
+            return false;
+
+        Map<String, TemplateEntry> entriesByName = new HashMap<String, TemplateEntry>();
+        for (TemplateEntry entry : entries) {
+            entriesByName.put(entry.getName(transaction), entry);
+        }
+
+        for (TeiidPropertyDefinition definition : teiidTempProperties) {
+            TemplateEntry entry = entriesByName.get(definition.getName());
+            if (entry == null)
+                return false;
+
+            Object defaultValue = definition.getName().equals(Template.CLASSNAME_KEY) ? rarConnFactoryValue : definition.getDefaultValue();
+            Object cachedDefault = entry.getDefaultValue(transaction);
+            if (! StringUtils.equals(cachedDefault == null ? null : cachedDefault.toString(),
+                                     defaultValue == null ? null : defaultValue.toString())
+                || ! StringUtils.equals(entry.getDescription(transaction), definition.getDescription())
+                || ! StringUtils.equals(entry.getDisplayName(transaction), definition.getDisplayName())
+                || ! StringUtils.equals(entry.getTypeClassName(transaction), definition.getPropertyTypeClassName()))
+                return false;
+        }
+
+        return true;
+    }
+
     /*
      * Update cached VDB with the supplied TeiidVdb.
      */
@@ -995,19 +1081,26 @@ public class CachedTeiidImpl extends RelationalObjectImpl implements CachedTeiid
         try {
             content = teiidVdb.export();
             if (content == null || StringUtils.isEmpty(content)) return;
-
-            tempFile = File.createTempFile(VDB_PREFIX, XML_SUFFIX);
-            Files.write(Paths.get(tempFile.getPath()), content.getBytes());
         } catch (Exception ex) {
             throw new KException(ex);
         }
 
-        // Removes currently cached object, if it exists
+        // Removes currently cached object, if it exists and is out of date
         if(vdbsFolder.hasChild(transaction, vdbName, VdbLexicon.Vdb.VIRTUAL_DATABASE)) {
             KomodoObject existingObj = vdbsFolder.getChild(transaction, vdbName, VdbLexicon.Vdb.VIRTUAL_DATABASE);
+            if (content.equals(getCachedContent(transaction, existingObj)))
+                return;
+
             existingObj.remove(transaction);
         }
 
+        try {
+            tempFile = File.createTempFile(VDB_PREFIX, XML_SUFFIX);
+            Files.write(Paths.get(tempFile.getPath()), content.getBytes());
+        } catch (Exception ex) {
+            throw new KException(ex);
+        }
+
         KomodoObject kobject = vdbsFolder.addChild(transaction, vdbName, VdbLexicon.Vdb.VIRTUAL_DATABASE);
         Vdb vdb = new VdbImpl( transaction, getRepository(), kobject.getAbsolutePath());
         vdb.setOriginalFilePath(transaction, tempFile.getAbsolutePath());
@@ -1023,9 +1116,13 @@ public class CachedTeiidImpl extends RelationalObjectImpl implements CachedTeiid
     private void updateConnection(UnitOfWork transaction, KomodoObject connectionsFolder, TeiidDataSource teiidDS) throws KException {
         String dataSourceName = teiidDS.getName();
         
-        // Removes currently cached object, if it exists
+        // Removes currently cached object, if it exists and is out of date
         if(connectionsFolder.hasChild(transaction, dataSourceName, DataVirtLexicon.Connection.NODE_TYPE)) {
             KomodoObject existingObj = connectionsFolder.getChild(transaction, dataSourceName, DataVirtLexicon.Connection.NODE_TYPE);
+            Connection existing = new ConnectionImpl( transaction, getRepository(), existingObj.getAbsolutePath() );
+            if (isCurrent(transaction, existing, teiidDS))
+                return;
+
             existingObj.remove(transaction);
         }
 
@@ -1077,10 +1174,9 @@ public class CachedTeiidImpl extends RelationalObjectImpl implements CachedTeiid
      * Update cached Driver with the supplied Driver name.
      */
     private void updateDriver(UnitOfWork transaction, KomodoObject driversFolder, String driverName) throws KException {
-        // Removes currently cached object, if it exists
+        // Only the name of a driver is cached so an existing driver is already current
         if(driversFolder.hasChild(transaction, driverName, DataVirtLexicon.ResourceFile.DRIVER_FILE_NODE_TYPE)) {
-            KomodoObject existingObj = driversFolder.getChild(transaction, driverName, DataVirtLexicon.ResourceFile.DRIVER_FILE_NODE_TYPE);
-            existingObj.remove(transaction);
+            return;
         }
         
         KomodoObject driver = driversFolder.addChild(transaction,
@@ -1118,9 +1214,16 @@ public class CachedTeiidImpl extends RelationalObjectImpl implements CachedTeiid
      * Update cached Template with the supplied Template name.
      */
     private void updateTemplate(UnitOfWork transaction, KomodoObject templatesFolder, String templateName, Collection<TeiidPropertyDefinition> teiidTempProperties) throws KException {
-        // Removes currently cached object, if it exists
+        // Get the Managed connection factory class for rars
+        String rarConnFactoryValue = getManagedConnectionFactoryClassDefault(teiidTempProperties);
+
+        // Removes currently cached object, if it exists and is out of date
         if(templatesFolder.hasChild(transaction, templateName, DataVirtLexicon.Template.NODE_TYPE)) {
             KomodoObject existingObj = templatesFolder.getChild(transaction, templateName, DataVirtLexicon.Template.NODE_TYPE);
+            Template existing = new TemplateImpl(transaction, getRepository(), existingObj.getAbsolutePath());
+            if (isCurrent(transaction, existing, teiidTempProperties, rarConnFactoryValue))
+                return;
+
             existingObj.remove(transaction);
         }
 
@@ -1132,9 +1235,6 @@ public class CachedTeiidImpl extends RelationalObjectImpl implements CachedTeiid
                                                        getRepository(),
                                                        kObject.getAbsolutePath());
 
-        // Get the Managed connection factory class for rars
-        String rarConnFactoryValue = getManagedConnectionFactoryClassDefault(teiidTempProperties);
-
         for (TeiidPropertyDefinition definition : teiidTempProperties) {
             KomodoObject kPropObject = template.addChild(transaction,
                                                             definition.getName(),
@@ -22,6 +22,7 @@
 package org.komodo.relational.vdb.internal;
 
 import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
 import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.List;
@@ -177,14 +178,9 @@ public class VdbImpl extends RelationalObjectImpl implements Vdb {
 
             try {
                 final XMLOutputFactory xof = XMLOutputFactory.newInstance();
-                final XMLStreamWriter xsw = xof.createXMLStreamWriter(writer);
-
-                final VdbNodeVisitor visitor = new VdbNodeVisitor(TeiidVersionProvider.getInstance().getTeiidVersion(), xsw);
-                if( exportProperties != null && !exportProperties.isEmpty() ) {
-                	boolean useTabs = exportProperties.containsKey(ExportConstants.USE_TABS_PROP_KEY);
-                	visitor.setShowTabs(useTabs);
-                }
-                visitor.visit(vdb.node(transaction));
+                writeManifest(transaction, vdb, exportProperties, xof.createXMLStreamWriter(writer));
+            } catch (final KException e) {
+                throw e;
             } catch (final Exception e) {
                 throw new KException(e);
             }
@@ -230,6 +226,18 @@ public class VdbImpl extends RelationalObjectImpl implements Vdb {
         }
     }
 
+    private static void writeManifest( final UnitOfWork transaction,
+                                       final VdbImpl vdb,
+                                       final Properties exportProperties,
+                                       final XMLStreamWriter xsw ) throws Exception {
+        final VdbNodeVisitor visitor = new VdbNodeVisitor(TeiidVersionProvider.getInstance().getTeiidVersion(), xsw);
+        if( exportProperties != null && !exportProperties.isEmpty() ) {
+            boolean useTabs = exportProperties.containsKey(ExportConstants.USE_TABS_PROP_KEY);
+            visitor.setShowTabs(useTabs);
+        }
+        visitor.visit(vdb.node(transaction));
+    }
+
     /**
      * @param uow
      *        the transaction (cannot be <code>null</code> or have a state that is not {@link State#NOT_STARTED})
@@ -340,6 +348,33 @@ public class VdbImpl extends RelationalObjectImpl implements Vdb {
         return result;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The manifest XML is written directly to the stream using UTF-8.
+     *
+     * @see org.komodo.spi.repository.Exportable#export(org.komodo.spi.repository.Repository.UnitOfWork, java.util.Properties,
+     *      java.io.OutputStream)
+     */
+    @Override
+    public void export( final UnitOfWork transaction,
+                        final Properties properties,
+                        final OutputStream stream ) throws KException {
+        ArgCheck.isNotNull( transaction, "transaction" ); //$NON-NLS-1$
+        ArgCheck.isTrue( ( transaction.getState() == State.NOT_STARTED ), "transaction state is not NOT_STARTED" ); //$NON-NLS-1$
+        ArgCheck.isNotNull( stream, "stream" ); //$NON-NLS-1$
+
+        try {
+            final XMLOutputFactory xof = XMLOutputFactory.newInstance();
+            writeManifest( transaction, this, properties, xof.createXMLStreamWriter( stream, "UTF-8" ) ); //$NON-NLS-1$
+            stream.flush();
+        } catch ( final KException e ) {
+            throw e;
+        } catch ( final Exception e ) {
+            throw new KException( e );
+        }
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -24,9 +24,11 @@ package org.komodo.relational.workspace;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 import org.komodo.core.KomodoLexicon;
 import org.komodo.importer.ImportMessages;
 import org.komodo.importer.ImportOptions;
@@ -74,8 +76,6 @@ import org.komodo.spi.repository.RepositoryObserver;
 import org.komodo.spi.storage.StorageConnector;
 import org.komodo.spi.storage.StorageReference;
 import org.komodo.spi.storage.StorageService;
-import org.komodo.spi.utils.KeyInValueHashMap;
-import org.komodo.spi.utils.KeyInValueHashMap.KeyFromValueAdapter;
 import org.komodo.utils.ArgCheck;
 import org.komodo.utils.StringUtils;
 import org.teiid.modeshape.sequencer.dataservice.lexicon.DataVirtLexicon;
@@ -99,14 +99,14 @@ public class WorkspaceManager extends ObjectImpl implements RelationalObject {
     public static final int TYPE_ID = WorkspaceManager.class.hashCode();
 
     // @formatter:off
-    private static final String FIND_ALL_QUERY_PATTERN = "SELECT [jcr:path] FROM [%s]" //$NON-NLS-1$
-                                                         + " WHERE ISDESCENDANTNODE('%s')" //$NON-NLS-1$
-                                                         + " ORDER BY [jcr:path] ASC"; //$NON-NLS-1$
-
-    private static final String FIND_MATCHING_QUERY_PATTERN = "SELECT [jcr:path] FROM [%s]"  //$NON-NLS-1$
-                                                              + " WHERE ISDESCENDANTNODE('%s')" //$NON-NLS-1$
-                                                              + " AND [jcr:name] LIKE '%s'" //$NON-NLS-1$
-                                                              + " ORDER BY [jcr:path] ASC"; //$NON-NLS-1$
+    private static final String FIND_QUERY_PATTERN = "SELECT [jcr:path] FROM [%s]" //$NON-NLS-1$
+                                                     + " WHERE ISDESCENDANTNODE('%s')"; //$NON-NLS-1$
+
+    private static final String NAME_CLAUSE_PATTERN = " AND [jcr:name] LIKE '%s'"; //$NON-NLS-1$
+
+    private static final String PRIMARY_TYPE_CLAUSE_PATTERN = " AND [jcr:primaryType] = '%s'"; //$NON-NLS-1$
+
+    private static final String ORDER_BY_PATH = " ORDER BY [jcr:path] ASC"; //$NON-NLS-1$
     // @formatter:on
 
     private static class CacheKey {
@@ -151,21 +151,47 @@ public class WorkspaceManager extends ObjectImpl implements RelationalObject {
         }
     }
 
-    private static class WskpMgrAdapter implements KeyFromValueAdapter< CacheKey, WorkspaceManager > {
+    /**
+     * The workspace manager cache statistics of a user.
+     */
+    public static class CacheMetrics {
 
-        @Override
-        public CacheKey getKey( WorkspaceManager value ) {
-            Repository repository = value.getRepository();
-            String user = value.getOwner();
+        private final AtomicLong hits = new AtomicLong();
+
+        private final AtomicLong misses = new AtomicLong();
+
+        private final AtomicLong evictions = new AtomicLong();
+
+        /**
+         * @return the number of requests that were answered by a cached workspace manager
+         */
+        public long getHits() {
+            return this.hits.get();
+        }
+
+        /**
+         * @return the number of requests that constructed a new workspace manager
+         */
+        public long getMisses() {
+            return this.misses.get();
+        }
+
+        /**
+         * @return the number of workspace managers removed from the cache
+         */
+        public long getEvictions() {
+            return this.evictions.get();
+        }
 
-            return new CacheKey(repository.getId(), user);
+        @Override
+        public String toString() {
+            return "hits = " + getHits() + ", misses = " + getMisses() + ", evictions = " + getEvictions(); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
         }
     }
 
-    private static KeyFromValueAdapter< CacheKey, WorkspaceManager > adapter = new WskpMgrAdapter();
+    private static final ConcurrentMap< CacheKey, WorkspaceManager > instances = new ConcurrentHashMap<>();
 
-    private static KeyInValueHashMap< CacheKey, WorkspaceManager > instances = 
-                                                                        new KeyInValueHashMap< CacheKey, WorkspaceManager >(adapter);
+    private static final ConcurrentMap< String, CacheMetrics > metrics = new ConcurrentHashMap<>();
 
     private final String owner;
 
@@ -181,27 +207,83 @@ public class WorkspaceManager extends ObjectImpl implements RelationalObject {
      *         if there is an error obtaining the workspace manager
      */
     public static WorkspaceManager getInstance( Repository repository, UnitOfWork transaction) throws KException {
+        ArgCheck.isNotNull(repository, "repository"); //$NON-NLS-1$
+
+        final String user = ( transaction == null ) ? Repository.SYSTEM_USER : transaction.getUserName();
+        final CacheKey key = new CacheKey(repository.getId(), user);
+        final CacheMetrics userMetrics = getMetrics(user);
+        WorkspaceManager instance = instances.get(key);
+
+        if ( instance != null ) {
+            if ( instance.getRepository() == repository ) {
+                userMetrics.hits.incrementAndGet();
+                return instance;
+            }
+
+            // a different repository object with the same identifier has replaced the cached one
+            evict(key, instance);
+        }
+
+        userMetrics.misses.incrementAndGet();
         boolean txNotProvided = transaction == null;
 
+        // We must create a transaction here so that it can be passed on to the constructor. Since the
+        // node associated with the WorkspaceManager always exists we don't have to create it.
         if (txNotProvided)
             transaction = repository.createTransaction(Repository.SYSTEM_USER, "createWorkspaceManager", false, null ); //$NON-NLS-1$
 
-        WorkspaceManager instance = instances.get(repository.getId());
+        final WorkspaceManager created = new WorkspaceManager(repository, transaction, key);
 
-        if ( instance == null ) {
-            // We must create a transaction here so that it can be passed on to the constructor. Since the
-            // node associated with the WorkspaceManager always exists we don't have to create it.
-            instance = new WorkspaceManager(repository, transaction);
+        if (txNotProvided)
+            transaction.commit();
 
-            if (txNotProvided)
-                transaction.commit();
+        // observe before caching so that a repository stop cannot be missed
+        repository.addObserver(created.observer);
+        instance = instances.putIfAbsent(key, created);
 
-            instances.add( instance );
+        if ( instance == null ) {
+            instance = created;
+        } else {
+            // another request cached a manager first so only that one listens for the repository stopping
+            repository.removeObserver(created.observer);
         }
 
         return instance;
     }
 
+    private static CacheMetrics getMetrics( final String user ) {
+        CacheMetrics userMetrics = metrics.get(user);
+
+        if ( userMetrics == null ) {
+            userMetrics = new CacheMetrics();
+            final CacheMetrics existing = metrics.putIfAbsent(user, userMetrics);
+
+            if ( existing != null ) {
+                userMetrics = existing;
+            }
+        }
+
+        return userMetrics;
+    }
+
+    /**
+     * @param user
+     *        the user whose cache statistics are being requested (cannot be empty)
+     * @return the workspace manager cache statistics of the user (never <code>null</code>)
+     */
+    public static CacheMetrics getCacheMetrics( final String user ) {
+        ArgCheck.isNotEmpty(user, "user"); //$NON-NLS-1$
+        return getMetrics(user);
+    }
+
+    private static void evict( final CacheKey key,
+                               final WorkspaceManager instance ) {
+        if ( instances.remove(key, instance) ) {
+            getMetrics(key.user).evictions.incrementAndGet();
+            instance.getRepository().removeObserver(instance.observer);
+        }
+    }
+
     /**
      * @return the owner of this workspace manager
      */
@@ -253,20 +335,26 @@ public class WorkspaceManager extends ObjectImpl implements RelationalObject {
         if (repository == null)
             return;
 
-        instances.remove(new CacheKey(repository.getId(), owner));
+        final CacheKey key = new CacheKey(repository.getId(), owner);
+        final WorkspaceManager instance = instances.get(key);
+
+        if (instance != null)
+            evict(key, instance);
     }
 
-    private WorkspaceManager(Repository repository, UnitOfWork uow ) throws KException {
+    private final RepositoryObserver observer;
+
+    private WorkspaceManager(Repository repository, UnitOfWork uow, final CacheKey key ) throws KException {
         super( repository, RepositoryImpl.komodoWorkspacePath(uow), 0 );
         this.owner = uow.getUserName();
 
-        repository.addObserver(new RepositoryObserver() {
+        this.observer = new RepositoryObserver() {
 
             @Override
             public void eventOccurred() {
                 // Disposal observer
                 if (getRepository() == null || State.NOT_REACHABLE == getRepository().getState() || !(getRepository().ping())) {
-                    instances.remove(WorkspaceManager.this);
+                    evict(key, WorkspaceManager.this);
                 }
             }
 
@@ -274,7 +362,7 @@ public class WorkspaceManager extends ObjectImpl implements RelationalObject {
             public void errorOccurred(Throwable e) {
                 // Nothing to do
             }
-        });
+        };
     }
 
     /**
@@ -571,35 +659,48 @@ public class WorkspaceManager extends ObjectImpl implements RelationalObject {
                                 String parentPath,
                                 final String namePattern,
                                 boolean includeSubTypes) throws KException {
+        return findByType( transaction, type, parentPath, namePattern, includeSubTypes, 0, -1 );
+    }
+
+    /**
+     * @param transaction
+     *        the transaction (cannot be <code>null</code> and must have a state of
+     *        {@link org.komodo.spi.repository.Repository.UnitOfWork.State#NOT_STARTED})
+     * @param type
+     *        the lexicon node type name of objects being found (cannot be empty)
+     * @param parentPath
+     *        the parent path whose children recursively will be checked (can be empty if searching from the workspace root)
+     * @param namePattern
+     *        the regex used to match object names (can be empty if all objects of the given type are being requested)
+     * @param includeSubTypes
+     *        determines whether sub types are included in the return
+     * @param offset
+     *        the number of matching objects to skip
+     * @param limit
+     *        the maximum number of paths returned (a negative value returns all paths)
+     * @return the requested page of paths of the objects under the specified parent path with the specified type (never
+     *         <code>null</code> but can be empty)
+     * @throws KException
+     *         if an error occurs
+     * @see #countByType(UnitOfWork, String, String, String, boolean)
+     */
+    public String[] findByType( final UnitOfWork transaction,
+                                final String type,
+                                final String parentPath,
+                                final String namePattern,
+                                final boolean includeSubTypes,
+                                final int offset,
+                                final int limit ) throws KException {
         ArgCheck.isNotNull( transaction, "transaction" ); //$NON-NLS-1$
         ArgCheck.isTrue( ( transaction.getState() == org.komodo.spi.repository.Repository.UnitOfWork.State.NOT_STARTED ),
                          "transaction state must be NOT_STARTED and was " + transaction.getState() ); //$NON-NLS-1$
         ArgCheck.isNotEmpty( type, "type" ); //$NON-NLS-1$
 
-        if ( StringUtils.isBlank( parentPath ) ) {
-            parentPath = RepositoryImpl.komodoWorkspacePath(transaction);
-        }
-
         try {
-            String queryText = null;
-
-            if ( StringUtils.isBlank( namePattern ) ) {
-                queryText = String.format( FIND_ALL_QUERY_PATTERN, type, parentPath );
-            } else {
-                queryText = String.format( FIND_MATCHING_QUERY_PATTERN, type, parentPath, namePattern );
-            }
-
-            final List< KomodoObject > kObjs = getRepository().query( transaction, queryText );
-            List< KomodoObject > results = new ArrayList< > ();
-            for( final KomodoObject kObj : kObjs ) {
-                if(includeSubTypes) {
-                    results.add(kObj);
-                } else if ( type.equals(kObj.getPrimaryType(transaction).getName()) ) {
-                    results.add(kObj);
-                }
-            }
-
-            final int numPaths = results.size();
+            final String queryText = createFindQuery( transaction, type, parentPath, namePattern, includeSubTypes )
+                                     + ORDER_BY_PATH;
+            final List< KomodoObject > kObjs = getRepository().query( transaction, queryText, offset, limit );
+            final int numPaths = kObjs.size();
 
             if ( numPaths == 0 ) {
                 return StringConstants.EMPTY_ARRAY;
@@ -608,7 +709,7 @@ public class WorkspaceManager extends ObjectImpl implements RelationalObject {
             final String[] result = new String[ numPaths ];
             int i = 0;
 
-            for ( final KomodoObject kObject : results ) {
+            for ( final KomodoObject kObject : kObjs ) {
                 result[ i++ ] = kObject.getAbsolutePath();
             }
 
@@ -618,6 +719,63 @@ public class WorkspaceManager extends ObjectImpl implements RelationalObject {
         }
     }
 
+    /**
+     * @param transaction
+     *        the transaction (cannot be <code>null</code> and must have a state of
+     *        {@link org.komodo.spi.repository.Repository.UnitOfWork.State#NOT_STARTED})
+     * @param type
+     *        the lexicon node type name of objects being counted (cannot be empty)
+     * @param parentPath
+     *        the parent path whose children recursively will be checked (can be empty if searching from the workspace root)
+     * @param namePattern
+     *        the regex used to match object names (can be empty if all objects of the given type are being counted)
+     * @param includeSubTypes
+     *        determines whether sub types are included in the count
+     * @return the number of objects under the specified parent path with the specified type
+     * @throws KException
+     *         if an error occurs
+     */
+    public long countByType( final UnitOfWork transaction,
+                             final String type,
+                             final String parentPath,
+                             final String namePattern,
+                             final boolean includeSubTypes ) throws KException {
+        ArgCheck.isNotNull( transaction, "transaction" ); //$NON-NLS-1$
+        ArgCheck.isTrue( ( transaction.getState() == org.komodo.spi.repository.Repository.UnitOfWork.State.NOT_STARTED ),
+                         "transaction state must be NOT_STARTED and was " + transaction.getState() ); //$NON-NLS-1$
+        ArgCheck.isNotEmpty( type, "type" ); //$NON-NLS-1$
+
+        try {
+            final String queryText = createFindQuery( transaction, type, parentPath, namePattern, includeSubTypes );
+            return getRepository().count( transaction, queryText );
+        } catch ( final Exception e ) {
+            throw handleError( e );
+        }
+    }
+
+    private String createFindQuery( final UnitOfWork transaction,
+                                    final String type,
+                                    String parentPath,
+                                    final String namePattern,
+                                    final boolean includeSubTypes ) {
+        if ( StringUtils.isBlank( parentPath ) ) {
+            parentPath = RepositoryImpl.komodoWorkspacePath( transaction );
+        }
+
+        final StringBuilder queryText = new StringBuilder( String.format( FIND_QUERY_PATTERN, type, parentPath ) );
+
+        if ( !StringUtils.isBlank( namePattern ) ) {
+            queryText.append( String.format( NAME_CLAUSE_PATTERN, namePattern ) );
+        }
+
+        // filter sub types in the query so that paging is applied to the objects actually returned
+        if ( !includeSubTypes ) {
+            queryText.append( String.format( PRIMARY_TYPE_CLAUSE_PATTERN, type ) );
+        }
+
+        return queryText.toString();
+    }
+
     /**
      * @param transaction
      *        the transaction (cannot be <code>null</code> and must have a state of
@@ -6,6 +6,7 @@ import org.komodo.relational.connection.internal.ConnectionImplTest;
 import org.komodo.relational.dataservice.internal.DataserviceImplTest;
 import org.komodo.relational.importer.ddl.TestTeiidDdlImporter;
 import org.komodo.relational.importer.vdb.TestTeiidVdbImporter;
+import org.komodo.relational.importer.vdb.TestTeiidVdbImporterParallelSequencing;
 import org.komodo.relational.model.internal.AbstractProcedureImplTest;
 import org.komodo.relational.model.internal.AccessPatternImplTest;
 import org.komodo.relational.model.internal.ColumnImplTest;
@@ -108,6 +109,7 @@ import org.komodo.relational.workspace.WorkspaceManagerTest;
 
     // Import
     TestTeiidVdbImporter.class,
+    TestTeiidVdbImporterParallelSequencing.class,
     TestTeiidDdlImporter.class
 
     })
@@ -676,6 +676,31 @@ public final class DataserviceImplTest extends RelationalModelTest {
         }
     }
 
+    @Test
+    public void shouldExportToStream() throws Exception {
+        final Vdb vdb = this.mgr.createVdb(getTransaction(), null, "childVdb", "externalFilePath");
+        this.dataservice.addVdb(getTransaction(), vdb);
+
+        final Vdb serviceVdb = this.mgr.createVdb(getTransaction(), null, SERVICE_NAME, "externalSvcPath");
+        this.dataservice.setServiceVdb( getTransaction(), serviceVdb );
+        commit(); // needed so that searching for reference will work
+
+        final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        this.dataservice.export(getTransaction(), new Properties(), bos);
+
+        int entries = 0;
+
+        try (ZipInputStream zipStream = new ZipInputStream(new ByteArrayInputStream(bos.toByteArray()))) {
+            while (zipStream.getNextEntry() != null) {
+                entries++;
+                zipStream.closeEntry();
+            }
+        }
+
+        // manifest, child vdb, and service vdb
+        assertEquals(3, entries);
+    }
+
     @Test
     public void shouldRoundTripDataService() throws Exception {
         InputStream importStream = TestUtilities.sampleDataserviceExample();
@@ -25,11 +25,13 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
@@ -56,6 +58,7 @@ import org.komodo.spi.repository.Repository;
 import org.komodo.spi.repository.Repository.UnitOfWork;
 import org.komodo.spi.repository.Repository.UnitOfWork.State;
 import org.komodo.test.utils.TestUtilities;
+import org.komodo.utils.FileUtils;
 import org.komodo.utils.KLog;
 import org.modeshape.jcr.JcrLexicon;
 import org.modeshape.jcr.api.JcrConstants;
@@ -1434,6 +1437,36 @@ public class TestTeiidVdbImporter extends AbstractImporterTest {
         assertFalse(vdb.hasChildren(getTransaction()));
     }
 
+    @Test
+    public void testImportStoresContentUnchanged() throws Exception {
+        InputStream vdbStream = TestUtilities.portfolioExample();
+
+        ImportOptions importOptions = new ImportOptions();
+        ImportMessages importMessages = new ImportMessages();
+
+        KomodoObject workspace = _repo.komodoWorkspace(getTransaction());
+        executeImporter(vdbStream, workspace, importOptions, importMessages);
+        commitHandleErrors(importMessages);
+
+        // Name is taken from the vdb element
+        KomodoObject vdbNode = workspace.getChild(getTransaction(),TestUtilities.PORTFOLIO_VDB_NAME, VdbLexicon.Vdb.VIRTUAL_DATABASE);
+        assertNotNull("Failed - No Vdb Created ", vdbNode);
+
+        KomodoObject[] jcrContent = vdbNode.getRawChildren(getTransaction(), JcrLexicon.CONTENT.getString());
+        assertEquals(1, jcrContent.length);
+
+        byte[] expected = FileUtils.streamToByteArray(TestUtilities.portfolioExample());
+        byte[] actual = FileUtils.streamToByteArray(jcrContent[0].getRawProperty(getTransaction(), JcrLexicon.DATA.getString())
+                                                                 .getBinaryValue(getTransaction()));
+        assertTrue(Arrays.equals(expected, actual));
+    }
+
+    @Test
+    public void testExtractVdbNameFromRootElement() throws Exception {
+        assertEquals(TestUtilities.PORTFOLIO_VDB_NAME, VdbImporter.extractVdbName(TestUtilities.portfolioExample()));
+        assertEquals(null, VdbImporter.extractVdbName(new ByteArrayInputStream("<notavdb name=\"foo\"/>".getBytes())));
+    }
+
     /**
      * Import a vdb into the komodo engine
      *
@@ -0,0 +1,194 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * See the COPYRIGHT.txt file distributed with this work for information
+ * regarding copyright ownership.  Some portions may be licensed
+ * to Red Hat, Inc. under one or more contributor license agreements.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA
+ * 02110-1301 USA.
+ */
+package org.komodo.relational.importer.vdb;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import java.io.File;
+import java.io.InputStream;
+import java.util.Arrays;
+import javax.jcr.Node;
+import javax.jcr.NodeIterator;
+import javax.jcr.Property;
+import javax.jcr.PropertyIterator;
+import javax.jcr.PropertyType;
+import javax.jcr.Value;
+import org.junit.After;
+import org.junit.Test;
+import org.komodo.importer.ImportMessages;
+import org.komodo.importer.ImportOptions;
+import org.komodo.relational.AbstractImporterTest;
+import org.komodo.repository.SynchronousCallback;
+import org.komodo.spi.constants.SystemConstants;
+import org.komodo.spi.repository.KomodoObject;
+import org.komodo.spi.repository.Repository;
+import org.komodo.spi.repository.Repository.UnitOfWork.State;
+import org.komodo.test.utils.TestUtilities;
+import org.teiid.modeshape.sequencer.vdb.lexicon.VdbLexicon;
+
+/**
+ * Tests VDB import with the sequencers of different models run in parallel
+ */
+@SuppressWarnings( {"javadoc", "nls"} )
+public class TestTeiidVdbImporterParallelSequencing extends AbstractImporterTest {
+
+    private static final String INVALID_MODEL_DDL_VDB = "invalid-model-ddl-vdb.xml";
+
+    private static final String SEQUENCER_WORKER = "Komodo Sequencer Worker-";
+
+    private static final String PARALLELISM = "4";
+
+    @Override
+    protected void runImporter(Repository repository, File file, KomodoObject parentObject, ImportOptions importOptions,
+                               ImportMessages importMessages) throws Exception {
+        VdbImporter importer = new VdbImporter(_repo);
+        KomodoObject workspace = _repo.komodoWorkspace(getTransaction());
+        importer.importVdb(getTransaction(), file, workspace, importOptions, importMessages);
+    }
+
+    @Override
+    protected void runImporter(Repository repository, InputStream inputStream, KomodoObject parentObject,
+                               ImportOptions importOptions, ImportMessages importMessages) throws Exception {
+        VdbImporter importer = new VdbImporter(_repo);
+        KomodoObject workspace = _repo.komodoWorkspace(getTransaction());
+        importer.importVdb(getTransaction(), inputStream, workspace, importOptions, importMessages);
+    }
+
+    @After
+    public void clearParallelism() {
+        System.clearProperty(SystemConstants.SEQUENCING_PARALLELISM);
+    }
+
+    /*
+     * Writes the node tree below the given node leaving out the values that differ each time the same content is imported
+     */
+    private void dump(String rootPath, Node node, StringBuilder buffer) throws Exception {
+        buffer.append(node.getPath().substring(rootPath.length())).append(SPACE);
+        buffer.append(node.getPrimaryNodeType().getName()).append(NEW_LINE);
+
+        PropertyIterator properties = node.getProperties();
+        String[] names = new String[(int) properties.getSize()];
+        for (int i = 0; i < names.length; ++i)
+            names[i] = properties.nextProperty().getName();
+
+        Arrays.sort(names);
+
+        for (String name : names) {
+            Property property = node.getProperty(name);
+            buffer.append(TAB).append(name);
+
+            switch (property.getType()) {
+                case PropertyType.BINARY:
+                case PropertyType.DATE:
+                case PropertyType.REFERENCE:
+                case PropertyType.WEAKREFERENCE:
+                    buffer.append(NEW_LINE);
+                    continue;
+                default:
+                    break;
+            }
+
+            if ("jcr:uuid".equals(name)) {
+                buffer.append(NEW_LINE);
+                continue;
+            }
+
+            buffer.append(EQUALS);
+            if (property.isMultiple()) {
+                for (Value value : property.getValues())
+                    buffer.append(value.getString()).append(COMMA);
+            } else
+                buffer.append(property.getString());
+
+            buffer.append(NEW_LINE);
+        }
+
+        NodeIterator children = node.getNodes();
+        while (children.hasNext())
+            dump(rootPath, children.nextNode(), buffer);
+    }
+
+    private String importPortfolio() throws Exception {
+        ImportMessages importMessages = new ImportMessages();
+        KomodoObject workspace = _repo.komodoWorkspace(getTransaction());
+        executeImporter(TestUtilities.portfolioExample(), workspace, new ImportOptions(), importMessages);
+        commit();
+
+        assertFalse(importMessages.errorMessagesToString(), importMessages.hasError());
+
+        KomodoObject vdb = workspace.getChild(getTransaction(), TestUtilities.PORTFOLIO_VDB_NAME, VdbLexicon.Vdb.VIRTUAL_DATABASE);
+        assertNotNull(vdb);
+
+        Node vdbNode = session(getTransaction()).getNode(vdb.getAbsolutePath());
+        StringBuilder buffer = new StringBuilder();
+        dump(vdbNode.getPath(), vdbNode, buffer);
+        return buffer.toString();
+    }
+
+    private boolean sequencerWorkersStarted() {
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (thread.getName().startsWith(SEQUENCER_WORKER))
+                return true;
+        }
+
+        return false;
+    }
+
+    @Test
+    public void shouldSequenceModelsInParallelAsInSerial() throws Exception {
+        System.setProperty(SystemConstants.SEQUENCING_PARALLELISM, "1");
+        String serial = importPortfolio();
+
+        // the ddl of the view models has been sequenced
+        assertTrue(serial.contains("/StocksMatModel/stockPricesMatView "));
+
+        KomodoObject workspace = _repo.komodoWorkspace(getTransaction());
+        workspace.getChild(getTransaction(), TestUtilities.PORTFOLIO_VDB_NAME, VdbLexicon.Vdb.VIRTUAL_DATABASE).remove(getTransaction());
+        commit();
+
+        System.setProperty(SystemConstants.SEQUENCING_PARALLELISM, PARALLELISM);
+        String parallel = importPortfolio();
+
+        assertTrue(sequencerWorkersStarted());
+        assertEquals(serial, parallel);
+    }
+
+    @Test
+    public void shouldReportSequencerErrorOfParallelModel() throws Exception {
+        System.setProperty(SystemConstants.SEQUENCING_PARALLELISM, PARALLELISM);
+
+        InputStream vdbStream = TestUtilities.getResourceAsStream(getClass(), VDB_DIRECTORY, INVALID_MODEL_DDL_VDB);
+        ImportMessages importMessages = new ImportMessages();
+        KomodoObject workspace = _repo.komodoWorkspace(getTransaction());
+        executeImporter(vdbStream, workspace, new ImportOptions(), importMessages);
+
+        // the ddl sequencer error of the broken model fails the commit
+        SynchronousCallback importCallback = this.callback;
+        commit(State.ERROR);
+
+        assertTrue(importCallback.hasError());
+        assertNotNull(importCallback.error());
+    }
+
+}
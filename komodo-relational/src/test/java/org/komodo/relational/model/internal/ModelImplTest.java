@@ -28,6 +28,8 @@ import static org.hamcrest.core.IsNull.notNullValue;
 import static org.hamcrest.core.IsNull.nullValue;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.fail;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Properties;
 import org.junit.Before;
@@ -35,6 +37,7 @@ import org.junit.Test;
 import org.komodo.relational.RelationalModelTest;
 import org.komodo.relational.RelationalObject.Filter;
 import org.komodo.relational.internal.RelationalObjectImpl;
+import org.komodo.relational.model.Column;
 import org.komodo.relational.model.Model;
 import org.komodo.relational.model.Model.Type;
 import org.komodo.relational.model.PushdownFunction;
@@ -45,7 +48,9 @@ import org.komodo.relational.model.View;
 import org.komodo.relational.model.VirtualProcedure;
 import org.komodo.relational.vdb.ModelSource;
 import org.komodo.spi.KException;
+import org.komodo.spi.constants.ExportConstants;
 import org.komodo.spi.constants.StringConstants;
+import org.komodo.spi.constants.SystemConstants;
 import org.komodo.spi.repository.KomodoObject;
 import org.komodo.spi.repository.KomodoType;
 import org.teiid.modeshape.sequencer.ddl.TeiidDdlLexicon.CreateProcedure;
@@ -640,6 +645,48 @@ public final class ModelImplTest extends RelationalModelTest {
         assertThat( mDefn, is( "CREATE VIEW Tweet AS select * FROM twitterview.getTweets;" ) );
     }
 
+    @Test
+    public void shouldResequenceModelDefinitionIncrementally() throws Exception {
+        System.setProperty( SystemConstants.DDL_INCREMENTAL_SEQUENCING, Boolean.TRUE.toString() );
+
+        try {
+            this.model.setModelDefinition( getTransaction(),
+                                           "CREATE FOREIGN TABLE t1 (c1 string, c2 integer); CREATE FOREIGN TABLE t2 (c1 string);" );
+            commit();
+
+            assertThat( this.model.getTables( getTransaction() ).length, is( 2 ) );
+            assertThat( this.model.getTables( getTransaction(), "t1" )[ 0 ].getColumns( getTransaction() ).length, is( 2 ) );
+
+            final Table t1 = this.model.getTables( getTransaction(), "t1" )[ 0 ];
+            final String t1Path = t1.getAbsolutePath();
+            final String t1Id = session( getTransaction() ).getNode( t1Path ).getIdentifier();
+            final String c1Id = session( getTransaction() ).getNode( t1.getColumns( getTransaction() )[ 0 ].getAbsolutePath() ).getIdentifier();
+
+            this.model.setModelDefinition( getTransaction(),
+                                           "CREATE FOREIGN TABLE t3 (c1 string); CREATE FOREIGN TABLE t1 (c1 string, c2 long);" );
+            commit();
+
+            final Table[] tables = this.model.getTables( getTransaction() );
+            assertThat( tables.length, is( 2 ) );
+            assertThat( tables[ 0 ].getName( getTransaction() ), is( "t3" ) );
+            assertThat( tables[ 1 ].getName( getTransaction() ), is( "t1" ) );
+
+            final Column[] columns = tables[ 1 ].getColumns( getTransaction() );
+            assertThat( columns.length, is( 2 ) );
+            assertThat( columns[ 0 ].getName( getTransaction() ), is( "c1" ) );
+            assertThat( columns[ 1 ].getName( getTransaction() ), is( "c2" ) );
+            assertThat( columns[ 1 ].getDatatypeName( getTransaction() ), is( "long" ) );
+
+            // t2 is gone while t1 and its unchanged column are the same nodes as before
+            assertThat( this.model.getTables( getTransaction(), "t2" ).length, is( 0 ) );
+            assertThat( tables[ 1 ].getAbsolutePath(), is( t1Path ) );
+            assertThat( session( getTransaction() ).getNode( t1Path ).getIdentifier(), is( t1Id ) );
+            assertThat( session( getTransaction() ).getNode( columns[ 0 ].getAbsolutePath() ).getIdentifier(), is( c1Id ) );
+        } finally {
+            System.clearProperty( SystemConstants.DDL_INCREMENTAL_SEQUENCING );
+        }
+    }
+
     @Test
     public void shouldSetModelType() throws Exception {
         final Type value = Type.VIRTUAL;
@@ -668,4 +715,40 @@ public final class ModelImplTest extends RelationalModelTest {
         assertThat( exportedDdl.contains("CREATE FOREIGN TABLE table1"), is( true ) );
     }
 
+    @Test
+    public void shouldExportSameDdlToStream() throws Exception {
+        final int numTables = 5;
+
+        for ( int i = 0; i < numTables; ++i ) {
+            this.model.addTable( getTransaction(), "table" + i );
+        }
+
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        this.model.export( getTransaction(), new Properties(), stream );
+
+        assertThat( new String( stream.toByteArray() ), is( new String( this.model.export( getTransaction(), new Properties() ) ) ) );
+    }
+
+    @Test
+    public void shouldExportDdlExcludeConstraints() throws Exception {
+        final Table table = this.model.addTable( getTransaction(), "myTable" );
+        table.addColumn( getTransaction(), "column1" ).setDatatypeName( getTransaction(), "string" );
+        final Table refTable = this.model.addTable( getTransaction(), "refTable" );
+        table.addForeignKey( getTransaction(), "foreignKey", refTable );
+
+        String exportedDdl = new String( this.model.export( getTransaction(), new Properties() ) );
+        assertThat( exportedDdl.contains( "FOREIGN KEY" ), is( true ) );
+
+        final Properties exportProps = new Properties();
+        exportProps.put( ExportConstants.EXCLUDE_TABLE_CONSTRAINTS_KEY, true );
+        exportedDdl = new String( this.model.export( getTransaction(), exportProps ) );
+        assertThat( exportedDdl.contains( "CREATE FOREIGN TABLE myTable" ), is( true ) );
+        assertThat( exportedDdl.contains( "FOREIGN KEY" ), is( false ) );
+
+        // the streamed export applies the same exclusions
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        this.model.export( getTransaction(), exportProps, stream );
+        assertThat( new String( stream.toByteArray(), StandardCharsets.UTF_8 ), is( exportedDdl ) );
+    }
+
 }
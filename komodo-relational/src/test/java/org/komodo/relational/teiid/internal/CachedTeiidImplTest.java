@@ -22,27 +22,45 @@
 package org.komodo.relational.teiid.internal;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 import java.io.File;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Properties;
 import org.junit.Before;
 import org.junit.Test;
 import org.komodo.core.KomodoLexicon;
 import org.komodo.relational.RelationalModelFactory;
 import org.komodo.relational.RelationalModelTest;
+import org.komodo.relational.connection.Connection;
 import org.komodo.relational.model.Model;
+import org.komodo.relational.resource.Driver;
 import org.komodo.relational.teiid.CachedTeiid;
 import org.komodo.relational.teiid.Teiid;
+import org.komodo.relational.template.Template;
+import org.komodo.relational.template.TemplateEntry;
 import org.komodo.relational.vdb.Vdb;
 import org.komodo.relational.vdb.internal.VdbImpl;
+import org.komodo.repository.ObjectImpl;
 import org.komodo.spi.repository.KomodoObject;
 import org.komodo.spi.repository.Repository.UnitOfWork;
 import org.komodo.spi.repository.Repository.UnitOfWork.State;
 import org.komodo.spi.runtime.HostProvider;
 import org.komodo.spi.runtime.TeiidAdminInfo;
+import org.komodo.spi.runtime.TeiidInstance;
+import org.komodo.spi.runtime.TeiidDataSource;
 import org.komodo.spi.runtime.TeiidJdbcInfo;
+import org.komodo.spi.runtime.TeiidPropertyDefinition;
+import org.komodo.spi.runtime.TeiidVdb;
 import org.komodo.spi.runtime.version.TeiidVersion;
 import org.komodo.spi.runtime.version.TeiidVersionProvider;
 import org.komodo.test.utils.TestUtilities;
@@ -157,4 +175,191 @@ public final class CachedTeiidImplTest extends RelationalModelTest {
         Model[] models = vdb.getModels(getTransaction());
         assertEquals(5, models.length);
     }
+
+    @Test
+    public void shouldOnlyRefreshChangedDrivers() throws Exception {
+        CachedTeiid cachedTeiid = RelationalModelFactory.createCachedTeiid(sysTx(), _repo, this.teiid);
+        assertNotNull(cachedTeiid);
+        sysCommit();
+
+        TeiidInstance teiidInstance = mock(TeiidInstance.class);
+        when(teiidInstance.isConnected()).thenReturn(true);
+        when(teiidInstance.getDataSourceTypeNames()).thenReturn(new HashSet<>(Arrays.asList("driverA", "driverB")));
+
+        cachedTeiid.refreshDrivers(sysTx(), teiidInstance);
+        sysCommit();
+
+        // Mark the unchanged driver so a recreated node can be detected
+        final String marker = "mix:referenceable";
+        String driverPath = cachedTeiid.getDriver(sysTx(), "driverA").getAbsolutePath();
+        new ObjectImpl(_repo, driverPath, 0).addDescriptor(sysTx(), marker);
+        sysCommit();
+
+        when(teiidInstance.getDataSourceTypeNames()).thenReturn(new HashSet<>(Arrays.asList("driverA", "driverC")));
+        cachedTeiid.refreshDrivers(sysTx(), teiidInstance);
+        sysCommit();
+
+        assertNotNull(cachedTeiid.getDriver(sysTx(), "driverA"));
+        assertTrue(new ObjectImpl(_repo, driverPath, 0).hasDescriptor(sysTx(), marker));
+        assertNull(cachedTeiid.getDriver(sysTx(), "driverB"));
+
+        Driver driverC = cachedTeiid.getDriver(sysTx(), "driverC");
+        assertNotNull(driverC);
+        assertFalse(new ObjectImpl(_repo, driverC.getAbsolutePath(), 0).hasDescriptor(sysTx(), marker));
+    }
+
+    private String identifier( final KomodoObject kobject ) throws Exception {
+        return session( sysTx() ).getNode( kobject.getAbsolutePath() ).getIdentifier();
+    }
+
+    private TeiidDataSource dataSource( final String name,
+                                        final String jndiName,
+                                        final String... properties ) {
+        final Properties props = new Properties();
+
+        for ( int i = 0; i < properties.length; i += 2 ) {
+            props.setProperty( properties[ i ], properties[ i + 1 ] );
+        }
+
+        TeiidDataSource dataSource = mock( TeiidDataSource.class );
+        when( dataSource.getName() ).thenReturn( name );
+        when( dataSource.getType() ).thenReturn( "h2" );
+        when( dataSource.getJndiName() ).thenReturn( jndiName );
+        when( dataSource.getProperties() ).thenReturn( props );
+        return dataSource;
+    }
+
+    private TeiidPropertyDefinition propertyDefinition( final String name,
+                                                        final String defaultValue ) {
+        TeiidPropertyDefinition definition = new TeiidPropertyDefinition();
+        definition.setName( name );
+        definition.setDisplayName( name );
+        definition.setDescription( "The " + name );
+        definition.setPropertyTypeClassName( String.class.getName() );
+        definition.setDefaultValue( defaultValue );
+        definition.setAdvanced( false );
+        definition.setMasked( false );
+        definition.setModifiable( true );
+        definition.setRequired( false );
+        return definition;
+    }
+
+    private TeiidVdb teiidVdb( final String name,
+                               final String description ) throws Exception {
+        TeiidVdb teiidVdb = mock( TeiidVdb.class );
+        when( teiidVdb.getName() ).thenReturn( name );
+        when( teiidVdb.export() ).thenReturn( "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                                              + "<vdb name=\"" + name + "\" version=\"1\">\n"
+                                              + "    <description>" + description + "</description>\n"
+                                              + "</vdb>\n" );
+        return teiidVdb;
+    }
+
+    @Test
+    public void shouldOnlyRefreshChangedConnections() throws Exception {
+        CachedTeiid cachedTeiid = RelationalModelFactory.createCachedTeiid(sysTx(), _repo, this.teiid);
+        assertNotNull(cachedTeiid);
+        sysCommit();
+
+        TeiidInstance teiidInstance = mock(TeiidInstance.class);
+        when(teiidInstance.isConnected()).thenReturn(true);
+        when(teiidInstance.getDataSources()).thenReturn(Arrays.asList(dataSource("unchanged", "java:/unchanged", "url", "jdbc:a"),
+                                                                      dataSource("jndi", "java:/jndi", "url", "jdbc:b"),
+                                                                      dataSource("changed", "java:/changed", "url", "jdbc:c"),
+                                                                      dataSource("removed", "java:/removed", "url", "jdbc:d", "extra", "x")));
+        cachedTeiid.refreshConnections(sysTx(), teiidInstance);
+        sysCommit();
+
+        String unchangedId = identifier(cachedTeiid.getConnection(sysTx(), "unchanged"));
+        String jndiId = identifier(cachedTeiid.getConnection(sysTx(), "jndi"));
+        String changedId = identifier(cachedTeiid.getConnection(sysTx(), "changed"));
+        String removedId = identifier(cachedTeiid.getConnection(sysTx(), "removed"));
+
+        when(teiidInstance.getDataSources()).thenReturn(Arrays.asList(dataSource("unchanged", "java:/unchanged", "url", "jdbc:a"),
+                                                                      dataSource("jndi", "java:/jndi2", "url", "jdbc:b"),
+                                                                      dataSource("changed", "java:/changed", "url", "jdbc:c2"),
+                                                                      dataSource("removed", "java:/removed", "url", "jdbc:d")));
+        cachedTeiid.refreshConnections(sysTx(), teiidInstance);
+        sysCommit();
+
+        // Unchanged connection is left untouched
+        assertEquals(unchangedId, identifier(cachedTeiid.getConnection(sysTx(), "unchanged")));
+
+        // Changed JNDI name
+        Connection connection = cachedTeiid.getConnection(sysTx(), "jndi");
+        assertFalse(jndiId.equals(identifier(connection)));
+        assertEquals("java:/jndi2", connection.getJndiName(sysTx()));
+
+        // Changed property
+        connection = cachedTeiid.getConnection(sysTx(), "changed");
+        assertFalse(changedId.equals(identifier(connection)));
+        assertEquals("jdbc:c2", connection.getProperty(sysTx(), "url").getStringValue(sysTx()));
+
+        // Property removed from the server
+        connection = cachedTeiid.getConnection(sysTx(), "removed");
+        assertFalse(removedId.equals(identifier(connection)));
+        assertFalse(connection.hasProperty(sysTx(), "extra"));
+    }
+
+    @Test
+    public void shouldOnlyRefreshChangedTemplates() throws Exception {
+        CachedTeiid cachedTeiid = RelationalModelFactory.createCachedTeiid(sysTx(), _repo, this.teiid);
+        assertNotNull(cachedTeiid);
+        sysCommit();
+
+        TeiidInstance teiidInstance = mock(TeiidInstance.class);
+        when(teiidInstance.isConnected()).thenReturn(true);
+        when(teiidInstance.getDataSourceTemplateNames()).thenReturn(new HashSet<>(Arrays.asList("unchanged", "changed")));
+        when(teiidInstance.getTemplatePropertyDefns("unchanged")).thenReturn(Collections.singletonList(propertyDefinition("url", "jdbc:a")));
+        when(teiidInstance.getTemplatePropertyDefns("changed")).thenReturn(Collections.singletonList(propertyDefinition("url", "jdbc:b")));
+        cachedTeiid.refreshTemplates(sysTx(), teiidInstance);
+        sysCommit();
+
+        String unchangedId = identifier(cachedTeiid.getTemplate(sysTx(), "unchanged"));
+        String changedId = identifier(cachedTeiid.getTemplate(sysTx(), "changed"));
+
+        when(teiidInstance.getTemplatePropertyDefns("unchanged")).thenReturn(Collections.singletonList(propertyDefinition("url", "jdbc:a")));
+        when(teiidInstance.getTemplatePropertyDefns("changed")).thenReturn(Collections.singletonList(propertyDefinition("url", "jdbc:b2")));
+        cachedTeiid.refreshTemplates(sysTx(), teiidInstance);
+        sysCommit();
+
+        // Unchanged template is left untouched
+        assertEquals(unchangedId, identifier(cachedTeiid.getTemplate(sysTx(), "unchanged")));
+
+        // Changed default value
+        Template template = cachedTeiid.getTemplate(sysTx(), "changed");
+        assertFalse(changedId.equals(identifier(template)));
+
+        TemplateEntry entry = template.getEntries(sysTx()).get(0);
+        assertEquals("jdbc:b2", entry.getDefaultValue(sysTx()).toString());
+    }
+
+    @Test
+    public void shouldOnlyRefreshChangedVdbs() throws Exception {
+        CachedTeiid cachedTeiid = RelationalModelFactory.createCachedTeiid(sysTx(), _repo, this.teiid);
+        assertNotNull(cachedTeiid);
+        sysCommit();
+
+        TeiidInstance teiidInstance = mock(TeiidInstance.class);
+        when(teiidInstance.isConnected()).thenReturn(true);
+        when(teiidInstance.getVdbs()).thenReturn(Arrays.asList(teiidVdb("unchanged", "one"), teiidVdb("changed", "one")));
+        cachedTeiid.refreshVdbs(sysTx(), teiidInstance);
+        sysCommit();
+
+        String unchangedId = identifier(cachedTeiid.getVdb(sysTx(), "unchanged"));
+        String changedId = identifier(cachedTeiid.getVdb(sysTx(), "changed"));
+
+        when(teiidInstance.getVdbs()).thenReturn(Arrays.asList(teiidVdb("unchanged", "one"), teiidVdb("changed", "two")));
+        cachedTeiid.refreshVdbs(sysTx(), teiidInstance);
+        sysCommit();
+
+        // Unchanged VDB content is left untouched
+        assertEquals(unchangedId, identifier(cachedTeiid.getVdb(sysTx(), "unchanged")));
+
+        // Changed VDB content
+        Vdb vdb = cachedTeiid.getVdb(sysTx(), "changed");
+        assertFalse(changedId.equals(identifier(vdb)));
+        KomodoObject fileNode = vdb.getChild(sysTx(), JcrLexicon.CONTENT.getString());
+        assertTrue(fileNode.getProperty(sysTx(), JcrLexicon.DATA.getString()).getStringValue(sysTx()).contains("<description>two</description>"));
+    }
 }
@@ -109,6 +109,23 @@ public final class WorkspaceManagerTest extends RelationalModelTest {
             FileUtils.removeDirectoryAndChildren(myFileDir);
     }
 
+    @Test
+    public void shouldCacheInstancePerUser() throws Exception {
+        final String user = getTransaction().getUserName();
+        final long hits = WorkspaceManager.getCacheMetrics(user).getHits();
+
+        assertTrue(WorkspaceManager.getInstance(_repo, getTransaction()) == this.wsMgr);
+        assertThat(WorkspaceManager.getCacheMetrics(user).getHits(), is(hits + 1));
+
+        final long evictions = WorkspaceManager.getCacheMetrics(user).getEvictions();
+        WorkspaceManager.uncacheInstance(_repo, user);
+        assertThat(WorkspaceManager.getCacheMetrics(user).getEvictions(), is(evictions + 1));
+
+        final long misses = WorkspaceManager.getCacheMetrics(user).getMisses();
+        assertFalse(WorkspaceManager.getInstance(_repo, getTransaction()) == this.wsMgr);
+        assertThat(WorkspaceManager.getCacheMetrics(user).getMisses(), is(misses + 1));
+    }
+
     @Test
     public void shouldCreateConnection() throws Exception {
         final Connection connection = this.wsMgr.createConnection( getTransaction(), null, "ds" );
@@ -294,6 +311,33 @@ public final class WorkspaceManagerTest extends RelationalModelTest {
         assertThat(this.wsMgr.findVdbs(getTransaction()).length, is(suffix));
     }
 
+    @Test
+    public void shouldFindVdbsByPage() throws Exception {
+        final String prefix = this.name.getMethodName();
+        final int numVdbs = 12;
+
+        for (int i = 0; i < numVdbs; ++i) {
+            createVdb((prefix + i), (VDB_PATH + i));
+        }
+
+        commit(); // must save before running a query
+
+        final String[] all = this.wsMgr.findByType(getTransaction(), VdbLexicon.Vdb.VIRTUAL_DATABASE, null, null, false);
+        assertThat(all.length, is(numVdbs));
+
+        final String[] page = this.wsMgr.findByType(getTransaction(), VdbLexicon.Vdb.VIRTUAL_DATABASE, null, null, false, 5, 4);
+        assertThat(page.length, is(4));
+
+        for (int i = 0; i < page.length; ++i) {
+            assertThat(page[i], is(all[i + 5]));
+        }
+
+        final String[] lastPage = this.wsMgr.findByType(getTransaction(), VdbLexicon.Vdb.VIRTUAL_DATABASE, null, null, false, 10, 4);
+        assertThat(lastPage.length, is(2));
+
+        assertThat(this.wsMgr.countByType(getTransaction(), VdbLexicon.Vdb.VIRTUAL_DATABASE, null, null, false), is((long)numVdbs));
+    }
+
     @Test
     public void shouldFindVdbsWhenMixedWithDataservices() throws Exception {
         final String prefix = this.name.getMethodName();
@@ -37,10 +37,49 @@ public interface SystemConstants {
      */
     String LOG_FILE_NAME = StringConstants.KOMODO + StringConstants.DOT + StringConstants.LOG;
 
+    /**
+     * The environmental variable that can be set to <code>true</code> so log messages are formatted on the calling thread and
+     * written to the log by a background thread. Default is <code>false</code>, which writes on the calling thread.
+     */
+    String LOG_ASYNCHRONOUS = "komodo.log.async"; //$NON-NLS-1$
+
     /**
      * The environmental variable that can be set with the directory VDB Builder will use while running. Default is
      * <code>${user.home}/.komodo/vdbbuilder</code>
      */
     String VDB_BUILDER_DATA_DIR = "vdbbuilder.dataDir"; //$NON-NLS-1$
 
+    /**
+     * The environmental variable that can be set with the number of worker threads the local repository engine uses to
+     * create, commit, and rollback sessions. A value of zero services all session requests on the engine thread itself. Default
+     * is the number of available processors, capped at 8.
+     */
+    String ENGINE_SESSION_WORKERS = "komodo.engine.sessionWorkers"; //$NON-NLS-1$
+
+    /**
+     * The environmental variable that can be set with the number of idle query connections kept open per VDB, server, and user
+     * so consecutive queries reuse them. Default is zero, which opens a new connection for every query.
+     */
+    String QUERY_CONNECTION_POOL_SIZE = "komodo.query.connectionPoolSize"; //$NON-NLS-1$
+
+    /**
+     * The environmental variable that can be set with the number of threads a full validation uses to evaluate the subtrees of
+     * the validated object. Subtrees are read using read-only transactions so objects with unsaved changes are always evaluated
+     * on the calling thread. Default is 1, which evaluates everything on the calling thread.
+     */
+    String VALIDATION_PARALLELISM = "komodo.validation.parallelism"; //$NON-NLS-1$
+
+    /**
+     * The environmental variable that can be set with the number of threads used to run the sequencers triggered by a commit.
+     * Sequencing of different output nodes, for example the models of an imported VDB, then runs concurrently while the work on
+     * each output node keeps its order. Default is 1, which runs all sequencers on the observation thread.
+     */
+    String SEQUENCING_PARALLELISM = "komodo.sequencing.parallelism"; //$NON-NLS-1$
+
+    /**
+     * The environmental variable that can be set to <code>true</code> so that re-sequencing a model's DDL only creates, updates,
+     * and removes the DDL nodes that changed instead of rebuilding the whole model. Default is <code>false</code>.
+     */
+    String DDL_INCREMENTAL_SEQUENCING = "komodo.sequencing.ddl.incremental"; //$NON-NLS-1$
+
 }
@@ -21,6 +21,8 @@
  */
 package org.komodo.spi.repository;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Properties;
 import org.komodo.spi.KException;
 import org.komodo.spi.repository.Repository.UnitOfWork;
@@ -58,4 +60,27 @@ public interface Exportable {
      */
     byte[] export( final UnitOfWork transaction, Properties properties ) throws KException;
 
+    /**
+     * Writes the current object state to the supplied stream. The default implementation writes the result of
+     * {@link #export(UnitOfWork, Properties)}. Implementations whose exported form can be large should override this so the
+     * whole artifact is not held in memory.
+     *
+     * @param transaction
+     *        the transaction (can be <code>null</code> if update should be automatically committed)
+     * @param properties (can be <code>null</code> or empty)
+     * @param stream
+     *        the stream the current object state is written to (cannot be <code>null</code> and is not closed)
+     * @throws KException
+     *         if an error occurs
+     */
+    default void export( final UnitOfWork transaction,
+                         final Properties properties,
+                         final OutputStream stream ) throws KException {
+        try {
+            stream.write( export( transaction, properties ) );
+        } catch ( final IOException e ) {
+            throw new KException( e );
+        }
+    }
+
 }
@@ -23,6 +23,7 @@ package org.komodo.spi.repository;
 
 import java.io.File;
 import java.net.URL;
+import java.util.Collection;
 import java.util.List;
 import org.komodo.spi.KException;
 
@@ -235,6 +236,15 @@ public interface Repository {
          */
         boolean isRollbackOnly();
 
+        /**
+         * A read-only transaction is always {@link #isRollbackOnly() rollback only}. Any changes made during the transaction are
+         * discarded.
+         *
+         * @return <code>true</code> if the transaction was created to only read from the repository
+         * @see Repository#createReadOnlyTransaction(String, String, UnitOfWorkListener)
+         */
+        boolean isReadOnly();
+
         /**
          * Discards all current changes made during this transaction.
          */
@@ -332,6 +342,24 @@ public interface Repository {
                                   final boolean rollbackOnly,
                                   final UnitOfWorkListener callback ) throws KException;
 
+    /**
+     * Creates a transaction that only reads from the repository. A read-only transaction does not need to be serialized with
+     * transactions that write so implementations may service it more cheaply. Any changes made during the transaction are
+     * discarded when it is committed or rolled back.
+     *
+     * @param userName
+     *       the user name of the transaction initiator
+     * @param name
+     *        a name for the transaction (cannot be empty)
+     * @param callback
+     *        a listener that is notified when the transaction is finished (can be <code>null</code>
+     * @return a read-only unit of work transaction that must be either committed or rolled back (never <code>null</code>)
+     * @throws KException
+     *         if an error occurs
+     */
+    UnitOfWork createReadOnlyTransaction(final String userName, final String name,
+                                          final UnitOfWorkListener callback ) throws KException;
+
     /**
      * @param transaction
      *        the transaction (cannot be <code>null</code> or have a state that is not
@@ -344,6 +372,34 @@ public interface Repository {
      */
     List<KomodoObject> query(UnitOfWork transaction, String query) throws KException;
 
+    /**
+     * @param transaction
+     *        the transaction (cannot be <code>null</code> or have a state that is not
+     *        {@link org.komodo.spi.repository.Repository.UnitOfWork.State#NOT_STARTED})
+     * @param query
+     *        the SQL query
+     * @param offset
+     *        the number of results to skip (zero if results should start at the first one)
+     * @param limit
+     *        the maximum number of results (a negative number if all results should be returned)
+     *
+     * @return the requested page of {@link KomodoObject}s resulting from the search
+     * @throws KException if error occurs
+     */
+    List<KomodoObject> query(UnitOfWork transaction, String query, int offset, int limit) throws KException;
+
+    /**
+     * @param transaction
+     *        the transaction (cannot be <code>null</code> or have a state that is not
+     *        {@link org.komodo.spi.repository.Repository.UnitOfWork.State#NOT_STARTED})
+     * @param query
+     *        the SQL query
+     *
+     * @return the total number of results of the search
+     * @throws KException if error occurs
+     */
+    long count(UnitOfWork transaction, String query) throws KException;
+
     /**
      * @param transaction
      *        the transaction (cannot be <code>null</code> or have a state that is not
@@ -365,6 +421,32 @@ public interface Repository {
     List<KomodoObject> searchByKeyword( UnitOfWork transaction, String type, String property,
                                                                      KeywordCriteria keywordCriteria, String... keywords) throws KException;
 
+    /**
+     * @param transaction
+     *        the transaction (cannot be <code>null</code> or have a state that is not
+     *        {@link org.komodo.spi.repository.Repository.UnitOfWork.State#NOT_STARTED})
+     * @param type
+     *        the type of node to base the search on
+     * @param property
+     *        the property which will contain the keywords
+     * @param keywordCriteria
+     *        the search criteria (can be <code>null</code> if the default criteria should be used)
+     * @param offset
+     *        the number of results to skip (zero if results should start at the first one)
+     * @param limit
+     *        the maximum number of results (a negative number if all results should be returned)
+     * @param keywords
+     *        words that should be matched to words found in the description (can be empty)
+     *
+     * @return the requested page of {@link KomodoObject}s resulting from the search
+     *
+     * @throws KException
+     *         if parent path does not exist or an error occurs
+     */
+    List<KomodoObject> searchByKeyword( UnitOfWork transaction, String type, String property,
+                                        KeywordCriteria keywordCriteria, int offset, int limit,
+                                        String... keywords) throws KException;
+
     /**
      *
      * @param transaction
@@ -379,6 +461,24 @@ public interface Repository {
      */
     List<KomodoObject> searchByType( UnitOfWork transaction, String... types) throws KException;
 
+    /**
+     *
+     * @param transaction
+     *        the transaction (cannot be <code>null</code> or have a state that is not
+     *        {@link org.komodo.spi.repository.Repository.UnitOfWork.State#NOT_STARTED})
+     * @param offset
+     *        the number of results to skip (zero if results should start at the first one)
+     * @param limit
+     *        the maximum number of results (a negative number if all results should be returned)
+     * @param types the primary or mixin types to search for
+     *
+     * @return the requested page of {@link KomodoObject}s resulting from the search
+     *
+     * @throws KException
+     *         if parent path does not exist or an error occurs
+     */
+    List<KomodoObject> searchByType( UnitOfWork transaction, int offset, int limit, String... types) throws KException;
+
     /**
     *
     * @param transaction
@@ -393,6 +493,24 @@ public interface Repository {
     */
     List<KomodoObject> searchByPath( UnitOfWork transaction, String path) throws KException;
 
+    /**
+    *
+    * @param transaction
+     *        the transaction (cannot be <code>null</code> or have a state that is not
+     *        {@link org.komodo.spi.repository.Repository.UnitOfWork.State#NOT_STARTED})
+    * @param path the path to search for
+    * @param offset
+    *        the number of results to skip (zero if results should start at the first one)
+    * @param limit
+    *        the maximum number of results (a negative number if all results should be returned)
+    *
+    * @return the requested page of {@link KomodoObject}s resulting from the search
+    *
+    * @throws KException
+    *         if parent path does not exist or an error occurs
+    */
+    List<KomodoObject> searchByPath( UnitOfWork transaction, String path, int offset, int limit) throws KException;
+
     /**
      * Get an object from the workspace part of the repository.
      *
@@ -425,6 +543,32 @@ public interface Repository {
     KomodoObject getUsingId( final UnitOfWork transaction,
                              final String jcrUuid ) throws KException;
 
+    /**
+     * Gets the {@link KomodoObject}s with the specified identifiers. Prefer this to calling {@link #getUsingId(UnitOfWork, String)}
+     * once per identifier when resolving many references.
+     *
+     * @param transaction
+     *        the transaction (cannot be <code>null</code> or have a state that is not
+     *        {@link org.komodo.spi.repository.Repository.UnitOfWork.State#NOT_STARTED})
+     * @param jcrUuids
+     *        the values of the <code>jcr:uuid</code> properties (cannot be <code>null</code> but can be empty, and no identifier
+     *        can be empty)
+     * @return the requested objects in the same order as the identifiers, with a <code>null</code> element for each identifier
+     *         not found (never <code>null</code>)
+     * @throws KException
+     *         if an error occurs
+     */
+    KomodoObject[] getUsingIds( final UnitOfWork transaction,
+                                final Collection< String > jcrUuids ) throws KException;
+
+    /**
+     * The count is increased whenever a transaction saves changes, so an unchanged count means the repository content has not
+     * changed. It is cheap to obtain and does not need a transaction.
+     *
+     * @return the number of times changes have been saved to this repository since it was created
+     */
+    long getChangeCount();
+
     /**
      * @return the repository identifier (never <code>null</code>)
      */
@@ -0,0 +1,176 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * See the COPYRIGHT.txt file distributed with this work for information
+ * regarding copyright ownership.  Some portions may be licensed
+ * to Red Hat, Inc. under one or more contributor license agreements.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA
+ * 02110-1301 USA.
+ */
+package org.komodo.spi.runtime;
+
+/**
+ * Waits for an artifact deployed to (or removed from) a teiid instance to settle. The instance is polled with an increasing
+ * interval and the wait ends as soon as the expected state is reached, or the timeout elapses.
+ */
+public final class DeploymentWaiter {
+
+    /**
+     * A state of the teiid instance being waited for
+     */
+    public interface Condition {
+
+        /**
+         * @return <code>true</code> if the state has been reached
+         * @throws Exception if the state cannot be determined
+         */
+        boolean isMet() throws Exception;
+    }
+
+    /**
+     * The first polling interval in milliseconds. Value is {@value}.
+     */
+    public static final long INITIAL_INTERVAL = 50;
+
+    /**
+     * The longest polling interval in milliseconds. Value is {@value}.
+     */
+    public static final long MAX_INTERVAL = 1000;
+
+    /**
+     * @param condition the condition being waited for (cannot be <code>null</code>)
+     * @param timeout the maximum time to wait in milliseconds
+     * @return <code>true</code> if the condition was met before the timeout elapsed
+     * @throws Exception if the condition fails or the wait is interrupted
+     */
+    public static boolean await( final Condition condition,
+                                 final long timeout ) throws Exception {
+        final long deadline = System.currentTimeMillis() + timeout;
+        long interval = INITIAL_INTERVAL;
+
+        while ( !condition.isMet() ) {
+            final long remaining = deadline - System.currentTimeMillis();
+
+            if ( remaining <= 0 ) {
+                return false;
+            }
+
+            Thread.sleep( Math.min( interval, remaining ) );
+            interval = Math.min( interval * 2, MAX_INTERVAL );
+        }
+
+        return true;
+    }
+
+    /**
+     * Waits for a vdb to finish loading, either becoming active or failing.
+     *
+     * @param admin the teiid instance (cannot be <code>null</code>)
+     * @param vdbName the name of the vdb (cannot be <code>null</code>)
+     * @param timeout the maximum time to wait in milliseconds
+     * @return <code>true</code> if the vdb is active or has failed
+     * @throws Exception if the vdb state cannot be determined or the wait is interrupted
+     */
+    public static boolean awaitVdb( final ExecutionAdmin admin,
+                                    final String vdbName,
+                                    final long timeout ) throws Exception {
+        return await( new Condition() {
+
+            @Override
+            public boolean isMet() throws Exception {
+                final TeiidVdb vdb = admin.getVdb( vdbName );
+                return ( vdb != null ) && ( vdb.isActive() || vdb.hasFailed() );
+            }
+        }, timeout );
+    }
+
+    /**
+     * @param admin the teiid instance (cannot be <code>null</code>)
+     * @param vdbName the name of the vdb (cannot be <code>null</code>)
+     * @param timeout the maximum time to wait in milliseconds
+     * @return <code>true</code> if the vdb is no longer deployed
+     * @throws Exception if the vdb state cannot be determined or the wait is interrupted
+     */
+    public static boolean awaitVdbRemoved( final ExecutionAdmin admin,
+                                           final String vdbName,
+                                           final long timeout ) throws Exception {
+        return await( new Condition() {
+
+            @Override
+            public boolean isMet() throws Exception {
+                return !admin.hasVdb( vdbName );
+            }
+        }, timeout );
+    }
+
+    /**
+     * @param admin the teiid instance (cannot be <code>null</code>)
+     * @param dataSourceName the name of the data source (cannot be <code>null</code>)
+     * @param deployed <code>true</code> to wait for the data source to appear, <code>false</code> for it to be removed
+     * @param timeout the maximum time to wait in milliseconds
+     * @return <code>true</code> if the data source reached the requested state
+     * @throws Exception if the data sources cannot be determined or the wait is interrupted
+     */
+    public static boolean awaitDataSource( final ExecutionAdmin admin,
+                                           final String dataSourceName,
+                                           final boolean deployed,
+                                           final long timeout ) throws Exception {
+        return await( new Condition() {
+
+            @Override
+            public boolean isMet() throws Exception {
+                return admin.dataSourceExists( dataSourceName ) == deployed;
+            }
+        }, timeout );
+    }
+
+    /**
+     * Driver names reported by the server can carry a suffix (e.g. the driver class and version), so drivers are matched by
+     * prefix.
+     *
+     * @param teiidInstance the teiid instance (cannot be <code>null</code>)
+     * @param driverName the name the driver was deployed with (cannot be <code>null</code>)
+     * @param deployed <code>true</code> to wait for the driver to appear, <code>false</code> for it to be removed
+     * @param timeout the maximum time to wait in milliseconds
+     * @return <code>true</code> if the driver reached the requested state
+     * @throws Exception if the drivers cannot be determined or the wait is interrupted
+     */
+    public static boolean awaitDriver( final TeiidInstance teiidInstance,
+                                       final String driverName,
+                                       final boolean deployed,
+                                       final long timeout ) throws Exception {
+        return await( new Condition() {
+
+            @Override
+            public boolean isMet() throws Exception {
+                boolean found = false;
+
+                for ( final ConnectionDriver driver : teiidInstance.getDataSourceDrivers() ) {
+                    if ( driver.getName().startsWith( driverName ) ) {
+                        found = true;
+                        break;
+                    }
+                }
+
+                return found == deployed;
+            }
+        }, timeout );
+    }
+
+    private DeploymentWaiter() {
+        // static methods only
+    }
+
+}
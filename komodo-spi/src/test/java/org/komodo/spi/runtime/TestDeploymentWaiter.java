@@ -0,0 +1,63 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * See the COPYRIGHT.txt file distributed with this work for information
+ * regarding copyright ownership.  Some portions may be licensed
+ * to Red Hat, Inc. under one or more contributor license agreements.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA
+ * 02110-1301 USA.
+ */
+package org.komodo.spi.runtime;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import org.komodo.spi.runtime.DeploymentWaiter.Condition;
+
+public class TestDeploymentWaiter {
+
+    @Test
+    public void shouldReturnAsSoonAsConditionIsMet() throws Exception {
+        final AtomicInteger polls = new AtomicInteger();
+        final long start = System.currentTimeMillis();
+
+        boolean met = DeploymentWaiter.await(new Condition() {
+
+            @Override
+            public boolean isMet() {
+                return polls.incrementAndGet() == 3;
+            }
+        }, 10000);
+
+        assertTrue(met);
+        assertEquals(3, polls.get());
+        assertTrue((System.currentTimeMillis() - start) < 5000);
+    }
+
+    @Test
+    public void shouldGiveUpAfterTimeout() throws Exception {
+        boolean met = DeploymentWaiter.await(new Condition() {
+
+            @Override
+            public boolean isMet() {
+                return false;
+            }
+        }, 200);
+
+        assertFalse(met);
+    }
+}
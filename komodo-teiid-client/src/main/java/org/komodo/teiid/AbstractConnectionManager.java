@@ -21,14 +21,37 @@
  */
 package org.komodo.teiid;
 
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.sql.Connection;
 import java.sql.Driver;
+import java.sql.SQLException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import org.komodo.spi.KException;
 import org.komodo.spi.constants.StringConstants;
+import org.komodo.spi.constants.SystemConstants;
 import org.komodo.spi.runtime.TeiidConnectionInfo;
+import org.komodo.utils.KLog;
 
 public abstract class AbstractConnectionManager implements StringConstants {
 
+    /**
+     * Seconds allowed to validate an idle connection before it is handed out again.
+     */
+    private static final int VALIDATION_TIMEOUT = 5;
+
+    private static final String KEY_ALGORITHM = "SHA-256"; //$NON-NLS-1$
+
+    private final int poolSize = Math.max(0, Integer.getInteger(SystemConstants.QUERY_CONNECTION_POOL_SIZE, 0));
+
+    private final ConcurrentMap<String, BlockingQueue<Connection>> idleConnections = new ConcurrentHashMap<>();
+
     /**
      * @return the implementation of the TeiidDriver
      */
@@ -76,4 +99,128 @@ public abstract class AbstractConnectionManager implements StringConstants {
         super();
     }
 
+    /**
+     * The password is part of the key so a pooled connection is never handed to a caller with
+     * different credentials. The fields are digested so the credentials are not held in the pool keys.
+     */
+    private String poolKey(String vdb, String host, int port, String user, String password, boolean secure) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance(KEY_ALGORITHM);
+            for (String field : new String[] { vdb, host, Integer.toString(port), user, password, Boolean.toString(secure) }) {
+                byte[] bytes = (field == null ? EMPTY_STRING : field).getBytes(StandardCharsets.UTF_8);
+
+                // length prefix so adjacent fields cannot run into each other
+                digest.update(ByteBuffer.allocate(4).putInt(field == null ? -1 : bytes.length).array());
+                digest.update(bytes);
+            }
+
+            return new BigInteger(1, digest.digest()).toString(16);
+        } catch (NoSuchAlgorithmException ex) {
+            // every Java platform is required to support SHA-256
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * @return <code>true</code> if idle connections are kept open for reuse
+     * @see SystemConstants#QUERY_CONNECTION_POOL_SIZE
+     */
+    public boolean isPooling() {
+        return this.poolSize > 0;
+    }
+
+    /**
+     * Obtains a connection to the vdb, reusing a valid idle connection when pooling is enabled.
+     * The connection should be handed back using {@link #releaseConnection(Connection, boolean, String, String, int, String, String, boolean)}.
+     *
+     * @param vdb the target vdb
+     * @param host the host
+     * @param port the port
+     * @param user the user
+     * @param password the password
+     * @param secure should connection be secure
+     *
+     * @return an open connection to the vdb
+     * @throws Exception if error occurs
+     */
+    public Connection borrowConnection(String vdb, String host, int port,
+                                                                     String user, String password,
+                                                                     boolean secure) throws Exception {
+        if (isPooling()) {
+            BlockingQueue<Connection> idle = this.idleConnections.get(poolKey(vdb, host, port, user, password, secure));
+            Connection connection = null;
+
+            while (idle != null && (connection = idle.poll()) != null) {
+                try {
+                    if (connection.isValid(VALIDATION_TIMEOUT))
+                        return connection;
+                } catch (SQLException ex) {
+                    KLog.getLogger().debug("Discarding pooled connection to vdb {0}: {1}", vdb, ex.getLocalizedMessage()); //$NON-NLS-1$
+                }
+
+                close(connection);
+            }
+        }
+
+        return getConnection(vdb, host, port, user, password, secure);
+    }
+
+    /**
+     * Returns a connection obtained from {@link #borrowConnection(String, String, int, String, String, boolean)}.
+     * The connection is closed if pooling is disabled, the pool for the vdb is full or the connection is not reusable.
+     *
+     * @param connection the connection (can be <code>null</code>)
+     * @param reusable <code>false</code> if the connection failed and should not be handed out again
+     * @param vdb the target vdb
+     * @param host the host
+     * @param port the port
+     * @param user the user
+     * @param password the password
+     * @param secure should connection be secure
+     */
+    public void releaseConnection(Connection connection, boolean reusable,
+                                                    String vdb, String host, int port,
+                                                    String user, String password, boolean secure) {
+        if (connection == null)
+            return;
+
+        if (reusable && isPooling()) {
+            String key = poolKey(vdb, host, port, user, password, secure);
+            BlockingQueue<Connection> idle = this.idleConnections.get(key);
+            if (idle == null) {
+                BlockingQueue<Connection> newIdle = new ArrayBlockingQueue<>(this.poolSize);
+                idle = this.idleConnections.putIfAbsent(key, newIdle);
+                if (idle == null)
+                    idle = newIdle;
+            }
+
+            try {
+                if (!connection.isClosed() && idle.offer(connection))
+                    return;
+            } catch (SQLException ex) {
+                // closed below
+            }
+        }
+
+        close(connection);
+    }
+
+    /**
+     * Closes all idle pooled connections.
+     */
+    public void clearPool() {
+        for (BlockingQueue<Connection> idle : this.idleConnections.values()) {
+            Connection connection = null;
+            while ((connection = idle.poll()) != null)
+                close(connection);
+        }
+    }
+
+    private void close(Connection connection) {
+        try {
+            connection.close();
+        } catch (SQLException ex) {
+            // ignore
+        }
+    }
 }
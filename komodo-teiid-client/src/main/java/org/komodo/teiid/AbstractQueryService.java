@@ -67,6 +67,12 @@ public abstract class AbstractQueryService implements QueryService {
         Connection connection = null;
         Statement statement = null;
         ResultSet rs = null;
+        boolean reusable = false;
+
+        //
+        // Offset is the 1-based number of the first row returned
+        //
+        int skip = offset > NO_OFFSET ? offset - 1 : 0;
 
         try {
             KLog.getLogger().debug("Initialising SQL connection for vdb {0}", vdb);
@@ -74,7 +80,22 @@ public abstract class AbstractQueryService implements QueryService {
             if (connection == null)
                 throw new Exception("Failed to make a connection to '" + vdb + "' as user '" + user + "'");
 
-            statement = connection.createStatement();
+            //
+            // A scrollable result set lets the driver fetch the batch containing
+            // the first requested row rather than every row preceding it
+            //
+            if (skip > 0)
+                statement = connection.createStatement(ResultSet.TYPE_SCROLL_INSENSITIVE, ResultSet.CONCUR_READ_ONLY);
+            else
+                statement = connection.createStatement();
+
+            if (limit > NO_LIMIT) {
+                // Server stops producing rows past the requested page
+                statement.setMaxRows((int)Math.min(Integer.MAX_VALUE, (long)skip + limit));
+
+                if (limit > 0)
+                    statement.setFetchSize(limit);
+            }
 
             KLog.getLogger().debug("Executing SQL Statement for query {0} with offset of {1} and limit of {2}",
                                                        query, offset, limit);
@@ -95,14 +116,8 @@ public abstract class AbstractQueryService implements QueryService {
                 result.addColumn(column);
             }
 
-            int rowNum = 0;
-            while (rs.next()) {
-                rowNum++;
-
-                if (offset > NO_OFFSET && rowNum < offset) {
-                    continue;
-                }
-
+            boolean positioned = skip == 0 || rs.absolute(skip);
+            while (positioned && rs.next()) {
                 if (limit > NO_LIMIT && result.getRows().size() >= limit) {
                     break;
                 }
@@ -118,6 +133,7 @@ public abstract class AbstractQueryService implements QueryService {
 
             KLog.getLogger().debug("Query executed and returning {0} results", result.getRows().size());
 
+            reusable = true;
             return result;
         } finally {
             try {
@@ -126,12 +142,36 @@ public abstract class AbstractQueryService implements QueryService {
 
                 if (statement != null)
                     statement.close();
-
-                if (connection != null)
-                    connection.close();
             } catch (SQLException e1) {
-                // ignore
+                reusable = false;
             }
+
+            releaseConnection(connection, reusable, vdb, host, port, user, password, secure);
+        }
+    }
+
+    /**
+     * Hands back a connection obtained from {@link #getConnection(String, String, int, String, String, boolean)}
+     * once a query has completed. By default the connection is closed.
+     *
+     * @param connection the connection (can be <code>null</code>)
+     * @param reusable <code>false</code> if the query failed and the connection should not be reused
+     * @param vdb the target vdb
+     * @param host the host
+     * @param port the port
+     * @param user the user
+     * @param password the password
+     * @param secure whether the connection is secure
+     */
+    protected void releaseConnection(Connection connection, boolean reusable, String vdb, String host, int port,
+                                                         String user, String password, boolean secure) {
+        if (connection == null)
+            return;
+
+        try {
+            connection.close();
+        } catch (SQLException e1) {
+            // ignore
         }
     }
 
@@ -40,6 +40,7 @@ import org.komodo.spi.constants.StringConstants;
 import org.komodo.spi.outcome.Outcome;
 import org.komodo.spi.outcome.OutcomeFactory;
 import org.komodo.spi.runtime.ConnectionDriver;
+import org.komodo.spi.runtime.DeploymentWaiter;
 import org.komodo.spi.runtime.EventManager;
 import org.komodo.spi.runtime.ExecutionConfigurationEvent;
 import org.komodo.spi.runtime.HostProvider;
@@ -152,6 +153,16 @@ public abstract class AbstractTeiidInstance implements TeiidInstance, StringCons
                                            "<metadata type=\"DDL\"><![CDATA[CREATE FOREIGN TABLE G1 (e1 string, e2 integer);]]> </metadata>" //$NON-NLS-1$
                                            + "</model>" + "</vdb>";
 
+    /**
+     * Maximum time in milliseconds to wait for a deployed vdb or driver to finish loading
+     */
+    private static final long DEPLOY_WAIT_TIME = 500;
+
+    /**
+     * Maximum time in milliseconds to wait for the ping vdb to finish loading
+     */
+    private static final long PING_WAIT_TIME = 2000;
+
     private final JndiManager manager = new JndiManager();
 
     private TeiidParent parent;
@@ -413,7 +424,7 @@ public abstract class AbstractTeiidInstance implements TeiidInstance, StringCons
 
             deploy(PING_VDB, new ByteArrayInputStream(TEST_VDB.getBytes()));
 
-            Thread.sleep(2000);
+            DeploymentWaiter.awaitVdb(this, PING_VDB_NAME, PING_WAIT_TIME);
 
             try {
                 teiidJdbcConnection = getConnectionManager().getConnection(
@@ -698,10 +709,14 @@ public abstract class AbstractTeiidInstance implements TeiidInstance, StringCons
 
         deploy(deploymentName, inStream);
 
-        // Give a 0.5 sec pause for the VDB to finish loading metadata.
+        // Give the VDB up to 0.5 sec to finish loading metadata.
+        String vdbName = deploymentName;
+        if (vdbName.endsWith(TeiidVdb.DYNAMIC_VDB_SUFFIX))
+            vdbName = vdbName.substring(0, vdbName.length() - TeiidVdb.DYNAMIC_VDB_SUFFIX.length());
+
         try {
-            Thread.sleep(500);
-        } catch (InterruptedException e) {
+            DeploymentWaiter.awaitVdb(this, vdbName, DEPLOY_WAIT_TIME);
+        } catch (Exception e) {
             // ignore
         }
     }
@@ -727,10 +742,10 @@ public abstract class AbstractTeiidInstance implements TeiidInstance, StringCons
         try {
             deploy(driverName, iStream);
 
-            // Give a 0.5 sec pause for the driver to finish loading.
+            // Give the driver up to 0.5 sec to finish loading.
             try {
-                Thread.sleep(500);
-            } catch (InterruptedException e) {
+                DeploymentWaiter.awaitDriver(this, driverName, true, DEPLOY_WAIT_TIME);
+            } catch (Exception e) {
                 // ignore
             }
 
@@ -37,6 +37,12 @@ public class QueryServiceImpl extends AbstractQueryService {
     @Override
     protected Connection getConnection(String vdb, String host, int port,
                                                                            String user, String password, boolean secure) throws Exception {
-        return ConnectionManager.getInstance().getConnection(vdb, host, port, user, password, secure);
+        return ConnectionManager.getInstance().borrowConnection(vdb, host, port, user, password, secure);
+    }
+
+    @Override
+    protected void releaseConnection(Connection connection, boolean reusable, String vdb, String host, int port,
+                                                         String user, String password, boolean secure) {
+        ConnectionManager.getInstance().releaseConnection(connection, reusable, vdb, host, port, user, password, secure);
     }
 }
@@ -150,6 +150,9 @@ public class TeiidInstanceImpl extends AbstractTeiidInstance {
             this.admin = null;
         }
 
+        // idle query connections may outlive the server they were opened against
+        ConnectionManager.getInstance().clearPool();
+
         notifyRefresh();
     }
 
@@ -21,6 +21,9 @@
  */
 package org.komodo.teiid.impl;
 
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import javax.jcr.Node;
 import org.komodo.spi.query.QueryService;
 import org.komodo.spi.query.TeiidService;
@@ -37,8 +40,19 @@ import org.teiid.query.sql.lang.Command;
 
 public class TeiidServiceImpl implements TeiidService {
 
+    /**
+     * The maximum number of parsed commands kept by {@link #nodeConvert(String, Object)}.
+     */
+    private static final int MAX_CACHED_COMMANDS = 256;
+
     private final TeiidVersion version;
 
+    /**
+     * Parsed commands keyed by their SQL text. Cached commands are never handed out, only clones of them, as the node generator
+     * and the sequenced nodes must not share state across threads.
+     */
+    private final ConcurrentMap<String, Command> commands = new ConcurrentHashMap<String, Command>();
+
     private DataTypeManager dataTypeManager;
 
     public TeiidServiceImpl() {
@@ -65,15 +79,43 @@ public class TeiidServiceImpl implements TeiidService {
         if (sql == null)
             return;
 
-        QueryParser parser = new QueryParser();
-        Command command = parser.parseDesignerCommand(sql);
-            
+        Command command = parse(sql);
+
         NodeGenerator generator = new NodeGenerator((Node) parent, getDataTypeManager(), getVersion());
         generator.visitObject(command);
         if (generator.errorOccurred())
             throw generator.getError();
     }
 
+    /**
+     * Re-sequencing an unchanged view definition, or many views sharing the same query text, reuses the command parsed the
+     * first time.
+     *
+     * @param sql the SQL being parsed (cannot be <code>null</code>)
+     * @return a command that the caller is free to modify (never <code>null</code>)
+     * @throws Exception if the SQL cannot be parsed
+     */
+    private Command parse(String sql) throws Exception {
+        Command cached = commands.get(sql);
+        if (cached != null)
+            return (Command) cached.clone();
+
+        QueryParser parser = new QueryParser();
+        Command command = parser.parseDesignerCommand(sql);
+
+        if (commands.size() >= MAX_CACHED_COMMANDS) {
+            // Evict an arbitrary entry to make room
+            Iterator<String> iter = commands.keySet().iterator();
+            if (iter.hasNext()) {
+                iter.next();
+                iter.remove();
+            }
+        }
+
+        commands.put(sql, (Command) command.clone());
+        return command;
+    }
+
     @Override
     public TeiidInstance getTeiidInstance(TeiidParent teiidParent, TeiidJdbcInfo jdbcInfo) throws Exception {
         return new TeiidInstanceImpl(teiidParent, getVersion(), jdbcInfo);
@@ -85,6 +127,7 @@ public class TeiidServiceImpl implements TeiidService {
     }
 
     public void dispose() {
-        // Nothing required
+        commands.clear();
+        ConnectionManager.getInstance().clearPool();
     }
 }
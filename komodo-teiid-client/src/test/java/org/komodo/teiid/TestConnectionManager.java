@@ -0,0 +1,199 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * See the COPYRIGHT.txt file distributed with this work for information
+ * regarding copyright ownership.  Some portions may be licensed
+ * to Red Hat, Inc. under one or more contributor license agreements.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA
+ * 02110-1301 USA.
+ */
+package org.komodo.teiid;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import java.sql.Connection;
+import java.sql.Driver;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.After;
+import org.junit.Test;
+import org.komodo.spi.constants.SystemConstants;
+
+@SuppressWarnings( {"javadoc", "nls"} )
+public class TestConnectionManager {
+
+    private static final String VDB = "myVdb";
+
+    private static final String HOST = "localhost";
+
+    private static final int PORT = 31000;
+
+    private static final String USER = "user";
+
+    private static final String PASSWORD = "password";
+
+    /**
+     * Hands out a new mock connection every time one is opened
+     */
+    private static class MockConnectionManager extends AbstractConnectionManager {
+
+        private final List<Connection> opened = new ArrayList<>();
+
+        @Override
+        protected Driver getTeiidDriver() {
+            return null;
+        }
+
+        @Override
+        public Connection getConnection(String vdb, String host, int port,
+                                                                String user, String password, boolean secure) throws Exception {
+            Connection connection = mock(Connection.class);
+            when(connection.isValid(anyInt())).thenReturn(true);
+            this.opened.add(connection);
+            return connection;
+        }
+    }
+
+    private MockConnectionManager manager(int poolSize) {
+        // pool size is read when the manager is constructed
+        System.setProperty(SystemConstants.QUERY_CONNECTION_POOL_SIZE, Integer.toString(poolSize));
+        return new MockConnectionManager();
+    }
+
+    private Connection borrow(AbstractConnectionManager manager, String password) throws Exception {
+        return manager.borrowConnection(VDB, HOST, PORT, USER, password, false);
+    }
+
+    private void release(AbstractConnectionManager manager, Connection connection, boolean reusable, String password) {
+        manager.releaseConnection(connection, reusable, VDB, HOST, PORT, USER, password, false);
+    }
+
+    @After
+    public void clearPoolSize() {
+        System.clearProperty(SystemConstants.QUERY_CONNECTION_POOL_SIZE);
+    }
+
+    @Test
+    public void shouldCloseReleasedConnectionsWhenNotPooling() throws Exception {
+        MockConnectionManager manager = manager(0);
+        assertFalse(manager.isPooling());
+
+        Connection connection = borrow(manager, PASSWORD);
+        release(manager, connection, true, PASSWORD);
+        verify(connection).close();
+
+        assertNotSame(connection, borrow(manager, PASSWORD));
+        assertEquals(2, manager.opened.size());
+    }
+
+    @Test
+    public void shouldReuseReleasedConnection() throws Exception {
+        MockConnectionManager manager = manager(2);
+        assertTrue(manager.isPooling());
+
+        Connection connection = borrow(manager, PASSWORD);
+        release(manager, connection, true, PASSWORD);
+
+        assertSame(connection, borrow(manager, PASSWORD));
+        assertEquals(1, manager.opened.size());
+        verify(connection, never()).close();
+    }
+
+    @Test
+    public void shouldNotShareConnectionsBetweenCredentials() throws Exception {
+        MockConnectionManager manager = manager(2);
+
+        Connection connection = borrow(manager, PASSWORD);
+        release(manager, connection, true, PASSWORD);
+
+        assertNotSame(connection, borrow(manager, "otherPassword"));
+        assertSame(connection, borrow(manager, PASSWORD));
+        assertEquals(2, manager.opened.size());
+    }
+
+    @Test
+    public void shouldEvictInvalidConnections() throws Exception {
+        MockConnectionManager manager = manager(2);
+
+        Connection connection = borrow(manager, PASSWORD);
+        release(manager, connection, true, PASSWORD);
+        when(connection.isValid(anyInt())).thenReturn(false);
+
+        Connection next = borrow(manager, PASSWORD);
+        assertNotSame(connection, next);
+        verify(connection).close();
+        assertEquals(2, manager.opened.size());
+
+        // evicted connection is not handed out again
+        release(manager, next, true, PASSWORD);
+        assertSame(next, borrow(manager, PASSWORD));
+    }
+
+    @Test
+    public void shouldCloseConnectionsThatAreNotReusable() throws Exception {
+        MockConnectionManager manager = manager(2);
+
+        Connection connection = borrow(manager, PASSWORD);
+        release(manager, connection, false, PASSWORD);
+        verify(connection).close();
+
+        assertNotSame(connection, borrow(manager, PASSWORD));
+    }
+
+    @Test
+    public void shouldCloseClosedConnectionsRatherThanPoolThem() throws Exception {
+        MockConnectionManager manager = manager(2);
+
+        Connection connection = borrow(manager, PASSWORD);
+        when(connection.isClosed()).thenReturn(true);
+        release(manager, connection, true, PASSWORD);
+        verify(connection).close();
+
+        assertNotSame(connection, borrow(manager, PASSWORD));
+    }
+
+    @Test
+    public void shouldCloseConnectionsReleasedToFullPool() throws Exception {
+        MockConnectionManager manager = manager(1);
+
+        Connection first = borrow(manager, PASSWORD);
+        Connection second = borrow(manager, PASSWORD);
+        release(manager, first, true, PASSWORD);
+        release(manager, second, true, PASSWORD);
+
+        verify(first, never()).close();
+        verify(second).close();
+    }
+
+    @Test
+    public void shouldCloseIdleConnectionsWhenPoolCleared() throws Exception {
+        MockConnectionManager manager = manager(2);
+
+        Connection connection = borrow(manager, PASSWORD);
+        release(manager, connection, true, PASSWORD);
+        manager.clearPool();
+        verify(connection).close();
+
+        assertNotSame(connection, borrow(manager, PASSWORD));
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * See the COPYRIGHT.txt file distributed with this work for information
+ * regarding copyright ownership.  Some portions may be licensed
+ * to Red Hat, Inc. under one or more contributor license agreements.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA
+ * 02110-1301 USA.
+ */
+package org.komodo.teiid;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.Statement;
+import org.junit.Before;
+import org.junit.Test;
+import org.komodo.spi.query.QSResult;
+import org.komodo.spi.query.QueryService;
+import org.komodo.spi.type.DataTypeManager;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+@SuppressWarnings( {"javadoc", "nls"} )
+public class TestQueryService {
+
+    private static final String VDB = "myVdb";
+
+    private static final String QUERY = "SELECT * FROM myTable";
+
+    private static final int TOTAL_ROWS = 10;
+
+    /**
+     * A single column result of the row numbers 1 to {@link #TOTAL_ROWS},
+     * truncated to the max rows of the statement
+     */
+    private static class Rows {
+
+        private int maxRows;
+
+        private int size;
+
+        private int cursor;
+
+        ResultSet execute() throws Exception {
+            this.size = this.maxRows == 0 ? TOTAL_ROWS : Math.min(TOTAL_ROWS, this.maxRows);
+            this.cursor = 0;
+
+            ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+            when(metaData.getColumnCount()).thenReturn(1);
+            when(metaData.getColumnName(1)).thenReturn("id");
+            when(metaData.getColumnLabel(1)).thenReturn("id");
+            when(metaData.getColumnTypeName(1)).thenReturn("integer");
+
+            ResultSet rs = mock(ResultSet.class);
+            when(rs.getMetaData()).thenReturn(metaData);
+            when(rs.absolute(anyInt())).thenAnswer(new Answer<Boolean>() {
+                @Override
+                public Boolean answer(InvocationOnMock invocation) throws Throwable {
+                    int row = (Integer)invocation.getArguments()[0];
+                    cursor = Math.min(row, size + 1);
+                    return row <= size;
+                }
+            });
+            when(rs.next()).thenAnswer(new Answer<Boolean>() {
+                @Override
+                public Boolean answer(InvocationOnMock invocation) throws Throwable {
+                    cursor = Math.min(cursor + 1, size + 1);
+                    return cursor <= size;
+                }
+            });
+            when(rs.getObject(1)).thenAnswer(new Answer<Integer>() {
+                @Override
+                public Integer answer(InvocationOnMock invocation) throws Throwable {
+                    return cursor;
+                }
+            });
+
+            return rs;
+        }
+    }
+
+    private Rows rows;
+
+    private Statement statement;
+
+    private Connection connection;
+
+    private QueryService queryService;
+
+    @Before
+    public void setup() throws Exception {
+        this.rows = new Rows();
+
+        this.statement = mock(Statement.class);
+        when(this.statement.executeQuery(anyString())).thenAnswer(new Answer<ResultSet>() {
+            @Override
+            public ResultSet answer(InvocationOnMock invocation) throws Throwable {
+                return rows.execute();
+            }
+        });
+        doAnswer(new Answer<Void>() {
+            @Override
+            public Void answer(InvocationOnMock invocation) throws Throwable {
+                rows.maxRows = (Integer)invocation.getArguments()[0];
+                return null;
+            }
+        }).when(this.statement).setMaxRows(anyInt());
+
+        this.connection = mock(Connection.class);
+        when(this.connection.createStatement()).thenReturn(this.statement);
+        when(this.connection.createStatement(anyInt(), anyInt())).thenReturn(this.statement);
+
+        this.queryService = new AbstractQueryService(mock(DataTypeManager.class), "localhost", 31000, "user", "password", false) {
+
+            @Override
+            protected Connection getConnection(String vdb, String host, int port, String user,
+                                                                          String password, boolean secure) throws Exception {
+                return connection;
+            }
+        };
+    }
+
+    private void assertRows(QSResult result, int first, int count) {
+        assertEquals(1, result.getColumns().size());
+        assertEquals(count, result.getRows().size());
+
+        for (int i = 0; i < count; ++i)
+            assertEquals(first + i, result.getRows().get(i).getValues().get(0));
+    }
+
+    @Test
+    public void shouldReturnAllRowsWithoutOffsetOrLimit() throws Exception {
+        QSResult result = this.queryService.query(VDB, QUERY, QueryService.NO_OFFSET, QueryService.NO_LIMIT);
+        assertRows(result, 1, TOTAL_ROWS);
+
+        verify(this.statement, never()).setMaxRows(anyInt());
+        verify(this.connection).createStatement();
+        verify(this.connection).close();
+    }
+
+    @Test
+    public void shouldLimitFirstPage() throws Exception {
+        QSResult result = this.queryService.query(VDB, QUERY, QueryService.NO_OFFSET, 3);
+        assertRows(result, 1, 3);
+
+        verify(this.statement).setMaxRows(3);
+        verify(this.statement).setFetchSize(3);
+    }
+
+    @Test
+    public void shouldTreatOffsetOfOneAsFirstRow() throws Exception {
+        QSResult result = this.queryService.query(VDB, QUERY, 1, 3);
+        assertRows(result, 1, 3);
+
+        verify(this.connection).createStatement();
+    }
+
+    @Test
+    public void shouldPositionAtOffset() throws Exception {
+        QSResult result = this.queryService.query(VDB, QUERY, 4, 3);
+        assertRows(result, 4, 3);
+
+        verify(this.connection).createStatement(ResultSet.TYPE_SCROLL_INSENSITIVE, ResultSet.CONCUR_READ_ONLY);
+        verify(this.statement).setMaxRows(6);
+    }
+
+    @Test
+    public void shouldReturnRemainingRowsWhenPageIsPartial() throws Exception {
+        QSResult result = this.queryService.query(VDB, QUERY, 9, 5);
+        assertRows(result, 9, 2);
+
+        verify(this.statement).setMaxRows(13);
+    }
+
+    @Test
+    public void shouldReturnLastRowAtOffset() throws Exception {
+        QSResult result = this.queryService.query(VDB, QUERY, TOTAL_ROWS, QueryService.NO_LIMIT);
+        assertRows(result, TOTAL_ROWS, 1);
+    }
+
+    @Test
+    public void shouldReturnNoRowsWhenOffsetPastEnd() throws Exception {
+        QSResult result = this.queryService.query(VDB, QUERY, TOTAL_ROWS + 2, 3);
+        assertTrue(result.getRows().isEmpty());
+        assertEquals(1, result.getColumns().size());
+    }
+
+    @Test
+    public void shouldReturnNoRowsWhenOffsetJustPastEnd() throws Exception {
+        QSResult result = this.queryService.query(VDB, QUERY, TOTAL_ROWS + 1, QueryService.NO_LIMIT);
+        assertTrue(result.getRows().isEmpty());
+    }
+
+    @Test
+    public void shouldReturnNoRowsForZeroLimit() throws Exception {
+        QSResult result = this.queryService.query(VDB, QUERY, 4, 0);
+        assertTrue(result.getRows().isEmpty());
+
+        verify(this.statement).setMaxRows(3);
+        verify(this.statement, never()).setFetchSize(anyInt());
+    }
+
+    @Test
+    public void shouldNotOverflowMaxRows() throws Exception {
+        this.queryService.query(VDB, QUERY, 3, Integer.MAX_VALUE);
+        verify(this.statement).setMaxRows(Integer.MAX_VALUE);
+    }
+}
@@ -175,8 +175,25 @@ public abstract class AbstractSequencerTest extends MultiUseAbstractTest impleme
     }
 
     protected Node prepareSequence(String text, SequencerType sequencer) throws Exception {
+        return prepareSequence("Test" + text.hashCode(), text, sequencer);
+    }
+
+    protected Node prepareSequence(String name, String text, SequencerType sequencer) throws Exception {
+        Node node = addSequenceableNode(name, text, sequencer);
+        SynchronousSequencerListener listener = saveAndAwaitSequencers(node);
+
+        boolean exceptionOccurred = listener.exceptionOccurred();
+        if (exceptionOccurred) {
+            listener.exception().printStackTrace();
+            fail("Exception occurred while running the Teiid Sql Sequencer");
+        }
+
+        traverse(node);
+
+        return node;
+    }
 
-        String name = "Test" + text.hashCode();
+    protected Node addSequenceableNode(String name, String text, SequencerType sequencer) throws Exception {
         Node node = rootNode.addNode(FORWARD_SLASH + name);
         assertNotNull(node);
 
@@ -205,22 +222,17 @@ public abstract class AbstractSequencerTest extends MultiUseAbstractTest impleme
                 throw new UnsupportedOperationException("Not tested by these sequencer tests");
         }
 
+        return node;
+    }
+
+    protected SynchronousSequencerListener saveAndAwaitSequencers(Node node) throws Exception {
         Session session = node.getSession();
         String requestId = getClass().getName() + session.hashCode();
         SynchronousSequencerListener listener = addSequencingListenerLatch(requestId, session);
         session.save();
 
         assertTrue(listener.await(TIME_TO_WAIT, TimeUnit.MINUTES));
-        
-        boolean exceptionOccurred = listener.exceptionOccurred();
-        if (exceptionOccurred) {
-            listener.exception().printStackTrace();
-            fail("Exception occurred while running the Teiid Sql Sequencer");
-        }
-
-        traverse(node);
-
-        return node;
+        return listener;
     }
 
     /**
@@ -0,0 +1,234 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * See the COPYRIGHT.txt file distributed with this work for information
+ * regarding copyright ownership.  Some portions may be licensed
+ * to Red Hat, Inc. under one or more contributor license agreements.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA
+ * 02110-1301 USA.
+ */
+package org.komodo.logging;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Hands log events from any number of threads to a single background writer thread. Events are published into a bounded,
+ * lock-free ring buffer: each producer claims a slot by advancing the tail with a CAS and the writer releases slots by
+ * advancing the head. When the buffer is full the event is rejected so the caller can write it itself.
+ */
+final class AsyncLogWriter {
+
+    /**
+     * The level an event is written at.
+     */
+    enum EventLevel {
+        DEBUG,
+        ERROR,
+        INFO,
+        TRACE,
+        WARN
+    }
+
+    /**
+     * A formatted log event.
+     */
+    static final class Event {
+
+        final EventLevel level;
+        final String message;
+        final Throwable throwable;
+
+        Event( final EventLevel level,
+               final String message,
+               final Throwable throwable ) {
+            this.level = level;
+            this.message = message;
+            this.throwable = throwable;
+        }
+
+    }
+
+    /**
+     * Writes events taken off the buffer.
+     */
+    interface Sink {
+
+        void write( final Event event );
+
+    }
+
+    private static final long PARK_NANOS = TimeUnit.MILLISECONDS.toNanos( 100 );
+
+    private final int mask;
+    private final AtomicReferenceArray< Event > events;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+
+    private final Sink sink;
+    private final Thread thread;
+    private volatile boolean waiting;
+    private volatile boolean stopped;
+
+    /**
+     * @param capacity
+     *        the buffer capacity which is rounded up to a power of two (must be positive)
+     * @param sink
+     *        the sink the events are written to (cannot be <code>null</code>)
+     */
+    AsyncLogWriter( final int capacity,
+                    final Sink sink ) {
+        final int size = Integer.highestOneBit( Math.max( 2, capacity - 1 ) ) << 1;
+        this.mask = size - 1;
+        this.events = new AtomicReferenceArray<>( size );
+        this.sequences = new AtomicLongArray( size );
+
+        for ( int i = 0; i < size; ++i ) {
+            this.sequences.set( i, i );
+        }
+
+        this.sink = sink;
+        this.thread = new Thread( new Runnable() {
+
+            @Override
+            public void run() {
+                drain();
+            }
+
+        }, "komodo-log-writer" ); //$NON-NLS-1$
+        this.thread.setDaemon( true );
+        this.thread.start();
+    }
+
+    /**
+     * @param event
+     *        the event being published (cannot be <code>null</code>)
+     * @return <code>true</code> if the event was queued or <code>false</code> if the buffer is full or the writer is stopped
+     */
+    boolean publish( final Event event ) {
+        if ( this.stopped ) {
+            return false;
+        }
+
+        long slot;
+
+        while ( true ) {
+            slot = this.tail.get();
+            final long sequence = this.sequences.get( index( slot ) );
+
+            if ( sequence == slot ) {
+                if ( this.tail.compareAndSet( slot, slot + 1 ) ) {
+                    break;
+                }
+            } else if ( sequence < slot ) {
+                return false; // full
+            }
+        }
+
+        final int index = index( slot );
+        this.events.set( index, event );
+        this.sequences.set( index, slot + 1 );
+
+        if ( this.waiting ) {
+            LockSupport.unpark( this.thread );
+        }
+
+        return true;
+    }
+
+    /**
+     * Blocks until every event published before this call has been written.
+     */
+    void flush() {
+        final long target = this.tail.get();
+
+        while ( ( this.head < target ) && this.thread.isAlive() ) {
+            LockSupport.unpark( this.thread );
+            Thread.yield();
+        }
+    }
+
+    /**
+     * Writes the events still in the buffer and stops the writer thread. Events published afterwards are rejected.
+     */
+    void stop() {
+        flush();
+        this.stopped = true;
+        LockSupport.unpark( this.thread );
+
+        try {
+            this.thread.join();
+        } catch ( final InterruptedException e ) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private int index( final long slot ) {
+        return ( int )( slot & this.mask );
+    }
+
+    private boolean writeNext() {
+        final long slot = this.head;
+        final int index = index( slot );
+
+        if ( this.sequences.get( index ) != ( slot + 1 ) ) {
+            return false; // empty or producer has not finished publishing
+        }
+
+        final Event event = this.events.get( index );
+        this.events.set( index, null );
+        this.sequences.set( index, slot + this.mask + 1 );
+
+        try {
+            this.sink.write( event );
+        } catch ( final RuntimeException e ) {
+            // nowhere to report a failure of the logger itself
+        } finally {
+            this.head = slot + 1;
+        }
+
+        return true;
+    }
+
+    private void drain() {
+        while ( true ) {
+            if ( writeNext() ) {
+                continue;
+            }
+
+            if ( this.stopped ) {
+                // write anything published while stopping
+                while ( writeNext() ) {
+                    // keep writing
+                }
+
+                return;
+            }
+
+            this.waiting = true;
+
+            if ( !writeNext() ) {
+                LockSupport.parkNanos( this, PARK_NANOS );
+            }
+
+            this.waiting = false;
+        }
+    }
+
+}
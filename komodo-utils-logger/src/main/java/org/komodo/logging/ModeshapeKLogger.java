@@ -23,20 +23,90 @@ package org.komodo.logging;
 
 
 import java.util.logging.Level;
+import org.komodo.logging.AsyncLogWriter.Event;
+import org.komodo.logging.AsyncLogWriter.EventLevel;
 import org.komodo.modeshape.lib.LogConfigurator;
+import org.komodo.spi.constants.SystemConstants;
 import org.komodo.spi.logging.KLogger;
 import org.modeshape.common.i18n.TextI18n;
 import org.modeshape.common.logging.Logger;
+import org.modeshape.common.util.StringUtil;
 
 /**
- *
+ * A {@link KLogger} backed by the ModeShape logger. When the {@link SystemConstants#LOG_ASYNCHRONOUS} system property is
+ * <code>true</code>, messages are formatted on the calling thread and written by a background thread.
  */
 public class ModeshapeKLogger implements KLogger {
 
-    private Logger logger;
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * Writes an already formatted message as is.
+     */
+    private static final String FORMATTED = "{0}"; //$NON-NLS-1$
+    private static final TextI18n FORMATTED_I18N = new TextI18n( FORMATTED );
+
+    private final boolean asynchronous;
+    private volatile Logger logger;
+    private volatile AsyncLogWriter writer;
+
+    /**
+     * Constructs a logger that writes asynchronously if the {@link SystemConstants#LOG_ASYNCHRONOUS} system property is set.
+     */
+    public ModeshapeKLogger() {
+        this( Boolean.getBoolean( SystemConstants.LOG_ASYNCHRONOUS ) );
+    }
+
+    /**
+     * @param asynchronous
+     *        <code>true</code> if messages should be written by a background thread
+     */
+    public ModeshapeKLogger( final boolean asynchronous ) {
+        this.asynchronous = asynchronous;
+    }
+
+    /**
+     * The writer is started on first use and again after the logger is disposed.
+     *
+     * @return the background writer (never <code>null</code>)
+     */
+    private AsyncLogWriter getWriter() {
+        AsyncLogWriter result = this.writer;
+
+        if ( result == null ) {
+            synchronized ( this ) {
+                result = this.writer;
+
+                if ( result == null ) {
+                    result = new AsyncLogWriter( BUFFER_SIZE, new AsyncLogWriter.Sink() {
+
+                        @Override
+                        public void write( final Event event ) {
+                            ModeshapeKLogger.this.write( event );
+                        }
+
+                    } );
+                    this.writer = result;
+                }
+            }
+        }
+
+        return result;
+    }
 
     @Override
     public void dispose() {
+        final AsyncLogWriter asyncWriter;
+
+        synchronized ( this ) {
+            asyncWriter = this.writer;
+            this.writer = null;
+        }
+
+        if ( asyncWriter != null ) {
+            asyncWriter.stop();
+        }
+
         try {
             LogConfigurator.getInstance().dispose();
         } catch (Exception ex) {
@@ -45,6 +115,17 @@ public class ModeshapeKLogger implements KLogger {
         logger = null;
     }
 
+    /**
+     * Blocks until every message logged before this call has been written. Does nothing if not logging asynchronously.
+     */
+    public void flush() {
+        final AsyncLogWriter asyncWriter = this.writer;
+
+        if ( asyncWriter != null ) {
+            asyncWriter.flush();
+        }
+    }
+
     @Override
     public String getLogPath() throws Exception {
         return LogConfigurator.getInstance().getLogPath();
@@ -52,11 +133,13 @@ public class ModeshapeKLogger implements KLogger {
 
     @Override
     public void setLogPath(String logPath) throws Exception {
+        flush();
         LogConfigurator.getInstance().setLogPath(logPath);
     }
 
     @Override
     public void setLevel(Level level) throws Exception {
+        flush();
         LogConfigurator.getInstance().setLevel(level);
     }
 
@@ -67,6 +150,73 @@ public class ModeshapeKLogger implements KLogger {
         return logger;
     }
 
+    /**
+     * @return <code>true</code> if the event was handed to the background writer
+     */
+    private boolean publish( final EventLevel level,
+                             final String message,
+                             final Throwable throwable ) {
+        return getWriter().publish( new Event( level, message, throwable ) );
+    }
+
+    private static String format( final String message,
+                                  final Object... args ) {
+        if ( ( args == null ) || ( args.length == 0 ) ) {
+            return message;
+        }
+
+        return StringUtil.createString( message, args );
+    }
+
+    private static String formatI18n( final String message,
+                                      final Object... args ) {
+        return new TextI18n( message ).text( args );
+    }
+
+    void write( final Event event ) {
+        final Logger log = getLogger();
+
+        switch ( event.level ) {
+            case DEBUG:
+                if ( event.throwable == null ) {
+                    log.debug( FORMATTED, event.message );
+                } else {
+                    log.debug( event.throwable, FORMATTED, event.message );
+                }
+                break;
+            case ERROR:
+                if ( event.throwable == null ) {
+                    log.error( FORMATTED_I18N, event.message );
+                } else {
+                    log.error( event.throwable, FORMATTED_I18N, event.message );
+                }
+                break;
+            case INFO:
+                if ( event.throwable == null ) {
+                    log.info( FORMATTED_I18N, event.message );
+                } else {
+                    log.info( event.throwable, FORMATTED_I18N, event.message );
+                }
+                break;
+            case TRACE:
+                if ( event.throwable == null ) {
+                    log.trace( FORMATTED, event.message );
+                } else {
+                    log.trace( event.throwable, FORMATTED, event.message );
+                }
+                break;
+            case WARN:
+                if ( event.throwable == null ) {
+                    log.warn( FORMATTED_I18N, event.message );
+                } else {
+                    log.warn( event.throwable, FORMATTED_I18N, event.message );
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
     /**
      * @param message
      * @return
@@ -78,12 +228,20 @@ public class ModeshapeKLogger implements KLogger {
 
     @Override
     public void info(String message, Object... args) {
+        if ( this.asynchronous && isInfoEnabled() && publish( EventLevel.INFO, formatI18n( message, args ), null ) ) {
+            return;
+        }
+
         TextI18n ti18n = getI18n(message);
         getLogger().info(ti18n, args);
     }
 
     @Override
     public void info(String message, Throwable throwable, Object... args) {
+        if ( this.asynchronous && isInfoEnabled() && publish( EventLevel.INFO, formatI18n( message, args ), throwable ) ) {
+            return;
+        }
+
         TextI18n ti18n = getI18n(message);
         getLogger().info(throwable, ti18n, args);
     }
@@ -100,12 +258,20 @@ public class ModeshapeKLogger implements KLogger {
 
     @Override
     public void warn(String message, Object... args) {
+        if ( this.asynchronous && isWarnEnabled() && publish( EventLevel.WARN, formatI18n( message, args ), null ) ) {
+            return;
+        }
+
         TextI18n ti18n = getI18n(message);
         getLogger().warn(ti18n, args);
     }
 
     @Override
     public void warn(String message, Throwable throwable, Object... args) {
+        if ( this.asynchronous && isWarnEnabled() && publish( EventLevel.WARN, formatI18n( message, args ), throwable ) ) {
+            return;
+        }
+
         TextI18n ti18n = getI18n(message);
         getLogger().warn(throwable, ti18n, args);
     }
@@ -117,17 +283,25 @@ public class ModeshapeKLogger implements KLogger {
      */
     @Override
     public boolean isWarnEnabled() {
-        return isWarnEnabled();
+        return getLogger().isWarnEnabled();
     }
 
     @Override
     public void error(String message, Object... args) {
+        if ( this.asynchronous && isErrorEnabled() && publish( EventLevel.ERROR, formatI18n( message, args ), null ) ) {
+            return;
+        }
+
         TextI18n ti18n = getI18n(message);
         getLogger().error(ti18n, args);
     }
 
     @Override
     public void error(String message, Throwable throwable, Object... args) {
+        if ( this.asynchronous && isErrorEnabled() && publish( EventLevel.ERROR, formatI18n( message, args ), throwable ) ) {
+            return;
+        }
+
         TextI18n ti18n = getI18n(message);
         getLogger().error(throwable, ti18n, args);
     }
@@ -144,11 +318,19 @@ public class ModeshapeKLogger implements KLogger {
 
     @Override
     public void debug(String message, Object... args) {
+        if ( this.asynchronous && isDebugEnabled() && publish( EventLevel.DEBUG, format( message, args ), null ) ) {
+            return;
+        }
+
         getLogger().debug(message, args);
     }
 
     @Override
     public void debug(String message, Throwable throwable, Object... args) {
+        if ( this.asynchronous && isDebugEnabled() && publish( EventLevel.DEBUG, format( message, args ), throwable ) ) {
+            return;
+        }
+
         getLogger().debug(throwable, message, args);
     }
 
@@ -164,11 +346,19 @@ public class ModeshapeKLogger implements KLogger {
 
     @Override
     public void trace(String message, Object... args) {
+        if ( this.asynchronous && isTraceEnabled() && publish( EventLevel.TRACE, format( message, args ), null ) ) {
+            return;
+        }
+
         getLogger().trace(message, args);
     }
 
     @Override
     public void trace(String message, Throwable throwable, Object... args) {
+        if ( this.asynchronous && isTraceEnabled() && publish( EventLevel.TRACE, format( message, args ), throwable ) ) {
+            return;
+        }
+
         getLogger().trace(throwable, message, args);
     }
 
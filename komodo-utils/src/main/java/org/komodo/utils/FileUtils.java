@@ -35,6 +35,7 @@ import java.io.FileReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.io.Reader;
 import java.io.StringReader;
 import java.io.StringWriter;
@@ -628,6 +629,22 @@ public class FileUtils implements StringConstants {
         }
     }
 
+    /**
+     * Write an InputStream to an OutputStream. Neither stream is closed.
+     * @param is 
+     * @param os 
+     * @throws IOException 
+     */
+    public static void write(final InputStream is, final OutputStream os) throws IOException {
+        final byte[] buff = new byte[DEFAULT_BUFFER_SIZE];
+        int bytesRead;
+
+        while (-1 != (bytesRead = is.read(buff, 0, buff.length)))
+            os.write(buff, 0, bytesRead);
+
+        os.flush();
+    }
+
     /**
      * Write an InputStream to a file.
      * @param is 
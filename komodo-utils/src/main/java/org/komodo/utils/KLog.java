@@ -26,20 +26,32 @@ import org.komodo.logging.ModeshapeKLogger;
 import org.komodo.spi.logging.KLogger;
 
 /**
- *
+ * The Komodo logger. Logging methods check the level before doing any work and do not lock, so threads only contend when the
+ * log is written. Set {@link org.komodo.spi.constants.SystemConstants#LOG_ASYNCHRONOUS} to have a background thread write the
+ * log.
  */
 public class KLog implements KLogger {
 
-    private static KLog instance;
+    private static volatile KLog instance;
 
     /**
      * @return singleton instance of this logger
      */
     public static KLog getLogger() {
-        if (instance == null)
-            instance = new KLog();
+        KLog result = instance;
+
+        if (result == null) {
+            synchronized (KLog.class) {
+                result = instance;
+
+                if (result == null) {
+                    result = new KLog();
+                    instance = result;
+                }
+            }
+        }
 
-        return instance;
+        return result;
     }
 
     private final KLogger kLogger;
@@ -78,16 +90,18 @@ public class KLog implements KLogger {
      * @see org.komodo.spi.logging.KLogger#info(java.lang.String, java.lang.Object[])
      */
     @Override
-    public synchronized void info(String message, Object... args) {
-        kLogger.info(message, args);
+    public void info(String message, Object... args) {
+        if (kLogger.isInfoEnabled())
+            kLogger.info(message, args);
     }
 
     /* (non-Javadoc)
      * @see org.komodo.spi.logging.KLogger#info(java.lang.String, java.lang.Throwable, java.lang.Object[])
      */
     @Override
-    public synchronized void info(String message, Throwable throwable, Object... args) {
-        kLogger.info(message, throwable, args);
+    public void info(String message, Throwable throwable, Object... args) {
+        if (kLogger.isInfoEnabled())
+            kLogger.info(message, throwable, args);
     }
 
     /**
@@ -104,16 +118,18 @@ public class KLog implements KLogger {
      * @see org.komodo.spi.logging.KLogger#warn(java.lang.String, java.lang.Object[])
      */
     @Override
-    public synchronized void warn(String message, Object... args) {
-        kLogger.warn(message, args);
+    public void warn(String message, Object... args) {
+        if (kLogger.isWarnEnabled())
+            kLogger.warn(message, args);
     }
 
     /* (non-Javadoc)
      * @see org.komodo.spi.logging.KLogger#warn(java.lang.String, java.lang.Throwable, java.lang.Object[])
      */
     @Override
-    public synchronized void warn(String message, Throwable throwable, Object... args) {
-        kLogger.warn(message, throwable, args);
+    public void warn(String message, Throwable throwable, Object... args) {
+        if (kLogger.isWarnEnabled())
+            kLogger.warn(message, throwable, args);
     }
 
     /**
@@ -130,16 +146,18 @@ public class KLog implements KLogger {
      * @see org.komodo.spi.logging.KLogger#error(java.lang.String, java.lang.Object[])
      */
     @Override
-    public synchronized void error(String message, Object... args) {
-        kLogger.error(message, args);
+    public void error(String message, Object... args) {
+        if (kLogger.isErrorEnabled())
+            kLogger.error(message, args);
     }
 
     /* (non-Javadoc)
      * @see org.komodo.spi.logging.KLogger#error(java.lang.String, java.lang.Throwable, java.lang.Object[])
      */
     @Override
-    public synchronized void error(String message, Throwable throwable, Object... args) {
-        kLogger.error(message, throwable, args);
+    public void error(String message, Throwable throwable, Object... args) {
+        if (kLogger.isErrorEnabled())
+            kLogger.error(message, throwable, args);
     }
 
     /**
@@ -156,16 +174,18 @@ public class KLog implements KLogger {
      * @see org.komodo.spi.logging.KLogger#debug(java.lang.String, java.lang.Object[])
      */
     @Override
-    public synchronized void debug(String message, Object... args) {
-        kLogger.debug(message, args);
+    public void debug(String message, Object... args) {
+        if (kLogger.isDebugEnabled())
+            kLogger.debug(message, args);
     }
 
     /* (non-Javadoc)
      * @see org.komodo.spi.logging.KLogger#debug(java.lang.String, java.lang.Throwable, java.lang.Object[])
      */
     @Override
-    public synchronized void debug(String message, Throwable throwable, Object... args) {
-        kLogger.debug(message, throwable, args);
+    public void debug(String message, Throwable throwable, Object... args) {
+        if (kLogger.isDebugEnabled())
+            kLogger.debug(message, throwable, args);
     }
 
     /**
@@ -182,16 +202,18 @@ public class KLog implements KLogger {
      * @see org.komodo.spi.logging.KLogger#trace(java.lang.String, java.lang.Object[])
      */
     @Override
-    public synchronized void trace(String message, Object... args) {
-        kLogger.trace(message, args);
+    public void trace(String message, Object... args) {
+        if (kLogger.isTraceEnabled())
+            kLogger.trace(message, args);
     }
 
     /* (non-Javadoc)
      * @see org.komodo.spi.logging.KLogger#trace(java.lang.String, java.lang.Throwable, java.lang.Object[])
      */
     @Override
-    public synchronized void trace(String message, Throwable throwable, Object... args) {
-        kLogger.trace(message, throwable, args);
+    public void trace(String message, Throwable throwable, Object... args) {
+        if (kLogger.isTraceEnabled())
+            kLogger.trace(message, throwable, args);
     }
 
     /**
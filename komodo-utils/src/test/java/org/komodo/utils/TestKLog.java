@@ -38,6 +38,7 @@ import org.junit.AfterClass;
 import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
+import org.komodo.logging.ModeshapeKLogger;
 import org.komodo.spi.constants.SystemConstants;
 import org.komodo.spi.logging.KLogger;
 import org.komodo.utils.FileUtils;
@@ -170,4 +171,31 @@ public class TestKLog {
         assertTrue(fileMsg.contains(msg));
     }
 
+    @Test
+    public void testAsynchronousLogging() throws Exception {
+        ModeshapeKLogger asyncLogger = new ModeshapeKLogger(true);
+
+        try {
+            File newLogFile = File.createTempFile("TestKLog", ".log");
+            newLogFile.deleteOnExit();
+            asyncLogger.setLogPath(newLogFile.getAbsolutePath());
+
+            String msg = "This is an {0} test";
+            String param1 = "asynchronous";
+
+            for (int i = 0; i < 100; ++i) {
+                asyncLogger.info(msg + i, param1);
+            }
+
+            asyncLogger.flush();
+
+            String fileMsg = retrieveLogContents(newLogFile);
+            assertTrue(fileMsg.contains("INFO  " + KLogger.class.getName() + "  - " + msg.replace("{0}", param1) + 0));
+            assertTrue(fileMsg.contains("INFO  " + KLogger.class.getName() + "  - " + msg.replace("{0}", param1) + 99));
+            assertTrue(fileMsg.indexOf(msg.replace("{0}", param1) + 0) < fileMsg.indexOf(msg.replace("{0}", param1) + 99));
+        } finally {
+            asyncLogger.dispose();
+        }
+    }
+
 }
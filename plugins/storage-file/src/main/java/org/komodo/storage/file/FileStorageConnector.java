@@ -21,10 +21,13 @@
  */
 package org.komodo.storage.file;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.HashSet;
 import java.util.Properties;
 import java.util.Set;
@@ -136,10 +139,16 @@ public class FileStorageConnector implements StorageConnector {
         File destFile = new File(getPath(), filePath);
 
         //
-        // Write the file contents
+        // Write the file contents straight to the file
         //
-        byte[] contents = artifact.export(transaction, parameters);
-        FileUtils.write(contents, destFile);
+        destFile.delete();
+        File parentDir = destFile.getParentFile();
+        if (parentDir != null)
+            parentDir.mkdirs();
+
+        try (OutputStream stream = new BufferedOutputStream(new FileOutputStream(destFile))) {
+            artifact.export(transaction, parameters, stream);
+        }
 
         setDownloadable(destFile.getAbsolutePath());
     }
@@ -21,11 +21,13 @@
  */
 package org.komodo.storage.git;
 
+import java.io.BufferedOutputStream;
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.text.SimpleDateFormat;
 import java.util.Date;
@@ -436,14 +438,13 @@ public class GitStorageConnector implements StorageConnector {
         //
         // Write the file contents
         //
-        byte[] contents = artifact.export(transaction, parameters);
-
         File destFile;
         DocumentType documentType = artifact.getDocumentType(transaction);
         if (DocumentType.ZIP.equals(documentType)) {
             //
             // Do not want to add binary zip files to a git repository
             //
+            byte[] contents = artifact.export(transaction, parameters);
             destination = directory(destination, documentType);
             destFile = new File(git.getRepository().getWorkTree(), destination);
 
@@ -453,7 +454,13 @@ public class GitStorageConnector implements StorageConnector {
         }
         else {
             destFile = new File(git.getRepository().getWorkTree(), destination);
-            FileUtils.write(contents, destFile);
+            Files.deleteIfExists(destFile.toPath());
+            if (destFile.getParentFile() != null)
+                Files.createDirectories(destFile.getParentFile().toPath());
+
+            try (OutputStream stream = new BufferedOutputStream(Files.newOutputStream(destFile.toPath()))) {
+                artifact.export(transaction, parameters, stream);
+            }
         }
 
         // Stage the file(s) for committing
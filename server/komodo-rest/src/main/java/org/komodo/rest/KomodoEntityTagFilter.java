@@ -0,0 +1,208 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * See the COPYRIGHT.txt file distributed with this work for information
+ * regarding copyright ownership.  Some portions may be licensed
+ * to Red Hat, Inc. under one or more contributor license agreements.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA
+ * 02110-1301 USA.
+ */
+package org.komodo.rest;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.UUID;
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.Status;
+import javax.ws.rs.core.SecurityContext;
+import javax.ws.rs.ext.Provider;
+import org.komodo.core.KEngine;
+import org.komodo.rest.KomodoRestV1Application.V1Constants;
+import org.komodo.spi.constants.StringConstants;
+import org.komodo.spi.repository.Repository;
+
+/**
+ * Adds an {@link HttpHeaders#ETAG entity tag} to successful GET responses of workspace resources and answers
+ * <code>304 Not Modified</code> when the request {@link HttpHeaders#IF_NONE_MATCH If-None-Match} header contains the current
+ * tag. Clients that poll the workspace then only download an entity when it has changed.
+ * <p>
+ * The tag is computed from the {@link Repository#getChangeCount() repository change count}, the user, the request URI and the
+ * accepted media types, so it is known before the request reaches its service. An unchanged entity is answered before a
+ * transaction is opened or the entity is marshalled, and streamed entities, like compact JSON, are sent unbuffered.
+ */
+@Provider
+public class KomodoEntityTagFilter implements ContainerRequestFilter, ContainerResponseFilter, StringConstants {
+
+    private static final String ALGORITHM = "SHA-1"; //$NON-NLS-1$
+
+    private static final String CACHE_CONTROL = "private, no-cache"; //$NON-NLS-1$
+
+    private static final String ENTITY_TAG_PROPERTY = KomodoEntityTagFilter.class.getName() + ".entityTag"; //$NON-NLS-1$
+
+    private static final String WEAK_PREFIX = "W/"; //$NON-NLS-1$
+
+    /**
+     * @param content
+     *        the content whose tag is being requested (cannot be <code>null</code>)
+     * @return the entity tag of the content (never <code>null</code>)
+     */
+    public static EntityTag entityTag( final String content ) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance( ALGORITHM );
+            final byte[] hash = digest.digest( content.getBytes( StandardCharsets.UTF_8 ) );
+            return new EntityTag( new BigInteger( 1, hash ).toString( 16 ) );
+        } catch ( final NoSuchAlgorithmException e ) {
+            // every Java platform is required to support SHA-1
+            throw new IllegalStateException( e );
+        }
+    }
+
+    /**
+     * @param ifNoneMatch
+     *        the value of the If-None-Match request header (can be <code>null</code>)
+     * @param tag
+     *        the entity tag of the current content (cannot be <code>null</code>)
+     * @return <code>true</code> if the client already has the current content
+     */
+    static boolean matches( final String ifNoneMatch,
+                            final EntityTag tag ) {
+        if ( ifNoneMatch == null ) {
+            return false;
+        }
+
+        final String quoted = SPEECH_MARK + tag.getValue() + SPEECH_MARK;
+
+        for ( String candidate : ifNoneMatch.split( COMMA ) ) {
+            candidate = candidate.trim();
+
+            if ( candidate.startsWith( WEAK_PREFIX ) ) {
+                candidate = candidate.substring( WEAK_PREFIX.length() );
+            }
+
+            if ( STAR.equals( candidate ) || quoted.equals( candidate ) ) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private final KEngine kengine;
+
+    /**
+     * Tags issued before a restart must not match content after it, when the change count starts again.
+     */
+    private final String epoch = UUID.randomUUID().toString();
+
+    /**
+     * @param kengine
+     *        the Komodo engine whose default repository is tagged (cannot be <code>null</code>)
+     */
+    public KomodoEntityTagFilter( final KEngine kengine ) {
+        this.kengine = kengine;
+    }
+
+    /*
+     * Only workspace resources are read solely from the repository. Other resources also report server state. Requests that
+     * would fail the service's security check are left for the service to reject.
+     */
+    private static boolean isTagged( final ContainerRequestContext requestContext ) {
+        if ( !HttpMethod.GET.equals( requestContext.getMethod() ) ) {
+            return false;
+        }
+
+        final SecurityContext securityContext = requestContext.getSecurityContext();
+
+        if ( ( securityContext == null ) || !securityContext.isSecure() || ( securityContext.getUserPrincipal() == null ) ) {
+            return false;
+        }
+
+        final String path = requestContext.getUriInfo().getPath( false );
+        final String relativePath = path.startsWith( FORWARD_SLASH ) ? path.substring( 1 ) : path;
+        return relativePath.startsWith( V1Constants.WORKSPACE_SEGMENT );
+    }
+
+    private EntityTag entityTag( final ContainerRequestContext requestContext ) {
+        final Repository repository = this.kengine.getDefaultRepository();
+        final String user = requestContext.getSecurityContext().getUserPrincipal().getName();
+        final String accept = requestContext.getHeaderString( HttpHeaders.ACCEPT );
+
+        final StringBuilder token = new StringBuilder( this.epoch );
+        token.append( NEW_LINE ).append( repository.getChangeCount() );
+        token.append( NEW_LINE ).append( user );
+        token.append( NEW_LINE ).append( requestContext.getUriInfo().getRequestUri() );
+        token.append( NEW_LINE ).append( ( accept == null ) ? EMPTY_STRING : accept );
+
+        return entityTag( token.toString() );
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see javax.ws.rs.container.ContainerRequestFilter#filter(javax.ws.rs.container.ContainerRequestContext)
+     */
+    @Override
+    public void filter( final ContainerRequestContext requestContext ) throws IOException {
+        if ( !isTagged( requestContext ) ) {
+            return;
+        }
+
+        final EntityTag tag = entityTag( requestContext );
+
+        if ( matches( requestContext.getHeaderString( HttpHeaders.IF_NONE_MATCH ), tag ) ) {
+            // nothing has been saved since the client's copy was produced so the service is not called
+            requestContext.abortWith( Response.notModified( tag ).header( HttpHeaders.CACHE_CONTROL, CACHE_CONTROL ).build() );
+        } else {
+            requestContext.setProperty( ENTITY_TAG_PROPERTY, tag );
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see javax.ws.rs.container.ContainerResponseFilter#filter(javax.ws.rs.container.ContainerRequestContext,
+     *      javax.ws.rs.container.ContainerResponseContext)
+     */
+    @Override
+    public void filter( final ContainerRequestContext requestContext,
+                        final ContainerResponseContext responseContext ) throws IOException {
+        final Object tag = requestContext.getProperty( ENTITY_TAG_PROPERTY );
+
+        if ( ( tag == null )
+             || ( responseContext.getStatus() != Status.OK.getStatusCode() )
+             || responseContext.getHeaders().containsKey( HttpHeaders.ETAG ) ) {
+            return;
+        }
+
+        // the tag was computed before the service ran so a save made meanwhile changes the next tag
+        responseContext.getHeaders().putSingle( HttpHeaders.ETAG, tag );
+
+        if ( !responseContext.getHeaders().containsKey( HttpHeaders.CACHE_CONTROL ) ) {
+            // allow caching but make the client revalidate on every request
+            responseContext.getHeaders().putSingle( HttpHeaders.CACHE_CONTROL, CACHE_CONTROL );
+        }
+    }
+
+}
@@ -58,6 +58,7 @@ import org.komodo.rest.cors.KCorsFactory;
 import org.komodo.rest.cors.KCorsHandler;
 import org.komodo.rest.cors.OptionsExceptionMapper;
 import org.komodo.rest.json.JsonConstants;
+import org.komodo.rest.service.KomodoBatchService;
 import org.komodo.rest.service.KomodoConnectionService;
 import org.komodo.rest.service.KomodoDataserviceService;
 import org.komodo.rest.service.KomodoDriverService;
@@ -523,6 +524,21 @@ public class KomodoRestV1Application extends Application implements RepositoryOb
          */
         String VDB_EXPORT_XML_PROPERTY = "vdb-export-xml"; //$NON-NLS-1$
 
+        /**
+         * The entity property holding the set of field names an entity is restricted to
+         */
+        String ENTITY_FIELDS_PROPERTY = "entity-fields"; //$NON-NLS-1$
+
+        /**
+         * The entity property holding the number of levels of child entities to embed
+         */
+        String ENTITY_DEPTH_PROPERTY = "entity-depth"; //$NON-NLS-1$
+
+        /**
+         * The maximum number of levels of child entities that can be embedded in an entity
+         */
+        int MAX_ENTITY_DEPTH = 3;
+
         /**
          * The name of the URI path segment for creating a workspace vdb model using teiid ddl
          */
@@ -563,6 +579,16 @@ public class KomodoRestV1Application extends Application implements RepositoryOb
          */
         String IMPORT = "import"; //$NON-NLS-1$
 
+        /**
+         * The form part holding the JSON storage attributes of a multipart import
+         */
+        String IMPORT_ATTRIBUTES_PART = "attributes"; //$NON-NLS-1$
+
+        /**
+         * The form part holding the binary content of a multipart import
+         */
+        String IMPORT_CONTENT_PART = "content"; //$NON-NLS-1$
+
         /**
          * The available storage types of the import export service
          */
@@ -582,6 +608,11 @@ public class KomodoRestV1Application extends Application implements RepositoryOb
          * The name of the URI ping type parameter
          */
         String PING_TYPE_PARAMETER = "pingType"; //$NON-NLS-1$
+
+        /**
+         * The name of the URI path segment for executing several workspace operations in one transaction
+         */
+        String BATCH_SEGMENT = "batch"; //$NON-NLS-1$
     }
 
     private static final int TIMEOUT = 1;
@@ -627,6 +658,7 @@ public class KomodoRestV1Application extends Application implements RepositoryOb
 
         final Set< Object > objs = new HashSet< >();
         objs.add( new KomodoExceptionMapper() );
+        objs.add( new KomodoEntityTagFilter( this.kengine ) );
         objs.add( new KomodoUtilService( this.kengine ) );
         objs.add( new KomodoDataserviceService( this.kengine ) );
         objs.add( new KomodoConnectionService( this.kengine ) );
@@ -635,6 +667,7 @@ public class KomodoRestV1Application extends Application implements RepositoryOb
         objs.add( new KomodoSearchService( this.kengine ));
         objs.add( new KomodoTeiidService( this.kengine ));
         objs.add( new KomodoImportExportService( this.kengine ));
+        objs.add( new KomodoBatchService( this.kengine ));
 
         objs.add(new OptionsExceptionMapper());
         objs.add(corsHandler);
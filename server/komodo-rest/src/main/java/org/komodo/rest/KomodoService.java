@@ -25,11 +25,21 @@ import static org.komodo.rest.Messages.Error.COMMIT_TIMEOUT;
 import static org.komodo.rest.Messages.Error.RESOURCE_NOT_FOUND;
 import static org.komodo.rest.Messages.General.GET_OPERATION_NAME;
 import static org.komodo.rest.relational.RelationalMessages.Error.SECURITY_FAILURE_ERROR;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
 import java.security.Principal;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
@@ -37,6 +47,8 @@ import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.ResponseBuilder;
 import javax.ws.rs.core.Response.Status;
 import javax.ws.rs.core.SecurityContext;
+import javax.ws.rs.core.StreamingOutput;
+import javax.ws.rs.core.UriInfo;
 import javax.ws.rs.core.Variant;
 import javax.ws.rs.core.Variant.VariantListBuilder;
 import javax.xml.bind.JAXBContext;
@@ -52,10 +64,14 @@ import org.komodo.repository.RepositoryImpl;
 import org.komodo.repository.SynchronousCallback;
 import org.komodo.rest.KomodoRestV1Application.V1Constants;
 import org.komodo.rest.RestBasicEntity.ResourceNotFound;
+import org.komodo.rest.relational.KomodoProperties;
 import org.komodo.rest.relational.RelationalMessages;
 import org.komodo.rest.relational.RestEntityFactory;
 import org.komodo.rest.relational.connection.RestConnection;
+import org.komodo.rest.relational.dataservice.RestDataservice;
 import org.komodo.rest.relational.json.KomodoJsonMarshaller;
+import org.komodo.rest.relational.response.KomodoStatusObject;
+import org.komodo.rest.relational.response.RestVdb;
 import org.komodo.spi.KException;
 import org.komodo.spi.repository.KomodoObject;
 import org.komodo.spi.repository.Repository;
@@ -77,6 +93,8 @@ public abstract class KomodoService implements V1Constants {
 
     protected static final StringNameValidator VALIDATOR = new StringNameValidator();
 
+    private static final String VDB_PATH_DEFAULT = "defaultPath";  //$NON-NLS-1$
+
     /**
      * VDB properties for DSB
      */
@@ -87,6 +105,22 @@ public abstract class KomodoService implements V1Constants {
     protected final static String DSB_PROP_TEIID_STATUS = "dsbTeiidStatus"; //$NON-NLS-1$
     protected final static String DSB_PROP_TEIID_STATUS_MSG = "dsbTeiidStatusMessage"; //$NON-NLS-1$
 
+    /**
+     * The response header containing the total number of objects available when a page of objects is returned.
+     */
+    public static final String TOTAL_COUNT_HEADER = "X-Total-Count"; //$NON-NLS-1$
+
+    /**
+     * The JSON media type parameter of the Accept header that selects the JSON output format.
+     */
+    public static final String JSON_FORMAT_PARAMETER = "format"; //$NON-NLS-1$
+
+    /**
+     * The {@link #JSON_FORMAT_PARAMETER JSON format} that streams JSON without pretty printing,
+     * e.g. <code>Accept: application/json; format=compact</code>.
+     */
+    public static final String JSON_FORMAT_COMPACT = "compact"; //$NON-NLS-1$
+
     private static final int TIMEOUT = 30;
     private static final TimeUnit UNIT = TimeUnit.SECONDS;
 
@@ -114,6 +148,17 @@ public abstract class KomodoService implements V1Constants {
          * The Komodo Type required.
          */
         String KTYPE = "ktype"; //$NON-NLS-1$
+
+        /**
+         * A comma-separated list of the fields to return for each object. If not present, all fields are returned.
+         */
+        String FIELDS = "fields"; //$NON-NLS-1$
+
+        /**
+         * The number of levels of child objects to embed in each object. Defaults to zero and larger values than
+         * {@link V1Constants#MAX_ENTITY_DEPTH} are reduced to that maximum.
+         */
+        String DEPTH = "depth"; //$NON-NLS-1$
     }
 
     private class ErrorResponse {
@@ -228,6 +273,45 @@ public abstract class KomodoService implements V1Constants {
         return Base64.getEncoder().encodeToString(content);
     }
 
+    /**
+     * Encodes the file a block at a time so its raw bytes are never held in memory alongside the encoded content.
+     *
+     * @param file
+     * @return a base64 encoded version of the given file's content
+     * @throws IOException if the file cannot be read
+     */
+    protected String encode(File file) throws IOException {
+        if (file == null)
+            return null;
+
+        final Base64.Encoder encoder = Base64.getEncoder();
+        final long encodedLength = 4 * ((file.length() + 2) / 3);
+        final StringBuilder result = new StringBuilder((int)Math.min(encodedLength, Integer.MAX_VALUE - 8));
+
+        // block size is a multiple of 3 so no padding is written until the last block
+        final byte[] block = new byte[3 * 8192];
+
+        try (InputStream stream = new FileInputStream(file)) {
+            int filled = 0;
+            int read;
+
+            while ((read = stream.read(block, filled, block.length - filled)) != -1) {
+                filled += read;
+
+                if (filled == block.length) {
+                    result.append(new String(encoder.encode(block), StandardCharsets.ISO_8859_1));
+                    filled = 0;
+                }
+            }
+
+            if (filled > 0) {
+                result.append(new String(encoder.encode(Arrays.copyOf(block, filled)), StandardCharsets.ISO_8859_1));
+            }
+        }
+
+        return result.toString();
+    }
+
     /**
      * @param content
      * @return a decoded version of the given base64-encoded content
@@ -345,6 +429,51 @@ public abstract class KomodoService implements V1Constants {
         return false;
     }
 
+    /**
+     * @param acceptableTypes
+     *        the media types acceptable to the client (cannot be <code>null</code>)
+     * @return <code>true</code> if the client requested {@link #JSON_FORMAT_COMPACT compact} JSON
+     */
+    protected boolean isCompactJson(List<MediaType> acceptableTypes) {
+        for (MediaType acceptableType : acceptableTypes) {
+            if (MediaType.APPLICATION_JSON_TYPE.isCompatible(acceptableType)
+                && JSON_FORMAT_COMPACT.equals(acceptableType.getParameters().get(JSON_FORMAT_PARAMETER)))
+                return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * @param entity
+     *        the entity being written (cannot be <code>null</code>)
+     * @return the response entity that streams the compact JSON representation (never <code>null</code>)
+     */
+    protected StreamingOutput compactJson(final KRestEntity entity) {
+        return new StreamingOutput() {
+
+            @Override
+            public void write(OutputStream output) throws IOException, WebApplicationException {
+                KomodoJsonMarshaller.marshall(entity, false, output);
+            }
+        };
+    }
+
+    /**
+     * @param entities
+     *        the entities being written (cannot be <code>null</code>)
+     * @return the response entity that streams the compact JSON representation (never <code>null</code>)
+     */
+    protected StreamingOutput compactJson(final KRestEntity[] entities) {
+        return new StreamingOutput() {
+
+            @Override
+            public void write(OutputStream output) throws IOException, WebApplicationException {
+                KomodoJsonMarshaller.marshallArray(entities, false, output);
+            }
+        };
+    }
+
     protected Response commit( final UnitOfWork transaction, List<MediaType> acceptableMediaTypes,
                                final KRestEntity entity ) throws Exception {
         assert( transaction.getCallback() instanceof SynchronousCallback );
@@ -393,7 +522,9 @@ public abstract class KomodoService implements V1Constants {
             //
             // Json will always be preferred over XML if both or the wildcard are present in the header
             //
-            if (isAcceptable(acceptableMediaTypes, MediaType.APPLICATION_JSON_TYPE))
+            if (isCompactJson(acceptableMediaTypes))
+                builder = Response.ok( compactJson( entity ), MediaType.APPLICATION_JSON );
+            else if (isAcceptable(acceptableMediaTypes, MediaType.APPLICATION_JSON_TYPE))
                 builder = Response.ok( KomodoJsonMarshaller.marshall( entity ), MediaType.APPLICATION_JSON );
             else if (isAcceptable(acceptableMediaTypes, MediaType.APPLICATION_XML_TYPE) && entity.supports(MediaType.APPLICATION_XML_TYPE))
                 builder = Response.ok( entity.getXml(), MediaType.APPLICATION_XML );
@@ -447,7 +578,11 @@ public abstract class KomodoService implements V1Constants {
     protected Response commit( final UnitOfWork transaction, List<MediaType> acceptableMediaTypes,
                                final List<? extends KRestEntity> entities ) throws Exception {
 
-        commit(transaction, acceptableMediaTypes);
+        final Response commitResponse = commit(transaction, acceptableMediaTypes);
+        if ( commitResponse.getStatus() != Status.OK.getStatusCode() ) {
+            // commit timed out or failed so nothing has been saved
+            return commitResponse;
+        }
 
         LOGGER.debug( "commit: successfully committed '{0}', rollbackOnly = '{1}'", //$NON-NLS-1$
                       transaction.getName(),
@@ -465,7 +600,9 @@ public abstract class KomodoService implements V1Constants {
             builder = Response.status( Status.NOT_FOUND ).entity(responseEntity);
         } else {
 
-            if (isAcceptable(acceptableMediaTypes, MediaType.APPLICATION_JSON_TYPE))
+            if (isCompactJson(acceptableMediaTypes))
+                builder = Response.ok( compactJson(entities.toArray(new KRestEntity[0])), MediaType.APPLICATION_JSON );
+            else if (isAcceptable(acceptableMediaTypes, MediaType.APPLICATION_JSON_TYPE))
                 builder = Response.ok( KomodoJsonMarshaller.marshallArray(entities.toArray(new KRestEntity[0]), true), MediaType.APPLICATION_JSON );
             else {
                 builder = notAcceptableMediaTypesBuilder();
@@ -475,6 +612,71 @@ public abstract class KomodoService implements V1Constants {
         return builder.build();
     }
 
+    /**
+     * @param response
+     *        the response of a collection request (cannot be <code>null</code>)
+     * @param totalCount
+     *        the total number of objects available regardless of the page returned
+     * @return the response with the {@link #TOTAL_COUNT_HEADER total count header} if the response is successful (never
+     *         <code>null</code>)
+     */
+    protected Response addTotalCount( final Response response,
+                                      final long totalCount ) {
+        if ( response.getStatus() != Status.OK.getStatusCode() ) {
+            return response;
+        }
+
+        return Response.fromResponse( response ).header( TOTAL_COUNT_HEADER, totalCount ).build();
+    }
+
+    /**
+     * Adds the {@link QueryParamKeys#FIELDS fields} and {@link QueryParamKeys#DEPTH depth} query parameters, if present, to
+     * the properties used to create the response entities.
+     *
+     * @param uriInfo
+     *        the request URI information (cannot be <code>null</code>)
+     * @param properties
+     *        the entity properties being added to (cannot be <code>null</code>)
+     * @return the entity properties (never <code>null</code>)
+     */
+    protected KomodoProperties addProjection( final UriInfo uriInfo,
+                                              final KomodoProperties properties ) {
+        { // fields query parameter
+            final String qparam = uriInfo.getQueryParameters().getFirst( QueryParamKeys.FIELDS );
+
+            if ( qparam != null ) {
+                final Set< String > fields = new HashSet< >();
+
+                for ( final String field : qparam.split( COMMA ) ) {
+                    if ( !StringUtils.isBlank( field ) ) {
+                        fields.add( field.trim() );
+                    }
+                }
+
+                properties.addProperty( ENTITY_FIELDS_PROPERTY, fields );
+            }
+        }
+
+        { // depth query parameter
+            final String qparam = uriInfo.getQueryParameters().getFirst( QueryParamKeys.DEPTH );
+
+            if ( !StringUtils.isBlank( qparam ) ) {
+                try {
+                    final int depth = Integer.parseInt( qparam );
+
+                    if ( depth > 0 ) {
+                        // each level walks and serialises a whole generation of the tree so keep it shallow
+                        properties.addProperty( ENTITY_DEPTH_PROPERTY, Math.min( depth, MAX_ENTITY_DEPTH ) );
+                    }
+                } catch ( final NumberFormatException e ) {
+                    // ignore and embed no children
+                }
+            }
+        }
+
+        return properties;
+    }
+
     /**
      * @param user
      *        the user initiating the transaction
@@ -517,6 +719,26 @@ public abstract class KomodoService implements V1Constants {
         return result;
     }
 
+    /**
+     * Read-only transactions never go through the repository engine so should be used by all requests that only read.
+     *
+     * @param user
+     *        the user initiating the transaction
+     * @param name
+     *        the name of the transaction (cannot be empty)
+     * @return the new read-only transaction (never <code>null</code>)
+     * @throws KException
+     *         if there is an error creating the transaction
+     */
+    protected UnitOfWork createReadOnlyTransaction(final SecurityPrincipal user, final String name ) throws KException {
+        final SynchronousCallback callback = new SynchronousCallback();
+        final UnitOfWork result = this.repo.createReadOnlyTransaction(user.getUserName(),
+                                                                       (getClass().getSimpleName() + COLON + name + COLON + System.currentTimeMillis()),
+                                                                       callback );
+        LOGGER.debug( "createReadOnlyTransaction:created '{0}'", result.getName() ); //$NON-NLS-1$
+        return result;
+    }
+
     protected Vdb findVdb(UnitOfWork uow, String vdbName) throws KException {
         if (! getWorkspaceManager(uow).hasChild( uow, vdbName, VdbLexicon.Vdb.VIRTUAL_DATABASE ) ) {
             return null;
@@ -682,4 +904,234 @@ public abstract class KomodoService implements V1Constants {
             connection.setProperty(uow, property.getName(), property.getValue());
         }
     }
+
+    // Sets VDB properties using the supplied RestVdb object
+    protected void setProperties(final UnitOfWork uow, Vdb vdb, RestVdb restVdb) throws KException {
+        // 'New' = requested RestVdb properties
+        String newDescription = restVdb.getDescription();
+        String newConnType = restVdb.getConnectionType();
+        String newOrigFilePath = restVdb.getOriginalFilePath();
+        int newVersion = restVdb.getVersion();
+        List<RestProperty> newProperties = restVdb.getProperties();
+
+        // 'Old' = current Vdb properties
+        String oldDescription = vdb.getDescription(uow);
+        String oldConnType = vdb.getConnectionType(uow);
+        String oldOrigFilePath = vdb.getOriginalFilePath(uow);
+        int oldVersion = vdb.getVersion(uow);
+
+        // Description
+        if ( !StringUtils.equals(newDescription, oldDescription) ) {
+            vdb.setDescription( uow, newDescription );
+        } 
+        // ConnectionType
+        if ( !StringUtils.equals(newConnType, oldConnType) ) {
+            vdb.setConnectionType( uow, newConnType );
+        } 
+        // Original FilePath
+        if ( !StringUtils.equals(newOrigFilePath, oldOrigFilePath) ) {
+            String origFilePath = (newOrigFilePath==null) ? VDB_PATH_DEFAULT : newOrigFilePath; 
+            vdb.setOriginalFilePath( uow, origFilePath );
+        } 
+        // version
+        if ( newVersion != oldVersion ) {
+            vdb.setVersion( uow, newVersion );
+        } 
+        
+        // Set new properties
+        for(RestProperty newProp : newProperties) {
+            vdb.setProperty(uow, newProp.getName(), newProp.getValue());
+        }
+    }
+
+    // Sets Dataservice properties using the supplied RestDataservice object
+    protected void setProperties(final UnitOfWork uow, Dataservice dataService, RestDataservice restDataService) throws KException {
+        // 'New' = requested RestDataservice properties
+        String newDescription = restDataService.getDescription();
+
+        // 'Old' = current Dataservice properties
+        String oldDescription = dataService.getDescription(uow);
+
+        // Description
+        if ( !StringUtils.equals(newDescription, oldDescription) ) {
+            dataService.setDescription( uow, newDescription );
+        }
+    }
+
+    /**
+     * Checks the JSON of a VDB that is being created or updated.
+     *
+     * @param vdbName
+     *        the name of the VDB being created or updated (cannot be empty)
+     * @param restVdb
+     *        the VDB JSON (cannot be <code>null</code>)
+     * @param create
+     *        <code>true</code> if the VDB is being created and so its JSON name must match
+     * @return the error message or <code>null</code> if the JSON is valid
+     */
+    protected String checkVdbJson( final String vdbName, final RestVdb restVdb, final boolean create ) {
+        final String jsonVdbName = restVdb.getId();
+
+        // Error if the name is missing from the supplied json body
+        if ( StringUtils.isBlank( jsonVdbName ) ) {
+            return RelationalMessages.getString( RelationalMessages.Error.VDB_SERVICE_MISSING_JSON_VDB_NAME );
+        }
+
+        // Error if the name parameter is different than JSON name
+        if ( create && !vdbName.equals( jsonVdbName ) ) {
+            return RelationalMessages.getString( RelationalMessages.Error.VDB_SERVICE_VDB_NAME_DONT_MATCH_ERROR, vdbName, jsonVdbName );
+        }
+
+        return null;
+    }
+
+    /**
+     * Creates a VDB in the workspace. The transaction is not committed.
+     *
+     * @param uow
+     *        the transaction (cannot be <code>null</code>)
+     * @param restVdb
+     *        the checked VDB JSON (cannot be <code>null</code>)
+     * @return the new VDB (never <code>null</code>)
+     * @throws KException
+     *         if an error occurs
+     * @see #checkVdbJson(String, RestVdb, boolean)
+     */
+    protected Vdb createVdbFromJson( final UnitOfWork uow, final RestVdb restVdb ) throws KException {
+        final Vdb vdb = getWorkspaceManager(uow).createVdb( uow, null, restVdb.getId(), restVdb.getOriginalFilePath() );
+
+        // Transfers the properties from the rest object to the created komodo service.
+        setProperties(uow, vdb, restVdb);
+        return vdb;
+    }
+
+    /**
+     * Updates, and renames if the JSON name differs, a VDB. The transaction is not committed.
+     *
+     * @param uow
+     *        the transaction (cannot be <code>null</code>)
+     * @param vdb
+     *        the VDB being updated (cannot be <code>null</code>)
+     * @param restVdb
+     *        the checked VDB JSON (cannot be <code>null</code>)
+     * @throws KException
+     *         if an error occurs
+     * @see #checkVdbJson(String, RestVdb, boolean)
+     */
+    protected void updateVdbFromJson( final UnitOfWork uow, final Vdb vdb, final RestVdb restVdb ) throws KException {
+        setProperties(uow, vdb, restVdb);
+
+        // rename if names did not match
+        final String jsonVdbName = restVdb.getId();
+        if ( !vdb.getName( uow ).equals( jsonVdbName ) ) {
+            vdb.rename( uow, jsonVdbName );
+        }
+    }
+
+    /**
+     * Checks the JSON of a data service that is being created or updated.
+     *
+     * @param dataserviceName
+     *        the name of the data service being created or updated (cannot be empty)
+     * @param restDataservice
+     *        the data service JSON (cannot be <code>null</code>)
+     * @param create
+     *        <code>true</code> if the data service is being created and so its JSON name must match
+     * @return the error message or <code>null</code> if the JSON is valid
+     */
+    protected String checkDataserviceJson( final String dataserviceName, final RestDataservice restDataservice, final boolean create ) {
+        final String jsonDataserviceName = restDataservice.getId();
+
+        // Error if the name is missing from the supplied json body
+        if ( StringUtils.isBlank( jsonDataserviceName ) ) {
+            return RelationalMessages.getString( RelationalMessages.Error.DATASERVICE_SERVICE_JSON_MISSING_NAME );
+        }
+
+        // Error if the name parameter is different than JSON name
+        if ( create && !dataserviceName.equals( jsonDataserviceName ) ) {
+            return RelationalMessages.getString( RelationalMessages.Error.DATASERVICE_SERVICE_SERVICE_NAME_ERROR,
+                                                 dataserviceName, jsonDataserviceName );
+        }
+
+        return null;
+    }
+
+    /**
+     * Creates a data service in the workspace. The transaction is not committed.
+     *
+     * @param uow
+     *        the transaction (cannot be <code>null</code>)
+     * @param restDataservice
+     *        the checked data service JSON (cannot be <code>null</code>)
+     * @return the new data service (never <code>null</code>)
+     * @throws KException
+     *         if an error occurs
+     * @see #checkDataserviceJson(String, RestDataservice, boolean)
+     */
+    protected Dataservice createDataserviceFromJson( final UnitOfWork uow, final RestDataservice restDataservice ) throws KException {
+        final Dataservice dataservice = getWorkspaceManager(uow).createDataservice( uow, null, restDataservice.getId() );
+
+        // Transfers the properties from the rest object to the created komodo service.
+        setProperties(uow, dataservice, restDataservice);
+        return dataservice;
+    }
+
+    /**
+     * Updates, and renames if the JSON name differs, a data service. The transaction is not committed.
+     *
+     * @param uow
+     *        the transaction (cannot be <code>null</code>)
+     * @param dataservice
+     *        the data service being updated (cannot be <code>null</code>)
+     * @param restDataservice
+     *        the checked data service JSON (cannot be <code>null</code>)
+     * @throws KException
+     *         if an error occurs
+     * @see #checkDataserviceJson(String, RestDataservice, boolean)
+     */
+    protected void updateDataserviceFromJson( final UnitOfWork uow,
+                                              final Dataservice dataservice,
+                                              final RestDataservice restDataservice ) throws KException {
+        setProperties(uow, dataservice, restDataservice);
+
+        // rename if names did not match
+        final String jsonDataserviceName = restDataservice.getId();
+        if ( !dataservice.getName( uow ).equals( jsonDataserviceName ) ) {
+            dataservice.rename( uow, jsonDataserviceName );
+        }
+    }
+
+    /**
+     * Deletes a data service, and its service VDB, from the workspace. The transaction is not committed.
+     *
+     * @param uow
+     *        the transaction (cannot be <code>null</code>)
+     * @param dataservice
+     *        the data service being deleted (cannot be <code>null</code>)
+     * @throws KException
+     *         if an error occurs
+     */
+    protected void removeDataservice( final UnitOfWork uow, final Dataservice dataservice ) throws KException {
+        final WorkspaceManager wkspMgr = getWorkspaceManager(uow);
+
+        // Delete the Dataservice serviceVDB if found
+        final Vdb serviceVdb = dataservice.getServiceVdb(uow);
+        if ( serviceVdb != null ) {
+            wkspMgr.delete(uow, serviceVdb);
+        }
+
+        // Delete the Dataservice
+        wkspMgr.delete(uow, dataservice);
+    }
+
+    /**
+     * @param name
+     *        the name of the deleted object (cannot be empty)
+     * @return the status reported when an object is deleted (never <code>null</code>)
+     */
+    protected KomodoStatusObject deleteStatus( final String name ) {
+        final KomodoStatusObject kso = new KomodoStatusObject("Delete Status"); //$NON-NLS-1$
+        kso.addAttribute(name, "Successfully deleted"); //$NON-NLS-1$
+        return kso;
+    }
 }
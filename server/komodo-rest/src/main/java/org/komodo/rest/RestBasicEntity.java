@@ -26,10 +26,12 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.UriBuilder;
 import org.komodo.relational.workspace.WorkspaceManager;
@@ -95,6 +97,14 @@ public class RestBasicEntity implements KRestEntity {
         // nothing to do
     };
 
+    /**
+     * The fields always included in an entity, regardless of any field selection, as they identify it.
+     */
+    public static final Set<String> IDENTITY_FIELDS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(BASE_URI,
+                                                                                                            ID,
+                                                                                                            DATA_PATH,
+                                                                                                            KTYPE)));
+
     private transient KomodoRestUriBuilder uriBuilder;
 
     protected Map<String, Object> tuples = new LinkedHashMap<>();
@@ -178,6 +188,34 @@ public class RestBasicEntity implements KRestEntity {
         this(baseUri, kObject, uow, true);
     }
 
+    /**
+     * Creates a lightweight entity holding only the identity of the object and the selected fields. No links are
+     * created and only the selected execution properties are fetched.
+     *
+     * @param baseUri the base uri of the REST request
+     * @param kObject the kObject
+     * @param uow the transaction
+     * @param fields the names of the tuples and execution properties to include (cannot be <code>null</code>)
+     * @throws KException if error occurs
+     * @see #IDENTITY_FIELDS
+     */
+    public RestBasicEntity(URI baseUri, KomodoObject kObject, UnitOfWork uow, Set<String> fields) throws KException {
+        this(baseUri);
+
+        ArgCheck.isNotNull(kObject, "kObject"); //$NON-NLS-1$
+        ArgCheck.isNotNull(uow, "uow"); //$NON-NLS-1$
+        ArgCheck.isNotNull(fields, "fields"); //$NON-NLS-1$
+
+        setId(kObject.getName(uow));
+        setDataPath(kObject.getAbsolutePath());
+        setkType(kObject.getTypeIdentifier(uow));
+
+        if (fields.contains(HAS_CHILDREN))
+            setHasChildren(kObject.hasChildren(uow));
+
+        addExecutionProperties(uow, kObject, fields);
+    }
+
     /**
      * @param kObject the object
      * @param parentClass the class of the desired parent
@@ -423,6 +461,31 @@ public class RestBasicEntity implements KRestEntity {
      * @throws KException if error occurs
      */
     public void addExecutionProperties(UnitOfWork uow, KomodoObject kObject) throws KException {
+        addExecutionProperties(uow, kObject, null);
+    }
+
+    /**
+     * Derives the selected execution properties from the given {@link KomodoObject}
+     * and adds them to this entity. When properties are selected only those are fetched
+     * rather than scanning every property of the object.
+     *
+     * @param uow transaction required for fetching the properties from the {@link KomodoObject}
+     * @param kObject the source {@link KomodoObject}
+     * @param fields the names of the properties to add (can be <code>null</code> if all properties are added)
+     * @throws KException if error occurs
+     */
+    public void addExecutionProperties(UnitOfWork uow, KomodoObject kObject, Set<String> fields) throws KException {
+        if (fields != null) {
+            for (String propName : fields) {
+                if (hasPrefix(propName) || propName.contains(PREFIX_SEPARATOR) || !kObject.hasProperty(uow, propName))
+                    continue;
+
+                addExecutionProperty(uow, kObject.getProperty(uow, propName));
+            }
+
+            return;
+        }
+
         final List<String> propNames = new ArrayList<>(Arrays.asList(kObject.getPropertyNames(uow))); // props with values
         final PropertyDescriptor[] descriptors = kObject.getPropertyDescriptors(uow);
 
@@ -445,20 +508,51 @@ public class RestBasicEntity implements KRestEntity {
             if (hasPrefix(propName))
                 continue;
 
-            Property attribute = kObject.getProperty(uow, propName);
-            if (attribute == null)
-                continue;
+            addExecutionProperty(uow, kObject.getProperty(uow, propName));
+        }
+    }
 
-            if (attribute.isMultiple(uow)) {
-                Object[] values = attribute.getValues(uow);
-                addProperty(propName, values);
-            } else {
-                Object value = attribute.getValue(uow);
-                addProperty(propName, value);
-            }
+    private void addExecutionProperty(UnitOfWork uow, Property attribute) throws KException {
+        if (attribute == null)
+            return;
+
+        String propName = attribute.getName(uow);
+        if (attribute.isMultiple(uow)) {
+            Object[] values = attribute.getValues(uow);
+            addProperty(propName, values);
+        } else {
+            Object value = attribute.getValue(uow);
+            addProperty(propName, value);
         }
     }
 
+    /**
+     * Removes the tuples, execution properties and links that are not selected.
+     * The {@link #IDENTITY_FIELDS identity fields} are always kept and links are only
+     * kept if {@link #LINKS} is selected.
+     *
+     * @param fields the names of the fields to keep (cannot be <code>null</code>)
+     */
+    public void project(Set<String> fields) {
+        ArgCheck.isNotNull(fields, "fields"); //$NON-NLS-1$
+
+        Iterator<String> keyIter = this.tuples.keySet().iterator();
+        while (keyIter.hasNext()) {
+            String key = keyIter.next();
+            if (!IDENTITY_FIELDS.contains(key) && !fields.contains(key))
+                keyIter.remove();
+        }
+
+        Iterator<RestProperty> propIter = this.properties.iterator();
+        while (propIter.hasNext()) {
+            if (!fields.contains(propIter.next().getName()))
+                propIter.remove();
+        }
+
+        if (!fields.contains(LINKS))
+            this.links = RestLink.NO_LINKS;
+    }
+
     /**
      * @return the xml
      */
@@ -339,6 +339,15 @@ public final class KomodoRestUriBuilder implements KomodoRestV1Application.V1Con
                                    .path(VDBS_SEGMENT).build();
     }
 
+    /**
+     * @return the URI to use when executing a batch of operations in the workspace (never <code>null</code>)
+     */
+    public URI workspaceBatchUri() {
+        return UriBuilder.fromUri(this.baseUri)
+                                   .path(WORKSPACE_SEGMENT)
+                                   .path(BATCH_SEGMENT).build();
+    }
+
     /**
      * @return the URI to use when requesting the teiid cache  (never <code>null</code>)
      */
@@ -1307,7 +1307,32 @@ public final class RelationalMessages {
         /**
          * An import export service storage types missing parameter error
          */
-        IMPORT_EXPORT_SERVICE_MISSING_PARAMETER_ERROR;
+        IMPORT_EXPORT_SERVICE_MISSING_PARAMETER_ERROR,
+
+        /**
+         * The batch service cannot parse the request body
+         */
+        BATCH_SERVICE_REQUEST_PARSING_ERROR,
+
+        /**
+         * A batch operation that needs a request body does not have one
+         */
+        BATCH_SERVICE_MISSING_BODY_ERROR,
+
+        /**
+         * The batch service has been sent an operation it does not support
+         */
+        BATCH_SERVICE_UNSUPPORTED_OPERATION_ERROR,
+
+        /**
+         * The batch service cannot find the target of an operation
+         */
+        BATCH_SERVICE_NO_TARGET_ERROR,
+
+        /**
+         * An operation of a batch failed so the batch was rolled back
+         */
+        BATCH_SERVICE_OPERATION_ERROR;
 
         /**
          * {@inheritDoc}
@@ -22,6 +22,9 @@
 package org.komodo.rest.relational;
 
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
 import org.komodo.relational.connection.Connection;
 import org.komodo.relational.dataservice.Dataservice;
 import org.komodo.relational.model.Column;
@@ -74,13 +77,73 @@ public class RestEntityFactory implements V1Constants {
      * @param kObject the object
      * @param baseUri the base uri
      * @param uow the transaction
-     * @param properties extra properties
+     * @param properties extra properties, including the {@link #ENTITY_FIELDS_PROPERTY selected fields}
+     *        and the {@link #ENTITY_DEPTH_PROPERTY depth of child entities}
      * @return the rest object for the given kObject
      * @throws KException if error occurs
      */
     @SuppressWarnings( "unchecked" )
     public <T extends RestBasicEntity> T create(KomodoObject kObject, URI baseUri,
                                                                  UnitOfWork uow, KomodoProperties properties) throws KException {
+        Set<String> fields = properties.getProperty(ENTITY_FIELDS_PROPERTY, null);
+        int depth = Math.min(properties.getProperty(ENTITY_DEPTH_PROPERTY, 0), MAX_ENTITY_DEPTH);
+        RestBasicEntity entity;
+
+        if (fields == null) {
+            entity = createEntity(kObject, baseUri, uow, properties);
+        } else if (isBasicProjection(fields)) {
+            // only identity, hasChildren and execution properties so no need to construct the typed entity
+            entity = (kObject.getTypeIdentifier(uow) == KomodoType.UNKNOWN) ? null : new RestBasicEntity(baseUri, kObject, uow, fields);
+        } else {
+            RestBasicEntity typed = createEntity(kObject, baseUri, uow, properties);
+
+            if (typed == null)
+                entity = null;
+            else {
+                // the typed serializers validate their own fields so write the projection as a basic entity
+                entity = new RestBasicEntity();
+                typed.clone(entity);
+                entity.project(fields);
+            }
+        }
+
+        if (entity != null && depth > 0) {
+            KomodoProperties childProperties = new KomodoProperties();
+            childProperties.putAll(properties);
+            childProperties.addProperty(ENTITY_DEPTH_PROPERTY, depth - 1);
+
+            List<RestBasicEntity> children = new ArrayList<>();
+            for (KomodoObject child : kObject.getChildren(uow)) {
+                RestBasicEntity childEntity = create(child, baseUri, uow, childProperties);
+                if (childEntity != null)
+                    children.add(childEntity);
+            }
+
+            entity.addTuple(CHILDREN, children.toArray(new RestBasicEntity[children.size()]));
+        }
+
+        return (T) entity;
+    }
+
+    /**
+     * @return <code>true</code> if the fields only name identity fields, hasChildren and execution properties
+     */
+    private boolean isBasicProjection(Set<String> fields) {
+        for (String field : fields) {
+            if (RestBasicEntity.IDENTITY_FIELDS.contains(field) || HAS_CHILDREN.equals(field))
+                continue;
+
+            // typed entity tuples and links are named with a protected prefix
+            if (field.contains(PREFIX_SEPARATOR))
+                return false;
+        }
+
+        return true;
+    }
+
+    @SuppressWarnings( "unchecked" )
+    private <T extends RestBasicEntity> T createEntity(KomodoObject kObject, URI baseUri,
+                                                        UnitOfWork uow, KomodoProperties properties) throws KException {
         WorkspaceManager wsMgr = WorkspaceManager.getInstance(kObject.getRepository(), uow);
         KomodoType kType = kObject.getTypeIdentifier(uow);
 
@@ -25,6 +25,7 @@ import static org.komodo.rest.Messages.Error.INCOMPLETE_JSON;
 import static org.komodo.rest.relational.json.KomodoJsonMarshaller.BUILDER;
 import java.io.IOException;
 import java.util.Map;
+import org.komodo.rest.KRestEntity;
 import org.komodo.rest.Messages;
 import org.komodo.rest.RestBasicEntity;
 import com.google.gson.stream.JsonReader;
@@ -153,7 +154,9 @@ public class BasicEntitySerializer<T extends RestBasicEntity> extends AbstractEn
                 writeValue(out, val);
             }
             out.endArray();
-        } else
+        } else if (value instanceof KRestEntity)
+            BUILDER.toJson(value, value.getClass(), out);
+        else
             out.value(value.toString());
     }
 
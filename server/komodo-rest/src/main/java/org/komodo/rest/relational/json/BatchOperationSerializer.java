@@ -0,0 +1,103 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * See the COPYRIGHT.txt file distributed with this work for information
+ * regarding copyright ownership.  Some portions may be licensed
+ * to Red Hat, Inc. under one or more contributor license agreements.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA
+ * 02110-1301 USA.
+ */
+package org.komodo.rest.relational.json;
+
+import static org.komodo.rest.Messages.Error.UNEXPECTED_JSON_TOKEN;
+import static org.komodo.rest.relational.json.KomodoJsonMarshaller.BUILDER;
+import java.io.IOException;
+import org.komodo.rest.Messages;
+import org.komodo.rest.relational.request.KomodoBatchOperation;
+import com.google.gson.JsonParser;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * A GSON serializer/deserializer for {@link KomodoBatchOperation}s.
+ * The body of the operation is kept as a JSON document so it can be unmarshalled once the target of the operation is known.
+ */
+public final class BatchOperationSerializer extends TypeAdapter< KomodoBatchOperation > {
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see com.google.gson.TypeAdapter#read(com.google.gson.stream.JsonReader)
+     */
+    @Override
+    public KomodoBatchOperation read( final JsonReader in ) throws IOException {
+        final KomodoBatchOperation operation = new KomodoBatchOperation();
+        in.beginObject();
+
+        while ( in.hasNext() ) {
+            final String name = in.nextName();
+
+            switch ( name ) {
+                case KomodoBatchOperation.METHOD_LABEL:
+                    operation.setMethod(in.nextString());
+                    break;
+                case KomodoBatchOperation.PATH_LABEL:
+                    operation.setPath(in.nextString());
+                    break;
+                case KomodoBatchOperation.BODY_LABEL:
+                    if ( in.peek() == JsonToken.NULL ) {
+                        in.nextNull();
+                    } else {
+                        operation.setBody(new JsonParser().parse(in).toString());
+                    }
+                    break;
+                default:
+                    throw new IOException( Messages.getString( UNEXPECTED_JSON_TOKEN, name ) );
+            }
+        }
+
+        in.endObject();
+
+        return operation;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see com.google.gson.TypeAdapter#write(com.google.gson.stream.JsonWriter, java.lang.Object)
+     */
+    @Override
+    public void write( final JsonWriter out,
+                       final KomodoBatchOperation value ) throws IOException {
+
+        out.beginObject();
+
+        out.name(KomodoBatchOperation.METHOD_LABEL);
+        out.value(value.getMethod());
+
+        out.name(KomodoBatchOperation.PATH_LABEL);
+        out.value(value.getPath());
+
+        if ( value.getBody() != null ) {
+            out.name(KomodoBatchOperation.BODY_LABEL);
+            BUILDER.toJson(new JsonParser().parse(value.getBody()), out);
+        }
+
+        out.endObject();
+    }
+
+}
@@ -21,6 +21,11 @@
  */
 package org.komodo.rest.relational.json;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
 import org.komodo.rest.KRestEntity;
@@ -44,6 +49,7 @@ import org.komodo.rest.relational.json.connection.ConnectionSchemaSerializer;
 import org.komodo.rest.relational.json.connection.ConnectionSerializer;
 import org.komodo.rest.relational.json.connection.TemplateEntrySerializer;
 import org.komodo.rest.relational.json.connection.TemplateSerializer;
+import org.komodo.rest.relational.request.KomodoBatchOperation;
 import org.komodo.rest.relational.request.KomodoConnectionAttributes;
 import org.komodo.rest.relational.request.KomodoDataSourceJdbcTableAttributes;
 import org.komodo.rest.relational.request.KomodoDataserviceUpdateAttributes;
@@ -84,6 +90,7 @@ import org.komodo.utils.KLog;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonIOException;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 
@@ -111,6 +118,7 @@ public final class KomodoJsonMarshaller {
                                                   .registerTypeAdapter(KomodoDataserviceUpdateAttributes.class, new DataserviceUpdateAttributesSerializer())
                                                   .registerTypeAdapter(KomodoDataSourceJdbcTableAttributes.class, new DataSourceJdbcTableAttributesSerializer())
                                                   .registerTypeAdapter(KomodoVdbUpdateAttributes.class, new VdbUpdateAttributesSerializer())
+                                                  .registerTypeAdapter(KomodoBatchOperation.class, new BatchOperationSerializer())
                                                   .registerTypeAdapter(RestProperty.class, new RestPropertySerializer())
                                                   .registerTypeAdapter(RestVdb.class, new VdbSerializer())
                                                   .registerTypeAdapter(RestVdbModel.class, new VdbModelSerializer())
@@ -266,6 +274,66 @@ public final class KomodoJsonMarshaller {
         return json;
     }
 
+    /**
+     * Writes the JSON representation directly to the stream without first building it in memory. The stream is flushed but
+     * not closed.
+     *
+     * @param entity
+     *        the entity whose JSON representation is being written (cannot be <code>null</code>)
+     * @param prettyPrint
+     *        <code>true</code> if JSON output should be pretty printed
+     * @param stream
+     *        the stream the UTF-8 encoded JSON is written to (cannot be <code>null</code>)
+     * @throws IOException
+     *         if an error occurs writing to the stream
+     */
+    public static void marshall( final KRestEntity entity,
+                                 final boolean prettyPrint,
+                                 final OutputStream stream ) throws IOException {
+        ArgCheck.isNotNull( entity, "entity" ); //$NON-NLS-1$
+        write( entity, prettyPrint, stream );
+    }
+
+    /**
+     * Writes the JSON representation directly to the stream without first building it in memory. The stream is flushed but
+     * not closed.
+     *
+     * @param entities
+     *        the entities whose JSON representation is being written (cannot be <code>null</code>)
+     * @param prettyPrint
+     *        <code>true</code> if JSON output should be pretty printed
+     * @param stream
+     *        the stream the UTF-8 encoded JSON is written to (cannot be <code>null</code>)
+     * @throws IOException
+     *         if an error occurs writing to the stream
+     */
+    public static void marshallArray( final KRestEntity[] entities,
+                                      final boolean prettyPrint,
+                                      final OutputStream stream ) throws IOException {
+        ArgCheck.isNotNull( entities, "entities" ); //$NON-NLS-1$
+        write( entities, prettyPrint, stream );
+    }
+
+    private static void write( final Object src,
+                               final boolean prettyPrint,
+                               final OutputStream stream ) throws IOException {
+        ArgCheck.isNotNull( stream, "stream" ); //$NON-NLS-1$
+        final Writer writer = new OutputStreamWriter( stream, StandardCharsets.UTF_8 );
+
+        try {
+            ( prettyPrint ? PRETTY_BUILDER : BUILDER ).toJson( src, src.getClass(), writer );
+        } catch ( final JsonIOException e ) {
+            if ( e.getCause() instanceof IOException ) {
+                throw ( IOException )e.getCause();
+            }
+
+            throw new IOException( e );
+        }
+
+        writer.flush();
+        LOGGER.debug( "marshall: streamed {0}", src.getClass().getSimpleName() ); //$NON-NLS-1$
+    }
+
     /**
      * @param <T>
      *        the {@link RestBasicEntity} type of the output
@@ -0,0 +1,175 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * See the COPYRIGHT.txt file distributed with this work for information
+ * regarding copyright ownership.  Some portions may be licensed
+ * to Red Hat, Inc. under one or more contributor license agreements.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA
+ * 02110-1301 USA.
+ */
+package org.komodo.rest.relational.request;
+
+import javax.ws.rs.core.MediaType;
+import org.codehaus.jackson.annotate.JsonIgnore;
+import org.codehaus.jackson.annotate.JsonProperty;
+import org.codehaus.jackson.map.annotate.JsonSerialize;
+import org.codehaus.jackson.map.annotate.JsonSerialize.Inclusion;
+import org.komodo.rest.KRestEntity;
+
+
+/**
+ * Object to be serialised by GSON that encapsulates a single operation of a batch request
+ */
+@JsonSerialize(include=Inclusion.NON_NULL)
+public class KomodoBatchOperation implements KRestEntity {
+
+    /**
+     * Label for the HTTP method of the operation, ie. GET, POST, PUT or DELETE
+     */
+    public static final String METHOD_LABEL = "method"; //$NON-NLS-1$
+
+    /**
+     * Label for the path of the operation relative to the workspace, eg. vdbs/myVdb
+     */
+    public static final String PATH_LABEL = "path"; //$NON-NLS-1$
+
+    /**
+     * Label for the JSON body of the operation
+     */
+    public static final String BODY_LABEL = "body"; //$NON-NLS-1$
+
+    @JsonProperty(METHOD_LABEL)
+    private String method;
+
+    @JsonProperty(PATH_LABEL)
+    private String path;
+
+    @JsonProperty(BODY_LABEL)
+    private String body;
+
+    /**
+     * Default constructor for deserialization
+     */
+    public KomodoBatchOperation() {
+        // do nothing
+    }
+
+    /**
+     * @param method the HTTP method
+     * @param path the path relative to the workspace
+     * @param body the JSON body (can be <code>null</code>)
+     */
+    public KomodoBatchOperation(String method, String path, String body) {
+        this.method = method;
+        this.path = path;
+        this.body = body;
+    }
+
+    @Override
+    @JsonIgnore
+    public boolean supports(MediaType mediaType) {
+        return MediaType.APPLICATION_JSON_TYPE.equals(mediaType);
+    }
+
+    @Override
+    @JsonIgnore
+    public Object getXml() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * @return the HTTP method
+     */
+    public String getMethod() {
+        return this.method;
+    }
+
+    /**
+     * @param method the HTTP method to set
+     */
+    public void setMethod(String method) {
+        this.method = method;
+    }
+
+    /**
+     * @return the path relative to the workspace
+     */
+    public String getPath() {
+        return this.path;
+    }
+
+    /**
+     * @param path the path to set
+     */
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    /**
+     * @return the JSON body (can be <code>null</code>)
+     */
+    public String getBody() {
+        return this.body;
+    }
+
+    /**
+     * @param body the JSON body to set
+     */
+    public void setBody(String body) {
+        this.body = body;
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + ((body == null) ? 0 : body.hashCode());
+        result = prime * result + ((method == null) ? 0 : method.hashCode());
+        result = prime * result + ((path == null) ? 0 : path.hashCode());
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        if (getClass() != obj.getClass())
+            return false;
+        KomodoBatchOperation other = (KomodoBatchOperation)obj;
+        if (body == null) {
+            if (other.body != null)
+                return false;
+        } else if (!body.equals(other.body))
+            return false;
+        if (method == null) {
+            if (other.method != null)
+                return false;
+        } else if (!method.equals(other.method))
+            return false;
+        if (path == null) {
+            if (other.path != null)
+                return false;
+        } else if (!path.equals(other.path))
+            return false;
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "KomodoBatchOperation [method=" + method + ", path=" + path + ", body=" + body + "]";
+    }
+}
@@ -0,0 +1,305 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * See the COPYRIGHT.txt file distributed with this work for information
+ * regarding copyright ownership.  Some portions may be licensed
+ * to Red Hat, Inc. under one or more contributor license agreements.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA
+ * 02110-1301 USA.
+ */
+package org.komodo.rest.service;
+
+import static org.komodo.rest.relational.RelationalMessages.Error.BATCH_SERVICE_MISSING_BODY_ERROR;
+import static org.komodo.rest.relational.RelationalMessages.Error.BATCH_SERVICE_NO_TARGET_ERROR;
+import static org.komodo.rest.relational.RelationalMessages.Error.BATCH_SERVICE_OPERATION_ERROR;
+import static org.komodo.rest.relational.RelationalMessages.Error.BATCH_SERVICE_REQUEST_PARSING_ERROR;
+import static org.komodo.rest.relational.RelationalMessages.Error.BATCH_SERVICE_UNSUPPORTED_OPERATION_ERROR;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.UriInfo;
+import org.komodo.core.KEngine;
+import org.komodo.relational.dataservice.Dataservice;
+import org.komodo.relational.vdb.Vdb;
+import org.komodo.relational.workspace.WorkspaceManager;
+import org.komodo.rest.KRestEntity;
+import org.komodo.rest.KomodoRestException;
+import org.komodo.rest.KomodoRestV1Application.V1Constants;
+import org.komodo.rest.KomodoService;
+import org.komodo.rest.relational.RelationalMessages;
+import org.komodo.rest.relational.dataservice.RestDataservice;
+import org.komodo.rest.relational.json.KomodoJsonMarshaller;
+import org.komodo.rest.relational.request.KomodoBatchOperation;
+import org.komodo.rest.relational.response.RestVdb;
+import org.komodo.spi.KException;
+import org.komodo.spi.constants.StringConstants;
+import org.komodo.spi.repository.KomodoType;
+import org.komodo.spi.repository.Repository.UnitOfWork;
+import org.komodo.spi.repository.Repository.UnitOfWork.State;
+import org.komodo.utils.StringUtils;
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiParam;
+import io.swagger.annotations.ApiResponse;
+import io.swagger.annotations.ApiResponses;
+
+/**
+ * A Komodo REST service for executing an ordered list of VDB and data service operations in a single transaction.
+ * Either all the operations are applied or, if one fails, none of them are.
+ */
+@Path(V1Constants.WORKSPACE_SEGMENT + StringConstants.FORWARD_SLASH +
+           V1Constants.BATCH_SEGMENT)
+@Api(tags = {V1Constants.BATCH_SEGMENT})
+public final class KomodoBatchService extends KomodoService {
+
+    /**
+     * @param engine
+     *        the Komodo Engine (cannot be <code>null</code> and must be started)
+     * @throws WebApplicationException
+     *         if there is a problem obtaining the {@link WorkspaceManager workspace manager}
+     */
+    public KomodoBatchService( final KEngine engine ) throws WebApplicationException {
+        super( engine );
+    }
+
+    /**
+     * Executes the operations of the batch, in order, in one transaction
+     * @param headers
+     *        the request headers (never <code>null</code>)
+     * @param uriInfo
+     *        the request URI information (never <code>null</code>)
+     * @param batchJson
+     *        the JSON array of the operations (cannot be <code>null</code>)
+     * @return a JSON array of the result of each operation (never <code>null</code>)
+     * @throws KomodoRestException
+     *         if there is an error executing the batch
+     */
+    @POST
+    @Produces( MediaType.APPLICATION_JSON )
+    @Consumes( MediaType.APPLICATION_JSON )
+    @ApiOperation(value = "Execute several vdb and dataservice operations in one transaction")
+    @ApiResponses(value = {
+        @ApiResponse(code = 406, message = "Only JSON is returned by this operation"),
+        @ApiResponse(code = 403, message = "An error has occurred and no operations have been applied.")
+    })
+    public Response executeBatch( final @Context HttpHeaders headers,
+                                  final @Context UriInfo uriInfo,
+                                  @ApiParam(
+                                            value = "" +
+                                                    "JSON array of the operations to execute in order:<br>" +
+                                                    OPEN_PRE_TAG +
+                                                    OPEN_SQUARE_BRACKET + BR +
+                                                    NBSP + OPEN_BRACE + BR +
+                                                    NBSP + NBSP + KomodoBatchOperation.METHOD_LABEL + ": \"GET, POST, PUT or DELETE\"" + COMMA + BR +
+                                                    NBSP + NBSP + KomodoBatchOperation.PATH_LABEL + ": \"vdbs/{vdbName} or dataservices/{dataserviceName}\"" + COMMA + BR +
+                                                    NBSP + NBSP + KomodoBatchOperation.BODY_LABEL + ": \"JSON of the vdb or dataservice for POST and PUT\"" + BR +
+                                                    NBSP + CLOSE_BRACE + BR +
+                                                    CLOSE_SQUARE_BRACKET +
+                                                    CLOSE_PRE_TAG,
+                                            required = true
+                                  )
+                                  final String batchJson) throws KomodoRestException {
+
+        SecurityPrincipal principal = checkSecurityContext(headers);
+        if (principal.hasErrorResponse())
+            return principal.getErrorResponse();
+
+        List<MediaType> mediaTypes = headers.getAcceptableMediaTypes();
+        if (! isAcceptable(mediaTypes, MediaType.APPLICATION_JSON_TYPE))
+            return notAcceptableMediaTypesBuilder().build();
+
+        KomodoBatchOperation[] operations;
+        try {
+            operations = KomodoJsonMarshaller.unmarshallArray(batchJson, KomodoBatchOperation[].class);
+        } catch (Exception ex) {
+            return createErrorResponseWithForbidden(mediaTypes, ex, BATCH_SERVICE_REQUEST_PARSING_ERROR);
+        }
+
+        UnitOfWork uow = null;
+        int index = 0;
+
+        try {
+            uow = createTransaction(principal, "executeBatch", false ); //$NON-NLS-1$
+
+            final List<KRestEntity> results = new ArrayList<>(operations.length);
+            for (; index < operations.length; ++index) {
+                results.add(execute(uow, uriInfo.getBaseUri(), operations[index]));
+            }
+
+            LOGGER.debug("executeBatch: {0} operations executed", operations.length); //$NON-NLS-1$
+            return commit( uow, mediaTypes, results );
+        } catch (final Exception e) {
+            if ((uow != null) && (uow.getState() != State.ROLLED_BACK)) {
+                uow.rollback();
+            }
+
+            if (e instanceof KomodoRestException) {
+                throw (KomodoRestException)e;
+            }
+
+            final KomodoBatchOperation operation = (index < operations.length) ? operations[index] : null;
+            return createErrorResponseWithForbidden(mediaTypes, e, BATCH_SERVICE_OPERATION_ERROR,
+                                                    index,
+                                                    (operation == null) ? null : operation.getMethod(),
+                                                    (operation == null) ? null : operation.getPath());
+        }
+    }
+
+    private KRestEntity execute( final UnitOfWork uow,
+                                 final URI baseUri,
+                                 final KomodoBatchOperation operation ) throws Exception {
+        final String method = (operation.getMethod() == null) ? EMPTY_STRING : operation.getMethod().toUpperCase();
+        final String path = StringUtils.isBlank(operation.getPath()) ? EMPTY_STRING : operation.getPath().trim();
+
+        // paths are relative to the workspace, eg. vdbs/myVdb
+        String[] segments = path.split(FORWARD_SLASH);
+        if (segments.length > 0 && segments[0].isEmpty()) {
+            String[] trimmed = new String[segments.length - 1];
+            System.arraycopy(segments, 1, trimmed, 0, trimmed.length);
+            segments = trimmed;
+        }
+
+        if (segments.length == 2 && !StringUtils.isBlank(segments[1])) {
+            if (V1Constants.VDBS_SEGMENT.equals(segments[0]))
+                return executeVdbOperation(uow, baseUri, method, segments[1], operation.getBody());
+
+            if (V1Constants.DATA_SERVICES_SEGMENT.equals(segments[0]))
+                return executeDataserviceOperation(uow, baseUri, method, segments[1], operation.getBody());
+        }
+
+        throw new KException(RelationalMessages.getString(BATCH_SERVICE_UNSUPPORTED_OPERATION_ERROR, method, path));
+    }
+
+    private KRestEntity executeVdbOperation( final UnitOfWork uow,
+                                             final URI baseUri,
+                                             final String method,
+                                             final String vdbName,
+                                             final String body ) throws Exception {
+        final WorkspaceManager wsMgr = getWorkspaceManager(uow);
+
+        switch (method) {
+            case HttpMethod.GET: {
+                return entityFactory.create(vdb(uow, vdbName), baseUri, uow);
+            }
+            case HttpMethod.POST: {
+                final RestVdb restVdb = unmarshall(body, RestVdb.class);
+                check(checkVdbJson(vdbName, restVdb, true));
+
+                if (wsMgr.hasChild(uow, vdbName))
+                    throw new KException(RelationalMessages.getString(RelationalMessages.Error.VDB_SERVICE_VDB_ALREADY_EXISTS, vdbName));
+
+                return entityFactory.create(createVdbFromJson(uow, restVdb), baseUri, uow);
+            }
+            case HttpMethod.PUT: {
+                final RestVdb restVdb = unmarshall(body, RestVdb.class);
+                check(checkVdbJson(vdbName, restVdb, false));
+
+                final Vdb vdb = vdb(uow, vdbName);
+                updateVdbFromJson(uow, vdb, restVdb);
+                return entityFactory.create(vdb, baseUri, uow);
+            }
+            case HttpMethod.DELETE: {
+                wsMgr.delete(uow, vdb(uow, vdbName));
+                return deleteStatus(vdbName);
+            }
+            default:
+                throw new KException(RelationalMessages.getString(BATCH_SERVICE_UNSUPPORTED_OPERATION_ERROR,
+                                                                  method, V1Constants.VDBS_SEGMENT + FORWARD_SLASH + vdbName));
+        }
+    }
+
+    private KRestEntity executeDataserviceOperation( final UnitOfWork uow,
+                                                     final URI baseUri,
+                                                     final String method,
+                                                     final String dataserviceName,
+                                                     final String body ) throws Exception {
+        switch (method) {
+            case HttpMethod.GET: {
+                return entityFactory.create(dataservice(uow, dataserviceName), baseUri, uow);
+            }
+            case HttpMethod.POST: {
+                final RestDataservice restDataservice = unmarshall(body, RestDataservice.class);
+                check(checkDataserviceJson(dataserviceName, restDataservice, true));
+
+                if (getWorkspaceManager(uow).hasChild(uow, dataserviceName))
+                    throw new KException(RelationalMessages.getString(RelationalMessages.Error.DATASERVICE_SERVICE_CREATE_ALREADY_EXISTS));
+
+                return entityFactory.create(createDataserviceFromJson(uow, restDataservice), baseUri, uow);
+            }
+            case HttpMethod.PUT: {
+                final RestDataservice restDataservice = unmarshall(body, RestDataservice.class);
+                check(checkDataserviceJson(dataserviceName, restDataservice, false));
+
+                final Dataservice dataservice = dataservice(uow, dataserviceName);
+                updateDataserviceFromJson(uow, dataservice, restDataservice);
+                return entityFactory.create(dataservice, baseUri, uow);
+            }
+            case HttpMethod.DELETE: {
+                removeDataservice(uow, dataservice(uow, dataserviceName));
+                return deleteStatus(dataserviceName);
+            }
+            default:
+                throw new KException(RelationalMessages.getString(BATCH_SERVICE_UNSUPPORTED_OPERATION_ERROR,
+                                                                  method, V1Constants.DATA_SERVICES_SEGMENT + FORWARD_SLASH + dataserviceName));
+        }
+    }
+
+    private < T extends KRestEntity > T unmarshall( final String body,
+                                                    final Class< T > entityClass ) throws KException {
+        if (StringUtils.isBlank(body))
+            throw new KException(RelationalMessages.getString(BATCH_SERVICE_MISSING_BODY_ERROR, entityClass.getSimpleName()));
+
+        return KomodoJsonMarshaller.unmarshall(body, entityClass);
+    }
+
+    private void check( final String error ) throws KException {
+        if (error != null)
+            throw new KException(error);
+    }
+
+    private Vdb vdb( final UnitOfWork uow,
+                     final String vdbName ) throws KException {
+        final Vdb vdb = findVdb(uow, vdbName);
+        if (vdb == null)
+            throw noTarget(KomodoType.VDB, vdbName);
+
+        return vdb;
+    }
+
+    private Dataservice dataservice( final UnitOfWork uow,
+                                     final String dataserviceName ) throws KException {
+        final Dataservice dataservice = findDataservice(uow, dataserviceName);
+        if (dataservice == null)
+            throw noTarget(KomodoType.DATASERVICE, dataserviceName);
+
+        return dataservice;
+    }
+
+    private KException noTarget( final KomodoType type,
+                                 final String name ) {
+        return new KException(RelationalMessages.getString(BATCH_SERVICE_NO_TARGET_ERROR, type.getType(), name));
+    }
+
+}
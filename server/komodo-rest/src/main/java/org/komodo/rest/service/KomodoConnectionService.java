@@ -119,7 +119,7 @@ public final class KomodoConnectionService extends KomodoService {
             final String searchPattern = uriInfo.getQueryParameters().getFirst( QueryParamKeys.PATTERN );
 
             // find connections
-            uow = createTransaction(principal, "getConnections", true ); //$NON-NLS-1$
+            uow = createReadOnlyTransaction(principal, "getConnections"); //$NON-NLS-1$
             Connection[] connections = null;
 
             if ( StringUtils.isBlank( searchPattern ) ) {
@@ -250,7 +250,7 @@ public final class KomodoConnectionService extends KomodoService {
         UnitOfWork uow = null;
 
         try {
-            uow = createTransaction(principal, "getConnection", true ); //$NON-NLS-1$
+            uow = createReadOnlyTransaction(principal, "getConnection"); //$NON-NLS-1$
 
             Connection connection = findConnection(uow, connectionName);
             if (connection == null)
@@ -32,7 +32,6 @@ import static org.komodo.rest.relational.RelationalMessages.Error.DATASERVICE_SE
 import static org.komodo.rest.relational.RelationalMessages.Error.DATASERVICE_SERVICE_GET_DRIVERS_ERROR;
 import static org.komodo.rest.relational.RelationalMessages.Error.DATASERVICE_SERVICE_NAME_EXISTS;
 import static org.komodo.rest.relational.RelationalMessages.Error.DATASERVICE_SERVICE_NAME_VALIDATION_ERROR;
-import static org.komodo.rest.relational.RelationalMessages.Error.DATASERVICE_SERVICE_SERVICE_NAME_ERROR;
 import static org.komodo.rest.relational.RelationalMessages.Error.DATASERVICE_SERVICE_SET_SERVICE_ERROR;
 import static org.komodo.rest.relational.RelationalMessages.Error.DATASERVICE_SERVICE_UPDATE_DATASERVICE_ERROR;
 import java.net.URI;
@@ -209,7 +208,7 @@ public final class KomodoDataserviceService extends KomodoService {
             final String searchPattern = uriInfo.getQueryParameters().getFirst( QueryParamKeys.PATTERN );
 
             // find Data services
-            uow = createTransaction(principal, "getDataservices", true ); //$NON-NLS-1$
+            uow = createReadOnlyTransaction(principal, "getDataservices"); //$NON-NLS-1$
             Dataservice[] dataServices = null;
 
             if ( StringUtils.isBlank( searchPattern ) ) {
@@ -342,7 +341,7 @@ public final class KomodoDataserviceService extends KomodoService {
         UnitOfWork uow = null;
 
         try {
-            uow = createTransaction(principal, "getDataservice", true ); //$NON-NLS-1$
+            uow = createReadOnlyTransaction(principal, "getDataservice"); //$NON-NLS-1$
 
             Dataservice dataservice = findDataservice(uow, dataserviceName);
             if (dataservice == null)
@@ -426,16 +425,9 @@ public final class KomodoDataserviceService extends KomodoService {
         }
 
         final RestDataservice restDataservice = KomodoJsonMarshaller.unmarshall( dataserviceJson, RestDataservice.class );
-        final String jsonDataserviceName = restDataservice.getId();
-        // Error if the name is missing from the supplied json body
-        if ( StringUtils.isBlank( jsonDataserviceName ) ) {
-            return createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.DATASERVICE_SERVICE_JSON_MISSING_NAME);
-        }
-
-        // Error if the name parameter is different than JSON name
-        final boolean namesMatch = dataserviceName.equals( jsonDataserviceName );
-        if ( !namesMatch ) {
-            return createErrorResponseWithForbidden(mediaTypes, DATASERVICE_SERVICE_SERVICE_NAME_ERROR, dataserviceName, jsonDataserviceName);
+        final String jsonError = checkDataserviceJson( dataserviceName, restDataservice, true );
+        if ( jsonError != null ) {
+            return createErrorResponse(Status.FORBIDDEN, mediaTypes, jsonError);
         }
 
         UnitOfWork uow = null;
@@ -899,7 +891,7 @@ public final class KomodoDataserviceService extends KomodoService {
         
         UnitOfWork uow = null;
         try {
-            uow = createTransaction(principal, "getDataserviceServiceVDB", true ); //$NON-NLS-1$
+            uow = createReadOnlyTransaction(principal, "getDataserviceServiceVDB"); //$NON-NLS-1$
 
             // Check for existence of Dataservice, Table and ModelSource before continuing...
             WorkspaceManager wkspMgr = getWorkspaceManager(uow);
@@ -1294,7 +1286,7 @@ public final class KomodoDataserviceService extends KomodoService {
         
         UnitOfWork uow = null;
         try {
-            uow = createTransaction(principal, "getViewDdl", true ); //$NON-NLS-1$
+            uow = createReadOnlyTransaction(principal, "getViewDdl"); //$NON-NLS-1$
 
             // -------------------------------------------------------------------------------------
             // Check for existence of necessary objects
@@ -1405,7 +1397,7 @@ public final class KomodoDataserviceService extends KomodoService {
         
         UnitOfWork uow = null;
         try {
-            uow = createTransaction(principal, "getJoinCriteria", true ); //$NON-NLS-1$
+            uow = createReadOnlyTransaction(principal, "getJoinCriteria"); //$NON-NLS-1$
 
             // -------------------------------------------------------------------------------------
             // Check for existence of necessary objects
@@ -1501,10 +1493,9 @@ public final class KomodoDataserviceService extends KomodoService {
 
 
         final RestDataservice restDataservice = KomodoJsonMarshaller.unmarshall( dataserviceJson, RestDataservice.class );
-        final String jsonDataserviceName = restDataservice.getId();
-        // Error if the name is missing from the supplied json body
-        if ( StringUtils.isBlank( jsonDataserviceName ) ) {
-            return createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.DATASERVICE_SERVICE_JSON_MISSING_NAME);
+        final String jsonError = checkDataserviceJson( dataserviceName, restDataservice, false );
+        if ( jsonError != null ) {
+            return createErrorResponse(Status.FORBIDDEN, mediaTypes, jsonError);
         }
 
         UnitOfWork uow = null;
@@ -1520,15 +1511,7 @@ public final class KomodoDataserviceService extends KomodoService {
             // must be an update
             final KomodoObject kobject = getWorkspaceManager(uow).getChild( uow, dataserviceName, DataVirtLexicon.DataService.NODE_TYPE );
             final Dataservice dataservice = getWorkspaceManager(uow).resolve( uow, kobject, Dataservice.class );
-
-            // Transfers the properties from the rest object to the created komodo service.
-            setProperties(uow, dataservice, restDataservice);
-
-            // rename if names did not match
-            final boolean namesMatch = dataserviceName.equals( jsonDataserviceName );
-            if ( !namesMatch ) {
-                dataservice.rename( uow, jsonDataserviceName );
-            }
+            updateDataserviceFromJson( uow, dataservice, restDataservice );
 
             KomodoProperties properties = new KomodoProperties();
             final RestDataservice entity = entityFactory.create(dataservice, uriInfo.getBaseUri(), uow, properties);
@@ -1558,11 +1541,7 @@ public final class KomodoDataserviceService extends KomodoService {
 
         final String dataserviceName = restDataservice.getId();
         try {
-            final Dataservice dataservice = getWorkspaceManager(uow).createDataservice( uow, null, dataserviceName);
-
-            // Transfers the properties from the rest object to the created komodo service.
-            setProperties(uow, dataservice, restDataservice);
-
+            final Dataservice dataservice = createDataserviceFromJson( uow, restDataservice );
             final RestDataservice entity = entityFactory.create(dataservice, baseUri, uow );
             final Response response = commit( uow, mediaTypes, entity );
             return response;
@@ -1579,20 +1558,6 @@ public final class KomodoDataserviceService extends KomodoService {
         }
     }
 
-    // Sets Dataservice properties using the supplied RestDataservice object
-    private void setProperties(final UnitOfWork uow, Dataservice dataService, RestDataservice restDataService) throws KException {
-        // 'New' = requested RestDataservice properties
-        String newDescription = restDataService.getDescription();
-
-        // 'Old' = current Dataservice properties
-        String oldDescription = dataService.getDescription(uow);
-
-        // Description
-        if ( !StringUtils.equals(newDescription, oldDescription) ) {
-            dataService.setDescription( uow, newDescription );
-        }
-    }
-
     /**
      * Delete the specified Dataservice from the komodo repository
      * @param headers
@@ -1639,20 +1604,9 @@ public final class KomodoDataserviceService extends KomodoService {
 
             KomodoObject dsKobject = wkspMgr.getChild(uow, dataserviceName, DataVirtLexicon.DataService.NODE_TYPE);
             final Dataservice dataservice = wkspMgr.resolve( uow, dsKobject, Dataservice.class );
+            removeDataservice( uow, dataservice );
 
-            // Delete the Dataservice serviceVDB if found
-            Vdb serviceVdb = dataservice.getServiceVdb(uow);
-            if(serviceVdb!=null) {
-                wkspMgr.delete(uow, serviceVdb);
-            }
-
-            // Delete the Dataservice
-            wkspMgr.delete(uow, dataservice);
-            
-            KomodoStatusObject kso = new KomodoStatusObject("Delete Status"); //$NON-NLS-1$
-            kso.addAttribute(dataserviceName, "Successfully deleted"); //$NON-NLS-1$
-
-            return commit(uow, mediaTypes, kso);
+            return commit(uow, mediaTypes, deleteStatus(dataserviceName));
         } catch (final Exception e) {
             if ((uow != null) && (uow.getState() != State.ROLLED_BACK)) {
                 uow.rollback();
@@ -1788,7 +1742,7 @@ public final class KomodoDataserviceService extends KomodoService {
         UnitOfWork uow = null;
 
         try {
-            uow = createTransaction(principal, "getDataservice", true ); //$NON-NLS-1$
+            uow = createReadOnlyTransaction(principal, "getDataservice"); //$NON-NLS-1$
 
             Dataservice dataservice = findDataservice(uow, dataserviceName);
             if (dataservice == null)
@@ -1855,7 +1809,7 @@ public final class KomodoDataserviceService extends KomodoService {
         UnitOfWork uow = null;
 
         try {
-            uow = createTransaction(principal, "getDataservice", true ); //$NON-NLS-1$
+            uow = createReadOnlyTransaction(principal, "getDataservice"); //$NON-NLS-1$
 
             Dataservice dataservice = findDataservice(uow, dataserviceName);
             if (dataservice == null)
@@ -1922,7 +1876,7 @@ public final class KomodoDataserviceService extends KomodoService {
         UnitOfWork uow = null;
 
         try {
-            uow = createTransaction(principal, "getSourceVdbsForDataservice", true ); //$NON-NLS-1$
+            uow = createReadOnlyTransaction(principal, "getSourceVdbsForDataservice"); //$NON-NLS-1$
 
             Dataservice dataservice = findDataservice(uow, dataserviceName);
             if (dataservice == null)
@@ -2010,7 +1964,7 @@ public final class KomodoDataserviceService extends KomodoService {
         UnitOfWork uow = null;
 
         try {
-            uow = createTransaction(principal, "getServiceViewInfoForDataService", true ); //$NON-NLS-1$
+            uow = createReadOnlyTransaction(principal, "getServiceViewInfoForDataService"); //$NON-NLS-1$
 
             Dataservice dataservice = findDataservice(uow, dataserviceName);
             if (dataservice == null)
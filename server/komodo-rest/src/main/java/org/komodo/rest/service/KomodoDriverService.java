@@ -125,7 +125,7 @@ public final class KomodoDriverService extends KomodoService {
             final String searchPattern = uriInfo.getQueryParameters().getFirst( QueryParamKeys.PATTERN );
 
             // find Drivers
-            uow = createTransaction(principal, "getDrivers", true ); //$NON-NLS-1$
+            uow = createReadOnlyTransaction(principal, "getDrivers"); //$NON-NLS-1$
             Driver[] drivers = null;
             WorkspaceManager wsMgr = getWorkspaceManager(uow);
 
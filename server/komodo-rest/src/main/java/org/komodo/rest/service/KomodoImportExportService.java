@@ -21,8 +21,13 @@
  */
 package org.komodo.rest.service;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
-import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -39,7 +44,10 @@ import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.Status;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.core.UriInfo;
+import org.jboss.resteasy.plugins.providers.multipart.InputPart;
+import org.jboss.resteasy.plugins.providers.multipart.MultipartFormDataInput;
 import org.komodo.core.KEngine;
 import org.komodo.importer.ImportMessages;
 import org.komodo.importer.ImportOptions;
@@ -212,28 +220,11 @@ public class KomodoImportExportService extends KomodoService {
         try {
             uow = createTransaction(principal, "exportFromWorkspace", true); //$NON-NLS-1$
 
-            String artifactPath = sta.getArtifactPath();
-            KomodoObject kObject = repo.getFromWorkspace(uow, artifactPath);
-            if (kObject == null) {
-                return createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.IMPORT_EXPORT_SERVICE_NO_ARTIFACT_ERROR, artifactPath);
-            }
-
-            Exportable artifact = getWorkspaceManager(uow).resolve(uow, kObject, Exportable.class);
-            if (artifact == null) {
-                return createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.IMPORT_EXPORT_SERVICE_ARTIFACT_NOT_EXPORTABLE_ERROR, artifactPath);
-            }
-
-            DocumentType documentType = artifact.getDocumentType(uow);
-            Properties parameters = sta.convertParameters();
-            if (! parameters.containsKey(StorageConnector.FILE_PATH_PROPERTY)) {
-                String fileName = documentType.fileName(artifact.getName(uow));
-                parameters.setProperty(StorageConnector.FILE_PATH_PROPERTY, fileName);
-            }
-
-            status.setName(artifact.getName(uow));
-            status.setType(documentType.toString());
+            Response response = checkExportable(uow, sta, mediaTypes);
+            if (response.getStatus() != Status.OK.getStatusCode())
+                return response;
 
-            String downloadable = getWorkspaceManager(uow).exportArtifact(uow, artifact, sta.getStorageType(), parameters);
+            String downloadable = export(uow, (Exportable)response.getEntity(), sta, status);
 
             //
             // 2 Return possibilities:
@@ -259,27 +250,147 @@ public class KomodoImportExportService extends KomodoService {
         }
     }
 
-    private void applyContent(ImportExportStatus status, String downloadable) throws Exception {
-        if (downloadable == null)
-            return;
+    /**
+     * @return an OK response whose entity is the {@link Exportable} artifact or the error response
+     */
+    private Response checkExportable(UnitOfWork uow, KomodoStorageAttributes sta,
+                                     List<MediaType> mediaTypes) throws Exception {
+        String artifactPath = sta.getArtifactPath();
+        KomodoObject kObject = repo.getFromWorkspace(uow, artifactPath);
+        if (kObject == null) {
+            return createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.IMPORT_EXPORT_SERVICE_NO_ARTIFACT_ERROR, artifactPath);
+        }
+
+        Exportable artifact = getWorkspaceManager(uow).resolve(uow, kObject, Exportable.class);
+        if (artifact == null) {
+            return createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.IMPORT_EXPORT_SERVICE_ARTIFACT_NOT_EXPORTABLE_ERROR, artifactPath);
+        }
+
+        return Response.ok(artifact).build();
+    }
 
-        FileInputStream stream = null;
+    /**
+     * @return the path of the exported file if it is downloadable otherwise <code>null</code>
+     */
+    private String export(UnitOfWork uow, Exportable artifact, KomodoStorageAttributes sta,
+                          ImportExportStatus status) throws Exception {
+        DocumentType documentType = artifact.getDocumentType(uow);
+        Properties parameters = sta.convertParameters();
+        if (! parameters.containsKey(StorageConnector.FILE_PATH_PROPERTY)) {
+            String fileName = documentType.fileName(artifact.getName(uow));
+            parameters.setProperty(StorageConnector.FILE_PATH_PROPERTY, fileName);
+        }
+
+        status.setName(artifact.getName(uow));
+        status.setType(documentType.toString());
+
+        return getWorkspaceManager(uow).exportArtifact(uow, artifact, sta.getStorageType(), parameters);
+    }
+
+    /**
+     * Exports an artifact from the workspace and streams the exported file as the response body.
+     *
+     * @param headers
+     *        the request headers (never <code>null</code>)
+     * @param uriInfo
+     *        the request URI information (never <code>null</code>)
+     * @param storageAttributes
+     *        the export attributes JSON representation (cannot be <code>null</code>)
+     * @return the raw bytes of the exported file or no content if the artifact was exported to storage only
+     *                  (never <code>null</code>)
+     * @throws KomodoRestException
+     *         if there is a problem with the export
+     */
+    @POST
+    @Path(V1Constants.EXPORT)
+    @Produces( MediaType.APPLICATION_OCTET_STREAM )
+    @Consumes ( { MediaType.APPLICATION_JSON } )
+    @ApiOperation(value = "Exports an artifact using parameters provided in the request body and returns the file content",
+                             response = byte[].class)
+    @ApiResponses(value = {
+        @ApiResponse(code = 204, message = "The artifact was exported to storage and is not downloadable"),
+        @ApiResponse(code = 406, message = "Only binary content is returned by this operation"),
+        @ApiResponse(code = 403, message = "An error has occurred.")
+    })
+    public Response exportArtifactContent( final @Context HttpHeaders headers,
+                             final @Context UriInfo uriInfo,
+                             @ApiParam(value = "JSON of the storage attributes. See the JSON export operation.",
+                                       required = true)
+                             final String storageAttributes) throws KomodoRestException {
+        SecurityPrincipal principal = checkSecurityContext(headers);
+        if (principal.hasErrorResponse())
+            return principal.getErrorResponse();
+
+        List<MediaType> mediaTypes = headers.getAcceptableMediaTypes();
+        if (! isAcceptable(mediaTypes, MediaType.APPLICATION_OCTET_STREAM_TYPE))
+            return notAcceptableMediaTypesBuilder().build();
+
+        KomodoStorageAttributes sta;
         try {
-            File downloadableFile = new File(downloadable);
-            stream = new FileInputStream(downloadableFile);
+            sta = KomodoJsonMarshaller.unmarshall(storageAttributes, KomodoStorageAttributes.class);
 
-            status.setDownloadableSize(downloadableFile.length());
+            Response response = checkStorageAttributes(sta, mediaTypes);
+            if (response.getStatus() != Status.OK.getStatusCode())
+                return response;
 
-            byte content[] = new byte[(int)downloadableFile.length()];
-            stream.read(content);
-            String encContent = encode(content);
-            status.setContent(encContent);
+        } catch (Exception ex) {
+            return createErrorResponseWithForbidden(mediaTypes, ex, RelationalMessages.Error.IMPORT_EXPORT_SERVICE_REQUEST_PARSING_ERROR);
+        }
 
-            KLog.getLogger().debug("Encrypted content of " + downloadableFile.getAbsolutePath() + ": " + encContent + " SIZE: "
-                                  + downloadableFile.length());
+        UnitOfWork uow = null;
+        try {
+            uow = createTransaction(principal, "exportContentFromWorkspace", true); //$NON-NLS-1$
 
-        } finally {
-            stream.close();
+            Response response = checkExportable(uow, sta, mediaTypes);
+            if (response.getStatus() != Status.OK.getStatusCode())
+                return response;
+
+            String downloadable = export(uow, (Exportable)response.getEntity(), sta, new ImportExportStatus());
+
+            response = commit(uow, mediaTypes);
+            if (response.getStatus() != Status.OK.getStatusCode())
+                return response;
+
+            if (downloadable == null)
+                return Response.noContent().build();
+
+            final File downloadableFile = new File(downloadable);
+            StreamingOutput content = new StreamingOutput() {
+
+                @Override
+                public void write(OutputStream output) throws IOException, WebApplicationException {
+                    Files.copy(downloadableFile.toPath(), output);
+                }
+            };
+
+            return Response.ok(content, MediaType.APPLICATION_OCTET_STREAM_TYPE)
+                           .header(HttpHeaders.CONTENT_LENGTH, downloadableFile.length())
+                           .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + downloadableFile.getName() + "\"") //$NON-NLS-1$ //$NON-NLS-2$
+                           .build();
+
+        } catch (final Exception e) {
+            if ((uow != null) && (uow.getState() != State.ROLLED_BACK)) {
+                uow.rollback();
+            }
+
+            return createErrorResponse(Status.FORBIDDEN, mediaTypes, e,
+                                       RelationalMessages.Error.IMPORT_EXPORT_SERVICE_EXPORT_ERROR,
+                                       sta.getArtifactPath(), sta.getStorageType());
+        }
+    }
+
+    private void applyContent(ImportExportStatus status, String downloadable) throws Exception {
+        if (downloadable == null)
+            return;
+
+        File downloadableFile = new File(downloadable);
+        status.setDownloadableSize(downloadableFile.length());
+        status.setContent(encode(downloadableFile));
+
+        if (KLog.getLogger().isDebugEnabled()) {
+            KLog.getLogger().debug("Encoded content of {0} SIZE: {1}", //$NON-NLS-1$
+                                   downloadableFile.getAbsolutePath(),
+                                   downloadableFile.length());
         }
     }
 
@@ -352,25 +463,168 @@ public class KomodoImportExportService extends KomodoService {
             return createErrorResponseWithForbidden(mediaTypes, ex, RelationalMessages.Error.IMPORT_EXPORT_SERVICE_REQUEST_PARSING_ERROR);
         }
 
+        return importArtifact(principal, mediaTypes, sta, null);
+    }
+
+    /**
+     * Imports an artifact into the workspace. The raw bytes of the file are sent in a form part
+     * rather than as Base64 content of the storage attributes.
+     *
+     * @param headers
+     *        the request headers (never <code>null</code>)
+     * @param uriInfo
+     *        the request URI information (never <code>null</code>)
+     * @param form
+     *        the form containing the JSON storage attributes and the file content (cannot be <code>null</code>)
+     * @return a status object indicating success / failure of the import
+     * @throws KomodoRestException
+     *         if there is a problem with the import
+     */
+    @POST
+    @Path(V1Constants.IMPORT)
+    @Produces( MediaType.APPLICATION_JSON )
+    @Consumes ( { MediaType.MULTIPART_FORM_DATA } )
+    @ApiOperation(value = "Imports an artifact using the storage attributes and file content form parts",
+                             response = ImportExportStatus.class)
+    @ApiResponses(value = {
+        @ApiResponse(code = 406, message = "Only JSON is returned by this operation"),
+        @ApiResponse(code = 403, message = "An error has occurred.")
+    })
+    public Response importArtifactForm( final @Context HttpHeaders headers,
+                             final @Context UriInfo uriInfo,
+                             @ApiParam(value = "Form with an '" + V1Constants.IMPORT_ATTRIBUTES_PART + "' part containing " +
+                                               "the JSON storage attributes (see the JSON import operation) and a '" +
+                                               V1Constants.IMPORT_CONTENT_PART + "' part containing the file to import",
+                                       required = true)
+                             final MultipartFormDataInput form) throws KomodoRestException {
+        SecurityPrincipal principal = checkSecurityContext(headers);
+        if (principal.hasErrorResponse())
+            return principal.getErrorResponse();
+
+        List<MediaType> mediaTypes = headers.getAcceptableMediaTypes();
+        if (! isAcceptable(mediaTypes, MediaType.APPLICATION_JSON_TYPE))
+            return notAcceptableMediaTypesBuilder().build();
+
+        KomodoStorageAttributes sta;
+        InputStream content = null;
+        try {
+            Map<String, List<InputPart>> parts = form.getFormDataMap();
+            List<InputPart> attributes = parts.get(V1Constants.IMPORT_ATTRIBUTES_PART);
+            if (attributes == null || attributes.isEmpty()) {
+                return createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.IMPORT_EXPORT_SERVICE_NO_PARAMETERS_ERROR);
+            }
+
+            sta = KomodoJsonMarshaller.unmarshall(attributes.get(0).getBodyAsString(), KomodoStorageAttributes.class);
+            Response response = checkStorageAttributes(sta, mediaTypes);
+            if (response.getStatus() != Status.OK.getStatusCode())
+                return response;
+
+            List<InputPart> contentParts = parts.get(V1Constants.IMPORT_CONTENT_PART);
+            if (contentParts != null && ! contentParts.isEmpty())
+                content = contentParts.get(0).getBody(InputStream.class, null);
+
+        } catch (Exception ex) {
+            return createErrorResponseWithForbidden(mediaTypes, ex, RelationalMessages.Error.IMPORT_EXPORT_SERVICE_REQUEST_PARSING_ERROR);
+        }
+
+        return importArtifact(principal, mediaTypes, sta, content);
+    }
+
+    /**
+     * Imports an artifact into the workspace. The request body is the raw bytes of the file and the
+     * storage attributes are query parameters.
+     *
+     * @param headers
+     *        the request headers (never <code>null</code>)
+     * @param uriInfo
+     *        the request URI information (never <code>null</code>)
+     * @param content
+     *        the content of the file to import (cannot be <code>null</code>)
+     * @return a status object indicating success / failure of the import
+     * @throws KomodoRestException
+     *         if there is a problem with the import
+     */
+    @POST
+    @Path(V1Constants.IMPORT)
+    @Produces( MediaType.APPLICATION_JSON )
+    @Consumes ( { MediaType.APPLICATION_OCTET_STREAM } )
+    @ApiOperation(value = "Imports the file content of the request body using storage attributes provided as query parameters. " +
+                          "The '" + KomodoStorageAttributes.STORAGE_TYPE_LABEL + "', '" +
+                          KomodoStorageAttributes.DOCUMENT_TYPE_LABEL + "' and '" +
+                          KomodoStorageAttributes.ARTIFACT_PATH_LABEL + "' query parameters are attributes " +
+                          "and all other query parameters are storage parameters",
+                             response = ImportExportStatus.class)
+    @ApiResponses(value = {
+        @ApiResponse(code = 406, message = "Only JSON is returned by this operation"),
+        @ApiResponse(code = 403, message = "An error has occurred.")
+    })
+    public Response importArtifactContent( final @Context HttpHeaders headers,
+                             final @Context UriInfo uriInfo,
+                             @ApiParam(value = "The file to import", required = true)
+                             final InputStream content) throws KomodoRestException {
+        SecurityPrincipal principal = checkSecurityContext(headers);
+        if (principal.hasErrorResponse())
+            return principal.getErrorResponse();
+
+        List<MediaType> mediaTypes = headers.getAcceptableMediaTypes();
+        if (! isAcceptable(mediaTypes, MediaType.APPLICATION_JSON_TYPE))
+            return notAcceptableMediaTypesBuilder().build();
+
+        KomodoStorageAttributes sta = new KomodoStorageAttributes();
+        try {
+            for (Map.Entry<String, List<String>> entry : uriInfo.getQueryParameters().entrySet()) {
+                String value = entry.getValue().isEmpty() ? null : entry.getValue().get(0);
+
+                if (KomodoStorageAttributes.STORAGE_TYPE_LABEL.equals(entry.getKey()))
+                    sta.setStorageType(value);
+                else if (KomodoStorageAttributes.DOCUMENT_TYPE_LABEL.equals(entry.getKey()))
+                    sta.setDocumentType(value);
+                else if (KomodoStorageAttributes.ARTIFACT_PATH_LABEL.equals(entry.getKey()))
+                    sta.setArtifactPath(value);
+                else
+                    sta.setParameter(entry.getKey(), value);
+            }
+
+            Response response = checkStorageAttributes(sta, mediaTypes);
+            if (response.getStatus() != Status.OK.getStatusCode())
+                return response;
+
+        } catch (Exception ex) {
+            return createErrorResponseWithForbidden(mediaTypes, ex, RelationalMessages.Error.IMPORT_EXPORT_SERVICE_REQUEST_PARSING_ERROR);
+        }
+
+        return importArtifact(principal, mediaTypes, sta, content);
+    }
+
+    /**
+     * Copies the content to a temporary file whose location is conveyed to the storage plugin
+     */
+    private File storeContent(KomodoStorageAttributes sta, InputStream content) throws IOException {
+        String tempDir = FileUtils.tempDirectory();
+        File cttFile = File.createTempFile(V1Constants.IMPORT, DOT + sta.getDocumentType(), new File(tempDir));
+
+        Files.copy(content, cttFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+
+        // Ensure the new location of the file is conveyed to the storage plugin
+        sta.setParameter(StorageConnector.FILES_HOME_PATH_PROPERTY, tempDir);
+        sta.setParameter(StorageConnector.FILE_PATH_PROPERTY, cttFile.getName());
+        return cttFile;
+    }
+
+    private Response importArtifact(SecurityPrincipal principal, List<MediaType> mediaTypes,
+                                    KomodoStorageAttributes sta, InputStream content) {
         File cttFile = null;
         ImportExportStatus status = new ImportExportStatus();
         UnitOfWork uow = null;
         try {
-            if (sta.getContent() != null) {
+            if (content != null) {
+                cttFile = storeContent(sta, content);
+            } else if (sta.getContent() != null) {
                 //
                 // Content has been provided so need to outline its location
                 // for the storage connector to utilise
                 //
-                byte[] content = decode(sta.getContent());
-                String tempDir = FileUtils.tempDirectory();
-                String fileName = content.hashCode() + DOT + sta.getDocumentType();
-                cttFile = new File(tempDir, fileName);
-
-                FileUtils.write(content, cttFile);
-
-                // Ensure the new location of the file is conveyed to the storage plugin
-                sta.setParameter(StorageConnector.FILES_HOME_PATH_PROPERTY, tempDir);
-                sta.setParameter(StorageConnector.FILE_PATH_PROPERTY, fileName);
+                cttFile = storeContent(sta, new ByteArrayInputStream(decode(sta.getContent())));
             }
 
             Properties parameters = sta.convertParameters();
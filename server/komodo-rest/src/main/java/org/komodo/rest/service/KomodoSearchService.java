@@ -55,6 +55,7 @@ import org.komodo.rest.KomodoRestException;
 import org.komodo.rest.KomodoRestV1Application.V1Constants;
 import org.komodo.rest.KomodoService;
 import org.komodo.rest.RestBasicEntity;
+import org.komodo.rest.relational.KomodoProperties;
 import org.komodo.rest.relational.RelationalMessages;
 import org.komodo.rest.relational.json.KomodoJsonMarshaller;
 import org.komodo.rest.relational.request.KomodoSearcherAttributes;
@@ -203,7 +204,12 @@ public final class KomodoSearchService extends KomodoService {
      *        the request contains parameter
      * @param objectName
      *        the request name parameter
-     * @return a JSON document representing the results of a search in the Komodo workspace
+     * @param start
+     *        the index of the first result returned (can be <code>null</code> if starting with the first result)
+     * @param size
+     *        the maximum number of results returned (can be <code>null</code> if all results are returned)
+     * @return a JSON document representing the results of a search in the Komodo workspace, restricted to the
+     *         {@link QueryParamKeys#FIELDS fields} and embedding the {@link QueryParamKeys#DEPTH depth} of children requested
      *                  (never <code>null</code>)
      * @throws KomodoRestException
      *         if there is a problem conducting the search
@@ -238,7 +244,13 @@ public final class KomodoSearchService extends KomodoService {
                              @QueryParam(value = SEARCH_CONTAINS_PARAMETER) String contains,
                              @ApiParam(value = "The name of an object. Can use '%' as wildcards for broadening searches",
                                                 required = false)
-                             @QueryParam(value = SEARCH_OBJECT_NAME_PARAMETER) String objectName) throws KomodoRestException {
+                             @QueryParam(value = SEARCH_OBJECT_NAME_PARAMETER) String objectName,
+                             @ApiParam(value = "The index of the first result to return",
+                                                required = false)
+                             @QueryParam(value = QueryParamKeys.START) Integer start,
+                             @ApiParam(value = "The maximum number of results to return",
+                                                required = false)
+                             @QueryParam(value = QueryParamKeys.SIZE) Integer size) throws KomodoRestException {
 
         SecurityPrincipal principal = checkSecurityContext(headers);
         if (principal.hasErrorResponse())
@@ -255,7 +267,7 @@ public final class KomodoSearchService extends KomodoService {
 
         UnitOfWork uow = null;
         try {
-            uow = createTransaction(principal, "objectFromWorkspace", true); //$NON-NLS-1$
+            uow = createReadOnlyTransaction(principal, "objectFromWorkspace"); //$NON-NLS-1$
 
             ObjectSearcher os;
             if (searchName != null) {
@@ -265,18 +277,28 @@ public final class KomodoSearchService extends KomodoService {
                 os = createObjectSearcher(type, parent, ancestor, path, contains, objectName);
             }
 
+            // Page the search in the repository query
+            boolean paged = (start != null && start > 0) || (size != null && size > 0);
+            if (start != null)
+                os.setOffset(start);
+
+            if (size != null && size > 0)
+                os.setLimit(size);
+
             // Execute the search
             List<KomodoObject> searchObjects = os.searchObjects(uow);
+            long total = paged ? os.count(uow) : searchObjects.size();
 
             // Convert the results into rest objects for the response
+            KomodoProperties properties = addProjection(uriInfo, new KomodoProperties());
             List<RestBasicEntity> entities = new ArrayList<>();
             for (KomodoObject kObject : searchObjects) {
-                RestBasicEntity entity = entityFactory.create(kObject, uriInfo.getBaseUri(), uow);
+                RestBasicEntity entity = entityFactory.create(kObject, uriInfo.getBaseUri(), uow, properties);
                 if (entity != null) // if kType in UNKNOWN then the entity is not created
                     entities.add(entity);
             }
 
-            return commit( uow, mediaTypes, entities );
+            return addTotalCount(commit( uow, mediaTypes, entities ), total);
 
         } catch (final Exception e) {
             if ((uow != null) && (uow.getState() != State.ROLLED_BACK)) {
@@ -366,7 +388,7 @@ public final class KomodoSearchService extends KomodoService {
         UnitOfWork uow = null;
 
         try {
-            uow = createTransaction(principal, "objectFromWorkspace", true); //$NON-NLS-1$
+            uow = createReadOnlyTransaction(principal, "objectFromWorkspace"); //$NON-NLS-1$
 
             ObjectSearcher os;
             if (sa.getSearchName() != null) {
@@ -445,7 +467,7 @@ public final class KomodoSearchService extends KomodoService {
 
         UnitOfWork uow = null;
         try {
-            uow = createTransaction(principal, "searchesFromWorkspace", true); //$NON-NLS-1$
+            uow = createReadOnlyTransaction(principal, "searchesFromWorkspace"); //$NON-NLS-1$
 
             String searchesGroupPath = repo.komodoSearches(uow).getAbsolutePath();
             KomodoObject searchesGroup = repo.getFromWorkspace(uow, searchesGroupPath);
@@ -113,6 +113,7 @@ import org.komodo.spi.repository.Property;
 import org.komodo.spi.repository.Repository.UnitOfWork;
 import org.komodo.spi.repository.Repository.UnitOfWork.State;
 import org.komodo.spi.runtime.ConnectionDriver;
+import org.komodo.spi.runtime.DeploymentWaiter;
 import org.komodo.spi.runtime.ExecutionAdmin;
 import org.komodo.spi.runtime.ExecutionAdmin.ConnectivityType;
 import org.komodo.spi.runtime.TeiidDataSource;
@@ -168,7 +169,7 @@ public class KomodoTeiidService extends KomodoService {
     private final static String UNKNOWN_TRANSLATOR = "unknown"; //$NON-NLS-1$
 
     /**
-     * Time to wait after deploying/undeploying an artifact from the teiid instance
+     * Maximum time to wait for an artifact deployed to/undeployed from the teiid instance to settle
      */
     private final static int DEPLOYMENT_WAIT_TIME = 10000;
 
@@ -1345,7 +1346,7 @@ public class KomodoTeiidService extends KomodoService {
             teiidInstance.undeployDynamicVdb(vdbName);
 
             // Await the undeployment to end
-            Thread.sleep(DEPLOYMENT_WAIT_TIME);
+            DeploymentWaiter.awaitVdbRemoved(teiidInstance, vdbName, DEPLOYMENT_WAIT_TIME);
 
             String title = RelationalMessages.getString(RelationalMessages.Info.VDB_DEPLOYMENT_STATUS_TITLE);
             KomodoStatusObject status = new KomodoStatusObject(title);
@@ -1426,7 +1427,7 @@ public class KomodoTeiidService extends KomodoService {
             teiidInstance.deleteDataSource(connectionName);
 
             // Await the undeployment to end
-            Thread.sleep(DEPLOYMENT_WAIT_TIME);
+            DeploymentWaiter.awaitDataSource(teiidInstance, connectionName, false, DEPLOYMENT_WAIT_TIME);
 
             if (! hasDataSource(connectionName, teiidNode)) {
                 // Make sure DataSource state is current in cachedTeiid
@@ -2059,7 +2060,7 @@ public class KomodoTeiidService extends KomodoService {
             teiidInstance.deployDriver(driverName, driverFile);
 
             // Await the deployment to end
-            Thread.sleep(DEPLOYMENT_WAIT_TIME);
+            DeploymentWaiter.awaitDriver(teiidInstance, driverName, true, DEPLOYMENT_WAIT_TIME);
 
             // Make sure Driver state is current in the cachedTeiid
             refreshCachedDrivers(teiidNode, driverName);
@@ -2135,7 +2136,7 @@ public class KomodoTeiidService extends KomodoService {
             teiidInstance.undeployDriver(driverName);
 
             // Await the undeployment to end
-            Thread.sleep(DEPLOYMENT_WAIT_TIME);
+            DeploymentWaiter.awaitDriver(teiidInstance, driverName, false, DEPLOYMENT_WAIT_TIME);
 
             String title = RelationalMessages.getString(RelationalMessages.Info.DRIVER_DEPLOYMENT_STATUS_TITLE);
             KomodoStatusObject status = new KomodoStatusObject(title);
@@ -2342,7 +2343,9 @@ public class KomodoTeiidService extends KomodoService {
             DeployStatus deployStatus = dataService.deploy(uow, teiidNode);
 
             // Await the deployment to end
-            Thread.sleep(DEPLOYMENT_WAIT_TIME);
+            Vdb serviceVdb = dataService.getServiceVdb(uow);
+            if (deployStatus.ok() && serviceVdb != null)
+                DeploymentWaiter.awaitVdb(teiidNode.getTeiidInstance(uow), serviceVdb.getVdbName(uow), DEPLOYMENT_WAIT_TIME);
 
             String title = RelationalMessages.getString(RelationalMessages.Info.DATA_SERVICE_DEPLOYMENT_STATUS_TITLE);
             KomodoStatusObject status = new KomodoStatusObject(title);
@@ -2470,7 +2473,8 @@ public class KomodoTeiidService extends KomodoService {
             DeployStatus deployStatus = connection.deploy(uow, teiidNode);
 
             // Await the deployment to end
-            Thread.sleep(DEPLOYMENT_WAIT_TIME);
+            if (deployStatus.ok())
+                DeploymentWaiter.awaitDataSource(teiidNode.getTeiidInstance(uow), connection.getName(uow), true, DEPLOYMENT_WAIT_TIME);
 
             // Make sure Connection is current in the CachedTeiid
             refreshCachedConnections(teiidNode, connection.getJndiName(uow));
@@ -2742,7 +2746,8 @@ public class KomodoTeiidService extends KomodoService {
             DeployStatus deployStatus = vdb.deploy(uow, teiidNode);
 
             // Await the deployment to end
-            Thread.sleep(DEPLOYMENT_WAIT_TIME);
+            if (deployStatus.ok())
+                DeploymentWaiter.awaitVdb(teiidNode.getTeiidInstance(uow), vdb.getVdbName(uow), DEPLOYMENT_WAIT_TIME);
             
             // Make sure Vdb is current in the CachedTeiid
             refreshCachedVdbs(teiidNode, vdb.getName(uow));
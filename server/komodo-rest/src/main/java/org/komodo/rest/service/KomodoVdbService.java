@@ -63,6 +63,7 @@ import javax.ws.rs.core.Context;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.Status;
 import javax.ws.rs.core.UriInfo;
 import org.komodo.core.KEngine;
 import org.komodo.importer.ImportMessages;
@@ -130,7 +131,6 @@ import io.swagger.annotations.ApiResponses;
 public final class KomodoVdbService extends KomodoService {
 
     private static final int ALL_AVAILABLE = -1;
-    private static final String VDB_PATH_DEFAULT = "defaultPath";  //$NON-NLS-1$
     private static final StringNameValidator VALIDATOR = new StringNameValidator();
 
     /**
@@ -204,16 +204,9 @@ public final class KomodoVdbService extends KomodoService {
         }
 
         final RestVdb restVdb = KomodoJsonMarshaller.unmarshall( vdbJson, RestVdb.class );
-        final String jsonVdbName = restVdb.getId();
-        // Error if the name is missing from the supplied json body
-        if ( StringUtils.isBlank( jsonVdbName ) ) {
-            return createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.VDB_SERVICE_MISSING_JSON_VDB_NAME);
-        }
-
-        // Error if the name parameter is different than JSON name
-        final boolean namesMatch = vdbName.equals( jsonVdbName );
-        if ( !namesMatch ) {
-            return createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.VDB_SERVICE_VDB_NAME_DONT_MATCH_ERROR, vdbName, jsonVdbName);
+        final String jsonError = checkVdbJson( vdbName, restVdb, true );
+        if ( jsonError != null ) {
+            return createErrorResponse(Status.FORBIDDEN, mediaTypes, jsonError);
         }
 
         UnitOfWork uow = null;
@@ -252,11 +245,7 @@ public final class KomodoVdbService extends KomodoService {
 
         final String vdbName = restVdb.getId();
         try {
-            final Vdb vdb = getWorkspaceManager(uow).createVdb( uow, null, vdbName, restVdb.getOriginalFilePath() );
-
-            // Transfers the properties from the rest object to the created komodo service.
-            setProperties(uow, vdb, restVdb);
-
+            final Vdb vdb = createVdbFromJson( uow, restVdb );
             final RestVdb entity = entityFactory.create(vdb, baseUri, uow );
             final Response response = commit( uow, mediaTypes, entity );
             return response;
@@ -335,10 +324,9 @@ public final class KomodoVdbService extends KomodoService {
 
 
         final RestVdb restVdb = KomodoJsonMarshaller.unmarshall( vdbJson, RestVdb.class );
-        final String jsonVdbName = restVdb.getId();
-        // Error if the name is missing from the supplied json body
-        if ( StringUtils.isBlank( jsonVdbName ) ) {
-            return createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.VDB_SERVICE_MISSING_JSON_VDB_NAME);
+        final String jsonError = checkVdbJson( vdbName, restVdb, false );
+        if ( jsonError != null ) {
+            return createErrorResponse(Status.FORBIDDEN, mediaTypes, jsonError);
         }
 
         UnitOfWork uow = null;
@@ -355,15 +343,7 @@ public final class KomodoVdbService extends KomodoService {
             // must be an update
             final KomodoObject kobject = wMgr.getChild( uow, vdbName, VdbLexicon.Vdb.VIRTUAL_DATABASE );
             final Vdb vdb = wMgr.resolve( uow, kobject, Vdb.class );
-
-            // Transfers the properties from the rest object to the created komodo service.
-            setProperties(uow, vdb, restVdb);
-
-            // rename if names did not match
-            final boolean namesMatch = vdbName.equals( jsonVdbName );
-            if ( !namesMatch ) {
-                vdb.rename( uow, jsonVdbName );
-            }
+            updateVdbFromJson( uow, vdb, restVdb );
 
             KomodoProperties properties = new KomodoProperties();
             final RestVdb entity = entityFactory.create(vdb, uriInfo.getBaseUri(), uow, properties);
@@ -503,45 +483,6 @@ public final class KomodoVdbService extends KomodoService {
         }
     }
     
-    // Sets VDB properties using the supplied RestVdb object
-    private void setProperties(final UnitOfWork uow, Vdb vdb, RestVdb restVdb) throws KException {
-        // 'New' = requested RestVdb properties
-        String newDescription = restVdb.getDescription();
-        String newConnType = restVdb.getConnectionType();
-        String newOrigFilePath = restVdb.getOriginalFilePath();
-        int newVersion = restVdb.getVersion();
-        List<RestProperty> newProperties = restVdb.getProperties();
-
-        // 'Old' = current Vdb properties
-        String oldDescription = vdb.getDescription(uow);
-        String oldConnType = vdb.getConnectionType(uow);
-        String oldOrigFilePath = vdb.getOriginalFilePath(uow);
-        int oldVersion = vdb.getVersion(uow);
-
-        // Description
-        if ( !StringUtils.equals(newDescription, oldDescription) ) {
-            vdb.setDescription( uow, newDescription );
-        } 
-        // ConnectionType
-        if ( !StringUtils.equals(newConnType, oldConnType) ) {
-            vdb.setConnectionType( uow, newConnType );
-        } 
-        // Original FilePath
-        if ( !StringUtils.equals(newOrigFilePath, oldOrigFilePath) ) {
-            String origFilePath = (newOrigFilePath==null) ? VDB_PATH_DEFAULT : newOrigFilePath; 
-            vdb.setOriginalFilePath( uow, origFilePath );
-        } 
-        // version
-        if ( newVersion != oldVersion ) {
-            vdb.setVersion( uow, newVersion );
-        } 
-        
-        // Set new properties
-        for(RestProperty newProp : newProperties) {
-            vdb.setProperty(uow, newProp.getName(), newProp.getValue());
-        }
-    }
-
     // Sets Model properties using the supplied RestVdbModel object
     private void setProperties(final UnitOfWork uow, Model model, RestVdbModel restVdbModel) throws KException {
         // 'New' = requested RestVdbModel properties
@@ -725,10 +666,7 @@ public final class KomodoVdbService extends KomodoService {
 
             mgr.delete(uow, vdb);
 
-            KomodoStatusObject kso = new KomodoStatusObject("Delete Status"); //$NON-NLS-1$
-            kso.addAttribute(vdbName, "Successfully deleted"); //$NON-NLS-1$
-
-            return commit(uow, mediaTypes, kso);
+            return commit(uow, mediaTypes, deleteStatus(vdbName));
         } catch (final Exception e) {
             if ((uow != null) && (uow.getState() != State.ROLLED_BACK)) {
                 uow.rollback();
@@ -771,31 +709,6 @@ public final class KomodoVdbService extends KomodoService {
         try {
             final String searchPattern = uriInfo.getQueryParameters().getFirst( QueryParamKeys.PATTERN );
 
-            // find VDBs
-            uow = createTransaction(principal, "getVdbs", true ); //$NON-NLS-1$
-            Vdb[] vdbs = null;
-
-            WorkspaceManager wsMgr = getWorkspaceManager(uow);
-            if ( StringUtils.isBlank( searchPattern ) ) {
-                vdbs = wsMgr.findVdbs( uow );
-                LOGGER.debug( "getVdbs:found '{0}' VDBs", vdbs.length ); //$NON-NLS-1$
-            } else {
-                final String[] vdbPaths = wsMgr.findByType( uow, VdbLexicon.Vdb.VIRTUAL_DATABASE, null, searchPattern, false );
-
-                if ( vdbPaths.length == 0 ) {
-                    vdbs = Vdb.NO_VDBS;
-                } else {
-                    vdbs = new Vdb[ vdbPaths.length ];
-                    int i = 0;
-
-                    for ( final String path : vdbPaths ) {
-                        vdbs[ i++ ] = wsMgr.resolve( uow, new ObjectImpl( wsMgr.getRepository(), path, 0 ), Vdb.class );
-                    }
-
-                    LOGGER.debug( "getVdbs:found '{0}' VDBs using pattern '{1}'", vdbs.length, searchPattern ); //$NON-NLS-1$
-                }
-            }
-
             int start = 0;
 
             { // start query parameter
@@ -834,27 +747,37 @@ public final class KomodoVdbService extends KomodoService {
                 }
             }
 
-            final List< RestVdb > entities = new ArrayList< >();
-            int i = 0;
+            // find VDBs, paging in the repository query so that only the requested VDBs are loaded
+            uow = createReadOnlyTransaction(principal, "getVdbs"); //$NON-NLS-1$
+
+            final WorkspaceManager wsMgr = getWorkspaceManager(uow);
+            final String[] vdbPaths = wsMgr.findByType( uow,
+                                                        VdbLexicon.Vdb.VIRTUAL_DATABASE,
+                                                        null,
+                                                        searchPattern,
+                                                        false,
+                                                        start,
+                                                        size );
+            LOGGER.debug( "getVdbs:found '{0}' VDBs using pattern '{1}'", vdbPaths.length, searchPattern ); //$NON-NLS-1$
+
+            final boolean paged = ( ( start != 0 ) || ( size != ALL_AVAILABLE ) );
+            final long total = ( paged ? wsMgr.countByType( uow, VdbLexicon.Vdb.VIRTUAL_DATABASE, null, searchPattern, false )
+                                       : vdbPaths.length );
+
+            final List< RestBasicEntity > entities = new ArrayList< >();
 
             KomodoProperties properties = new KomodoProperties();
             properties.addProperty(VDB_EXPORT_XML_PROPERTY, false);
-            for ( final Vdb vdb : vdbs ) {
-                if ( ( start == 0 ) || ( i >= start ) ) {
-                    if ( ( size == ALL_AVAILABLE ) || ( entities.size() < size ) ) {
-                        RestVdb entity = entityFactory.create(vdb, uriInfo.getBaseUri(), uow, properties);
-                        entities.add(entity);
-                        LOGGER.debug("getVdbs:VDB '{0}' entity was constructed", vdb.getName(uow)); //$NON-NLS-1$
-                    } else {
-                        break;
-                    }
-                }
-
-                ++i;
+            addProjection(uriInfo, properties);
+            for ( final String path : vdbPaths ) {
+                final Vdb vdb = wsMgr.resolve( uow, new ObjectImpl( wsMgr.getRepository(), path, 0 ), Vdb.class );
+                RestBasicEntity entity = entityFactory.create(vdb, uriInfo.getBaseUri(), uow, properties);
+                entities.add(entity);
+                LOGGER.debug("getVdbs:VDB '{0}' entity was constructed", vdb.getName(uow)); //$NON-NLS-1$
             }
 
             // create response
-            return commit( uow, mediaTypes, entities );
+            return addTotalCount( commit( uow, mediaTypes, entities ), total );
 
         } catch ( final Exception e ) {
             if ( ( uow != null ) && ( uow.getState() != State.ROLLED_BACK ) ) {
@@ -876,7 +799,8 @@ public final class KomodoVdbService extends KomodoService {
      *        the request URI information (never <code>null</code>)
      * @param vdbName
      *        the id of the VDB being retrieved (cannot be empty)
-     * @return the JSON representation of the VDB (never <code>null</code>)
+     * @return the JSON representation of the VDB, restricted to the {@link QueryParamKeys#FIELDS fields} requested, or the
+     *         XML manifest of the VDB, which is never restricted (never <code>null</code>)
      * @throws KomodoRestException
      *         if there is a problem finding the specified workspace VDB or constructing the JSON representation
      */
@@ -902,15 +826,21 @@ public final class KomodoVdbService extends KomodoService {
         UnitOfWork uow = null;
 
         try {
-            uow = createTransaction(principal, "getVdb", true ); //$NON-NLS-1$
+            uow = createReadOnlyTransaction(principal, "getVdb"); //$NON-NLS-1$
 
             Vdb vdb = findVdb(uow, vdbName);
             if (vdb == null)
                 return commitNoVdbFound(uow, mediaTypes, vdbName);
 
+            final boolean exportXml = mediaTypes.contains(MediaType.APPLICATION_XML_TYPE);
             KomodoProperties properties = new KomodoProperties();
-            properties.addProperty(VDB_EXPORT_XML_PROPERTY, mediaTypes.contains(MediaType.APPLICATION_XML_TYPE));
-            final RestVdb restVdb = entityFactory.create(vdb, uriInfo.getBaseUri(), uow, properties);
+            properties.addProperty(VDB_EXPORT_XML_PROPERTY, exportXml);
+
+            // the xml manifest is the whole vdb so field selection only applies to json
+            if (!exportXml)
+                addProjection(uriInfo, properties);
+
+            final RestBasicEntity restVdb = entityFactory.create(vdb, uriInfo.getBaseUri(), uow, properties);
             LOGGER.debug("getVdb:VDB '{0}' entity was constructed", vdb.getName(uow)); //$NON-NLS-1$
             return commit( uow, mediaTypes, restVdb );
 
@@ -962,7 +892,7 @@ public final class KomodoVdbService extends KomodoService {
         UnitOfWork uow = null;
 
         try {
-            uow = createTransaction(principal, "getModels", true ); //$NON-NLS-1$
+            uow = createReadOnlyTransaction(principal, "getModels"); //$NON-NLS-1$
 
             Vdb vdb = findVdb(uow, vdbName);
             if (vdb == null)
@@ -1034,7 +964,7 @@ public final class KomodoVdbService extends KomodoService {
         UnitOfWork uow = null;
 
         try {
-            uow = createTransaction(principal, "getModel", true ); //$NON-NLS-1$
+            uow = createReadOnlyTransaction(principal, "getModel"); //$NON-NLS-1$
 
             Vdb vdb = findVdb(uow, vdbName);
             if (vdb == null)
@@ -1462,7 +1392,7 @@ public final class KomodoVdbService extends KomodoService {
         UnitOfWork uow = null;
 
         try {
-            uow = createTransaction(principal, "getTranslators", true ); //$NON-NLS-1$
+            uow = createReadOnlyTransaction(principal, "getTranslators"); //$NON-NLS-1$
 
             Vdb vdb = findVdb(uow, vdbName);
             if (vdb == null)
@@ -1534,7 +1464,7 @@ public final class KomodoVdbService extends KomodoService {
         UnitOfWork uow = null;
 
         try {
-            uow = createTransaction(principal, "getTranslator", true ); //$NON-NLS-1$
+            uow = createReadOnlyTransaction(principal, "getTranslator"); //$NON-NLS-1$
 
             Vdb vdb = findVdb(uow, vdbName);
             if (vdb == null)
@@ -1615,7 +1545,7 @@ public final class KomodoVdbService extends KomodoService {
         UnitOfWork uow = null;
 
         try {
-            uow = createTransaction(principal, "getImports", true ); //$NON-NLS-1$
+            uow = createReadOnlyTransaction(principal, "getImports"); //$NON-NLS-1$
 
             Vdb vdb = findVdb(uow, vdbName);
             if (vdb == null)
@@ -1687,7 +1617,7 @@ public final class KomodoVdbService extends KomodoService {
         UnitOfWork uow = null;
 
         try {
-            uow = createTransaction(principal, "getImport", true ); //$NON-NLS-1$
+            uow = createReadOnlyTransaction(principal, "getImport"); //$NON-NLS-1$
 
             Vdb vdb = findVdb(uow, vdbName);
             if (vdb == null)
@@ -1768,7 +1698,7 @@ public final class KomodoVdbService extends KomodoService {
         UnitOfWork uow = null;
 
         try {
-            uow = createTransaction(principal, "getDataRoles", true ); //$NON-NLS-1$
+            uow = createReadOnlyTransaction(principal, "getDataRoles"); //$NON-NLS-1$
 
             Vdb vdb = findVdb(uow, vdbName);
             if (vdb == null)
@@ -2189,7 +2119,7 @@ public final class KomodoVdbService extends KomodoService {
         UnitOfWork uow = null;
 
         try {
-            uow = createTransaction(principal, "getDataRole", true ); //$NON-NLS-1$
+            uow = createReadOnlyTransaction(principal, "getDataRole"); //$NON-NLS-1$
 
             Vdb vdb = findVdb(uow, vdbName);
             if (vdb == null)
@@ -2259,7 +2189,7 @@ public final class KomodoVdbService extends KomodoService {
         UnitOfWork uow = null;
 
         try {
-            uow = createTransaction(principal, "getSources", true ); //$NON-NLS-1$
+            uow = createReadOnlyTransaction(principal, "getSources"); //$NON-NLS-1$
 
             Vdb vdb = findVdb(uow, vdbName);
             if (vdb == null)
@@ -2343,7 +2273,7 @@ public final class KomodoVdbService extends KomodoService {
         UnitOfWork uow = null;
 
         try {
-            uow = createTransaction(principal, "getSource", true ); //$NON-NLS-1$
+            uow = createReadOnlyTransaction(principal, "getSource"); //$NON-NLS-1$
 
             Vdb vdb = findVdb(uow, vdbName);
             if (vdb == null)
@@ -2841,7 +2771,7 @@ public final class KomodoVdbService extends KomodoService {
         UnitOfWork uow = null;
 
         try {
-            uow = createTransaction(principal, "getTables", true ); //$NON-NLS-1$
+            uow = createReadOnlyTransaction(principal, "getTables"); //$NON-NLS-1$
 
             Vdb vdb = findVdb(uow, vdbName);
             if (vdb == null)
@@ -2925,7 +2855,7 @@ public final class KomodoVdbService extends KomodoService {
         UnitOfWork uow = null;
 
         try {
-            uow = createTransaction(principal, "getTables", true ); //$NON-NLS-1$
+            uow = createReadOnlyTransaction(principal, "getTables"); //$NON-NLS-1$
 
             Vdb vdb = findVdb(uow, vdbName);
             if (vdb == null)
@@ -3008,7 +2938,7 @@ public final class KomodoVdbService extends KomodoService {
         UnitOfWork uow = null;
 
         try {
-            uow = createTransaction(principal, "getPermissions", true ); //$NON-NLS-1$
+            uow = createReadOnlyTransaction(principal, "getPermissions"); //$NON-NLS-1$
 
             Vdb vdb = findVdb(uow, vdbName);
             if (vdb == null)
@@ -3090,7 +3020,7 @@ public final class KomodoVdbService extends KomodoService {
         UnitOfWork uow = null;
 
         try {
-            uow = createTransaction(principal, "getPermission", true ); //$NON-NLS-1$
+            uow = createReadOnlyTransaction(principal, "getPermission"); //$NON-NLS-1$
 
             Vdb vdb = findVdb(uow, vdbName);
             if (vdb == null)
@@ -3169,7 +3099,7 @@ public final class KomodoVdbService extends KomodoService {
         UnitOfWork uow = null;
 
         try {
-            uow = createTransaction(principal, "getConditions", true ); //$NON-NLS-1$
+            uow = createReadOnlyTransaction(principal, "getConditions"); //$NON-NLS-1$
 
             Vdb vdb = findVdb(uow, vdbName);
             if (vdb == null)
@@ -3257,7 +3187,7 @@ public final class KomodoVdbService extends KomodoService {
         UnitOfWork uow = null;
 
         try {
-            uow = createTransaction(principal, "getCondition", true ); //$NON-NLS-1$
+            uow = createReadOnlyTransaction(principal, "getCondition"); //$NON-NLS-1$
 
             Vdb vdb = findVdb(uow, vdbName);
             if (vdb == null)
@@ -3365,7 +3295,7 @@ public final class KomodoVdbService extends KomodoService {
         UnitOfWork uow = null;
 
         try {
-            uow = createTransaction(principal, "getMasks", true ); //$NON-NLS-1$
+            uow = createReadOnlyTransaction(principal, "getMasks"); //$NON-NLS-1$
 
             Vdb vdb = findVdb(uow, vdbName);
             if (vdb == null)
@@ -3453,7 +3383,7 @@ public final class KomodoVdbService extends KomodoService {
         UnitOfWork uow = null;
 
         try {
-            uow = createTransaction(principal, "getMask", true ); //$NON-NLS-1$
+            uow = createReadOnlyTransaction(principal, "getMask"); //$NON-NLS-1$
 
             Vdb vdb = findVdb(uow, vdbName);
             if (vdb == null)
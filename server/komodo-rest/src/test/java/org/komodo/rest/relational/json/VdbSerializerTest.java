@@ -22,6 +22,7 @@
 package org.komodo.rest.relational.json;
 
 import static org.junit.Assert.assertEquals;
+import java.io.ByteArrayOutputStream;
 import org.jboss.resteasy.util.Encode;
 import org.junit.Before;
 import org.junit.Test;
@@ -113,6 +114,14 @@ public final class VdbSerializerTest extends AbstractSerializerTest  {
         assertEquals(JSON, json);
     }
 
+    @Test
+    public void shouldStreamCompactJson() throws Exception {
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        KomodoJsonMarshaller.marshall( this.vdb, false, stream );
+        assertEquals(KomodoJsonMarshaller.marshall( this.vdb, false ), stream.toString( "UTF-8" ));
+        assertEquals(VDB_NAME, KomodoJsonMarshaller.unmarshall( stream.toString( "UTF-8" ), RestVdb.class ).getName());
+    }
+
     @Test
     public void shouldImportJson() {
         final RestVdb descriptor = KomodoJsonMarshaller.unmarshall( JSON, RestVdb.class );
@@ -0,0 +1,184 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * See the COPYRIGHT.txt file distributed with this work for information
+ * regarding copyright ownership.  Some portions may be licensed
+ * to Red Hat, Inc. under one or more contributor license agreements.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA
+ * 02110-1301 USA.
+ */
+package org.komodo.rest.service;
+
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.notNullValue;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.komodo.rest.relational.RelationalMessages.Error.BATCH_SERVICE_MISSING_BODY_ERROR;
+import java.net.URI;
+import java.util.Collections;
+import java.util.List;
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import org.jboss.resteasy.client.ClientRequest;
+import org.jboss.resteasy.client.ClientResponse;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestName;
+import org.komodo.core.KEngine;
+import org.komodo.repository.SynchronousCallback;
+import org.komodo.rest.KRestEntity;
+import org.komodo.rest.KomodoRestV1Application.V1Constants;
+import org.komodo.rest.KomodoService;
+import org.komodo.rest.relational.AbstractKomodoServiceTest;
+import org.komodo.rest.relational.RelationalMessages;
+import org.komodo.rest.relational.json.KomodoJsonMarshaller;
+import org.komodo.rest.relational.request.KomodoBatchOperation;
+import org.komodo.rest.relational.response.RestVdb;
+import org.komodo.spi.KException;
+import org.komodo.spi.repository.KomodoType;
+import org.komodo.spi.repository.Repository.UnitOfWork;
+import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonParser;
+
+@SuppressWarnings( {"javadoc", "nls"} )
+public final class KomodoBatchServiceTest extends AbstractKomodoServiceTest {
+
+    private static final String VDB_NAME = "blah";
+
+    private static final String DATASERVICE_NAME = "MyDataService";
+
+    @Rule
+    public TestName testName = new TestName();
+
+    private static class CommittingService extends KomodoService {
+
+        CommittingService() {
+            super(KEngine.getInstance());
+        }
+
+        Response commitEntities(UnitOfWork uow, List<? extends KRestEntity> entities) throws Exception {
+            return commit(uow, Collections.singletonList(MediaType.APPLICATION_JSON_TYPE), entities);
+        }
+    }
+
+    private String vdbJson(String vdbName) {
+        final RestVdb vdb = new RestVdb();
+        vdb.setName(vdbName);
+        vdb.setDescription("blah VDB description");
+        vdb.setOriginalFilePath("/Users/elvis/vdbs/blah.vdb");
+        vdb.setId(vdbName);
+        vdb.setkType(KomodoType.VDB);
+        vdb.setDataPath("/tko:komodo/tko:workspace/user/" + vdbName);
+        return KomodoJsonMarshaller.marshall(vdb);
+    }
+
+    private ClientResponse<String> executeBatch(KomodoBatchOperation... operations) throws Exception {
+        ClientRequest request = request(_uriBuilder.workspaceBatchUri(), MediaType.APPLICATION_JSON_TYPE);
+        addJsonConsumeContentType(request);
+        addBody(request, KomodoJsonMarshaller.marshallArray(operations, false));
+        return request.post(String.class);
+    }
+
+    private RestVdb[] getVdbs() throws Exception {
+        URI uri = _uriBuilder.workspaceVdbsUri();
+        ClientRequest request = request(uri, MediaType.APPLICATION_JSON_TYPE);
+        ClientResponse<String> response = request.get(String.class);
+        assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+        return KomodoJsonMarshaller.unmarshallArray(response.getEntity(), RestVdb[].class);
+    }
+
+    @Test
+    public void shouldExecuteBatch() throws Exception {
+        createDataservice(DATASERVICE_NAME);
+
+        ClientResponse<String> response = executeBatch(
+            new KomodoBatchOperation(HttpMethod.POST, V1Constants.VDBS_SEGMENT + "/" + VDB_NAME, vdbJson(VDB_NAME)),
+            new KomodoBatchOperation(HttpMethod.GET, V1Constants.VDBS_SEGMENT + "/" + VDB_NAME, null),
+            new KomodoBatchOperation(HttpMethod.GET, V1Constants.DATA_SERVICES_SEGMENT + "/" + DATASERVICE_NAME, null),
+            new KomodoBatchOperation(HttpMethod.DELETE, V1Constants.DATA_SERVICES_SEGMENT + "/" + DATASERVICE_NAME, null));
+        assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+
+        final String entity = response.getEntity();
+        assertThat(entity, is(notNullValue()));
+
+        // one result per operation in the order of the operations
+        JsonArray results = new JsonParser().parse(entity).getAsJsonArray();
+        assertEquals(4, results.size());
+        assertEquals(VDB_NAME, results.get(0).getAsJsonObject().get(V1Constants.ID).getAsString());
+        assertEquals(VDB_NAME, results.get(1).getAsJsonObject().get(V1Constants.ID).getAsString());
+        assertEquals(DATASERVICE_NAME, results.get(2).getAsJsonObject().get(V1Constants.ID).getAsString());
+        assertTrue(results.get(3).toString().contains(DATASERVICE_NAME));
+
+        RestVdb[] vdbs = getVdbs();
+        assertEquals(1, vdbs.length);
+        assertEquals(VDB_NAME, vdbs[0].getId());
+    }
+
+    @Test
+    public void shouldNotApplyBatchWhenOperationFails() throws Exception {
+        ClientResponse<String> response = executeBatch(
+            new KomodoBatchOperation(HttpMethod.POST, V1Constants.VDBS_SEGMENT + "/" + VDB_NAME, vdbJson(VDB_NAME)),
+            new KomodoBatchOperation(HttpMethod.GET, V1Constants.VDBS_SEGMENT + "/missing", null));
+        assertEquals(Response.Status.FORBIDDEN.getStatusCode(), response.getStatus());
+        assertTrue(response.getEntity().contains("missing"));
+
+        // the vdb created by the first operation has been rolled back
+        assertEquals(0, getVdbs().length);
+    }
+
+    @Test
+    public void shouldNotReturnResultsWhenCommitFails() throws Exception {
+        final SynchronousCallback callback = new SynchronousCallback();
+        final UnitOfWork uow = Mockito.mock(UnitOfWork.class);
+        Mockito.when(uow.getName()).thenReturn(testName.getMethodName());
+        Mockito.when(uow.getCallback()).thenReturn(callback);
+        Mockito.doAnswer(new Answer<Void>() {
+
+            @Override
+            public Void answer(InvocationOnMock invocation) throws Throwable {
+                callback.errorOccurred(new KException("commit failed"));
+                return null;
+            }
+        }).when(uow).commit();
+
+        final RestVdb vdb = KomodoJsonMarshaller.unmarshall(vdbJson(VDB_NAME), RestVdb.class);
+        final Response response = new CommittingService().commitEntities(uow, Collections.singletonList(vdb));
+
+        // the results of the operations are not returned as nothing has been saved
+        assertEquals(Response.Status.INTERNAL_SERVER_ERROR.getStatusCode(), response.getStatus());
+        assertTrue(response.getEntity().toString().contains("commit failed"));
+    }
+
+    @Test
+    public void shouldReportMissingBody() throws Exception {
+        ClientResponse<String> response = executeBatch(
+            new KomodoBatchOperation(HttpMethod.PUT, V1Constants.VDBS_SEGMENT + "/" + VDB_NAME, null));
+        assertEquals(Response.Status.FORBIDDEN.getStatusCode(), response.getStatus());
+        assertTrue(response.getEntity().contains(RelationalMessages.getString(BATCH_SERVICE_MISSING_BODY_ERROR,
+                                                                              RestVdb.class.getSimpleName())));
+    }
+
+    @Test
+    public void shouldNotExecuteUnsupportedOperation() throws Exception {
+        ClientResponse<String> response = executeBatch(
+            new KomodoBatchOperation(HttpMethod.GET, V1Constants.CONNECTIONS_SEGMENT + "/" + VDB_NAME, null));
+        assertEquals(Response.Status.FORBIDDEN.getStatusCode(), response.getStatus());
+    }
+}
@@ -45,6 +45,7 @@ import org.eclipse.jgit.revwalk.RevWalk;
 import org.eclipse.jgit.treewalk.TreeWalk;
 import org.jboss.resteasy.client.ClientRequest;
 import org.jboss.resteasy.client.ClientResponse;
+import org.jboss.resteasy.plugins.providers.multipart.MultipartFormDataOutput;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -208,6 +209,136 @@ public class KomodoImportExportServiceTest extends AbstractKomodoServiceTest {
         assertTrue(workspace.hasChild(uow, TestUtilities.PORTFOLIO_VDB_NAME));
     }
 
+    @Test
+    public void shouldImportVdbContent() throws Exception {
+        Repository repository = getRestApp().getDefaultRepository();
+        UnitOfWork uow = repository.createTransaction(USER_NAME,
+                                                      getClass().getSimpleName() + COLON + "importVdbContent" + COLON + System.currentTimeMillis(),
+                                                      false, null);
+
+        KomodoObject workspace = repository.komodoWorkspace(uow);
+
+        URI uri = UriBuilder.fromUri(_uriBuilder.baseUri())
+                                        .path(V1Constants.IMPORT_EXPORT_SEGMENT)
+                                        .path(V1Constants.IMPORT)
+                                        .queryParam(KomodoStorageAttributes.STORAGE_TYPE_LABEL, "file")
+                                        .queryParam(KomodoStorageAttributes.DOCUMENT_TYPE_LABEL, DocumentType.VDB_XML.toString())
+                                        .build();
+
+        byte[] content = FileUtils.streamToString(TestUtilities.portfolioExample()).getBytes();
+
+        assertFalse(workspace.hasChild(uow, TestUtilities.PORTFOLIO_VDB_NAME));
+
+        ClientRequest request = request(uri, MediaType.APPLICATION_JSON_TYPE);
+        request.body(MediaType.APPLICATION_OCTET_STREAM_TYPE, content);
+        ClientResponse<String> response = request.post(String.class);
+
+        final String entity = response.getEntity();
+
+        assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+        ImportExportStatus status = KomodoJsonMarshaller.unmarshall(entity, ImportExportStatus.class);
+        assertNotNull(status);
+
+        assertTrue(status.isSuccess());
+        assertEquals(VDB_DEPLOYMENT_SUFFIX, status.getType());
+
+        assertTrue(workspace.hasChild(uow, TestUtilities.PORTFOLIO_VDB_NAME));
+    }
+
+    @Test
+    public void shouldImportVdbForm() throws Exception {
+        Repository repository = getRestApp().getDefaultRepository();
+        UnitOfWork uow = repository.createTransaction(USER_NAME,
+                                                      getClass().getSimpleName() + COLON + "importVdbForm" + COLON + System.currentTimeMillis(),
+                                                      false, null);
+
+        KomodoObject workspace = repository.komodoWorkspace(uow);
+
+        URI uri = UriBuilder.fromUri(_uriBuilder.baseUri())
+                                        .path(V1Constants.IMPORT_EXPORT_SEGMENT)
+                                        .path(V1Constants.IMPORT).build();
+
+        // the file is sent in its own part rather than as base64 content of the attributes
+        KomodoStorageAttributes storageAttr = new KomodoStorageAttributes();
+        storageAttr.setStorageType("file");
+        storageAttr.setDocumentType(DocumentType.VDB_XML);
+
+        byte[] content = FileUtils.streamToString(TestUtilities.portfolioExample()).getBytes();
+
+        MultipartFormDataOutput form = new MultipartFormDataOutput();
+        form.addFormData(V1Constants.IMPORT_ATTRIBUTES_PART, KomodoJsonMarshaller.marshall(storageAttr), MediaType.APPLICATION_JSON_TYPE);
+        form.addFormData(V1Constants.IMPORT_CONTENT_PART, content, MediaType.APPLICATION_OCTET_STREAM_TYPE);
+
+        assertFalse(workspace.hasChild(uow, TestUtilities.PORTFOLIO_VDB_NAME));
+
+        ClientRequest request = request(uri, MediaType.APPLICATION_JSON_TYPE);
+        request.body(MediaType.MULTIPART_FORM_DATA_TYPE, form);
+        ClientResponse<String> response = request.post(String.class);
+
+        final String entity = response.getEntity();
+
+        assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+        ImportExportStatus status = KomodoJsonMarshaller.unmarshall(entity, ImportExportStatus.class);
+        assertNotNull(status);
+
+        assertTrue(status.isSuccess());
+        assertEquals(VDB_DEPLOYMENT_SUFFIX, status.getType());
+
+        assertTrue(workspace.hasChild(uow, TestUtilities.PORTFOLIO_VDB_NAME));
+    }
+
+    @Test
+    public void shouldNotImportVdbFormWithoutAttributes() throws Exception {
+        URI uri = UriBuilder.fromUri(_uriBuilder.baseUri())
+                                        .path(V1Constants.IMPORT_EXPORT_SEGMENT)
+                                        .path(V1Constants.IMPORT).build();
+
+        byte[] content = FileUtils.streamToString(TestUtilities.portfolioExample()).getBytes();
+
+        MultipartFormDataOutput form = new MultipartFormDataOutput();
+        form.addFormData(V1Constants.IMPORT_CONTENT_PART, content, MediaType.APPLICATION_OCTET_STREAM_TYPE);
+
+        ClientRequest request = request(uri, MediaType.APPLICATION_JSON_TYPE);
+        request.body(MediaType.MULTIPART_FORM_DATA_TYPE, form);
+        ClientResponse<String> response = request.post(String.class);
+
+        assertEquals(Response.Status.FORBIDDEN.getStatusCode(), response.getStatus());
+        assertTrue(response.getEntity().contains("The import export service requires at least one parameter"));
+    }
+
+    @Test
+    public void shouldExportVdbContent() throws Exception {
+        loadVdbs();
+
+        URI uri = UriBuilder.fromUri(_uriBuilder.baseUri())
+                                            .path(V1Constants.IMPORT_EXPORT_SEGMENT)
+                                            .path(V1Constants.EXPORT).build();
+
+        KomodoStorageAttributes storageAttr = new KomodoStorageAttributes();
+        storageAttr.setStorageType("file");
+        storageAttr.setArtifactPath("/tko:komodo/tko:workspace/" + USER_NAME + "/myVDB");
+
+        String tmpDirPath = System.getProperty("java.io.tmpdir");
+        storageAttr.setParameter("files-home-path-property", tmpDirPath);
+
+        ClientRequest request = request(uri, MediaType.APPLICATION_OCTET_STREAM_TYPE);
+        addJsonConsumeContentType(request);
+        addBody(request, storageAttr);
+        ClientResponse<byte[]> response = request.post(byte[].class);
+
+        assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+        byte[] content = response.getEntity();
+        assertNotNull(content);
+
+        File tmpFile = new File(tmpDirPath, "myVDB" + VDB_DEPLOYMENT_SUFFIX);
+        assertTrue(tmpFile.exists());
+        tmpFile.deleteOnExit();
+
+        try (FileInputStream stream = new FileInputStream(tmpFile)) {
+            assertEquals(FileUtils.streamToString(stream), new String(content));
+        }
+    }
+
     @Test
     public void shouldNotExportVdbInvalidArtifactPath() throws Exception {
         loadVdbs();
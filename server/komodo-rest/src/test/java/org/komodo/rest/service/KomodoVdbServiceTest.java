@@ -35,11 +35,13 @@ import java.net.URI;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.Status;
@@ -51,6 +53,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TestName;
 import org.komodo.relational.model.Model.Type;
+import org.komodo.rest.KomodoService;
 import org.komodo.rest.RestBasicEntity;
 import org.komodo.rest.RestLink;
 import org.komodo.rest.KomodoRestV1Application.V1Constants;
@@ -72,6 +75,8 @@ import org.komodo.rest.relational.response.RestVdbTranslator;
 import org.komodo.spi.repository.KomodoType;
 import org.komodo.test.utils.TestUtilities;
 import org.teiid.modeshape.sequencer.vdb.lexicon.VdbLexicon;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
 
 @SuppressWarnings( {"javadoc", "nls"} )
 public final class KomodoVdbServiceTest extends AbstractKomodoServiceTest {
@@ -79,6 +84,159 @@ public final class KomodoVdbServiceTest extends AbstractKomodoServiceTest {
     @Rule
     public TestName testName = new TestName();
 
+    @Test
+    public void shouldNotReturnUnmodifiedVdbs() throws Exception {
+        loadVdbs();
+
+        URI uri = _uriBuilder.workspaceVdbsUri();
+        ClientRequest request = request(uri, MediaType.APPLICATION_JSON_TYPE);
+        ClientResponse<String> response = request.get(String.class);
+        assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+
+        final String etag = response.getHeaders().getFirst(HttpHeaders.ETAG);
+        assertNotNull(etag);
+
+        // same content so nothing is returned
+        request = request(uri, MediaType.APPLICATION_JSON_TYPE);
+        addHeader(request, HttpHeaders.IF_NONE_MATCH, etag);
+        response = request.get(String.class);
+        assertEquals(Response.Status.NOT_MODIFIED.getStatusCode(), response.getStatus());
+
+        // stale tag so content is returned
+        request = request(uri, MediaType.APPLICATION_JSON_TYPE);
+        addHeader(request, HttpHeaders.IF_NONE_MATCH, "\"stale\"");
+        response = request.get(String.class);
+        assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+        assertNotNull(response.getEntity());
+        assertEquals(etag, response.getHeaders().getFirst(HttpHeaders.ETAG));
+
+        // saving a change invalidates the tag
+        createVdb(testName.getMethodName());
+
+        request = request(uri, MediaType.APPLICATION_JSON_TYPE);
+        addHeader(request, HttpHeaders.IF_NONE_MATCH, etag);
+        response = request.get(String.class);
+        assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+        assertTrue(response.getEntity().contains(testName.getMethodName()));
+        assertFalse(etag.equals(response.getHeaders().getFirst(HttpHeaders.ETAG)));
+    }
+
+    @Test
+    public void shouldNotReturnUnmodifiedCompactVdbs() throws Exception {
+        loadVdbs();
+
+        final MediaType compact = new MediaType(MediaType.APPLICATION_JSON_TYPE.getType(),
+                                                MediaType.APPLICATION_JSON_TYPE.getSubtype(),
+                                                Collections.singletonMap(KomodoService.JSON_FORMAT_PARAMETER,
+                                                                         KomodoService.JSON_FORMAT_COMPACT));
+
+        URI uri = _uriBuilder.workspaceVdbsUri();
+        ClientRequest request = request(uri, compact);
+        ClientResponse<String> response = request.get(String.class);
+        assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+        assertNotNull(response.getEntity());
+
+        // streamed json is tagged too
+        final String etag = response.getHeaders().getFirst(HttpHeaders.ETAG);
+        assertNotNull(etag);
+
+        // compact and indented json are different representations
+        request = request(uri, MediaType.APPLICATION_JSON_TYPE);
+        addHeader(request, HttpHeaders.IF_NONE_MATCH, etag);
+        response = request.get(String.class);
+        assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+
+        request = request(uri, compact);
+        addHeader(request, HttpHeaders.IF_NONE_MATCH, etag);
+        response = request.get(String.class);
+        assertEquals(Response.Status.NOT_MODIFIED.getStatusCode(), response.getStatus());
+    }
+
+    @Test
+    public void shouldGetVdbsWithSelectedFields() throws Exception {
+        loadVdbs();
+
+        URI uri = UriBuilder.fromUri(_uriBuilder.workspaceVdbsUri())
+                                    .queryParam(KomodoService.QueryParamKeys.FIELDS, V1Constants.HAS_CHILDREN)
+                                    .build();
+        ClientRequest request = request(uri, MediaType.APPLICATION_JSON_TYPE);
+        ClientResponse<String> response = request.get(String.class);
+        assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+
+        final String entities = response.getEntity();
+        assertThat(entities, is(notNullValue()));
+
+        // identity and selected fields only
+        assertTrue(entities.contains(V1Constants.ID));
+        assertTrue(entities.contains(V1Constants.DATA_PATH));
+        assertTrue(entities.contains(V1Constants.HAS_CHILDREN));
+        assertFalse(entities.contains(RestVdb.NAME_LABEL));
+        assertFalse(entities.contains(V1Constants.LINKS));
+        assertFalse(entities.contains(V1Constants.CHILDREN));
+
+        // embed the children of each vdb
+        uri = UriBuilder.fromUri(uri).queryParam(KomodoService.QueryParamKeys.DEPTH, 1).build();
+        request = request(uri, MediaType.APPLICATION_JSON_TYPE);
+        response = request.get(String.class);
+        assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+        assertTrue(response.getEntity().contains(V1Constants.CHILDREN));
+        assertTrue(response.getEntity().contains(TestUtilities.PORTFOLIO_VDB_NAME + "/PersonalValuations"));
+    }
+
+    private int childDepth(JsonElement element) {
+        int depth = 0;
+
+        if (element.isJsonObject() && element.getAsJsonObject().has(V1Constants.CHILDREN)) {
+            for (JsonElement child : element.getAsJsonObject().getAsJsonArray(V1Constants.CHILDREN)) {
+                depth = Math.max(depth, childDepth(child) + 1);
+            }
+
+            depth = Math.max(depth, 1);
+        }
+
+        return depth;
+    }
+
+    @Test
+    public void shouldLimitDepthOfVdbChildren() throws Exception {
+        loadVdbs();
+
+        Properties settings = _uriBuilder.createSettings(SettingNames.VDB_NAME, TestUtilities.PORTFOLIO_VDB_NAME);
+        _uriBuilder.addSetting(settings, SettingNames.VDB_PARENT_PATH, _uriBuilder.workspaceVdbsUri());
+        URI uri = UriBuilder.fromUri(_uriBuilder.vdbUri(LinkType.SELF, settings))
+                                    .queryParam(KomodoService.QueryParamKeys.DEPTH, 1000)
+                                    .build();
+
+        ClientRequest request = request(uri, MediaType.APPLICATION_JSON_TYPE);
+        ClientResponse<String> response = request.get(String.class);
+        assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+
+        // vdb -> model -> table -> column is deeper than the maximum
+        int depth = childDepth(new JsonParser().parse(response.getEntity()));
+        assertTrue(depth > 0);
+        assertTrue(depth <= V1Constants.MAX_ENTITY_DEPTH);
+    }
+
+    @Test
+    public void shouldGetVdbXmlWithSelectedFields() throws Exception {
+        loadVdbs();
+
+        Properties settings = _uriBuilder.createSettings(SettingNames.VDB_NAME, TestUtilities.PORTFOLIO_VDB_NAME);
+        _uriBuilder.addSetting(settings, SettingNames.VDB_PARENT_PATH, _uriBuilder.workspaceVdbsUri());
+        URI uri = UriBuilder.fromUri(_uriBuilder.vdbUri(LinkType.SELF, settings))
+                                    .queryParam(KomodoService.QueryParamKeys.FIELDS, V1Constants.HAS_CHILDREN)
+                                    .build();
+
+        ClientRequest request = request(uri, MediaType.APPLICATION_XML_TYPE);
+        ClientResponse<String> response = request.get(String.class);
+        assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+
+        // the manifest is never restricted
+        final String entity = response.getEntity();
+        assertTrue(entity.contains("<vdb name=\"Portfolio\" version=\"1\">"));
+        assertTrue(entity.contains("</vdb>"));
+    }
+
     @Test
     public void shouldGetVdbs() throws Exception {
         loadVdbs();